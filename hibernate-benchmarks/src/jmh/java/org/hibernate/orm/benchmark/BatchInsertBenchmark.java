@@ -0,0 +1,67 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures flush-time inserts going through {@code BatchImpl}.
+ * A {@code batchSize} of {@code 1} disables JDBC batching and serves as baseline.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BatchInsertBenchmark {
+
+	@Param({ "1", "25", "100" })
+	public int batchSize;
+
+	@Param({ "1000" })
+	public int rowsPerTransaction;
+
+	private SessionFactoryImplementor sessionFactory;
+	private long nextId;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactory.buildBatching( batchSize );
+	}
+
+	@Setup(Level.Iteration)
+	public void truncate() {
+		sessionFactory.inTransaction(
+				session -> session.createMutationQuery( "delete from Customer" ).executeUpdate()
+		);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public long insert() {
+		sessionFactory.inTransaction( session -> {
+			for ( int i = 0; i < rowsPerTransaction; i++ ) {
+				final long id = ++nextId;
+				session.persist( new Customer( id, "customer" + id ) );
+			}
+		} );
+		return nextId;
+	}
+}
@@ -0,0 +1,77 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.Map;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import static org.hibernate.cfg.BatchSettings.STATEMENT_BATCH_SIZE;
+import static org.hibernate.cfg.JdbcSettings.JAKARTA_JDBC_DRIVER;
+import static org.hibernate.cfg.JdbcSettings.JAKARTA_JDBC_PASSWORD;
+import static org.hibernate.cfg.JdbcSettings.JAKARTA_JDBC_URL;
+import static org.hibernate.cfg.JdbcSettings.JAKARTA_JDBC_USER;
+import static org.hibernate.cfg.JdbcSettings.POOL_SIZE;
+import static org.hibernate.cfg.JdbcSettings.SHOW_SQL;
+import static org.hibernate.cfg.SchemaToolingSettings.JAKARTA_HBM2DDL_DATABASE_ACTION;
+
+/**
+ * Builds the {@link SessionFactory} shared by the benchmarks, backed by an
+ * in-memory H2 database so that results reflect Hibernate overhead rather
+ * than network or disk latency.
+ */
+public final class BenchmarkSessionFactory {
+
+	private BenchmarkSessionFactory() {
+	}
+
+	public static SessionFactoryImplementor build(Map<String, Object> additionalSettings) {
+		final StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
+				.applySetting( JAKARTA_JDBC_DRIVER, "org.h2.Driver" )
+				// each factory gets its own database, so that parameterized benchmarks do not interfere
+				.applySetting( JAKARTA_JDBC_URL, "jdbc:h2:mem:bench" + System.nanoTime() + ";DB_CLOSE_DELAY=-1" )
+				.applySetting( JAKARTA_JDBC_USER, "sa" )
+				.applySetting( JAKARTA_JDBC_PASSWORD, "" )
+				.applySetting( POOL_SIZE, 5 )
+				.applySetting( SHOW_SQL, false )
+				.applySetting( JAKARTA_HBM2DDL_DATABASE_ACTION, "drop-and-create" )
+				.applySettings( additionalSettings )
+				.build();
+		try {
+			return new MetadataSources( registry )
+					.addAnnotatedClass( Customer.class )
+					.buildMetadata()
+					.buildSessionFactory()
+					.unwrap( SessionFactoryImplementor.class );
+		}
+		catch (RuntimeException e) {
+			StandardServiceRegistryBuilder.destroy( registry );
+			throw e;
+		}
+	}
+
+	public static SessionFactoryImplementor build() {
+		return build( Map.of() );
+	}
+
+	public static SessionFactoryImplementor buildBatching(int batchSize) {
+		return build( Map.of( STATEMENT_BATCH_SIZE, batchSize ) );
+	}
+
+	/**
+	 * Inserts {@code count} customers with identifiers {@code 1..count}.
+	 */
+	public static void populate(SessionFactory sessionFactory, int count) {
+		sessionFactory.inStatelessTransaction( session -> {
+			for ( long id = 1; id <= count; id++ ) {
+				session.insert( new Customer( id, "customer" + id ) );
+			}
+		} );
+	}
+}
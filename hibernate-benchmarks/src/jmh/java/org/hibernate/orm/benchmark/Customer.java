@@ -0,0 +1,71 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark;
+
+import java.time.LocalDate;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Simple entity mixing primitive, wrapper and temporal attributes, used by all benchmarks.
+ */
+@Entity(name = "Customer")
+@Table(name = "customers")
+public class Customer {
+	@Id
+	private Long id;
+	private String name;
+	private String email;
+	private int loyaltyPoints;
+	private boolean active;
+	private LocalDate registeredOn;
+
+	protected Customer() {
+		// for Hibernate use
+	}
+
+	public Customer(Long id, String name) {
+		this.id = id;
+		this.name = name;
+		this.email = name + "@example.org";
+		this.loyaltyPoints = (int) ( id % 1000 );
+		this.active = id % 2 == 0;
+		this.registeredOn = LocalDate.of( 2020, 1, 1 ).plusDays( id % 1000 );
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public void setName(String name) {
+		this.name = name;
+	}
+
+	public String getEmail() {
+		return email;
+	}
+
+	public int getLoyaltyPoints() {
+		return loyaltyPoints;
+	}
+
+	public void setLoyaltyPoints(int loyaltyPoints) {
+		this.loyaltyPoints = loyaltyPoints;
+	}
+
+	public boolean isActive() {
+		return active;
+	}
+
+	public LocalDate getRegisteredOn() {
+		return registeredOn;
+	}
+}
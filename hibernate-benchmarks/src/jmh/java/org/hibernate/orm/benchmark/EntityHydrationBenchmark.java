@@ -0,0 +1,72 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.StatelessSession;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures turning JDBC rows into entity instances, i.e. the
+ * {@code EntityInitializerImpl} row hydration path, for managed,
+ * read-only and stateless loading.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EntityHydrationBenchmark {
+
+	private static final String HQL = "from Customer";
+
+	@Param({ "1000", "10000" })
+	public int rowCount;
+
+	private SessionFactoryImplementor sessionFactory;
+
+	@Setup
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactory.build();
+		BenchmarkSessionFactory.populate( sessionFactory, rowCount );
+	}
+
+	@TearDown
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public List<Customer> loadManaged() {
+		try ( Session session = sessionFactory.openSession() ) {
+			return session.createSelectionQuery( HQL, Customer.class ).getResultList();
+		}
+	}
+
+	@Benchmark
+	public List<Customer> loadReadOnly() {
+		try ( Session session = sessionFactory.openSession() ) {
+			return session.createSelectionQuery( HQL, Customer.class ).setReadOnly( true ).getResultList();
+		}
+	}
+
+	@Benchmark
+	public List<Customer> loadStateless() {
+		try ( StatelessSession session = sessionFactory.openStatelessSession() ) {
+			return session.createSelectionQuery( HQL, Customer.class ).getResultList();
+		}
+	}
+}
@@ -0,0 +1,81 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures {@code DefaultFlushEventListener} over a large persistence context,
+ * where the cost is dominated by dirty-checking every managed entity.
+ * <p>
+ * With {@code dirtyCount = 0} the flush executes no SQL at all, so the numbers
+ * isolate the dirty-checking pass itself.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FlushDirtyCheckingBenchmark {
+
+	@Param({ "10000" })
+	public int entityCount;
+
+	@Param({ "0", "100" })
+	public int dirtyCount;
+
+	private SessionFactoryImplementor sessionFactory;
+	private Session session;
+	private List<Customer> customers;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactory.build();
+		BenchmarkSessionFactory.populate( sessionFactory, entityCount );
+
+		session = sessionFactory.openSession();
+		session.setHibernateFlushMode( FlushMode.MANUAL );
+		customers = session.createSelectionQuery( "from Customer order by id", Customer.class ).getResultList();
+	}
+
+	@Setup(Level.Iteration)
+	public void beginTransaction() {
+		session.getTransaction().begin();
+	}
+
+	@TearDown(Level.Iteration)
+	public void commitTransaction() {
+		session.getTransaction().commit();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		session.close();
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public void flush() {
+		for ( int i = 0; i < dirtyCount; i++ ) {
+			final Customer customer = customers.get( i );
+			customer.setLoyaltyPoints( customer.getLoyaltyPoints() + 1 );
+		}
+		session.flush();
+	}
+}
@@ -0,0 +1,61 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.spi.HqlInterpretation;
+import org.hibernate.query.spi.QueryEngine;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures {@code QueryInterpretationCacheStandardImpl} for a query string
+ * which is already cached, and for query strings which were never seen
+ * before and so have to be parsed and semantically analyzed.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class QueryInterpretationCacheBenchmark {
+
+	private static final String HQL = "select c from Customer c where c.name = :name and c.active = true";
+
+	private SessionFactoryImplementor sessionFactory;
+	private QueryEngine queryEngine;
+	private long counter;
+
+	@Setup
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactory.build();
+		queryEngine = sessionFactory.getQueryEngine();
+		// warm the cache for the hit path
+		queryEngine.interpretHql( HQL, Customer.class );
+	}
+
+	@TearDown
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public HqlInterpretation<Customer> hit() {
+		return queryEngine.interpretHql( HQL, Customer.class );
+	}
+
+	@Benchmark
+	public HqlInterpretation<Customer> miss() {
+		// a distinct literal makes for a distinct cache key, which also exercises eviction
+		return queryEngine.interpretHql( HQL + " and c.loyaltyPoints > " + counter++, Customer.class );
+	}
+}
@@ -0,0 +1,63 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures the cost of {@code SessionImpl} construction and close, with and
+ * without a (physically empty) transaction, which is what every request of a
+ * typical "session per request" application pays at least once.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SessionOpenCloseBenchmark {
+
+	private SessionFactoryImplementor sessionFactory;
+
+	@Setup
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactory.build();
+	}
+
+	@TearDown
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public boolean openAndClose() {
+		final Session session = sessionFactory.openSession();
+		final boolean open = session.isOpen();
+		session.close();
+		return open;
+	}
+
+	@Benchmark
+	public boolean openTransactAndClose() {
+		final Session session = sessionFactory.openSession();
+		try {
+			session.getTransaction().begin();
+			session.getTransaction().commit();
+			return session.isOpen();
+		}
+		finally {
+			session.close();
+		}
+	}
+}
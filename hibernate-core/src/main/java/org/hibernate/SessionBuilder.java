@@ -157,4 +157,30 @@ public interface SessionBuilder {
 	 * @see jakarta.persistence.PersistenceContextType
 	 */
 	SessionBuilder autoClose(boolean autoClose);
+
+	/**
+	 * Should the session be a read-only session?
+	 * <p>
+	 * A read-only session keeps the semantics of the persistence context,
+	 * that is, it returns the same instance for the same row, and it loads
+	 * lazy associations and collections on demand. But all its entities are
+	 * {@linkplain Session#isReadOnly read-only}, no snapshot of their loaded
+	 * state, or of the state of their collections, is kept, and the session
+	 * is never flushed. Operations which would make changes to the database,
+	 * that is, {@link Session#persist}, {@link Session#merge}, {@link Session#remove},
+	 * the execution of mutation queries, including native ones, and locking with a
+	 * lock mode which forces a version increment, are rejected. Work executed
+	 * directly on the JDBC connection, for example using {@link Session#doWork},
+	 * is not restricted.
+	 *
+	 * @param readOnly Should the session be read-only
+	 *
+	 * @return {@code this}, for method chaining
+	 *
+	 * @see Session#setDefaultReadOnly(boolean)
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	SessionBuilder readOnly(boolean readOnly);
 }
@@ -45,6 +45,7 @@
 public class BulkOperationCleanupAction implements Executable, Serializable {
 
 	private final String[] affectedTableSpaces;
+	private final boolean affectsAllTenants;
 
 	private final Set<EntityCleanup> entityCleanups = new HashSet<>();
 	private final Set<CollectionCleanup> collectionCleanups = new HashSet<>();
@@ -93,6 +94,7 @@ public BulkOperationCleanupAction(SharedSessionContractImplementor session, Enti
 		}
 
 		this.affectedTableSpaces = spacesList.toArray( new String[ 0 ] );
+		this.affectsAllTenants = false;
 	}
 
 	/**
@@ -139,6 +141,8 @@ public BulkOperationCleanupAction(SharedSessionContractImplementor session, Set<
 		} );
 
 		this.affectedTableSpaces = spacesList.toArray( new String[ 0 ] );
+		// a native statement is not restricted to the tenant of the session
+		this.affectsAllTenants = true;
 	}
 
 	public static void schedule(SharedSessionContractImplementor session, SqmDmlStatement<?> statement) {
@@ -213,6 +217,16 @@ public String[] getPropertySpaces() {
 		return affectedTableSpaces;
 	}
 
+	/**
+	 * Whether the affected table spaces should be invalidated for every tenant,
+	 * and not only for the tenant of the session.
+	 *
+	 * @see org.hibernate.cfg.CacheSettings#QUERY_CACHE_TENANT_SCOPED_INVALIDATION
+	 */
+	public boolean affectsAllTenants() {
+		return affectsAllTenants;
+	}
+
 	@Override
 	public BeforeTransactionCompletionProcess getBeforeTransactionCompletionProcess() {
 		return null;
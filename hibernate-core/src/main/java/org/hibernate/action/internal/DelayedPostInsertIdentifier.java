@@ -31,17 +31,7 @@
 	 * Constructs a {@link DelayedPostInsertIdentifier}
 	 */
 	public DelayedPostInsertIdentifier() {
-		long value = SEQUENCE.incrementAndGet();
-		if ( value < 0 ) {
-			synchronized (SEQUENCE) {
-				value = SEQUENCE.incrementAndGet();
-				if ( value < 0 ) {
-					SEQUENCE.set( 0 );
-					value = 0;
-				}
-			}
-		}
-		this.identifier = value;
+		this.identifier = SEQUENCE.updateAndGet( value -> value == Long.MAX_VALUE ? 0 : value + 1 );
 	}
 
 	@Override
@@ -182,7 +182,7 @@ public void afterDeserialize(EventSource session) {
 		if ( session != null ) {
 			this.session = session;
 			this.persister = session.getFactory().getMappingMetamodel().getEntityDescriptor( entityName );
-			this.instance = session.getPersistenceContext().getEntity( session.generateEntityKey( id, persister ) );
+			this.instance = session.getPersistenceContext().getEntity( id, persister );
 		}
 	}
 
@@ -0,0 +1,22 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.boot.internal;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.SessionFactoryObserver;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+/**
+ * Responsible for triggering the {@linkplain org.hibernate.query.spi.QueryEngine#warmUpInterpretationCache()
+ * warm-up of the query interpretation cache} when the {@link SessionFactory} is created.
+ *
+ * @see org.hibernate.cfg.QuerySettings#QUERY_PLAN_CACHE_SNAPSHOT
+ */
+class SessionFactoryObserverForQueryPlanCacheWarmUp implements SessionFactoryObserver {
+	@Override
+	public void sessionFactoryCreated(SessionFactory factory) {
+		( (SessionFactoryImplementor) factory ).getQueryEngine().warmUpInterpretationCache();
+	}
+}
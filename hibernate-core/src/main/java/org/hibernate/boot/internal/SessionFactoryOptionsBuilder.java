@@ -92,7 +92,13 @@
 import static org.hibernate.cfg.CacheSettings.JAKARTA_SHARED_CACHE_STORE_MODE;
 import static org.hibernate.cfg.CacheSettings.JPA_SHARED_CACHE_RETRIEVE_MODE;
 import static org.hibernate.cfg.CacheSettings.JPA_SHARED_CACHE_STORE_MODE;
+import static org.hibernate.cfg.CacheSettings.QUERY_CACHE_COLUMNAR;
+import static org.hibernate.cfg.CacheSettings.QUERY_CACHE_TENANT_SCOPED_INVALIDATION;
 import static org.hibernate.cfg.CacheSettings.QUERY_CACHE_LAYOUT;
+import static org.hibernate.cfg.PersistenceSettings.INCREMENTAL_FLUSH;
+import static org.hibernate.cfg.PersistenceSettings.IN_PLACE_DIRTY_CHECKING;
+import static org.hibernate.cfg.PersistenceSettings.PACKED_LOADED_STATE;
+import static org.hibernate.cfg.PersistenceSettings.PRIMITIVE_ID_ENTITY_MAPS;
 import static org.hibernate.cfg.PersistenceSettings.UNOWNED_ASSOCIATION_TRANSIENT_CHECK;
 import static org.hibernate.cfg.QuerySettings.DEFAULT_NULL_ORDERING;
 import static org.hibernate.cfg.QuerySettings.JSON_FUNCTIONS_ENABLED;
@@ -178,6 +184,10 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private boolean orderInsertsEnabled;
 	private boolean collectionsInDefaultFetchGroupEnabled = true;
 	private final boolean unownedAssociationTransientCheck;
+	private final boolean inPlaceDirtyCheckingEnabled;
+	private final boolean incrementalFlushEnabled;
+	private final boolean packedLoadedStateEnabled;
+	private final boolean primitiveIdEntityMapsEnabled;
 	private final boolean passProcedureParameterNames;
 	private final boolean preferJdbcDatetimeTypes;
 
@@ -209,10 +219,13 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private boolean secondLevelCacheEnabled;
 	private boolean queryCacheEnabled;
 	private CacheLayout queryCacheLayout;
+	private boolean queryCacheColumnarEnabled;
+	private boolean queryCacheTenantScopedInvalidationEnabled;
 	private TimestampsCacheFactory timestampsCacheFactory;
 	private String cacheRegionPrefix;
 	private boolean minimalPutsEnabled;
 	private boolean structuredCacheEntriesEnabled;
+	private boolean compactCacheEntriesEnabled;
 	private boolean directReferenceCacheEntriesEnabled;
 	private boolean autoEvictCollectionCache;
 
@@ -419,6 +432,10 @@ public SessionFactoryOptionsBuilder(StandardServiceRegistry serviceRegistry, Boo
 					configurationService.getSetting( QUERY_CACHE_LAYOUT,
 							value -> CacheLayout.valueOf( value.toString().toUpperCase( Locale.ROOT ) ),
 							CacheLayout.FULL );
+			queryCacheColumnarEnabled =
+					configurationService.getSetting( QUERY_CACHE_COLUMNAR, BOOLEAN, false );
+			queryCacheTenantScopedInvalidationEnabled =
+					configurationService.getSetting( QUERY_CACHE_TENANT_SCOPED_INVALIDATION, BOOLEAN, false );
 			timestampsCacheFactory =
 					strategySelector.resolveDefaultableStrategy( TimestampsCacheFactory.class,
 							settings.get( QUERY_CACHE_FACTORY ), StandardTimestampsCacheFactory.INSTANCE );
@@ -426,6 +443,8 @@ public SessionFactoryOptionsBuilder(StandardServiceRegistry serviceRegistry, Boo
 					configurationService.getSetting( USE_MINIMAL_PUTS, BOOLEAN, regionFactory.isMinimalPutsEnabledByDefault() );
 			structuredCacheEntriesEnabled =
 					configurationService.getSetting( USE_STRUCTURED_CACHE, BOOLEAN, false );
+			compactCacheEntriesEnabled =
+					configurationService.getSetting( USE_COMPACT_CACHE_ENTRIES, BOOLEAN, false );
 			directReferenceCacheEntriesEnabled =
 					configurationService.getSetting( USE_DIRECT_REFERENCE_CACHE_ENTRIES, BOOLEAN, false );
 			autoEvictCollectionCache =
@@ -435,10 +454,13 @@ public SessionFactoryOptionsBuilder(StandardServiceRegistry serviceRegistry, Boo
 			secondLevelCacheEnabled = false;
 			queryCacheEnabled = false;
 			queryCacheLayout = CacheLayout.AUTO;
+			queryCacheColumnarEnabled = false;
+			queryCacheTenantScopedInvalidationEnabled = false;
 			timestampsCacheFactory = null;
 			cacheRegionPrefix = null;
 			minimalPutsEnabled = false;
 			structuredCacheEntriesEnabled = false;
+			compactCacheEntriesEnabled = false;
 			directReferenceCacheEntriesEnabled = false;
 			autoEvictCollectionCache = false;
 		}
@@ -517,6 +539,11 @@ public SessionFactoryOptionsBuilder(StandardServiceRegistry serviceRegistry, Boo
 		unownedAssociationTransientCheck =
 				getBoolean( UNOWNED_ASSOCIATION_TRANSIENT_CHECK, settings, isJpaBootstrap() );
 
+		inPlaceDirtyCheckingEnabled = getBoolean( IN_PLACE_DIRTY_CHECKING, settings );
+		incrementalFlushEnabled = getBoolean( INCREMENTAL_FLUSH, settings );
+		packedLoadedStateEnabled = getBoolean( PACKED_LOADED_STATE, settings );
+		primitiveIdEntityMapsEnabled = getBoolean( PRIMITIVE_ID_ENTITY_MAPS, settings );
+
 		passProcedureParameterNames =
 				getBoolean( AvailableSettings.QUERY_PASS_PROCEDURE_PARAMETER_NAMES, settings, false );
 
@@ -1011,6 +1038,16 @@ public CacheLayout getQueryCacheLayout() {
 		return queryCacheLayout;
 	}
 
+	@Override
+	public boolean isQueryCacheColumnarEnabled() {
+		return queryCacheColumnarEnabled;
+	}
+
+	@Override
+	public boolean isQueryCacheTenantScopedInvalidationEnabled() {
+		return queryCacheTenantScopedInvalidationEnabled;
+	}
+
 	@Override
 	public TimestampsCacheFactory getTimestampsCacheFactory() {
 		return timestampsCacheFactory;
@@ -1031,6 +1068,11 @@ public boolean isStructuredCacheEntriesEnabled() {
 		return structuredCacheEntriesEnabled;
 	}
 
+	@Override
+	public boolean isCompactCacheEntriesEnabled() {
+		return compactCacheEntriesEnabled;
+	}
+
 	@Override
 	public boolean isDirectReferenceCacheEntriesEnabled() {
 		return directReferenceCacheEntriesEnabled;
@@ -1196,6 +1238,26 @@ public boolean isUnownedAssociationTransientCheck() {
 		return unownedAssociationTransientCheck;
 	}
 
+	@Override
+	public boolean isInPlaceDirtyCheckingEnabled() {
+		return inPlaceDirtyCheckingEnabled;
+	}
+
+	@Override
+	public boolean isIncrementalFlushEnabled() {
+		return incrementalFlushEnabled;
+	}
+
+	@Override
+	public boolean isPackedLoadedStateEnabled() {
+		return packedLoadedStateEnabled;
+	}
+
+	@Override
+	public boolean isPrimitiveIdEntityMapsEnabled() {
+		return primitiveIdEntityMapsEnabled;
+	}
+
 	@Override
 	public int getPreferredSqlTypeCodeForBoolean() {
 		return preferredSqlTypeCodeForBoolean;
@@ -264,6 +264,16 @@ public CacheLayout getQueryCacheLayout() {
 		return delegate.getQueryCacheLayout();
 	}
 
+	@Override
+	public boolean isQueryCacheColumnarEnabled() {
+		return delegate.isQueryCacheColumnarEnabled();
+	}
+
+	@Override
+	public boolean isQueryCacheTenantScopedInvalidationEnabled() {
+		return delegate.isQueryCacheTenantScopedInvalidationEnabled();
+	}
+
 	@Override
 	public TimestampsCacheFactory getTimestampsCacheFactory() {
 		return delegate.getTimestampsCacheFactory();
@@ -284,6 +294,11 @@ public boolean isStructuredCacheEntriesEnabled() {
 		return delegate.isStructuredCacheEntriesEnabled();
 	}
 
+	@Override
+	public boolean isCompactCacheEntriesEnabled() {
+		return delegate.isCompactCacheEntriesEnabled();
+	}
+
 	@Override
 	public boolean isDirectReferenceCacheEntriesEnabled() {
 		return delegate.isDirectReferenceCacheEntriesEnabled();
@@ -463,6 +478,26 @@ public boolean isUnownedAssociationTransientCheck() {
 		return delegate.isUnownedAssociationTransientCheck();
 	}
 
+	@Override
+	public boolean isInPlaceDirtyCheckingEnabled() {
+		return delegate.isInPlaceDirtyCheckingEnabled();
+	}
+
+	@Override
+	public boolean isIncrementalFlushEnabled() {
+		return delegate.isIncrementalFlushEnabled();
+	}
+
+	@Override
+	public boolean isPackedLoadedStateEnabled() {
+		return delegate.isPackedLoadedStateEnabled();
+	}
+
+	@Override
+	public boolean isPrimitiveIdEntityMapsEnabled() {
+		return delegate.isPrimitiveIdEntityMapsEnabled();
+	}
+
 	@Override
 	public boolean isUseOfJdbcNamedParametersEnabled() {
 		return delegate().isUseOfJdbcNamedParametersEnabled();
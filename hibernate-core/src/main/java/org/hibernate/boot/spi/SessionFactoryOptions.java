@@ -260,6 +260,22 @@ default boolean isAllowRefreshDetachedEntity() {
 	@Incubating
 	CacheLayout getQueryCacheLayout();
 
+	/**
+	 * @see org.hibernate.cfg.CacheSettings#QUERY_CACHE_COLUMNAR
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	boolean isQueryCacheColumnarEnabled();
+
+	/**
+	 * @see org.hibernate.cfg.CacheSettings#QUERY_CACHE_TENANT_SCOPED_INVALIDATION
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	boolean isQueryCacheTenantScopedInvalidationEnabled();
+
 	/**
 	 * @see org.hibernate.cfg.CacheSettings#QUERY_CACHE_FACTORY
 	 */
@@ -280,6 +296,14 @@ default boolean isAllowRefreshDetachedEntity() {
 	 */
 	boolean isStructuredCacheEntriesEnabled();
 
+	/**
+	 * @see org.hibernate.cfg.CacheSettings#USE_COMPACT_CACHE_ENTRIES
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	boolean isCompactCacheEntriesEnabled();
+
 	/**
 	 * @see org.hibernate.cfg.CacheSettings#USE_DIRECT_REFERENCE_CACHE_ENTRIES
 	 */
@@ -517,6 +541,38 @@ default boolean isCollectionsInDefaultFetchGroupEnabled() {
 	 */
 	boolean isUnownedAssociationTransientCheck();
 
+	/**
+	 * @see org.hibernate.cfg.PersistenceSettings#IN_PLACE_DIRTY_CHECKING
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	boolean isInPlaceDirtyCheckingEnabled();
+
+	/**
+	 * @see org.hibernate.cfg.PersistenceSettings#INCREMENTAL_FLUSH
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	boolean isIncrementalFlushEnabled();
+
+	/**
+	 * @see org.hibernate.cfg.PersistenceSettings#PACKED_LOADED_STATE
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	boolean isPackedLoadedStateEnabled();
+
+	/**
+	 * @see org.hibernate.cfg.PersistenceSettings#PRIMITIVE_ID_ENTITY_MAPS
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	boolean isPrimitiveIdEntityMapsEnabled();
+
 	/**
 	 * @see org.hibernate.cfg.MappingSettings#PREFERRED_BOOLEAN_JDBC_TYPE
 	 */
@@ -0,0 +1,353 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.internal;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToIntFunction;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * An in-process map bounded by number of entries and by total weight, with
+ * an optional time to live, evicting according to the W-TinyLFU policy:
+ * <ul>
+ *     <li>new entries go into a small LRU <em>window</em>,
+ *     <li>entries leaving the window are <em>candidates</em> for the main
+ *         space, and are admitted only if they were accessed more often than
+ *         the entry which would be evicted in their place, as estimated by a
+ *         {@link FrequencySketch}, and
+ *     <li>the main space is a segmented LRU, where entries accessed again
+ *         after their admission move from the <em>probation</em> segment to
+ *         the <em>protected</em> segment.
+ * </ul>
+ * <p>
+ * Lookups never block: the access is recorded only when the lock guarding
+ * the eviction policy is free, since the frequencies are only estimates.
+ * Writes and evictions are serialized by that lock.
+ */
+final class BoundedLocalCache {
+	private static final byte WINDOW = 0;
+	private static final byte PROBATION = 1;
+	private static final byte PROTECTED = 2;
+
+	private final ConcurrentHashMap<Object, Node> data = new ConcurrentHashMap<>();
+	private final long maxEntries;
+	private final long maxWeight;
+	private final long timeToLiveNanos;
+	private final ToIntFunction<Object> weigher;
+
+	private final Lock policyLock = new ReentrantLock();
+	// the following are guarded by policyLock
+	private final FrequencySketch sketch;
+	private final AccessOrderQueue window = new AccessOrderQueue();
+	private final AccessOrderQueue probation = new AccessOrderQueue();
+	private final AccessOrderQueue protectedQueue = new AccessOrderQueue();
+	private final long maxWindowEntries;
+	private final long maxProtectedEntries;
+	private long totalWeight;
+
+	/**
+	 * @param maxEntries The maximum number of entries
+	 * @param maxWeight The maximum total weight of the entries
+	 * @param timeToLiveNanos The time after which an entry expires, or zero
+	 * @param weigher Computes the weight of a value
+	 */
+	BoundedLocalCache(long maxEntries, long maxWeight, long timeToLiveNanos, ToIntFunction<Object> weigher) {
+		this.maxEntries = Math.max( 1, maxEntries );
+		this.maxWeight = Math.max( 1, maxWeight );
+		this.timeToLiveNanos = timeToLiveNanos;
+		this.weigher = weigher;
+		this.sketch = new FrequencySketch( this.maxEntries );
+		this.maxWindowEntries = Math.max( 1, this.maxEntries / 100 );
+		this.maxProtectedEntries = (long) ( ( this.maxEntries - maxWindowEntries ) * 0.8 );
+	}
+
+	@Nullable Object get(Object key) {
+		final Node node = data.get( key );
+		if ( node == null ) {
+			return null;
+		}
+		if ( node.isExpired( System.nanoTime() ) ) {
+			remove( key, node );
+			return null;
+		}
+		if ( policyLock.tryLock() ) {
+			try {
+				sketch.increment( node.hash );
+				onAccess( node );
+			}
+			finally {
+				policyLock.unlock();
+			}
+		}
+		return node.value;
+	}
+
+	boolean containsKey(Object key) {
+		final Node node = data.get( key );
+		return node != null && !node.isExpired( System.nanoTime() );
+	}
+
+	void put(Object key, Object value) {
+		final int weight = Math.max( 1, weigher.applyAsInt( value ) );
+		final long expiresAt = timeToLiveNanos > 0 ? System.nanoTime() + timeToLiveNanos : 0L;
+		final Node node = data.compute( key, (k, existing) -> {
+			if ( existing == null ) {
+				return new Node( k, value, weight, expiresAt );
+			}
+			else {
+				existing.update( value, weight, expiresAt );
+				return existing;
+			}
+		} );
+		policyLock.lock();
+		try {
+			sketch.increment( node.hash );
+			// a concurrent removal or clear may have removed the node already
+			if ( data.get( key ) == node ) {
+				if ( node.queue < 0 ) {
+					node.queue = WINDOW;
+					window.addLast( node );
+				}
+				else {
+					onAccess( node );
+				}
+				totalWeight += node.weight - node.policyWeight;
+				node.policyWeight = node.weight;
+				evict();
+			}
+		}
+		finally {
+			policyLock.unlock();
+		}
+	}
+
+	void remove(Object key) {
+		final Node node = data.remove( key );
+		if ( node != null ) {
+			unlink( node );
+		}
+	}
+
+	private void remove(Object key, Node node) {
+		if ( data.remove( key, node ) ) {
+			unlink( node );
+		}
+	}
+
+	private void unlink(Node node) {
+		policyLock.lock();
+		try {
+			removeFromPolicy( node );
+		}
+		finally {
+			policyLock.unlock();
+		}
+	}
+
+	void clear() {
+		policyLock.lock();
+		try {
+			for ( Node node : data.values() ) {
+				// a concurrent lookup may still hold the node
+				node.queue = -1;
+			}
+			data.clear();
+			window.clear();
+			probation.clear();
+			protectedQueue.clear();
+			totalWeight = 0;
+		}
+		finally {
+			policyLock.unlock();
+		}
+	}
+
+	int size() {
+		return data.size();
+	}
+
+	private void onAccess(Node node) {
+		switch ( node.queue ) {
+			case WINDOW -> window.moveToLast( node );
+			case PROBATION -> {
+				// accessed again since its admission
+				probation.remove( node );
+				node.queue = PROTECTED;
+				protectedQueue.addLast( node );
+				while ( protectedQueue.size > maxProtectedEntries ) {
+					final Node demoted = protectedQueue.pollFirst();
+					demoted.queue = PROBATION;
+					probation.addLast( demoted );
+				}
+			}
+			case PROTECTED -> protectedQueue.moveToLast( node );
+			default -> {
+				// not, or no longer, linked
+			}
+		}
+	}
+
+	private void removeFromPolicy(Node node) {
+		switch ( node.queue ) {
+			case WINDOW -> window.remove( node );
+			case PROBATION -> probation.remove( node );
+			case PROTECTED -> protectedQueue.remove( node );
+			default -> {
+				return;
+			}
+		}
+		node.queue = -1;
+		totalWeight -= node.policyWeight;
+		node.policyWeight = 0;
+	}
+
+	private void evict() {
+		// the entries leaving the window are candidates for admission to the main space
+		int candidates = 0;
+		while ( window.size > maxWindowEntries ) {
+			final Node node = window.pollFirst();
+			node.queue = PROBATION;
+			probation.addLast( node );
+			candidates++;
+		}
+
+		// the most recent candidate is at the end of the probation segment
+		Node candidate = candidates > 0 ? probation.last : null;
+		while ( linkedEntries() > maxEntries || totalWeight > maxWeight ) {
+			final Node victim = probation.first;
+			if ( candidate != null && victim != null && candidate != victim ) {
+				final Node previousCandidate = --candidates > 0 ? candidate.previous : null;
+				if ( sketch.frequency( candidate.hash ) > sketch.frequency( victim.hash ) ) {
+					evict( victim );
+				}
+				else {
+					evict( candidate );
+				}
+				candidate = previousCandidate == null || previousCandidate.queue != PROBATION ? null : previousCandidate;
+			}
+			else {
+				final Node node = victim != null ? victim
+						: protectedQueue.first != null ? protectedQueue.first
+						: window.first;
+				if ( node == null ) {
+					break;
+				}
+				if ( node == candidate ) {
+					candidate = null;
+				}
+				evict( node );
+			}
+		}
+	}
+
+	private long linkedEntries() {
+		return window.size + probation.size + protectedQueue.size;
+	}
+
+	private void evict(Node node) {
+		data.remove( node.key, node );
+		removeFromPolicy( node );
+	}
+
+	private static final class Node {
+		final Object key;
+		final int hash;
+		volatile Object value;
+		volatile long expiresAt;
+		volatile int weight;
+
+		// the following are guarded by policyLock
+		byte queue = -1;
+		int policyWeight;
+		Node previous;
+		Node next;
+
+		Node(Object key, Object value, int weight, long expiresAt) {
+			this.key = key;
+			this.hash = spread( key.hashCode() );
+			this.value = value;
+			this.weight = weight;
+			this.expiresAt = expiresAt;
+		}
+
+		void update(Object value, int weight, long expiresAt) {
+			this.value = value;
+			this.weight = weight;
+			this.expiresAt = expiresAt;
+		}
+
+		boolean isExpired(long now) {
+			final long expiresAt = this.expiresAt;
+			return expiresAt != 0L && now - expiresAt >= 0;
+		}
+
+		private static int spread(int hash) {
+			final int h = hash * 0x9E3779B9;
+			return h ^ ( h >>> 16 );
+		}
+	}
+
+	/**
+	 * A doubly-linked list of nodes, from the least to the most recently accessed.
+	 */
+	private static final class AccessOrderQueue {
+		Node first;
+		Node last;
+		long size;
+
+		void addLast(Node node) {
+			node.previous = last;
+			node.next = null;
+			if ( last == null ) {
+				first = node;
+			}
+			else {
+				last.next = node;
+			}
+			last = node;
+			size++;
+		}
+
+		Node pollFirst() {
+			final Node node = first;
+			remove( node );
+			return node;
+		}
+
+		void moveToLast(Node node) {
+			if ( node != last ) {
+				remove( node );
+				addLast( node );
+			}
+		}
+
+		void remove(Node node) {
+			if ( node.previous == null ) {
+				first = node.next;
+			}
+			else {
+				node.previous.next = node.next;
+			}
+			if ( node.next == null ) {
+				last = node.previous;
+			}
+			else {
+				node.next.previous = node.previous;
+			}
+			node.previous = null;
+			node.next = null;
+			size--;
+		}
+
+		void clear() {
+			first = null;
+			last = null;
+			size = 0;
+		}
+	}
+}
@@ -27,6 +27,7 @@
 import org.hibernate.cache.spi.QueryResultsRegion;
 import org.hibernate.cache.spi.Region;
 import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cache.spi.SingleFlightLoads;
 import org.hibernate.cache.spi.TimestampsCache;
 import org.hibernate.cache.spi.TimestampsRegion;
 import org.hibernate.cache.spi.access.CollectionDataAccess;
@@ -41,6 +42,11 @@
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.pretty.MessageHelper;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import static org.hibernate.cfg.CacheSettings.CACHE_SINGLE_FLIGHT_TIMEOUT;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getLong;
+
 /**
  * A {@link CacheImplementor} service used when the second-level cache is enabled.
  *
@@ -63,6 +69,7 @@ public class EnabledCaching implements CacheImplementor, DomainDataRegionBuildin
 	private final Map<NavigableRole,EntityDataAccess> entityAccessMap = new ConcurrentHashMap<>();
 	private final Map<NavigableRole,NaturalIdDataAccess> naturalIdAccessMap = new ConcurrentHashMap<>();
 	private final Map<NavigableRole,CollectionDataAccess> collectionAccessMap = new ConcurrentHashMap<>();
+	private final Map<String,SingleFlightLoads> singleFlightLoadsByRegion = new ConcurrentHashMap<>();
 
 	private final TimestampsCache timestampsCache;
 
@@ -126,6 +133,11 @@ public void prime(Set<DomainDataRegionConfig> cacheRegionConfigs) {
 				);
 			}
 
+			final long singleFlightTimeout = singleFlightTimeout( region.getName() );
+			if ( singleFlightTimeout > 0 ) {
+				singleFlightLoadsByRegion.put( region.getName(), new SingleFlightLoads( singleFlightTimeout ) );
+			}
+
 			// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 			// Entity caching
 
@@ -206,6 +218,17 @@ public TimestampsCache getTimestampsCache() {
 		return timestampsCache;
 	}
 
+	@Override
+	public @Nullable SingleFlightLoads getSingleFlightLoads(String regionName) {
+		return singleFlightLoadsByRegion.get( regionName );
+	}
+
+	private long singleFlightTimeout(String regionName) {
+		final Map<String, Object> properties = getSessionFactory().getProperties();
+		final long regionTimeout = getLong( CACHE_SINGLE_FLIGHT_TIMEOUT + '.' + regionName, properties, -1 );
+		return regionTimeout < 0 ? getLong( CACHE_SINGLE_FLIGHT_TIMEOUT, properties, 0 ) : regionTimeout;
+	}
+
 
 	@Override
 	public Region getRegion(String regionName) {
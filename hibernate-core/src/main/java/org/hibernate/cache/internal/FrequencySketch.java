@@ -0,0 +1,82 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.internal;
+
+/**
+ * A count-min sketch estimating how often keys were accessed, using four
+ * 4-bit counters per key. All counters are halved periodically, so that
+ * the estimates favor recent accesses.
+ * <p>
+ * Not thread-safe: guarded by the lock of the owning {@link BoundedLocalCache}.
+ */
+final class FrequencySketch {
+	private static final long[] SEEDS = {
+			0xc3a5c85c97cb3127L,
+			0xb492b66fbe98f273L,
+			0x9ae16a3b2f90404fL,
+			0xcbf29ce484222325L
+	};
+	private static final long RESET_MASK = 0x7777777777777777L;
+	private static final int MAX_FREQUENCY = 15;
+
+	private final long[] table;
+	private final int tableMask;
+	private final int sampleSize;
+	private int additions;
+
+	FrequencySketch(long maximumSize) {
+		// sixteen counters per long, so at least four counters per entry
+		final long entries = Math.min( 1L << 22, Math.max( 32L, maximumSize ) );
+		final int capacity = (int) ( Long.highestOneBit( entries - 1 ) << 1 ) >>> 2;
+		table = new long[capacity];
+		tableMask = capacity - 1;
+		sampleSize = (int) Math.min( Integer.MAX_VALUE, 10L * Math.max( 1, maximumSize ) );
+	}
+
+	int frequency(int hash) {
+		int frequency = MAX_FREQUENCY;
+		for ( int i = 0; i < SEEDS.length; i++ ) {
+			final long h = mix( hash, i );
+			final int shift = (int) ( h & 15 ) << 2;
+			final int count = (int) ( table[index( h )] >>> shift ) & 0xF;
+			frequency = Math.min( frequency, count );
+		}
+		return frequency;
+	}
+
+	void increment(int hash) {
+		boolean added = false;
+		for ( int i = 0; i < SEEDS.length; i++ ) {
+			final long h = mix( hash, i );
+			final int index = index( h );
+			final int shift = (int) ( h & 15 ) << 2;
+			final long mask = 0xFL << shift;
+			if ( ( table[index] & mask ) != mask ) {
+				table[index] += 1L << shift;
+				added = true;
+			}
+		}
+		if ( added && ++additions >= sampleSize ) {
+			reset();
+		}
+	}
+
+	private void reset() {
+		for ( int i = 0; i < table.length; i++ ) {
+			table[i] = ( table[i] >>> 1 ) & RESET_MASK;
+		}
+		additions >>>= 1;
+	}
+
+	private int index(long h) {
+		return (int) ( h >>> 32 ) & tableMask;
+	}
+
+	private static long mix(int hash, int i) {
+		long h = ( hash + SEEDS[i] ) * SEEDS[i];
+		h ^= h >>> 29;
+		return h;
+	}
+}
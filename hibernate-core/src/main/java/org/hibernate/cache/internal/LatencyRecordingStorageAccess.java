@@ -0,0 +1,141 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.internal;
+
+import java.util.Collection;
+import java.util.Map;
+
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+/**
+ * Decorates the {@link StorageAccess} of a region, recording the time taken by
+ * each read and write in the {@linkplain org.hibernate.stat.CacheRegionStatistics
+ * statistics} of the region, while statistics are enabled.
+ * <p>
+ * The storage access of a query results region is only ever used as a plain
+ * {@link StorageAccess}, so the {@link DomainDataStorageAccess} operations are
+ * only called when the decorated storage access is also a domain data one.
+ *
+ * @see org.hibernate.cfg.StatisticsSettings#CACHE_LATENCY_STATISTICS
+ *
+ * @since 7.0
+ */
+public class LatencyRecordingStorageAccess implements DomainDataStorageAccess {
+	private final StorageAccess delegate;
+	private final String regionName;
+
+	public LatencyRecordingStorageAccess(StorageAccess delegate, String regionName) {
+		this.delegate = delegate;
+		this.regionName = regionName;
+	}
+
+	/**
+	 * The decorated storage access
+	 */
+	public StorageAccess getDelegate() {
+		return delegate;
+	}
+
+	@Override
+	public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+		final StatisticsImplementor statistics = session.getFactory().getStatistics();
+		if ( !statistics.isStatisticsEnabled() ) {
+			return delegate.getFromCache( key, session );
+		}
+		final long start = System.nanoTime();
+		try {
+			return delegate.getFromCache( key, session );
+		}
+		finally {
+			statistics.cacheGetTime( regionName, System.nanoTime() - start );
+		}
+	}
+
+	@Override
+	public Map<Object, Object> getAllFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+		final StatisticsImplementor statistics = session.getFactory().getStatistics();
+		if ( !statistics.isStatisticsEnabled() ) {
+			return domainDataDelegate().getAllFromCache( keys, session );
+		}
+		final long start = System.nanoTime();
+		try {
+			return domainDataDelegate().getAllFromCache( keys, session );
+		}
+		finally {
+			statistics.cacheGetTime( regionName, System.nanoTime() - start );
+		}
+	}
+
+	@Override
+	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+		final StatisticsImplementor statistics = session.getFactory().getStatistics();
+		if ( !statistics.isStatisticsEnabled() ) {
+			delegate.putIntoCache( key, value, session );
+		}
+		else {
+			final long start = System.nanoTime();
+			try {
+				delegate.putIntoCache( key, value, session );
+			}
+			finally {
+				statistics.cachePutTime( regionName, System.nanoTime() - start );
+			}
+		}
+	}
+
+	@Override
+	public void putFromLoad(Object key, Object value, SharedSessionContractImplementor session) {
+		final StatisticsImplementor statistics = session.getFactory().getStatistics();
+		if ( !statistics.isStatisticsEnabled() ) {
+			domainDataDelegate().putFromLoad( key, value, session );
+		}
+		else {
+			final long start = System.nanoTime();
+			try {
+				domainDataDelegate().putFromLoad( key, value, session );
+			}
+			finally {
+				statistics.cachePutTime( regionName, System.nanoTime() - start );
+			}
+		}
+	}
+
+	@Override
+	public void removeFromCache(Object key, SharedSessionContractImplementor session) {
+		delegate.removeFromCache( key, session );
+	}
+
+	@Override
+	public void clearCache(SharedSessionContractImplementor session) {
+		delegate.clearCache( session );
+	}
+
+	@Override
+	public boolean contains(Object key) {
+		return delegate.contains( key );
+	}
+
+	@Override
+	public void evictData() {
+		delegate.evictData();
+	}
+
+	@Override
+	public void evictData(Object key) {
+		delegate.evictData( key );
+	}
+
+	@Override
+	public void release() {
+		delegate.release();
+	}
+
+	private DomainDataStorageAccess domainDataDelegate() {
+		return (DomainDataStorageAccess) delegate;
+	}
+}
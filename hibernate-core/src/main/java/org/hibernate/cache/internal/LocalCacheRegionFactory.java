@@ -0,0 +1,168 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.internal;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+import static org.hibernate.cfg.CacheSettings.LOCAL_CACHE_MAX_ENTRIES;
+import static org.hibernate.cfg.CacheSettings.LOCAL_CACHE_MAX_WEIGHT;
+import static org.hibernate.cfg.CacheSettings.LOCAL_CACHE_OFF_HEAP_SIZE;
+import static org.hibernate.cfg.CacheSettings.LOCAL_CACHE_TIME_TO_LIVE;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getLong;
+
+/**
+ * A {@link org.hibernate.cache.spi.RegionFactory} keeping the cached data in the
+ * memory of the current process, for applications running a single node, which do
+ * not need a distributed cache.
+ * <p>
+ * Each entity, collection, natural id, or query results region is a map bounded
+ * by {@value org.hibernate.cfg.CacheSettings#LOCAL_CACHE_MAX_ENTRIES} and
+ * {@value org.hibernate.cfg.CacheSettings#LOCAL_CACHE_MAX_WEIGHT}, evicting the
+ * entries least likely to be used again according to the W-TinyLFU policy, with
+ * an optional {@value org.hibernate.cfg.CacheSettings#LOCAL_CACHE_TIME_TO_LIVE}.
+ * These settings may be given for a single region by appending the name of the
+ * region to the name of the setting. The update timestamps region is never
+ * bounded, since evicting a timestamp would allow stale query results.
+ * <p>
+ * Alternatively, the entity, collection, and natural id regions may be kept
+ * outside the Java heap, by setting
+ * {@value org.hibernate.cfg.CacheSettings#LOCAL_CACHE_OFF_HEAP_SIZE}, in which
+ * case their entries are serialized into an {@link OffHeapStorageAccess}.
+ * <p>
+ * Otherwise, cached values are stored by reference, so that, with
+ * {@value org.hibernate.cfg.CacheSettings#USE_DIRECT_REFERENCE_CACHE_ENTRIES}
+ * enabled, instances of immutable entities are cached as is.
+ *
+ * @see org.hibernate.cfg.CacheSettings#CACHE_REGION_FACTORY
+ *
+ * @since 7.0
+ */
+public class LocalCacheRegionFactory extends RegionFactoryTemplate {
+	/**
+	 * The short name of this region factory, for use with
+	 * {@value org.hibernate.cfg.CacheSettings#CACHE_REGION_FACTORY}
+	 */
+	public static final String SHORT_NAME = "local";
+
+	private static final long DEFAULT_MAX_ENTRIES = 10_000;
+
+	private Map<String, Object> configValues;
+	private long maxEntries;
+	private long maxWeight;
+	private long timeToLiveSeconds;
+	private long offHeapSize;
+
+	@Override
+	protected void prepareForUse(SessionFactoryOptions settings, Map<String, Object> configValues) {
+		this.configValues = configValues;
+		this.maxEntries = getLong( LOCAL_CACHE_MAX_ENTRIES, configValues, (int) DEFAULT_MAX_ENTRIES );
+		this.maxWeight = getLong( LOCAL_CACHE_MAX_WEIGHT, configValues, -1 );
+		this.timeToLiveSeconds = getLong( LOCAL_CACHE_TIME_TO_LIVE, configValues, 0 );
+		this.offHeapSize = getLong( LOCAL_CACHE_OFF_HEAP_SIZE, configValues, 0 );
+	}
+
+	@Override
+	protected void releaseFromUse() {
+		configValues = null;
+	}
+
+	@Override
+	protected DomainDataStorageAccess createDomainDataStorageAccess(
+			DomainDataRegionConfig regionConfig,
+			DomainDataRegionBuildingContext buildingContext) {
+		final String regionName = regionConfig.getRegionName();
+		final long offHeapMegabytes = regionSetting( LOCAL_CACHE_OFF_HEAP_SIZE, regionName, offHeapSize );
+		return offHeapMegabytes > 0
+				? new OffHeapStorageAccess(
+						offHeapMegabytes * 1024 * 1024,
+						TimeUnit.SECONDS.toNanos( regionSetting( LOCAL_CACHE_TIME_TO_LIVE, regionName, timeToLiveSeconds ) )
+				)
+				: createStorageAccess( regionName );
+	}
+
+	@Override
+	protected DomainDataStorageAccess decorateDomainDataStorageAccess(
+			DomainDataStorageAccess storageAccess,
+			DomainDataRegionBuildingContext buildingContext) {
+		// already local
+		return storageAccess;
+	}
+
+	@Override
+	protected StorageAccess createQueryResultsRegionStorageAccess(
+			String regionName,
+			SessionFactoryImplementor sessionFactory) {
+		return createStorageAccess( regionName );
+	}
+
+	@Override
+	protected StorageAccess createTimestampsRegionStorageAccess(
+			String regionName,
+			SessionFactoryImplementor sessionFactory) {
+		return new TimestampsStorageAccess();
+	}
+
+	private LocalCacheStorageAccess createStorageAccess(String regionName) {
+		final long regionMaxWeight = regionSetting( LOCAL_CACHE_MAX_WEIGHT, regionName, maxWeight );
+		return new LocalCacheStorageAccess(
+				regionSetting( LOCAL_CACHE_MAX_ENTRIES, regionName, maxEntries ),
+				regionMaxWeight < 0 ? Long.MAX_VALUE : regionMaxWeight,
+				TimeUnit.SECONDS.toNanos( regionSetting( LOCAL_CACHE_TIME_TO_LIVE, regionName, timeToLiveSeconds ) )
+		);
+	}
+
+	private long regionSetting(String setting, String regionName, long defaultValue) {
+		final long regionValue = getLong( setting + '.' + regionName, configValues, -1 );
+		return regionValue < 0 ? defaultValue : regionValue;
+	}
+
+	/**
+	 * Unbounded storage for the update timestamps
+	 */
+	private static class TimestampsStorageAccess implements StorageAccess {
+		private final Map<Object, Object> timestamps = new ConcurrentHashMap<>();
+
+		@Override
+		public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+			return timestamps.get( key );
+		}
+
+		@Override
+		public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+			timestamps.put( key, value );
+		}
+
+		@Override
+		public boolean contains(Object key) {
+			return timestamps.containsKey( key );
+		}
+
+		@Override
+		public void evictData() {
+			timestamps.clear();
+		}
+
+		@Override
+		public void evictData(Object key) {
+			timestamps.remove( key );
+		}
+
+		@Override
+		public void release() {
+			timestamps.clear();
+		}
+	}
+}
@@ -0,0 +1,83 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.internal;
+
+import org.hibernate.cache.spi.entry.CacheEntry;
+import org.hibernate.cache.spi.entry.CollectionCacheEntry;
+import org.hibernate.cache.spi.support.AbstractReadWriteAccess;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+/**
+ * {@link DomainDataStorageAccess} backed by a {@link BoundedLocalCache}. Values
+ * are stored by reference: they are neither copied nor serialized.
+ *
+ * @see LocalCacheRegionFactory
+ */
+public class LocalCacheStorageAccess implements DomainDataStorageAccess {
+	private final BoundedLocalCache cache;
+
+	LocalCacheStorageAccess(long maxEntries, long maxWeight, long timeToLiveNanos) {
+		this.cache = new BoundedLocalCache( maxEntries, maxWeight, timeToLiveNanos, LocalCacheStorageAccess::weigh );
+	}
+
+	/**
+	 * The number of entries currently held
+	 */
+	public int getElementCount() {
+		return cache.size();
+	}
+
+	@Override
+	public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+		return cache.get( key );
+	}
+
+	@Override
+	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+		cache.put( key, value );
+	}
+
+	@Override
+	public boolean contains(Object key) {
+		return cache.containsKey( key );
+	}
+
+	@Override
+	public void evictData() {
+		cache.clear();
+	}
+
+	@Override
+	public void evictData(Object key) {
+		cache.remove( key );
+	}
+
+	@Override
+	public void release() {
+		cache.clear();
+	}
+
+	/**
+	 * Estimate the weight of a value as the number of values it holds.
+	 */
+	private static int weigh(Object value) {
+		final Object unwrapped = value instanceof AbstractReadWriteAccess.Lockable lockable
+				? lockable.getValue()
+				: value;
+		if ( unwrapped instanceof CacheEntry entry ) {
+			return entry.isReferenceEntry() ? 1 : entry.getDisassembledState().length + 1;
+		}
+		else if ( unwrapped instanceof CollectionCacheEntry entry ) {
+			return entry.getState().length + 1;
+		}
+		else if ( unwrapped instanceof QueryResultsCacheImpl.CacheItem item ) {
+			return item.getNumberOfResults() + 1;
+		}
+		else {
+			return 1;
+		}
+	}
+}
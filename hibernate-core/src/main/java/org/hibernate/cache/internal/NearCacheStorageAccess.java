@@ -0,0 +1,217 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.internal;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.hibernate.cache.spi.support.AbstractReadWriteAccess;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+import static org.hibernate.internal.util.collections.CollectionHelper.mapOfSize;
+
+/**
+ * Decorates the {@link DomainDataStorageAccess} of a remote cache with a bounded
+ * local copy of the entries recently read from, or written to, the remote cache,
+ * so that repeated reads of the same entries do not each need a network hop.
+ * <p>
+ * Every write of this node goes to both the remote cache and the local copy, so
+ * that the local copy is always the latest state known to this node, including
+ * the version and timestamp of the {@linkplain AbstractReadWriteAccess.Lockable
+ * items} of read-write regions. These are checked as usual against the caching
+ * timestamp of the transaction reading the local copy. A key which is soft-locked
+ * for an update is removed from the local copy, so that it is read from the
+ * remote cache until the update completes.
+ * <p>
+ * An entry read from the remote cache is not kept locally if a write or an
+ * invalidation of this node happened while it was being read, since the value
+ * read might then be older than the value written. This is detected by a
+ * generation number, one per stripe of keys, incremented by every write and
+ * invalidation of this node before the local copy is updated.
+ * <p>
+ * Changes made by other nodes are seen once the local copy has expired, after
+ * {@value org.hibernate.cfg.CacheSettings#NEAR_CACHE_TIME_TO_LIVE}, since the
+ * remote cache does not notify this node of changes.
+ *
+ * @see org.hibernate.cfg.CacheSettings#NEAR_CACHE_MAX_ENTRIES
+ *
+ * @since 7.0
+ */
+public class NearCacheStorageAccess implements DomainDataStorageAccess {
+	private static final int GENERATION_STRIPES = 1024;
+
+	private final DomainDataStorageAccess remote;
+	private final BoundedLocalCache local;
+	private final AtomicLongArray generations = new AtomicLongArray( GENERATION_STRIPES );
+
+	public NearCacheStorageAccess(DomainDataStorageAccess remote, long maxEntries, long timeToLiveNanos) {
+		this.remote = remote;
+		this.local = new BoundedLocalCache( maxEntries, Long.MAX_VALUE, timeToLiveNanos, value -> 1 );
+	}
+
+	/**
+	 * The decorated storage access
+	 */
+	public DomainDataStorageAccess getRemoteStorageAccess() {
+		return remote;
+	}
+
+	@Override
+	public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+		final Object cached = local.get( key );
+		if ( cached != null ) {
+			return cached;
+		}
+		final long generation = generation( key );
+		final Object value = remote.getFromCache( key, session );
+		populateLocal( key, value, generation );
+		return value;
+	}
+
+	@Override
+	public Map<Object, Object> getAllFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+		final Map<Object, Object> items = mapOfSize( keys.size() );
+		final List<Object> remoteKeys = new ArrayList<>();
+		final Map<Object, Long> remoteGenerations = mapOfSize( keys.size() );
+		for ( Object key : keys ) {
+			final Object cached = local.get( key );
+			if ( cached != null ) {
+				items.put( key, cached );
+			}
+			else {
+				remoteKeys.add( key );
+				remoteGenerations.put( key, generation( key ) );
+			}
+		}
+		if ( !remoteKeys.isEmpty() ) {
+			final Map<Object, Object> remoteItems = remote.getAllFromCache( remoteKeys, session );
+			for ( Map.Entry<Object, Object> entry : remoteItems.entrySet() ) {
+				final Object key = entry.getKey();
+				final Object value = entry.getValue();
+				final Long generation = remoteGenerations.get( key );
+				if ( generation != null ) {
+					populateLocal( key, value, generation );
+				}
+				items.put( key, value );
+			}
+		}
+		return items;
+	}
+
+	@Override
+	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+		remote.putIntoCache( key, value, session );
+		updateLocal( key, value );
+	}
+
+	@Override
+	public void putFromLoad(Object key, Object value, SharedSessionContractImplementor session) {
+		remote.putFromLoad( key, value, session );
+		updateLocal( key, value );
+	}
+
+	private void updateLocal(Object key, Object value) {
+		invalidate( key );
+		if ( isCacheableLocally( value ) ) {
+			local.put( key, value );
+		}
+		else {
+			local.remove( key );
+		}
+	}
+
+	/**
+	 * Keep the value read from the remote cache locally, unless the key was written
+	 * or invalidated by this node since the given generation was obtained, in which
+	 * case the value read might be stale.
+	 */
+	private void populateLocal(Object key, Object value, long generation) {
+		if ( isCacheableLocally( value ) ) {
+			local.put( key, value );
+			// the write or invalidation might have happened after the generation was
+			// read, but before the value was put: then the write has either already
+			// updated the local copy, which is now overwritten, or will do it later
+			if ( generation( key ) != generation ) {
+				local.remove( key );
+			}
+		}
+	}
+
+	private long generation(Object key) {
+		return generations.get( stripe( key ) );
+	}
+
+	/**
+	 * Must be called after the remote cache was written, and before updating the
+	 * local copy of the key
+	 */
+	private void invalidate(Object key) {
+		generations.incrementAndGet( stripe( key ) );
+	}
+
+	private void invalidateAll() {
+		for ( int i = 0; i < GENERATION_STRIPES; i++ ) {
+			generations.incrementAndGet( i );
+		}
+	}
+
+	private static int stripe(Object key) {
+		final int hash = key.hashCode();
+		return ( hash ^ ( hash >>> 16 ) ) & ( GENERATION_STRIPES - 1 );
+	}
+
+	/**
+	 * Soft locks are never kept locally, since they coordinate the updates of
+	 * all nodes, and must therefore be read from the remote cache.
+	 */
+	private static boolean isCacheableLocally(Object value) {
+		return value != null
+			&& !( value instanceof AbstractReadWriteAccess.Lockable lockable && lockable.getValue() == null );
+	}
+
+	@Override
+	public void removeFromCache(Object key, SharedSessionContractImplementor session) {
+		remote.removeFromCache( key, session );
+		invalidate( key );
+		local.remove( key );
+	}
+
+	@Override
+	public void clearCache(SharedSessionContractImplementor session) {
+		remote.clearCache( session );
+		invalidateAll();
+		local.clear();
+	}
+
+	@Override
+	public boolean contains(Object key) {
+		return local.containsKey( key ) || remote.contains( key );
+	}
+
+	@Override
+	public void evictData() {
+		remote.evictData();
+		invalidateAll();
+		local.clear();
+	}
+
+	@Override
+	public void evictData(Object key) {
+		remote.evictData( key );
+		invalidate( key );
+		local.remove( key );
+	}
+
+	@Override
+	public void release() {
+		remote.release();
+		invalidateAll();
+		local.clear();
+	}
+}
@@ -0,0 +1,282 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.internal;
+
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.type.SerializationException;
+
+import org.jboss.logging.Logger;
+
+/**
+ * {@link DomainDataStorageAccess} keeping the cached values outside the Java
+ * heap, so that a large amount of cached data does not lengthen garbage
+ * collection pauses.
+ * <p>
+ * Values, including the {@linkplain org.hibernate.cache.spi.support.AbstractReadWriteAccess.Lockable
+ * lockable} items of read-write regions, are serialized into direct buffers of
+ * fixed size called <em>segments</em>, which are filled one after the other. Only
+ * the keys, each with the location of its value, are kept on the heap. When all
+ * segments are full, a segment is reclaimed according to the clock policy: the
+ * segments are visited in a circle, sparing once those which were read since the
+ * last visit, and all the values held by the reclaimed segment are evicted.
+ * A value which cannot be serialized is not cached.
+ * <p>
+ * Lookups share a read lock, and copy the value out of its segment before
+ * deserializing it. Writes and the reclamation of segments take the write lock.
+ *
+ * @see LocalCacheRegionFactory
+ * @see org.hibernate.cfg.CacheSettings#LOCAL_CACHE_OFF_HEAP_SIZE
+ */
+public class OffHeapStorageAccess implements DomainDataStorageAccess {
+	private static final Logger LOG = Logger.getLogger( OffHeapStorageAccess.class );
+
+	private static final int MIN_SEGMENT_SIZE = 64 * 1024;
+	private static final int MAX_SEGMENT_SIZE = 64 * 1024 * 1024;
+	// the length of the value, followed by the time it was written
+	private static final int HEADER_SIZE = Integer.BYTES + Long.BYTES;
+
+	// the location of a value is the number of its segment in the high
+	// half, and its offset in the low half
+	private final ConcurrentHashMap<Object, Long> index = new ConcurrentHashMap<>();
+	private final long timeToLiveNanos;
+	private final int segmentSize;
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+	// the following are guarded by the write lock
+	private final Segment[] segments;
+	private int segmentCount;
+	private int current = -1;
+	private int hand;
+
+	/**
+	 * @param maxSize The maximum number of bytes allocated outside the heap
+	 * @param timeToLiveNanos The time after which an entry expires, or zero
+	 */
+	OffHeapStorageAccess(long maxSize, long timeToLiveNanos) {
+		this.timeToLiveNanos = timeToLiveNanos;
+		this.segmentSize = (int) Math.min( MAX_SEGMENT_SIZE, Math.max( MIN_SEGMENT_SIZE, maxSize / 16 ) );
+		// at least two segments, so that one may be reclaimed while the other is written
+		this.segments = new Segment[(int) Math.max( 2, maxSize / segmentSize )];
+	}
+
+	/**
+	 * The number of entries currently held
+	 */
+	public int getElementCount() {
+		return index.size();
+	}
+
+	/**
+	 * The number of bytes currently allocated outside the heap
+	 */
+	public long getOffHeapSize() {
+		lock.readLock().lock();
+		try {
+			return (long) segmentCount * segmentSize;
+		}
+		finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	@Override
+	public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+		final byte[] bytes;
+		lock.readLock().lock();
+		try {
+			final Long location = index.get( key );
+			if ( location == null ) {
+				return null;
+			}
+			final Segment segment = segments[segmentNumber( location )];
+			final int offset = offset( location );
+			if ( timeToLiveNanos > 0
+					&& System.nanoTime() - segment.buffer.getLong( offset + Integer.BYTES ) > timeToLiveNanos ) {
+				index.remove( key, location );
+				return null;
+			}
+			bytes = new byte[segment.buffer.getInt( offset )];
+			segment.buffer.get( offset + HEADER_SIZE, bytes );
+			if ( !segment.referenced ) {
+				segment.referenced = true;
+			}
+		}
+		finally {
+			lock.readLock().unlock();
+		}
+		try {
+			return SerializationHelper.deserialize( bytes );
+		}
+		catch (SerializationException e) {
+			LOG.debugf( e, "Unable to deserialize cached value for key [%s]", key );
+			index.remove( key );
+			return null;
+		}
+	}
+
+	@Override
+	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+		final byte[] bytes = serialize( key, value );
+		if ( bytes == null || HEADER_SIZE + bytes.length > segmentSize ) {
+			// forget any previous value
+			index.remove( key );
+			return;
+		}
+		lock.writeLock().lock();
+		try {
+			final int size = HEADER_SIZE + bytes.length;
+			if ( current < 0 || segments[current].position + size > segmentSize ) {
+				current = nextSegment();
+			}
+			final Segment segment = segments[current];
+			final int offset = segment.position;
+			segment.buffer.putInt( offset, bytes.length );
+			segment.buffer.putLong( offset + Integer.BYTES, System.nanoTime() );
+			segment.buffer.put( offset + HEADER_SIZE, bytes );
+			segment.position += size;
+			segment.keys.add( key );
+			index.put( key, location( current, offset ) );
+		}
+		finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	@Override
+	public boolean contains(Object key) {
+		return index.containsKey( key );
+	}
+
+	@Override
+	public void evictData() {
+		lock.writeLock().lock();
+		try {
+			index.clear();
+			for ( int i = 0; i < segmentCount; i++ ) {
+				segments[i].reset();
+			}
+		}
+		finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	@Override
+	public void evictData(Object key) {
+		index.remove( key );
+	}
+
+	@Override
+	public void release() {
+		lock.writeLock().lock();
+		try {
+			index.clear();
+			// the direct buffers are freed once unreachable
+			for ( int i = 0; i < segmentCount; i++ ) {
+				segments[i] = null;
+			}
+			segmentCount = 0;
+			current = -1;
+			hand = 0;
+		}
+		finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	private static byte[] serialize(Object key, Object value) {
+		if ( value instanceof Serializable serializable ) {
+			try {
+				return SerializationHelper.serialize( serializable );
+			}
+			catch (SerializationException e) {
+				LOG.debugf( e, "Unable to serialize value for key [%s], not caching it", key );
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Allocate a new segment, or reclaim one when the maximum size is reached.
+	 * Called with the write lock held.
+	 */
+	private int nextSegment() {
+		if ( segmentCount < segments.length ) {
+			segments[segmentCount] = new Segment( ByteBuffer.allocateDirect( segmentSize ) );
+			return segmentCount++;
+		}
+		while ( true ) {
+			hand = ( hand + 1 ) % segmentCount;
+			final Segment segment = segments[hand];
+			if ( hand != current ) {
+				if ( segment.referenced ) {
+					// second chance
+					segment.referenced = false;
+				}
+				else {
+					reclaim( hand );
+					return hand;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Evict every value still held by the given segment.
+	 * Called with the write lock held.
+	 */
+	private void reclaim(int number) {
+		final Segment segment = segments[number];
+		for ( Object key : segment.keys ) {
+			// unless the key was written again to another segment
+			index.computeIfPresent(
+					key,
+					(k, location) -> segmentNumber( location ) == number ? null : location
+			);
+		}
+		segment.reset();
+	}
+
+	private static long location(int segmentNumber, int offset) {
+		return ( (long) segmentNumber << 32 ) | offset;
+	}
+
+	private static int segmentNumber(long location) {
+		return (int) ( location >>> 32 );
+	}
+
+	private static int offset(long location) {
+		return (int) location;
+	}
+
+	private static final class Segment {
+		private final ByteBuffer buffer;
+		// the keys written to this segment, some possibly since
+		// evicted or written again elsewhere
+		private final List<Object> keys = new ArrayList<>();
+		private volatile boolean referenced;
+		private int position;
+
+		private Segment(ByteBuffer buffer) {
+			this.buffer = buffer;
+		}
+
+		private void reset() {
+			keys.clear();
+			referenced = false;
+			position = 0;
+		}
+	}
+}
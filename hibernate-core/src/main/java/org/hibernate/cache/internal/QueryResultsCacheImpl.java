@@ -17,6 +17,7 @@
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.event.monitor.spi.EventMonitor;
 import org.hibernate.event.monitor.spi.DiagnosticEvent;
+import org.hibernate.sql.results.jdbc.internal.ColumnarCachedResults;
 
 import static org.hibernate.cache.spi.SecondLevelCacheLogger.L2CACHE_LOGGER;
 
@@ -82,7 +83,8 @@ public boolean put(
 	}
 
 	private static <T> List<T> deepCopy(List<T> results) {
-		return new ArrayList<>( results );
+		// the columnar form is immutable
+		return results instanceof ColumnarCachedResults ? results : new ArrayList<>( results );
 	}
 
 	@Override
@@ -183,5 +185,9 @@ public static class CacheItem implements Serializable {
 			this.timestamp = Long.valueOf( timestamp );
 			this.results = results;
 		}
+
+		int getNumberOfResults() {
+			return results.size();
+		}
 	}
 }
@@ -80,6 +80,10 @@ protected RegionFactory resolveRegionFactory(Map<String,Object> configurationVal
 		}
 
 		final Object setting = configurationValues.get( AvailableSettings.CACHE_REGION_FACTORY );
+		if ( LocalCacheRegionFactory.SHORT_NAME.equals( setting ) ) {
+			// not registered with the StrategySelector, since it must never be picked implicitly
+			return new LocalCacheRegionFactory();
+		}
 
 		final StrategySelector selector = registry.requireService( StrategySelector.class );
 		final Collection<Class<? extends RegionFactory>> implementors = selector.getRegisteredStrategyImplementors( RegionFactory.class );
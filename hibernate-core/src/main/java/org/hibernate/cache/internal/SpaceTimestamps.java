@@ -0,0 +1,83 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.internal;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+/**
+ * The last update timestamps of the tables mapped by the domain model, held in
+ * an array indexed by a number assigned to each table when the session factory
+ * starts, so that they may be read without going through the timestamps region.
+ * <p>
+ * Used only when the timestamps region is local to the process, in which case
+ * this is the authoritative copy, since no other node may update the region.
+ * Tables unknown to the domain model, for example those only synchronized by
+ * native queries, are not held here.
+ *
+ * @see TimestampsCacheEnabledImpl
+ */
+final class SpaceTimestamps {
+	// no update was recorded since startup
+	private static final long NONE = Long.MIN_VALUE;
+	// pad the slots to avoid false sharing between frequently updated tables
+	private static final int STRIDE = 8;
+
+	private final Map<String, Integer> spaceNumbers;
+	private final AtomicLongArray timestamps;
+
+	private SpaceTimestamps(Map<String, Integer> spaceNumbers) {
+		this.spaceNumbers = spaceNumbers;
+		this.timestamps = new AtomicLongArray( spaceNumbers.size() * STRIDE );
+		for ( int i = 0; i < spaceNumbers.size(); i++ ) {
+			timestamps.set( i * STRIDE, NONE );
+		}
+	}
+
+	static SpaceTimestamps forDomainModel(SessionFactoryImplementor factory) {
+		final Map<String, Integer> spaceNumbers = new HashMap<>();
+		factory.getMappingMetamodel().forEachEntityDescriptor( persister -> {
+			for ( String space : persister.getSynchronizedQuerySpaces() ) {
+				spaceNumbers.putIfAbsent( space, spaceNumbers.size() );
+			}
+		} );
+		factory.getMappingMetamodel().forEachCollectionDescriptor( persister -> {
+			for ( String space : persister.getCollectionSpaces() ) {
+				spaceNumbers.putIfAbsent( space, spaceNumbers.size() );
+			}
+		} );
+		return new SpaceTimestamps( Map.copyOf( spaceNumbers ) );
+	}
+
+	/**
+	 * @return {@code false} if the given table is not held here
+	 */
+	boolean contains(String space) {
+		return spaceNumbers.containsKey( space );
+	}
+
+	/**
+	 * Record the timestamp of an update of a table held here.
+	 */
+	void set(String space, long timestamp) {
+		timestamps.set( slot( space ), timestamp );
+	}
+
+	/**
+	 * The timestamp of the last update of a table held here,
+	 * or {@code null} if it was not updated since startup.
+	 */
+	Long get(String space) {
+		final long timestamp = timestamps.get( slot( space ) );
+		return timestamp == NONE ? null : timestamp;
+	}
+
+	private int slot(String space) {
+		return spaceNumbers.get( space ) * STRIDE;
+	}
+}
@@ -4,8 +4,17 @@
  */
 package org.hibernate.cache.internal;
 
+import java.io.Serializable;
 import java.util.Collection;
-
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+import org.hibernate.binder.internal.TenantIdBinder;
 import org.hibernate.cache.spi.RegionFactory;
 import org.hibernate.cache.spi.TimestampsCache;
 import org.hibernate.cache.spi.TimestampsRegion;
@@ -14,12 +23,29 @@
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.event.monitor.spi.EventMonitor;
 import org.hibernate.event.monitor.spi.DiagnosticEvent;
+import org.hibernate.generator.Generator;
+import org.hibernate.generator.internal.TenantIdGeneration;
+import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
 import org.jboss.logging.Logger;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 /**
  * Standard implementation of TimestampsCache
+ * <p>
+ * With {@linkplain org.hibernate.cfg.CacheSettings#QUERY_CACHE_TENANT_SCOPED_INVALIDATION
+ * tenant-scoped invalidation}, a space partitioned by tenant has, in addition to
+ * the timestamp of its last modification made for every tenant, a timestamp per
+ * tenant, and a timestamp of its last modification made for any single tenant.
+ * A session with a tenant identifier checks the timestamp of its own tenant, and
+ * a session without checks the timestamp of any single tenant.
+ * <p>
+ * When the timestamps region is {@linkplain LocalCacheRegionFactory local to the
+ * process}, the timestamps of the tables mapped by the domain model are also kept
+ * in a {@link SpaceTimestamps}, from which they are read without going through
+ * the region.
  *
  * @author Steve Ebersole
  */
@@ -29,9 +55,21 @@ public class TimestampsCacheEnabledImpl implements TimestampsCache {
 	public static final boolean DEBUG_ENABLED = log.isDebugEnabled();
 
 	private final TimestampsRegion timestampsRegion;
+	private final boolean tenantScopedInvalidation;
+	private volatile @Nullable Predicate<String> tenantPartitionedSpaces;
+	private final boolean localRegion;
+	private volatile @Nullable SpaceTimestamps spaceTimestamps;
+	/** Use a lock instead of the monitor lock to avoid pinning when using virtual threads. */
+	private final Lock spaceTimestampsLock = new ReentrantLock();
 
 	public TimestampsCacheEnabledImpl(TimestampsRegion timestampsRegion) {
+		this( timestampsRegion, false );
+	}
+
+	public TimestampsCacheEnabledImpl(TimestampsRegion timestampsRegion, boolean tenantScopedInvalidation) {
 		this.timestampsRegion = timestampsRegion;
+		this.tenantScopedInvalidation = tenantScopedInvalidation;
+		this.localRegion = timestampsRegion.getRegionFactory() instanceof LocalCacheRegionFactory;
 	}
 
 	@Override
@@ -43,6 +81,20 @@ public TimestampsRegion getRegion() {
 	public void preInvalidate(
 			String[] spaces,
 			SharedSessionContractImplementor session) {
+		preInvalidate( spaces, tenantScope( session ), session );
+	}
+
+	@Override
+	public void preInvalidateAllTenants(
+			String[] spaces,
+			SharedSessionContractImplementor session) {
+		preInvalidate( spaces, null, session );
+	}
+
+	private void preInvalidate(
+			String[] spaces,
+			@Nullable Object tenantId,
+			SharedSessionContractImplementor session) {
 		final SessionFactoryImplementor factory = session.getFactory();
 		final RegionFactory regionFactory = factory.getCache().getRegionFactory();
 
@@ -53,10 +105,14 @@ public void preInvalidate(
 
 		final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
 		final boolean debugEnabled = log.isDebugEnabled();
+		final SpaceTimestamps spaceTimestamps = spaceTimestamps( factory );
 
-		for ( String space : spaces ) {
+		for ( Object key : invalidationKeys( spaces, tenantId, factory ) ) {
 			if ( debugEnabled ) {
-				log.debugf( "Pre-invalidating space [%s], timestamp: %s", space, ts );
+				log.debugf( "Pre-invalidating space [%s], timestamp: %s", key, ts );
+			}
+			if ( spaceTimestamps != null && key instanceof String space && spaceTimestamps.contains( space ) ) {
+				spaceTimestamps.set( space, ts );
 			}
 			final EventMonitor eventMonitor = session.getEventMonitor();
 			final DiagnosticEvent cachePutEvent = eventMonitor.beginCachePutEvent();
@@ -65,7 +121,7 @@ public void preInvalidate(
 
 				//put() has nowait semantics, is this really appropriate?
 				//note that it needs to be async replication, never local or sync
-				timestampsRegion.putIntoCache( space, ts, session );
+				timestampsRegion.putIntoCache( key, ts, session );
 			}
 			finally {
 				eventMonitor.completeCachePutEvent(
@@ -88,15 +144,33 @@ public void preInvalidate(
 	public void invalidate(
 			String[] spaces,
 			SharedSessionContractImplementor session) {
+		invalidate( spaces, tenantScope( session ), session );
+	}
+
+	@Override
+	public void invalidateAllTenants(
+			String[] spaces,
+			SharedSessionContractImplementor session) {
+		invalidate( spaces, null, session );
+	}
+
+	private void invalidate(
+			String[] spaces,
+			@Nullable Object tenantId,
+			SharedSessionContractImplementor session) {
 		final StatisticsImplementor statistics = session.getFactory().getStatistics();
 		final boolean stats = statistics.isStatisticsEnabled();
 
 		final Long ts = session.getFactory().getCache().getRegionFactory().nextTimestamp();
 		final boolean debugEnabled = log.isDebugEnabled();
+		final SpaceTimestamps spaceTimestamps = spaceTimestamps( session.getFactory() );
 
-		for ( String space : spaces ) {
+		for ( Object key : invalidationKeys( spaces, tenantId, session.getFactory() ) ) {
 			if ( debugEnabled ) {
-				log.debugf( "Invalidating space [%s], timestamp: %s", space, ts );
+				log.debugf( "Invalidating space [%s], timestamp: %s", key, ts );
+			}
+			if ( spaceTimestamps != null && key instanceof String space && spaceTimestamps.contains( space ) ) {
+				spaceTimestamps.set( space, ts );
 			}
 
 			final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
@@ -104,7 +178,7 @@ public void invalidate(
 			final DiagnosticEvent cachePutEvent = eventMonitor.beginCachePutEvent();
 			try {
 				eventListenerManager.cachePutStart();
-				timestampsRegion.putIntoCache( space, ts, session );
+				timestampsRegion.putIntoCache( key, ts, session );
 			}
 			finally {
 				eventMonitor.completeCachePutEvent(
@@ -129,9 +203,12 @@ public boolean isUpToDate(
 			Long timestamp,
 			SharedSessionContractImplementor session) {
 		final StatisticsImplementor statistics = session.getFactory().getStatistics();
+		final Object tenantId = tenantScope( session );
 
 		for ( String space : spaces ) {
-			if ( isSpaceOutOfDate( space, timestamp, session, statistics ) ) {
+			if ( isSpaceOutOfDate( space, timestamp, session, statistics )
+					|| isTenantPartitioned( space, session.getFactory() )
+						&& isSpaceOutOfDate( new TenantSpace( space, tenantId ), timestamp, session, statistics ) ) {
 				return false;
 			}
 		}
@@ -140,7 +217,7 @@ public boolean isUpToDate(
 	}
 
 	private boolean isSpaceOutOfDate(
-			String space,
+			Object space,
 			Long timestamp,
 			SharedSessionContractImplementor session,
 			StatisticsImplementor statistics) {
@@ -180,9 +257,12 @@ public boolean isUpToDate(
 			Long timestamp,
 			SharedSessionContractImplementor session) {
 		final StatisticsImplementor statistics = session.getFactory().getStatistics();
+		final Object tenantId = tenantScope( session );
 
 		for ( String space : spaces ) {
-			if ( isSpaceOutOfDate( space, timestamp, session, statistics ) ) {
+			if ( isSpaceOutOfDate( space, timestamp, session, statistics )
+					|| isTenantPartitioned( space, session.getFactory() )
+						&& isSpaceOutOfDate( new TenantSpace( space, tenantId ), timestamp, session, statistics ) ) {
 				return false;
 			}
 		}
@@ -190,7 +270,12 @@ public boolean isUpToDate(
 		return true;
 	}
 
-	private Long getLastUpdateTimestampForSpace(String space, SharedSessionContractImplementor session) {
+	private Long getLastUpdateTimestampForSpace(Object space, SharedSessionContractImplementor session) {
+		final SpaceTimestamps spaceTimestamps = spaceTimestamps( session.getFactory() );
+		if ( spaceTimestamps != null && space instanceof String name && spaceTimestamps.contains( name ) ) {
+			return spaceTimestamps.get( name );
+		}
+
 		Long ts = null;
 		final EventMonitor eventMonitor = session.getEventMonitor();
 		final DiagnosticEvent cacheGetEvent = eventMonitor.beginCacheGetEvent();
@@ -210,4 +295,118 @@ private Long getLastUpdateTimestampForSpace(String space, SharedSessionContractI
 		return ts;
 	}
 
+	/**
+	 * The timestamps of the tables of the domain model, if the region is local,
+	 * created on first use, since the domain model is not yet available when
+	 * this object is created
+	 */
+	private @Nullable SpaceTimestamps spaceTimestamps(SessionFactoryImplementor factory) {
+		if ( !localRegion ) {
+			return null;
+		}
+		SpaceTimestamps result = spaceTimestamps;
+		if ( result == null ) {
+			spaceTimestampsLock.lock();
+			try {
+				result = spaceTimestamps;
+				if ( result == null ) {
+					spaceTimestamps = result = SpaceTimestamps.forDomainModel( factory );
+				}
+			}
+			finally {
+				spaceTimestampsLock.unlock();
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * The tenant to which the modifications made, and the query results cached,
+	 * by the given session are limited, or {@code null} if they concern every tenant
+	 */
+	private @Nullable Object tenantScope(SharedSessionContractImplementor session) {
+		if ( tenantScopedInvalidation ) {
+			final Object tenantId = session.getTenantIdentifierValue();
+			if ( tenantId != null
+					&& ( !session.getFactory().getDefinedFilterNames().contains( TenantIdBinder.FILTER_NAME )
+						|| session.getLoadQueryInfluencers().getEnabledFilter( TenantIdBinder.FILTER_NAME ) != null ) ) {
+				return tenantId;
+			}
+		}
+		return null;
+	}
+
+	private Collection<?> invalidationKeys(
+			String[] spaces,
+			@Nullable Object tenantId,
+			SessionFactoryImplementor factory) {
+		if ( tenantId == null ) {
+			return List.of( spaces );
+		}
+		else {
+			final Set<Object> keys = new HashSet<>();
+			for ( String space : spaces ) {
+				if ( isTenantPartitioned( space, factory ) ) {
+					keys.add( new TenantSpace( space, tenantId ) );
+					keys.add( new TenantSpace( space, null ) );
+				}
+				else {
+					keys.add( space );
+				}
+			}
+			return keys;
+		}
+	}
+
+	private boolean isTenantPartitioned(String space, SessionFactoryImplementor factory) {
+		if ( !tenantScopedInvalidation ) {
+			return false;
+		}
+		Predicate<String> partitioned = tenantPartitionedSpaces;
+		if ( partitioned == null ) {
+			tenantPartitionedSpaces = partitioned = tenantPartitionedSpaces( factory );
+		}
+		return partitioned.test( space );
+	}
+
+	/**
+	 * With a {@link org.hibernate.annotations.TenantId @TenantId} attribute, the
+	 * tables mapped only by entities with such an attribute. Otherwise, with a
+	 * schema or database per tenant, every table.
+	 */
+	private static Predicate<String> tenantPartitionedSpaces(SessionFactoryImplementor factory) {
+		if ( !factory.getDefinedFilterNames().contains( TenantIdBinder.FILTER_NAME ) ) {
+			return space -> true;
+		}
+		else {
+			final Set<String> partitioned = new HashSet<>();
+			final Set<String> shared = new HashSet<>();
+			factory.getMappingMetamodel().forEachEntityDescriptor( persister -> Collections.addAll(
+					hasTenantId( persister ) ? partitioned : shared,
+					persister.getSynchronizedQuerySpaces()
+			) );
+			partitioned.removeAll( shared );
+			return partitioned::contains;
+		}
+	}
+
+	private static boolean hasTenantId(EntityPersister persister) {
+		for ( Generator generator : persister.getEntityMetamodel().getGenerators() ) {
+			if ( generator instanceof TenantIdGeneration ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * The key of the timestamp of a space partitioned by tenant, for the given
+	 * tenant, or for any single tenant if the tenant identifier is {@code null}
+	 */
+	private record TenantSpace(String space, @Nullable Object tenantId) implements Serializable {
+		@Override
+		public String toString() {
+			return tenantId == null ? space + "[any tenant]" : space + "[tenant " + tenantId + "]";
+		}
+	}
 }
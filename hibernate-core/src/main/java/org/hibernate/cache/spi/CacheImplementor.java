@@ -9,6 +9,7 @@
 
 import org.hibernate.Cache;
 import org.hibernate.HibernateException;
+import org.hibernate.Incubating;
 import org.hibernate.Internal;
 import org.hibernate.Remove;
 import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
@@ -20,6 +21,8 @@
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.service.Service;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 /**
  * An SPI supported by any Hibernate {@linkplain Service service} that provides an
  * implementation of the {@link Cache} API. Extends {@code Cache} with operations
@@ -78,6 +81,18 @@ public interface CacheImplementor extends Service, Cache, Serializable {
 	 */
 	TimestampsCache getTimestampsCache();
 
+	/**
+	 * The loads in progress of the entries of the given domain data region, if
+	 * {@linkplain org.hibernate.cfg.CacheSettings#CACHE_SINGLE_FLIGHT_TIMEOUT
+	 * single-flight loading} is enabled for the region, or {@code null}.
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default @Nullable SingleFlightLoads getSingleFlightLoads(String regionName) {
+		return null;
+	}
+
 	/**
 	 * Access to the "default" region used to store query results when caching
 	 * was requested but no region was explicitly named.  Will return {@code null}
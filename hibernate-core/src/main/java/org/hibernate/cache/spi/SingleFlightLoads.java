@@ -0,0 +1,103 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.spi;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Incubating;
+import org.hibernate.cache.spi.access.AccessType;
+
+/**
+ * Tracks the entries of a domain data region which are being loaded from the
+ * database after a cache miss, so that when several sessions miss the same entry
+ * at once, only one of them loads it, while the others wait for the entry to be
+ * {@linkplain org.hibernate.cache.spi.access.CachedDomainDataAccess#putFromLoad
+ * put from load}, and then read it from the cache.
+ * <p>
+ * The waiting sessions read the cache as usual once the load completes, and a
+ * session which still misses the entry after waiting loads it itself. Loads are
+ * therefore only coordinated for the {@linkplain #isSupported access types}
+ * whose reads always see an entry put from load.
+ *
+ * @see org.hibernate.cfg.CacheSettings#CACHE_SINGLE_FLIGHT_TIMEOUT
+ * @see CacheImplementor#getSingleFlightLoads(String)
+ *
+ * @since 7.0
+ */
+@Incubating
+public final class SingleFlightLoads {
+	private final long timeoutMillis;
+	private final ConcurrentHashMap<Object, Load> loads = new ConcurrentHashMap<>();
+
+	public SingleFlightLoads(long timeoutMillis) {
+		this.timeoutMillis = timeoutMillis;
+	}
+
+	/**
+	 * Whether a session waiting for the load of an entry with the given access
+	 * type is able to read the entry from the cache once it is loaded.
+	 * <p>
+	 * This is not the case for {@linkplain AccessType#READ_WRITE read-write}
+	 * access, where an entry put from load is only readable by transactions
+	 * which started after the loading transaction, so that a session which
+	 * started waiting first would miss the entry again.
+	 */
+	public static boolean isSupported(AccessType accessType) {
+		return accessType == AccessType.READ_ONLY
+			|| accessType == AccessType.NONSTRICT_READ_WRITE;
+	}
+
+	/**
+	 * Called after a cache miss, to claim the load of the entry with the
+	 * given key. If another session is already loading the entry, waits
+	 * until it is done, or until the timeout has elapsed.
+	 *
+	 * @return {@code true} if the caller must load the entry, and then
+	 *         call {@link #release}, or {@code false} if another session
+	 *         loaded the entry, and the caller should read the cache again
+	 */
+	public boolean claim(Object cacheKey) {
+		final Load load = new Load( Thread.currentThread() );
+		final Load existing = loads.putIfAbsent( cacheKey, load );
+		if ( existing == null ) {
+			return true;
+		}
+		else if ( existing.loader == Thread.currentThread() ) {
+			// a nested load of the same entry, which must not wait for itself
+			return false;
+		}
+		else {
+			try {
+				existing.done.await( timeoutMillis, TimeUnit.MILLISECONDS );
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * Called once the entry with the given key has been loaded, or the
+	 * load failed, by the caller which {@linkplain #claim claimed} it.
+	 */
+	public void release(Object cacheKey) {
+		final Load load = loads.remove( cacheKey );
+		if ( load != null ) {
+			load.done.countDown();
+		}
+	}
+
+	private static final class Load {
+		private final Thread loader;
+		private final CountDownLatch done = new CountDownLatch( 1 );
+
+		private Load(Thread loader) {
+			this.loader = loader;
+		}
+	}
+}
@@ -6,6 +6,7 @@
 
 import java.util.Collection;
 
+import org.hibernate.Incubating;
 import org.hibernate.cache.CacheException;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 
@@ -47,6 +48,36 @@ void invalidate(
 			String[] spaces,
 			SharedSessionContractImplementor session);
 
+	/**
+	 * Perform pre-invalidation of the passed spaces (table names) for
+	 * every tenant, even when the session has a tenant identifier.
+	 *
+	 * @see org.hibernate.cfg.CacheSettings#QUERY_CACHE_TENANT_SCOPED_INVALIDATION
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default void preInvalidateAllTenants(
+			String[] spaces,
+			SharedSessionContractImplementor session) {
+		preInvalidate( spaces, session );
+	}
+
+	/**
+	 * Perform invalidation of the passed spaces (table names) for
+	 * every tenant, even when the session has a tenant identifier.
+	 *
+	 * @see org.hibernate.cfg.CacheSettings#QUERY_CACHE_TENANT_SCOPED_INVALIDATION
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default void invalidateAllTenants(
+			String[] spaces,
+			SharedSessionContractImplementor session) {
+		invalidate( spaces, session );
+	}
+
 	/**
 	 * Perform an up-to-date check for the given set of query spaces as
 	 * part of verifying the validity of cached query results.
@@ -4,12 +4,18 @@
  */
 package org.hibernate.cache.spi.access;
 
+import java.util.Collection;
+import java.util.Map;
+
 import jakarta.persistence.Cache;
 
+import org.hibernate.Incubating;
 import org.hibernate.cache.CacheException;
 import org.hibernate.cache.spi.DomainDataRegion;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 
+import static org.hibernate.internal.util.collections.CollectionHelper.mapOfSize;
+
 /**
  * Base contract for accessing the cached data for a particular element of
  * the domain model in a transactionally ACID manner.
@@ -56,6 +62,34 @@ public interface CachedDomainDataAccess {
 	 */
 	Object get(SharedSessionContractImplementor session, Object key);
 
+	/**
+	 * Attempt to retrieve the objects with the given keys from the cache,
+	 * all at once. Used when resolving a batch of entities or collections
+	 * from the second-level cache.
+	 *
+	 * @param session Current session.
+	 * @param keys The keys of the items to be retrieved.
+	 *
+	 * @return the cached data which was found, by key
+	 *
+	 * @throws CacheException Propagated from underlying cache provider
+	 *
+	 * @implNote the method default is to call {@link #get} for each key.
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default Map<Object, Object> getAll(SharedSessionContractImplementor session, Collection<?> keys) {
+		final Map<Object, Object> result = mapOfSize( keys.size() );
+		for ( Object key : keys ) {
+			final Object cached = get( session, key );
+			if ( cached != null ) {
+				result.put( key, cached );
+			}
+		}
+		return result;
+	}
+
 	/**
 	 * Attempt to cache an object, after loading it from the database.
 	 *
@@ -0,0 +1,345 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.spi.entry;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.UUID;
+
+import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
+import org.hibernate.cache.CacheException;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.property.access.internal.PropertyAccessStrategyBackRefImpl;
+import org.hibernate.type.Type;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Compact binary CacheEntry format for entities. Used to store the entry into the
+ * second-level cache as a {@code byte[]}, which is much smaller than the array of
+ * disassembled values, and much cheaper to copy to a remote or off-heap cache than
+ * a serialized {@link StandardCacheEntryImpl}.
+ * <p>
+ * Values of the basic Java types are written in a tagged binary form. Any other
+ * disassembled value, for example, the state of a user type, falls back to Java
+ * serialization. Each entry records a fingerprint of the attribute names and types
+ * of the entity, and an entry written by a different version of the mapping is
+ * {@linkplain #destructure ignored}, as if it were not in the cache.
+ *
+ * @see org.hibernate.cfg.CacheSettings#USE_COMPACT_CACHE_ENTRIES
+ *
+ * @since 7.0
+ */
+public class CompactCacheEntry implements CacheEntryStructure {
+	private static final byte FORMAT_VERSION = 1;
+
+	private static final byte NULL = 0;
+	private static final byte UNFETCHED = 1;
+	private static final byte UNKNOWN = 2;
+	private static final byte TRUE = 3;
+	private static final byte FALSE = 4;
+	private static final byte BYTE = 5;
+	private static final byte SHORT = 6;
+	private static final byte INTEGER = 7;
+	private static final byte LONG = 8;
+	private static final byte FLOAT = 9;
+	private static final byte DOUBLE = 10;
+	private static final byte CHARACTER = 11;
+	private static final byte STRING = 12;
+	private static final byte BYTES = 13;
+	private static final byte BIG_INTEGER = 14;
+	private static final byte BIG_DECIMAL = 15;
+	private static final byte UUID_VALUE = 16;
+	private static final byte INSTANT = 17;
+	private static final byte LOCAL_DATE = 18;
+	private static final byte LOCAL_TIME = 19;
+	private static final byte LOCAL_DATE_TIME = 20;
+	private static final byte ARRAY = 21;
+	private static final byte SERIALIZED = 22;
+
+	private final EntityPersister persister;
+	private volatile Integer fingerprint;
+
+	/**
+	 * Constructs a CompactCacheEntry strategy
+	 *
+	 * @param persister The persister whose data needs to be structured.
+	 */
+	public CompactCacheEntry(EntityPersister persister) {
+		this.persister = persister;
+	}
+
+	@Override
+	public Object structure(Object item) {
+		final CacheEntry entry = (CacheEntry) item;
+		final Serializable[] state = entry.getDisassembledState();
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream( 16 + state.length * 8 );
+		try ( DataOutputStream output = new DataOutputStream( bytes ) ) {
+			output.writeByte( FORMAT_VERSION );
+			output.writeInt( getFingerprint() );
+			output.writeUTF( entry.getSubclass() );
+			writeValue( output, entry.getVersion() );
+			writeVarLong( output, state.length );
+			for ( Serializable value : state ) {
+				writeValue( output, value );
+			}
+		}
+		catch (IOException e) {
+			throw new CacheException( "Could not write cache entry for entity " + entry.getSubclass(), e );
+		}
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * @return the {@link StandardCacheEntryImpl}, or {@code null} if the entry
+	 *         was written with a different format, or for a different mapping of
+	 *         the entity
+	 */
+	@Override
+	public Object destructure(Object structured, SessionFactoryImplementor factory) {
+		try ( DataInputStream input = new DataInputStream( new ByteArrayInputStream( (byte[]) structured ) ) ) {
+			if ( input.readByte() != FORMAT_VERSION ) {
+				return null;
+			}
+			final int fingerprint = input.readInt();
+			final String subclass = input.readUTF();
+			final EntityPersister subclassPersister =
+					factory.getMappingMetamodel().findEntityDescriptor( subclass );
+			if ( subclassPersister == null
+					|| !( subclassPersister.getCacheEntryStructure() instanceof CompactCacheEntry structure )
+					|| structure.getFingerprint() != fingerprint ) {
+				return null;
+			}
+			final ClassLoader classLoader = classLoader( subclassPersister );
+			final Object version = readValue( input, classLoader );
+			final Serializable[] state = new Serializable[(int) readVarLong( input )];
+			for ( int i = 0; i < state.length; i++ ) {
+				state[i] = readValue( input, classLoader );
+			}
+			return new StandardCacheEntryImpl( state, subclass, version );
+		}
+		catch (IOException e) {
+			throw new CacheException( "Could not read cache entry for entity " + persister.getEntityName(), e );
+		}
+	}
+
+	private static ClassLoader classLoader(EntityPersister persister) {
+		final Class<?> mappedClass = persister.getMappedClass();
+		return mappedClass == null || mappedClass.getClassLoader() == null
+				? SerializationHelper.defaultClassLoader()
+				: mappedClass.getClassLoader();
+	}
+
+	/**
+	 * A hash of the names and types of the attributes of the entity, to detect
+	 * entries written by a different version of the mapping.
+	 */
+	private int getFingerprint() {
+		Integer result = fingerprint;
+		if ( result == null ) {
+			int hash = persister.getEntityName().hashCode();
+			final String[] names = persister.getPropertyNames();
+			final Type[] types = persister.getPropertyTypes();
+			for ( int i = 0; i < names.length; i++ ) {
+				hash = 31 * hash + names[i].hashCode();
+				hash = 31 * hash + types[i].getReturnedClass().getName().hashCode();
+			}
+			result = hash;
+			fingerprint = result;
+		}
+		return result;
+	}
+
+	private static void writeValue(DataOutputStream output, Object value) throws IOException {
+		if ( value == null ) {
+			output.writeByte( NULL );
+		}
+		else if ( value == LazyPropertyInitializer.UNFETCHED_PROPERTY ) {
+			output.writeByte( UNFETCHED );
+		}
+		else if ( value == PropertyAccessStrategyBackRefImpl.UNKNOWN ) {
+			output.writeByte( UNKNOWN );
+		}
+		else if ( value instanceof Boolean bool ) {
+			output.writeByte( bool ? TRUE : FALSE );
+		}
+		else if ( value instanceof Byte number ) {
+			output.writeByte( BYTE );
+			output.writeByte( number );
+		}
+		else if ( value instanceof Short number ) {
+			output.writeByte( SHORT );
+			writeVarLong( output, number );
+		}
+		else if ( value instanceof Integer number ) {
+			output.writeByte( INTEGER );
+			writeVarLong( output, number );
+		}
+		else if ( value instanceof Long number ) {
+			output.writeByte( LONG );
+			writeVarLong( output, number );
+		}
+		else if ( value instanceof Float number ) {
+			output.writeByte( FLOAT );
+			output.writeFloat( number );
+		}
+		else if ( value instanceof Double number ) {
+			output.writeByte( DOUBLE );
+			output.writeDouble( number );
+		}
+		else if ( value instanceof Character character ) {
+			output.writeByte( CHARACTER );
+			output.writeChar( character );
+		}
+		else if ( value instanceof String string ) {
+			output.writeByte( STRING );
+			writeBytes( output, string.getBytes( UTF_8 ) );
+		}
+		else if ( value instanceof byte[] bytes ) {
+			output.writeByte( BYTES );
+			writeBytes( output, bytes );
+		}
+		else if ( value.getClass() == BigInteger.class ) {
+			output.writeByte( BIG_INTEGER );
+			writeBytes( output, ( (BigInteger) value ).toByteArray() );
+		}
+		else if ( value.getClass() == BigDecimal.class ) {
+			final BigDecimal decimal = (BigDecimal) value;
+			output.writeByte( BIG_DECIMAL );
+			writeVarLong( output, decimal.scale() );
+			writeBytes( output, decimal.unscaledValue().toByteArray() );
+		}
+		else if ( value instanceof UUID uuid ) {
+			output.writeByte( UUID_VALUE );
+			output.writeLong( uuid.getMostSignificantBits() );
+			output.writeLong( uuid.getLeastSignificantBits() );
+		}
+		else if ( value instanceof Instant instant ) {
+			output.writeByte( INSTANT );
+			writeVarLong( output, instant.getEpochSecond() );
+			writeVarLong( output, instant.getNano() );
+		}
+		else if ( value instanceof LocalDate date ) {
+			output.writeByte( LOCAL_DATE );
+			writeVarLong( output, date.toEpochDay() );
+		}
+		else if ( value instanceof LocalTime time ) {
+			output.writeByte( LOCAL_TIME );
+			writeVarLong( output, time.toNanoOfDay() );
+		}
+		else if ( value instanceof LocalDateTime dateTime ) {
+			output.writeByte( LOCAL_DATE_TIME );
+			writeVarLong( output, dateTime.toLocalDate().toEpochDay() );
+			writeVarLong( output, dateTime.toLocalTime().toNanoOfDay() );
+		}
+		else if ( value.getClass() == Object[].class ) {
+			// the disassembled state of an embeddable
+			final Object[] array = (Object[]) value;
+			output.writeByte( ARRAY );
+			writeVarLong( output, array.length );
+			for ( Object element : array ) {
+				writeValue( output, element );
+			}
+		}
+		else {
+			output.writeByte( SERIALIZED );
+			writeBytes( output, SerializationHelper.serialize( (Serializable) value ) );
+		}
+	}
+
+	private static Serializable readValue(DataInputStream input, ClassLoader classLoader) throws IOException {
+		final byte tag = input.readByte();
+		return switch ( tag ) {
+			case NULL -> null;
+			case UNFETCHED -> LazyPropertyInitializer.UNFETCHED_PROPERTY;
+			case UNKNOWN -> PropertyAccessStrategyBackRefImpl.UNKNOWN;
+			case TRUE -> Boolean.TRUE;
+			case FALSE -> Boolean.FALSE;
+			case BYTE -> input.readByte();
+			case SHORT -> (short) readVarLong( input );
+			case INTEGER -> (int) readVarLong( input );
+			case LONG -> readVarLong( input );
+			case FLOAT -> input.readFloat();
+			case DOUBLE -> input.readDouble();
+			case CHARACTER -> input.readChar();
+			case STRING -> new String( readBytes( input ), UTF_8 );
+			case BYTES -> readBytes( input );
+			case BIG_INTEGER -> new BigInteger( readBytes( input ) );
+			case BIG_DECIMAL -> {
+				final int scale = (int) readVarLong( input );
+				yield new BigDecimal( new BigInteger( readBytes( input ) ), scale );
+			}
+			case UUID_VALUE -> new UUID( input.readLong(), input.readLong() );
+			case INSTANT -> {
+				final long seconds = readVarLong( input );
+				yield Instant.ofEpochSecond( seconds, readVarLong( input ) );
+			}
+			case LOCAL_DATE -> LocalDate.ofEpochDay( readVarLong( input ) );
+			case LOCAL_TIME -> LocalTime.ofNanoOfDay( readVarLong( input ) );
+			case LOCAL_DATE_TIME -> {
+				final LocalDate date = LocalDate.ofEpochDay( readVarLong( input ) );
+				yield LocalDateTime.of( date, LocalTime.ofNanoOfDay( readVarLong( input ) ) );
+			}
+			case ARRAY -> {
+				final Object[] array = new Object[(int) readVarLong( input )];
+				for ( int i = 0; i < array.length; i++ ) {
+					array[i] = readValue( input, classLoader );
+				}
+				yield array;
+			}
+			case SERIALIZED -> (Serializable) SerializationHelper.deserialize( readBytes( input ), classLoader );
+			default -> throw new CacheException( "Unknown value tag in cache entry: " + tag );
+		};
+	}
+
+	private static void writeBytes(DataOutputStream output, byte[] bytes) throws IOException {
+		writeVarLong( output, bytes.length );
+		output.write( bytes );
+	}
+
+	private static byte[] readBytes(DataInputStream input) throws IOException {
+		final byte[] bytes = new byte[(int) readVarLong( input )];
+		input.readFully( bytes );
+		return bytes;
+	}
+
+	/**
+	 * Write a zigzag-encoded variable length integer, taking a single byte
+	 * for small positive or negative values.
+	 */
+	private static void writeVarLong(DataOutputStream output, long value) throws IOException {
+		long zigzag = ( value << 1 ) ^ ( value >> 63 );
+		while ( ( zigzag & ~0x7FL ) != 0 ) {
+			output.writeByte( (int) ( ( zigzag & 0x7F ) | 0x80 ) );
+			zigzag >>>= 7;
+		}
+		output.writeByte( (int) zigzag );
+	}
+
+	private static long readVarLong(DataInputStream input) throws IOException {
+		long zigzag = 0;
+		int shift = 0;
+		byte b;
+		do {
+			b = input.readByte();
+			zigzag |= (long) ( b & 0x7F ) << shift;
+			shift += 7;
+		}
+		while ( ( b & 0x80 ) != 0 );
+		return ( zigzag >>> 1 ) ^ -( zigzag & 1 );
+	}
+}
@@ -5,8 +5,10 @@
 package org.hibernate.cache.spi.support;
 
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.Locale;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
@@ -20,6 +22,7 @@
 import org.jboss.logging.Logger;
 
 import static org.hibernate.cache.spi.SecondLevelCacheLogger.L2CACHE_LOGGER;
+import static org.hibernate.internal.util.collections.CollectionHelper.mapOfSize;
 
 /**
  * @author Steve Ebersole
@@ -97,6 +100,34 @@ public Object get(SharedSessionContractImplementor session, Object key) {
 		}
 	}
 
+	/**
+	 * Reads all the items with a single call to the storage, then drops the
+	 * items which are not readable, as {@link #get} does for a single item.
+	 */
+	@Override
+	public Map<Object, Object> getAll(SharedSessionContractImplementor session, Collection<?> keys) {
+		try {
+			readLock.lock();
+			final Map<Object, Object> items = getStorageAccess().getAllFromCache( keys, session );
+			final long cachingTimestamp = session.getCacheTransactionSynchronization().getCachingTimestamp();
+			final Map<Object, Object> readableItems = mapOfSize( items.size() );
+			for ( Map.Entry<Object, Object> entry : items.entrySet() ) {
+				final Lockable item = (Lockable) entry.getValue();
+				if ( item.isReadable( cachingTimestamp ) ) {
+					readableItems.put( entry.getKey(), item.getValue() );
+				}
+			}
+			if ( log.isDebugEnabled() ) {
+				log.debugf( "Bulk cache read : region = `%s`, %s keys, %s readable hits",
+						getRegion().getName(), keys.size(), readableItems.size() );
+			}
+			return readableItems;
+		}
+		finally {
+			readLock.unlock();
+		}
+	}
+
 	@Override
 	public boolean putFromLoad(
 			SharedSessionContractImplementor session,
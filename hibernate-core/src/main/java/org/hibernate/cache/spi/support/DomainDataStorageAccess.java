@@ -4,8 +4,13 @@
  */
 package org.hibernate.cache.spi.support;
 
+import java.util.Collection;
+import java.util.Map;
+
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 
+import static org.hibernate.internal.util.collections.CollectionHelper.mapOfSize;
+
 /**
  * Specialization of {@link StorageAccess} for domain data regions.
  *
@@ -22,4 +27,28 @@ public interface DomainDataStorageAccess extends StorageAccess {
 	default void putFromLoad(Object key, Object value, SharedSessionContractImplementor session) {
 		putIntoCache( key, value, session );
 	}
+
+	/**
+	 * Get the items with the given keys from the cache, for example,
+	 * to resolve a batch of entities before loading them from the
+	 * database.
+	 *
+	 * @return the items which were found, by key
+	 *
+	 * @implNote the method default is to call {@link #getFromCache}
+	 *           for each key. Providers able to read many entries in
+	 *           a single call should override it.
+	 *
+	 * @since 7.0
+	 */
+	default Map<Object, Object> getAllFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+		final Map<Object, Object> items = mapOfSize( keys.size() );
+		for ( Object key : keys ) {
+			final Object item = getFromCache( key, session );
+			if ( item != null ) {
+				items.put( key, item );
+			}
+		}
+		return items;
+	}
 }
@@ -4,9 +4,14 @@
  */
 package org.hibernate.cache.spi.support;
 
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
 import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
 import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
 import org.hibernate.cache.internal.DefaultCacheKeysFactory;
+import org.hibernate.cache.internal.LatencyRecordingStorageAccess;
+import org.hibernate.cache.internal.NearCacheStorageAccess;
 import org.hibernate.cache.spi.AbstractRegionFactory;
 import org.hibernate.cache.spi.CacheKeysFactory;
 import org.hibernate.cache.spi.DomainDataRegion;
@@ -14,24 +19,67 @@
 import org.hibernate.cache.spi.TimestampsRegion;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 
+import static org.hibernate.cfg.CacheSettings.NEAR_CACHE_MAX_ENTRIES;
+import static org.hibernate.cfg.CacheSettings.NEAR_CACHE_TIME_TO_LIVE;
+import static org.hibernate.cfg.StatisticsSettings.CACHE_LATENCY_STATISTICS;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getBoolean;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getLong;
+
 /**
  * @author Steve Ebersole
  */
 public abstract class RegionFactoryTemplate extends AbstractRegionFactory {
+	private static final int DEFAULT_NEAR_CACHE_TIME_TO_LIVE = 1000;
+
 	@Override
 	public DomainDataRegion buildDomainDataRegion(
 			DomainDataRegionConfig regionConfig,
 			DomainDataRegionBuildingContext buildingContext) {
 		verifyStarted();
+		final DomainDataStorageAccess storageAccess = decorateDomainDataStorageAccess(
+				createDomainDataStorageAccess( regionConfig, buildingContext ),
+				buildingContext
+		);
 		return new DomainDataRegionTemplate(
 				regionConfig,
 				this,
-				createDomainDataStorageAccess( regionConfig, buildingContext ),
+				isRecordingLatency( buildingContext.getSessionFactory() )
+						? new LatencyRecordingStorageAccess( storageAccess, regionConfig.getRegionName() )
+						: storageAccess,
 				getImplicitCacheKeysFactory(),
 				buildingContext
 		);
 	}
 
+	/**
+	 * Whether the time taken by reads and writes should be
+	 * {@linkplain org.hibernate.cfg.StatisticsSettings#CACHE_LATENCY_STATISTICS recorded}.
+	 */
+	private static boolean isRecordingLatency(SessionFactoryImplementor sessionFactory) {
+		return getBoolean( CACHE_LATENCY_STATISTICS, sessionFactory.getProperties() );
+	}
+
+	/**
+	 * Wrap the storage access of a domain data region in a
+	 * {@linkplain NearCacheStorageAccess near cache}, if one is
+	 * {@linkplain org.hibernate.cfg.CacheSettings#NEAR_CACHE_MAX_ENTRIES enabled}.
+	 * Providers which do not keep the data in a remote cache should
+	 * return the given storage access.
+	 *
+	 * @since 7.0
+	 */
+	protected DomainDataStorageAccess decorateDomainDataStorageAccess(
+			DomainDataStorageAccess storageAccess,
+			DomainDataRegionBuildingContext buildingContext) {
+		final Map<String, Object> properties = buildingContext.getSessionFactory().getProperties();
+		final long maxEntries = getLong( NEAR_CACHE_MAX_ENTRIES, properties, 0 );
+		if ( maxEntries <= 0 ) {
+			return storageAccess;
+		}
+		final long timeToLive = getLong( NEAR_CACHE_TIME_TO_LIVE, properties, DEFAULT_NEAR_CACHE_TIME_TO_LIVE );
+		return new NearCacheStorageAccess( storageAccess, maxEntries, TimeUnit.MILLISECONDS.toNanos( timeToLive ) );
+	}
+
 	protected CacheKeysFactory getImplicitCacheKeysFactory() {
 		return DefaultCacheKeysFactory.INSTANCE;
 	}
@@ -47,10 +95,13 @@ public QueryResultsRegion buildQueryResultsRegion(
 			String regionName,
 			SessionFactoryImplementor sessionFactory) {
 		verifyStarted();
+		final StorageAccess storageAccess = createQueryResultsRegionStorageAccess( regionName, sessionFactory );
 		return new QueryResultsRegionTemplate(
 				regionName,
 				this,
-				createQueryResultsRegionStorageAccess( regionName, sessionFactory )
+				isRecordingLatency( sessionFactory )
+						? new LatencyRecordingStorageAccess( storageAccess, regionName )
+						: storageAccess
 		);
 	}
 
@@ -6,6 +6,7 @@
 
 import java.sql.PreparedStatement;
 
+import org.hibernate.Incubating;
 import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
 
 /**
@@ -55,6 +56,66 @@ public interface BatchSettings {
 	 */
 	String ORDER_INSERTS = "hibernate.order_inserts";
 
+	/**
+	 * When enabled, a full JDBC batch is {@linkplain PreparedStatement#executeBatch executed}
+	 * by a background thread, while the values of the next batch are extracted and bound
+	 * by the flushing thread to a second set of statements. Only one batch is executing
+	 * at any given time for a session, and batches are executed in order.
+	 * <p>
+	 * A failure executing a batch, including an optimistic locking failure, is reported
+	 * when the next batch is full or when the batch is explicitly executed, typically at
+	 * the end of the flush.
+	 * <p>
+	 * Requires a JDBC driver which allows binding parameters to a statement, and creating
+	 * LOBs, while another statement of the same connection is executing. Must not be used
+	 * with connections which are bound to the thread which obtained them, as is the case
+	 * in some JTA environments where the connection checks the transaction associated
+	 * with the current thread.
+	 * <p>
+	 * The execution of a batch is reported to {@linkplain org.hibernate.SessionEventListener
+	 * session event listeners} by the flushing thread, when the batch is handed over and
+	 * when its completion is awaited.
+	 * <p>
+	 * This setting has no effect when a custom {@link #BUILDER} is specified.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String PIPELINED_EXECUTION = "hibernate.jdbc.batch.pipelined";
+
+	/**
+	 * The maximum number of threads executing JDBC batches in the background when
+	 * {@linkplain #PIPELINED_EXECUTION pipelined execution} is enabled, shared by all
+	 * sessions. When all these threads are busy, a full batch is executed by the
+	 * flushing thread itself.
+	 *
+	 * @settingDefault The number of available processors
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String PIPELINED_EXECUTION_THREADS = "hibernate.jdbc.batch.pipelined_threads";
+
+	/**
+	 * When enabled, a batch of inserts into a single table is executed as one
+	 * {@code insert ... values (...), (...)} statement, instead of a JDBC batch of
+	 * single-row inserts. When disabled, inserts are always batched row by row.
+	 * <p>
+	 * Only inserts which do not retrieve generated values are affected, and the
+	 * database must support {@code values} lists in insert statements.
+	 *
+	 * @see org.hibernate.dialect.Dialect#useMultiRowInsertsForBatching
+	 *
+	 * @settingDefault Determined by {@link org.hibernate.dialect.Dialect#useMultiRowInsertsForBatching},
+	 * which is {@code false} for every built-in dialect
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String MULTI_ROW_INSERTS = "hibernate.jdbc.batch.multi_row_inserts";
+
 	/**
 	 * @deprecated Use {@link #BUILDER} instead
 	 */
@@ -107,11 +107,48 @@ public interface CacheSettings {
 	@Incubating
 	String QUERY_CACHE_LAYOUT = "hibernate.cache.query_cache_layout";
 
+	/**
+	 * When enabled, query results are put into the query cache in a column-oriented
+	 * form, where columns holding only {@code long}, {@code int}, or {@code double}
+	 * values are stored as primitive arrays, and columns holding strings with few
+	 * distinct values are dictionary-encoded, instead of as one array per row.
+	 * This reduces the memory used by cached results of scalar and projection
+	 * queries, and a query cache hit reads the values without assembling rows.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String QUERY_CACHE_COLUMNAR = "hibernate.cache.query_cache_columnar";
+
+	/**
+	 * When enabled, a modification made in a session with a tenant identifier only
+	 * invalidates the cached query results of that same tenant, and of sessions with
+	 * no tenant identifier, instead of the cached results of every tenant.
+	 * <p>
+	 * If some entity has a {@link org.hibernate.annotations.TenantId @TenantId}
+	 * attribute, this applies only to the tables of such entities, and only to
+	 * sessions in which the tenant filter is enabled. Otherwise, with a schema or
+	 * database per tenant, this applies to every table. Native SQL modifications
+	 * always invalidate the results of every tenant, but a cacheable native query
+	 * executed in a session with a tenant identifier must read only the data of
+	 * that tenant.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String QUERY_CACHE_TENANT_SCOPED_INVALIDATION = "hibernate.cache.query_cache_tenant_scoped_invalidation";
+
 	/**
 	 * The {@link RegionFactory} implementation, either:
 	 * <ul>
-	 *     <li>a short strategy name, for example, {@code jcache} or
-	 *         {@code infinispan},
+	 *     <li>a short strategy name, for example, {@code jcache},
+	 *         {@code infinispan}, or {@code local} for the built-in
+	 *         {@linkplain org.hibernate.cache.internal.LocalCacheRegionFactory
+	 *         in-process cache},
 	 *     <li>an instance of {@code RegionFactory},
 	 *     <li>a {@link Class} object representing a class that implements
 	 *         {@code RegionFactory}, or
@@ -128,6 +165,121 @@ public interface CacheSettings {
 	 */
 	String CACHE_REGION_FACTORY = "hibernate.cache.region.factory_class";
 
+	/**
+	 * The maximum number of entries of each region of the built-in
+	 * {@linkplain org.hibernate.cache.internal.LocalCacheRegionFactory in-process cache}.
+	 * The maximum for a single region is given by appending its name to this setting,
+	 * for example, {@code hibernate.cache.local.max_entries.org.acme.Book}.
+	 *
+	 * @settingDefault {@code 10000}
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String LOCAL_CACHE_MAX_ENTRIES = "hibernate.cache.local.max_entries";
+
+	/**
+	 * The maximum total weight of the entries of each region of the built-in
+	 * {@linkplain org.hibernate.cache.internal.LocalCacheRegionFactory in-process cache},
+	 * where the weight of an entry is the number of values it holds, for example, the
+	 * number of attributes of a cached entity. The maximum for a single region is given
+	 * by appending its name to this setting.
+	 *
+	 * @settingDefault no maximum
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String LOCAL_CACHE_MAX_WEIGHT = "hibernate.cache.local.max_weight";
+
+	/**
+	 * The number of seconds after which the entries of each region of the built-in
+	 * {@linkplain org.hibernate.cache.internal.LocalCacheRegionFactory in-process cache}
+	 * expire. The time to live of a single region is given by appending its name to
+	 * this setting.
+	 *
+	 * @settingDefault {@code 0}, meaning that entries do not expire
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String LOCAL_CACHE_TIME_TO_LIVE = "hibernate.cache.local.time_to_live";
+
+	/**
+	 * The number of megabytes of memory outside the Java heap used to store the
+	 * entries of each entity, collection, and natural id region of the built-in
+	 * {@linkplain org.hibernate.cache.internal.LocalCacheRegionFactory in-process cache},
+	 * or {@code 0} to keep the entries on the heap. The size for a single region is
+	 * given by appending its name to this setting, for example,
+	 * {@code hibernate.cache.local.off_heap_size.org.acme.Country}.
+	 * <p>
+	 * Off-heap entries are stored in serialized form, and so
+	 * {@value #LOCAL_CACHE_MAX_ENTRIES} and {@value #LOCAL_CACHE_MAX_WEIGHT} do not
+	 * apply to these regions.
+	 *
+	 * @settingDefault {@code 0}, meaning that entries are kept on the heap
+	 *
+	 * @see org.hibernate.cache.internal.OffHeapStorageAccess
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String LOCAL_CACHE_OFF_HEAP_SIZE = "hibernate.cache.local.off_heap_size";
+
+	/**
+	 * The maximum number of entries of the {@linkplain org.hibernate.cache.internal.NearCacheStorageAccess
+	 * near cache} kept in front of each entity, collection, and natural id region of a remote
+	 * second-level cache, or {@code 0} to disable the near cache. Only applies to
+	 * {@link RegionFactory} implementations based on
+	 * {@link org.hibernate.cache.spi.support.RegionFactoryTemplate}.
+	 *
+	 * @settingDefault {@code 0}, meaning that there is no near cache
+	 *
+	 * @see #NEAR_CACHE_TIME_TO_LIVE
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String NEAR_CACHE_MAX_ENTRIES = "hibernate.cache.near_cache.max_entries";
+
+	/**
+	 * The number of milliseconds during which an entry of the
+	 * {@linkplain #NEAR_CACHE_MAX_ENTRIES near cache} may be used without reading
+	 * it again from the remote cache. This is the maximum delay before changes made
+	 * by other nodes are seen.
+	 *
+	 * @settingDefault {@code 1000}
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String NEAR_CACHE_TIME_TO_LIVE = "hibernate.cache.near_cache.time_to_live";
+
+	/**
+	 * The maximum time, in milliseconds, that a session which misses an entity or
+	 * collection in the second-level cache waits while another session loads the
+	 * same entity or collection from the database, before reading the cache again.
+	 * Only one session at a time loads a given entry, so that a hot entry which was
+	 * evicted does not cause a burst of identical queries. If the entry is still
+	 * missing once the wait is over, the session loads it itself.
+	 * <p>
+	 * The setting may be given for a single region by appending the name of the
+	 * region to the name of the setting.
+	 * <p>
+	 * Only loads of read-only and nonstrict read-write entities and collections are
+	 * coordinated. An entry of a read-write region put from load is not readable by
+	 * a transaction which started before the loading transaction, so the waiting
+	 * sessions would miss it again.
+	 *
+	 * @settingDefault {@code 0}, meaning that concurrent misses each load the entry
+	 *
+	 * @see org.hibernate.cache.spi.SingleFlightLoads
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String CACHE_SINGLE_FLIGHT_TIMEOUT = "hibernate.cache.single_flight_timeout";
+
 	/**
 	 * Specifies the {@link org.hibernate.cache.spi.TimestampsCacheFactory} to use.
 	 *
@@ -185,6 +337,21 @@ public interface CacheSettings {
 	 */
 	String USE_STRUCTURED_CACHE = "hibernate.cache.use_structured_entries";
 
+	/**
+	 * Enables the use of a {@linkplain org.hibernate.cache.spi.entry.CompactCacheEntry
+	 * compact binary format} for the second-level cache entries of entities. Each
+	 * entry is stored as a {@code byte[]}, which takes less memory than the default
+	 * array of disassembled values, and is much cheaper to serialize for a remote or
+	 * off-heap cache. Takes precedence over {@value #USE_STRUCTURED_CACHE}, but not
+	 * over {@value #USE_DIRECT_REFERENCE_CACHE_ENTRIES}.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String USE_COMPACT_CACHE_ENTRIES = "hibernate.cache.use_compact_entries";
+
 	/**
 	 * Enables the automatic eviction of a bidirectional association's collection
 	 * cache when an element in the {@link jakarta.persistence.ManyToOne} collection
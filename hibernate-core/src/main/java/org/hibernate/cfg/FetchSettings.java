@@ -4,6 +4,7 @@
  */
 package org.hibernate.cfg;
 
+import org.hibernate.Incubating;
 import org.hibernate.annotations.BatchSize;
 
 /**
@@ -31,6 +32,37 @@ public interface FetchSettings {
 	 */
 	String DEFAULT_BATCH_FETCH_SIZE = "hibernate.default_batch_fetch_size";
 
+	/**
+	 * When enabled, the number of keys loaded by each batch fetch is chosen at runtime,
+	 * separately for each entity and collection role, based on the number of keys which
+	 * were actually pending and on the time taken by previous batch fetches of the role.
+	 * The {@linkplain BatchSize#size() configured batch size} is used as the initial size.
+	 * <p>
+	 * Only applies to batch fetching which passes the keys using a single
+	 * {@linkplain org.hibernate.dialect.Dialect#useArrayForMultiValuedParameters() array}
+	 * parameter, since the SQL must otherwise be rendered for a fixed number of keys.
+	 * Other batch fetching keeps using the configured batch size.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @see #ADAPTIVE_BATCH_FETCH_MAX_SIZE
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String ADAPTIVE_BATCH_FETCH = "hibernate.batch_fetch.adaptive";
+
+	/**
+	 * The largest number of keys loaded by a single batch fetch when
+	 * {@linkplain #ADAPTIVE_BATCH_FETCH adaptive batch fetching} is enabled.
+	 *
+	 * @settingDefault {@code 256}
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String ADAPTIVE_BATCH_FETCH_MAX_SIZE = "hibernate.batch_fetch.adaptive_max_size";
+
 	/**
 	 * When enabled, Hibernate will use subselect fetching, when possible, to
 	 * fetch any collection.  Subselect fetching involves fetching the collection
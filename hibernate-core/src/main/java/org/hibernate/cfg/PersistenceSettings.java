@@ -205,4 +205,90 @@ public interface PersistenceSettings {
 	 * @settingDefault {@code false}
 	 */
 	String UNOWNED_ASSOCIATION_TRANSIENT_CHECK = "hibernate.unowned_association_transient_check";
+
+	/**
+	 * When enabled, a managed entity which does not track its own dirtiness is dirty-checked
+	 * at flush time by comparing its attributes, one by one and in place, with its loaded
+	 * state. The array of current values is only materialized when some attribute turns out
+	 * to be dirty. Note that attribute values are still read through the usual accessors, so
+	 * primitive values may be boxed for the comparison.
+	 * <p>
+	 * An unmodified entity detected by the in-place check is not reported as a dirty calculation
+	 * to the {@link org.hibernate.SessionEventListener} or to the event monitor, since the full
+	 * dirty check, which reports it, is skipped.
+	 * <p>
+	 * The in-place check does not apply to entities with collections or with a natural id,
+	 * nor when an {@link org.hibernate.Interceptor} or a custom
+	 * {@link org.hibernate.CustomEntityDirtinessStrategy} is in use, since these require
+	 * the full state of the entity.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String IN_PLACE_DIRTY_CHECKING = "hibernate.flush.in_place_dirty_checking";
+
+	/**
+	 * When enabled, a flush skips, without firing a
+	 * {@link org.hibernate.event.spi.FlushEntityEvent} or applying flush-time cascades,
+	 * every managed entity which tracks its own dirtiness through bytecode enhancement,
+	 * has no collections nor mutable attributes, has no dirty attributes, and was not
+	 * added to the persistence context since the previous flush other than by being
+	 * loaded. There is nothing to flush for such an entity, so that the cost of a flush,
+	 * and in particular of an auto-flush before a query, is dominated by the entities
+	 * actually touched by the application.
+	 * <p>
+	 * Entities which do not track their own dirtiness are always visited, since changes
+	 * to them can only be detected by comparing their state. Flush-time cascades are also
+	 * applied to every entity if some entity was removed since the previous flush.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String INCREMENTAL_FLUSH = "hibernate.flush.incremental";
+
+	/**
+	 * When enabled, the loaded state of a managed mutable entity is kept in a packed
+	 * representation, laid out per entity type: the values of basic attributes of
+	 * primitive or primitive wrapper type are stored in a {@code long[]}, instead of
+	 * being boxed, and all other values in a smaller {@code Object[]}. This reduces
+	 * the memory held by persistence contexts containing many entities.
+	 * <p>
+	 * An unmodified entity is dirty-checked against the packed state directly. The
+	 * packed state is only inflated back to an array of values when it is needed,
+	 * typically when the entity is found dirty during flush, or when an interceptor
+	 * or self-dirtiness tracking requires the loaded state.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @see org.hibernate.engine.internal.PackedEntityEntryFactory
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String PACKED_LOADED_STATE = "hibernate.persistence_context.packed_loaded_state";
+
+	/**
+	 * When enabled, the entities held by a persistence context are indexed in one
+	 * open-addressing table per entity hierarchy whose identifier is of type
+	 * {@code long}, {@code int}, or {@link java.util.UUID}, keyed directly by the
+	 * value of the identifier, instead of in a single {@link java.util.HashMap} keyed
+	 * by {@link org.hibernate.engine.spi.EntityKey}. Lookups in these tables do not
+	 * need to hash or compare identifiers through their
+	 * {@linkplain org.hibernate.type.Type#getHashCode Hibernate type}, and lookups by
+	 * identifier and persister do not need to instantiate an {@code EntityKey}. When
+	 * a row or a {@code find()} refers to an entity which is already in the persistence
+	 * context, the key of that entity is reused instead of building a new one.
+	 * <p>
+	 * Entities with identifiers of any other type are held in a regular map.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String PRIMITIVE_ID_ENTITY_MAPS = "hibernate.persistence_context.primitive_id_maps";
 }
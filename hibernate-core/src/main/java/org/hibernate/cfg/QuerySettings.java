@@ -270,6 +270,27 @@ public interface QuerySettings {
 	 */
 	String QUERY_PLAN_CACHE_MAX_SIZE = "hibernate.query.plan_cache_max_size";
 
+	/**
+	 * The path of a file to which the HQL queries used most often, along with their
+	 * expected result types, are written when the {@link org.hibernate.SessionFactory}
+	 * is closed. When the file exists at startup, the queries it lists are interpreted
+	 * in parallel, and {@linkplain org.hibernate.query.spi.QueryInterpretationCache
+	 * cached}, before the {@code SessionFactory} is returned, so that the first
+	 * executions of these queries after a restart do not pay for parsing them.
+	 * <p>
+	 * At most {@value #QUERY_PLAN_CACHE_MAX_SIZE} queries are written. Queries which
+	 * no longer interpret against the current domain model are skipped. Has no effect
+	 * when the query plan cache is disabled.
+	 * <p>
+	 * By default, no snapshot is recorded.
+	 *
+	 * @see org.hibernate.query.spi.QueryInterpretationCache#warmUp
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String QUERY_PLAN_CACHE_SNAPSHOT = "hibernate.query.plan_cache_snapshot";
+
 	/**
 	 * The maximum number of {@link org.hibernate.query.ParameterMetadata} instances
 	 * maintained by the {@link org.hibernate.query.spi.QueryInterpretationCache}.
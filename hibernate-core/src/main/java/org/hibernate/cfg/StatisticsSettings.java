@@ -4,6 +4,7 @@
  */
 package org.hibernate.cfg;
 
+import org.hibernate.Incubating;
 import org.hibernate.stat.spi.StatisticsFactory;
 
 /**
@@ -41,4 +42,21 @@ public interface StatisticsSettings {
 	 * @see org.hibernate.stat.Statistics#getQueries()
 	 */
 	String QUERY_STATISTICS_MAX_SIZE = "hibernate.statistics.query_max_size";
+
+	/**
+	 * When enabled, and statistics are {@linkplain #GENERATE_STATISTICS enabled},
+	 * specifies that the time taken by each read from, and write to, a second-level
+	 * cache region should be recorded, and made available as the
+	 * {@linkplain org.hibernate.stat.CacheRegionStatistics#getGetLatency() latency
+	 * statistics} of the region.
+	 * <p>
+	 * Only supported by caching providers based on
+	 * {@link org.hibernate.cache.spi.support.RegionFactoryTemplate}.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String CACHE_LATENCY_STATISTICS = "hibernate.statistics.cache_latency";
 }
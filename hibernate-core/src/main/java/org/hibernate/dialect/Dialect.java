@@ -4667,6 +4667,29 @@ public boolean supportsValuesListForInsert() {
 		return true;
 	}
 
+	/**
+	 * Should a batch of inserts into a single table be executed as one
+	 * {@code insert ... values (...), (...)} statement, instead of being
+	 * sent as a {@linkplain java.sql.PreparedStatement#executeBatch JDBC batch}
+	 * of single-row inserts?
+	 * <p>
+	 * This only affects inserts which do not need to retrieve generated values,
+	 * and requires that {@code values} lists are
+	 * {@linkplain #supportsValuesListForInsert supported} in insert statements.
+	 * The number of rows inserted by a statement is limited by the
+	 * {@linkplain #getParameterCountLimit parameter count limit}.
+	 *
+	 * This may be overridden using the setting
+	 * {@value org.hibernate.cfg.BatchSettings#MULTI_ROW_INSERTS}.
+	 *
+	 * @return {@code true} if batched inserts should be rendered as multi-row inserts
+	 *
+	 * @since 7.0
+	 */
+	public boolean useMultiRowInsertsForBatching() {
+		return false;
+	}
+
 	/**
 	 * Does this dialect support the {@code from} clause for update statements?
 	 *
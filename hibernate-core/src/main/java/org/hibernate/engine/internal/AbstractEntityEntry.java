@@ -203,7 +203,21 @@ public final Object getId() {
 
 	@Override
 	public final Object[] getLoadedState() {
-		return loadedState;
+		final Object[] loadedState = this.loadedState;
+		return loadedState == null ? inflateLoadedState() : loadedState;
+	}
+
+	/**
+	 * Called by {@link #getLoadedState()} when no loaded state array is
+	 * currently held, giving a subclass which keeps the loaded state in
+	 * some other representation the chance to materialize it.
+	 *
+	 * @return The materialized loaded state, which must be retained and
+	 *         returned by subsequent calls to {@link #getLoadedState()},
+	 *         or {@code null} if there is no loaded state
+	 */
+	protected Object[] inflateLoadedState() {
+		return null;
 	}
 
 	@Override
@@ -326,6 +340,7 @@ else if ( earlyInsert ) {
 
 	@Override
 	public Object getLoadedValue(String propertyName) {
+		final Object[] loadedState = getLoadedState();
 		if ( loadedState == null || propertyName == null ) {
 			return null;
 		}
@@ -343,6 +358,7 @@ public void overwriteLoadedStateCollectionValue(String propertyName, PersistentC
 		// nothing to do if status is READ_ONLY
 		if ( getStatus() != READ_ONLY ) {
 			assert propertyName != null;
+			final Object[] loadedState = getLoadedState();
 			assert loadedState != null;
 
 			loadedState[ propertyIndex( propertyName ) ] = collection;
@@ -416,7 +432,7 @@ public boolean isModifiableEntity() {
 	@Override
 	public void forceLocked(Object entity, Object nextVersion) {
 		version = nextVersion;
-		loadedState[ persister.getVersionProperty() ] = version;
+		getLoadedState()[ persister.getVersionProperty() ] = version;
 		setLockMode( PESSIMISTIC_FORCE_INCREMENT );
 		persister.setValue( entity, getPersister().getVersionProperty(), nextVersion );
 	}
@@ -488,7 +504,7 @@ public void serialize(ObjectOutputStream oos) throws IOException {
 		oos.writeObject( getStatus().name() );
 		oos.writeObject( (previousStatus == null ? "" : previousStatus.name()) );
 		// todo : potentially look at optimizing these two arrays
-		oos.writeObject( loadedState );
+		oos.writeObject( getLoadedState() );
 		oos.writeObject( getDeletedState() );
 		oos.writeObject( version );
 		oos.writeObject( getLockMode().toString() );
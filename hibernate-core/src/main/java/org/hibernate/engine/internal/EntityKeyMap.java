@@ -0,0 +1,438 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.internal;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.UUID;
+
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.metamodel.mapping.EntityMappingType;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.Type;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A map of {@link EntityKey}s to values which keeps one open-addressing table per
+ * entity hierarchy with identifiers of type {@code long}, {@code int}, or
+ * {@link UUID}, indexed directly by the bits of the identifier. Looking up an
+ * entry does not call {@link Type#getHashCode} or {@link Type#isEqual}, and
+ * {@link #get(Object, EntityPersister)} does not need an {@code EntityKey}.
+ * <p>
+ * Keys of entity hierarchies with identifiers of any other type are held in a
+ * regular {@link HashMap}.
+ * <p>
+ * The entries may be iterated, but not removed through an iterator.
+ *
+ * @see org.hibernate.cfg.PersistenceSettings#PRIMITIVE_ID_ENTITY_MAPS
+ */
+final class EntityKeyMap<V> extends AbstractMap<EntityKey, V> {
+	private final IdentityHashMap<EntityMappingType, IdTable<V>> tablesByRootType = new IdentityHashMap<>();
+	private @Nullable HashMap<EntityKey, V> otherEntries;
+
+	// the last table looked up, since consecutive lookups tend to be for the same entity type
+	private @Nullable EntityMappingType lastRootType;
+	private @Nullable IdTable<V> lastTable;
+
+	private int size;
+	private int modCount;
+	private @Nullable Set<Entry<EntityKey, V>> entrySet;
+
+	/**
+	 * Get the value for the given identifier and persister, as if by
+	 * {@code get( new EntityKey( id, persister ) )}.
+	 */
+	@Nullable V get(Object id, EntityPersister persister) {
+		final IdTable<V> table = table( persister );
+		if ( table != null && table.accepts( id ) ) {
+			return table.get( id );
+		}
+		else {
+			return otherEntries == null ? null : otherEntries.get( new EntityKey( id, persister ) );
+		}
+	}
+
+	@Override
+	public @Nullable V get(Object key) {
+		if ( key instanceof EntityKey entityKey ) {
+			final Object id = entityKey.getIdentifier();
+			final IdTable<V> table = table( entityKey.getPersister() );
+			if ( table != null && table.accepts( id ) ) {
+				return table.get( id );
+			}
+			else {
+				return otherEntries == null ? null : otherEntries.get( entityKey );
+			}
+		}
+		else {
+			return null;
+		}
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return get( key ) != null;
+	}
+
+	@Override
+	public @Nullable V put(EntityKey key, V value) {
+		return put( key, value, true );
+	}
+
+	@Override
+	public @Nullable V putIfAbsent(EntityKey key, V value) {
+		return put( key, value, false );
+	}
+
+	private @Nullable V put(EntityKey key, V value, boolean replace) {
+		final IdTable<V> table = table( key.getPersister() );
+		final V previous;
+		final int previousSize;
+		if ( table != null && table.accepts( key.getIdentifier() ) ) {
+			previousSize = table.size;
+			previous = table.put( key, value, replace );
+			size += table.size - previousSize;
+		}
+		else {
+			if ( otherEntries == null ) {
+				otherEntries = new HashMap<>();
+			}
+			previousSize = otherEntries.size();
+			previous = replace ? otherEntries.put( key, value ) : otherEntries.putIfAbsent( key, value );
+			size += otherEntries.size() - previousSize;
+		}
+		modCount++;
+		return previous;
+	}
+
+	@Override
+	public @Nullable V remove(Object key) {
+		if ( key instanceof EntityKey entityKey ) {
+			final Object id = entityKey.getIdentifier();
+			final IdTable<V> table = table( entityKey.getPersister() );
+			final V removed;
+			if ( table != null && table.accepts( id ) ) {
+				removed = table.remove( id );
+			}
+			else {
+				removed = otherEntries == null ? null : otherEntries.remove( entityKey );
+			}
+			if ( removed != null ) {
+				size--;
+				modCount++;
+			}
+			return removed;
+		}
+		else {
+			return null;
+		}
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public void clear() {
+		tablesByRootType.clear();
+		otherEntries = null;
+		lastRootType = null;
+		lastTable = null;
+		size = 0;
+		modCount++;
+	}
+
+	@Override
+	public Set<Entry<EntityKey, V>> entrySet() {
+		if ( entrySet == null ) {
+			entrySet = new AbstractSet<>() {
+				@Override
+				public Iterator<Entry<EntityKey, V>> iterator() {
+					return new EntryIterator();
+				}
+
+				@Override
+				public int size() {
+					return size;
+				}
+			};
+		}
+		return entrySet;
+	}
+
+	/**
+	 * The table of the entity hierarchy of the given persister,
+	 * or {@code null} if its identifiers are held in the regular map.
+	 */
+	private @Nullable IdTable<V> table(EntityPersister persister) {
+		final EntityMappingType rootType = persister.getRootEntityDescriptor();
+		if ( rootType == lastRootType ) {
+			return lastTable;
+		}
+		IdTable<V> table = tablesByRootType.get( rootType );
+		if ( table == null && !tablesByRootType.containsKey( rootType ) ) {
+			final IdKind kind = IdKind.of( persister.getIdentifierType() );
+			table = kind == null ? null : new IdTable<>( kind );
+			tablesByRootType.put( rootType, table );
+		}
+		lastRootType = rootType;
+		lastTable = table;
+		return table;
+	}
+
+	private enum IdKind {
+		LONG, INTEGER, UUID;
+
+		static @Nullable IdKind of(Type identifierType) {
+			if ( identifierType instanceof BasicType<?> ) {
+				final Class<?> javaType = identifierType.getReturnedClass();
+				if ( javaType == Long.class || javaType == long.class ) {
+					return LONG;
+				}
+				else if ( javaType == Integer.class || javaType == int.class ) {
+					return INTEGER;
+				}
+				else if ( javaType == UUID.class ) {
+					return IdKind.UUID;
+				}
+			}
+			return null;
+		}
+	}
+
+	/**
+	 * A linear-probing table of the keys of one entity hierarchy, keyed by
+	 * the identifier held in {@link #high} and {@link #low}.
+	 */
+	private static final class IdTable<V> {
+		private static final int INITIAL_CAPACITY = 16;
+
+		private final IdKind kind;
+		private long[] low;
+		// null unless the identifiers are UUIDs
+		private long[] high;
+		private EntityKey[] keys;
+		private Object[] values;
+		private int size;
+
+		private IdTable(IdKind kind) {
+			this.kind = kind;
+			allocate( INITIAL_CAPACITY );
+		}
+
+		private void allocate(int capacity) {
+			low = new long[capacity];
+			high = kind == IdKind.UUID ? new long[capacity] : null;
+			keys = new EntityKey[capacity];
+			values = new Object[capacity];
+		}
+
+		boolean accepts(Object id) {
+			return switch ( kind ) {
+				case LONG -> id instanceof Long;
+				case INTEGER -> id instanceof Integer;
+				case UUID -> id instanceof UUID;
+			};
+		}
+
+		private long highBits(Object id) {
+			return kind == IdKind.UUID ? ( (UUID) id ).getMostSignificantBits() : 0L;
+		}
+
+		private long lowBits(Object id) {
+			return switch ( kind ) {
+				case LONG -> (Long) id;
+				case INTEGER -> (Integer) id;
+				case UUID -> ( (UUID) id ).getLeastSignificantBits();
+			};
+		}
+
+		private int home(long high, long low) {
+			// the finalizer of MurmurHash3
+			long hash = low ^ ( high * 0x9E3779B97F4A7C15L );
+			hash ^= hash >>> 33;
+			hash *= 0xFF51AFD7ED558CCDL;
+			hash ^= hash >>> 33;
+			return (int) hash & ( keys.length - 1 );
+		}
+
+		private int homeOfSlot(int slot) {
+			return home( high == null ? 0L : high[slot], low[slot] );
+		}
+
+		private boolean matches(int slot, long high, long low) {
+			return this.low[slot] == low && ( this.high == null || this.high[slot] == high );
+		}
+
+		/**
+		 * @return the slot holding the given identifier, or {@code -1}
+		 */
+		private int find(long high, long low) {
+			final int mask = keys.length - 1;
+			for ( int slot = home( high, low ); keys[slot] != null; slot = ( slot + 1 ) & mask ) {
+				if ( matches( slot, high, low ) ) {
+					return slot;
+				}
+			}
+			return -1;
+		}
+
+		@SuppressWarnings("unchecked")
+		@Nullable V get(Object id) {
+			final int slot = find( highBits( id ), lowBits( id ) );
+			return slot < 0 ? null : (V) values[slot];
+		}
+
+		@SuppressWarnings("unchecked")
+		@Nullable V put(EntityKey key, V value, boolean replace) {
+			final Object id = key.getIdentifier();
+			final long high = highBits( id );
+			final long low = lowBits( id );
+			final int mask = keys.length - 1;
+			int slot = home( high, low );
+			while ( keys[slot] != null ) {
+				if ( matches( slot, high, low ) ) {
+					final V previous = (V) values[slot];
+					if ( replace ) {
+						values[slot] = value;
+					}
+					return previous;
+				}
+				slot = ( slot + 1 ) & mask;
+			}
+			insert( slot, key, high, low, value );
+			if ( ++size > keys.length * 3 / 4 ) {
+				grow();
+			}
+			return null;
+		}
+
+		private void insert(int slot, EntityKey key, long high, long low, Object value) {
+			keys[slot] = key;
+			this.low[slot] = low;
+			if ( this.high != null ) {
+				this.high[slot] = high;
+			}
+			values[slot] = value;
+		}
+
+		private void grow() {
+			final EntityKey[] oldKeys = keys;
+			final Object[] oldValues = values;
+			final long[] oldLow = low;
+			final long[] oldHigh = high;
+			allocate( oldKeys.length * 2 );
+			final int mask = keys.length - 1;
+			for ( int i = 0; i < oldKeys.length; i++ ) {
+				if ( oldKeys[i] != null ) {
+					final long high = oldHigh == null ? 0L : oldHigh[i];
+					int slot = home( high, oldLow[i] );
+					while ( keys[slot] != null ) {
+						slot = ( slot + 1 ) & mask;
+					}
+					insert( slot, oldKeys[i], high, oldLow[i], oldValues[i] );
+				}
+			}
+		}
+
+		@SuppressWarnings("unchecked")
+		@Nullable V remove(Object id) {
+			int slot = find( highBits( id ), lowBits( id ) );
+			if ( slot < 0 ) {
+				return null;
+			}
+			final V removed = (V) values[slot];
+			size--;
+			// shift back the following entries of the run, so that no tombstone is needed
+			final int mask = keys.length - 1;
+			int next = slot;
+			while ( true ) {
+				next = ( next + 1 ) & mask;
+				if ( keys[next] == null ) {
+					break;
+				}
+				final int home = homeOfSlot( next );
+				// the entry may move to the free slot unless its home lies cyclically in (slot, next]
+				final boolean homeAfterFreeSlot = slot <= next
+						? slot < home && home <= next
+						: slot < home || home <= next;
+				if ( !homeAfterFreeSlot ) {
+					insert( slot, keys[next], high == null ? 0L : high[next], low[next], values[next] );
+					slot = next;
+				}
+			}
+			keys[slot] = null;
+			values[slot] = null;
+			return removed;
+		}
+	}
+
+	private final class EntryIterator implements Iterator<Entry<EntityKey, V>> {
+		private final Iterator<IdTable<V>> tables = tablesByRootType.values().iterator();
+		private final int expectedModCount = modCount;
+		private @Nullable IdTable<V> table;
+		private int slot;
+		private @Nullable Iterator<Entry<EntityKey, V>> others;
+		private @Nullable Entry<EntityKey, V> next;
+
+		private EntryIterator() {
+			advance();
+		}
+
+		@SuppressWarnings("unchecked")
+		private void advance() {
+			next = null;
+			while ( table != null || tables.hasNext() ) {
+				if ( table == null ) {
+					table = tables.next();
+					slot = 0;
+				}
+				else {
+					while ( slot < table.keys.length ) {
+						final int current = slot++;
+						if ( table.keys[current] != null ) {
+							next = new SimpleImmutableEntry<>( table.keys[current], (V) table.values[current] );
+							return;
+						}
+					}
+					table = null;
+				}
+			}
+			if ( others == null && otherEntries != null ) {
+				others = otherEntries.entrySet().iterator();
+			}
+			if ( others != null && others.hasNext() ) {
+				next = others.next();
+			}
+		}
+
+		@Override
+		public boolean hasNext() {
+			return next != null;
+		}
+
+		@Override
+		public Entry<EntityKey, V> next() {
+			if ( modCount != expectedModCount ) {
+				throw new ConcurrentModificationException();
+			}
+			final Entry<EntityKey, V> entry = next;
+			if ( entry == null ) {
+				throw new NoSuchElementException();
+			}
+			advance();
+			return entry;
+		}
+	}
+}
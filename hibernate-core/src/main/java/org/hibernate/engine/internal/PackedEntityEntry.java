@@ -0,0 +1,157 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.internal;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+
+import org.hibernate.LockMode;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.engine.spi.Status;
+import org.hibernate.persister.entity.EntityPersister;
+
+import static org.hibernate.engine.spi.Status.MANAGED;
+import static org.hibernate.engine.spi.Status.READ_ONLY;
+
+/**
+ * An {@link EntityEntry} implementation for mutable entities which keeps the
+ * loaded state packed according to the layout of a {@link PackedEntityEntryFactory}:
+ * primitive attribute values in a {@code long[]}, and all other values in a
+ * smaller {@code Object[]}.
+ * <p>
+ * Since callers of {@link #getLoadedState()} are allowed to write to the returned
+ * array, the packed state is inflated to a regular {@code Object[]} on access. The
+ * inflated array is {@linkplain #releaseLoadedState released} once the entity has
+ * been flushed, and packed again if it was modified in the meantime. An unmodified
+ * entity is {@linkplain #isUnmodified dirty-checked} against the packed state, so
+ * that flushing it does not inflate the loaded state.
+ *
+ * @see PackedEntityEntryFactory
+ */
+public final class PackedEntityEntry extends AbstractEntityEntry {
+
+	private final transient PackedEntityEntryFactory layout;
+	private long[] primitives;
+	private Object[] references;
+
+	public PackedEntityEntry(
+			final Status status,
+			final Object[] loadedState,
+			final Object rowId,
+			final Object id,
+			final Object version,
+			final LockMode lockMode,
+			final boolean existsInDatabase,
+			final EntityPersister persister,
+			final boolean disableVersionIncrement,
+			final PersistenceContext persistenceContext,
+			final PackedEntityEntryFactory layout) {
+		super( status, null, rowId, id, version, lockMode, existsInDatabase, persister,
+				disableVersionIncrement, persistenceContext
+		);
+		this.layout = layout;
+		// only retain loaded state if the status is not Status.READ_ONLY
+		if ( status != READ_ONLY && loadedState != null ) {
+			primitives = layout.packPrimitives( loadedState );
+			if ( primitives == null ) {
+				// some value did not fit the layout, keep the state as is
+				this.loadedState = loadedState;
+			}
+			else {
+				references = layout.packReferences( loadedState );
+			}
+		}
+	}
+
+	@Override
+	protected Object[] inflateLoadedState() {
+		if ( primitives == null ) {
+			return null;
+		}
+		else {
+			// keep the packed state, which is likely still up to date
+			// when the inflated state is released
+			loadedState = layout.unpack( primitives, references );
+			return loadedState;
+		}
+	}
+
+	/**
+	 * Drop the inflated loaded state, if any, keeping only the packed state,
+	 * which is first brought up to date if the inflated state was modified.
+	 * The loaded state is kept as is if it does not fit the layout.
+	 */
+	public void releaseLoadedState() {
+		final Object[] loadedState = this.loadedState;
+		if ( loadedState != null && getStatus() == MANAGED ) {
+			if ( primitives == null || !layout.matches( primitives, references, loadedState ) ) {
+				primitives = layout.packPrimitives( loadedState );
+				references = primitives == null ? null : layout.packReferences( loadedState );
+			}
+			if ( primitives != null ) {
+				this.loadedState = null;
+			}
+		}
+	}
+
+	/**
+	 * Determine whether the given current state of the entity is the same as its
+	 * loaded state, comparing it with the packed state without inflating it.
+	 *
+	 * @return {@code true} if the entity is definitely not dirty, {@code false} if
+	 *         it might be dirty, or if the loaded state is not (only) held packed
+	 */
+	public boolean isUnmodified(Object[] currentState, SharedSessionContractImplementor session) {
+		return primitives != null
+			&& loadedState == null
+			&& getStatus() == MANAGED
+			&& layout.isUnmodified( primitives, references, currentState,
+					getPersister().getPropertyTypes(), session );
+	}
+
+	@Override
+	public void setStatus(Status status) {
+		if ( status == READ_ONLY ) {
+			discardPackedState();
+		}
+		super.setStatus( status );
+	}
+
+	@Override
+	public void postUpdate(Object entity, Object[] updatedState, Object nextVersion) {
+		discardPackedState();
+		super.postUpdate( entity, updatedState, nextVersion );
+		releaseLoadedState();
+	}
+
+	private void discardPackedState() {
+		primitives = null;
+		references = null;
+	}
+
+	/**
+	 * Custom deserialization routine used during deserialization of a
+	 * Session/PersistenceContext for increased performance.
+	 * <p>
+	 * The serialized form of this entry is the same as the one of a
+	 * {@link MutableEntityEntry}, which is what gets deserialized.
+	 *
+	 * @param ois The stream from which to read the entry.
+	 * @param persistenceContext The context being deserialized.
+	 *
+	 * @return The deserialized EntityEntry
+	 *
+	 * @throws IOException If a stream error occurs
+	 * @throws ClassNotFoundException If any of the classes declared in the stream
+	 * cannot be found
+	 */
+	public static EntityEntry deserialize(
+			ObjectInputStream ois,
+			PersistenceContext persistenceContext) throws IOException, ClassNotFoundException {
+		return MutableEntityEntry.deserialize( ois, persistenceContext );
+	}
+}
@@ -0,0 +1,306 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.internal;
+
+import org.hibernate.LockMode;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.EntityEntryFactory;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.engine.spi.Status;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.Type;
+
+import static org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer.UNFETCHED_PROPERTY;
+
+/**
+ * Factory for {@link PackedEntityEntry}, for mutable entities. Each instance
+ * holds the packed layout of the loaded state of the entities of a given
+ * persister: the values of basic attributes of a primitive or primitive wrapper
+ * type are stored in a {@code long[]}, followed by a bit set of their nulls,
+ * and the values of all other attributes in an {@code Object[]}.
+ * <p>
+ * Entities with no attribute of primitive type get a plain {@link MutableEntityEntry}.
+ *
+ * @see org.hibernate.cfg.PersistenceSettings#PACKED_LOADED_STATE
+ */
+public class PackedEntityEntryFactory implements EntityEntryFactory {
+
+	private static final byte REFERENCE = 0;
+	private static final byte LONG = 1;
+	private static final byte INTEGER = 2;
+	private static final byte SHORT = 3;
+	private static final byte BYTE = 4;
+	private static final byte CHARACTER = 5;
+	private static final byte BOOLEAN = 6;
+	private static final byte DOUBLE = 7;
+	private static final byte FLOAT = 8;
+
+	private final byte[] kinds;
+	private final int[] slots;
+	private final int primitiveCount;
+	private final int referenceCount;
+
+	public PackedEntityEntryFactory(Type[] propertyTypes) {
+		kinds = new byte[propertyTypes.length];
+		slots = new int[propertyTypes.length];
+		int primitiveCount = 0;
+		int referenceCount = 0;
+		for ( int i = 0; i < propertyTypes.length; i++ ) {
+			final byte kind = kind( propertyTypes[i] );
+			kinds[i] = kind;
+			slots[i] = kind == REFERENCE ? referenceCount++ : primitiveCount++;
+		}
+		this.primitiveCount = primitiveCount;
+		this.referenceCount = referenceCount;
+	}
+
+	private static byte kind(Type type) {
+		if ( type instanceof BasicType<?> ) {
+			final Class<?> javaType = type.getReturnedClass();
+			if ( javaType == Long.class || javaType == long.class ) {
+				return LONG;
+			}
+			else if ( javaType == Integer.class || javaType == int.class ) {
+				return INTEGER;
+			}
+			else if ( javaType == Short.class || javaType == short.class ) {
+				return SHORT;
+			}
+			else if ( javaType == Byte.class || javaType == byte.class ) {
+				return BYTE;
+			}
+			else if ( javaType == Character.class || javaType == char.class ) {
+				return CHARACTER;
+			}
+			else if ( javaType == Boolean.class || javaType == boolean.class ) {
+				return BOOLEAN;
+			}
+			else if ( javaType == Double.class || javaType == double.class ) {
+				return DOUBLE;
+			}
+			else if ( javaType == Float.class || javaType == float.class ) {
+				return FLOAT;
+			}
+		}
+		return REFERENCE;
+	}
+
+	@Override
+	public EntityEntry createEntityEntry(
+			Status status,
+			Object[] loadedState,
+			Object rowId,
+			Object id,
+			Object version,
+			LockMode lockMode,
+			boolean existsInDatabase,
+			EntityPersister persister,
+			boolean disableVersionIncrement,
+			PersistenceContext persistenceContext) {
+		if ( primitiveCount == 0 ) {
+			return new MutableEntityEntry(
+					status,
+					loadedState,
+					rowId,
+					id,
+					version,
+					lockMode,
+					existsInDatabase,
+					persister,
+					disableVersionIncrement,
+					persistenceContext
+			);
+		}
+		else {
+			return new PackedEntityEntry(
+					status,
+					loadedState,
+					rowId,
+					id,
+					version,
+					lockMode,
+					existsInDatabase,
+					persister,
+					disableVersionIncrement,
+					persistenceContext,
+					this
+			);
+		}
+	}
+
+	/**
+	 * Pack the primitive values of the given state.
+	 *
+	 * @return the packed values followed by the bit set of nulls, or {@code null}
+	 *         if some value does not fit the layout (for example, an unfetched lazy
+	 *         attribute), in which case the state should be kept unpacked
+	 */
+	long[] packPrimitives(Object[] state) {
+		if ( state.length != kinds.length ) {
+			return null;
+		}
+		final long[] primitives = new long[primitiveCount + ( ( primitiveCount + 63 ) >>> 6 )];
+		for ( int i = 0; i < state.length; i++ ) {
+			final byte kind = kinds[i];
+			if ( kind != REFERENCE ) {
+				final int slot = slots[i];
+				final Object value = state[i];
+				if ( value == null ) {
+					primitives[primitiveCount + ( slot >>> 6 )] |= 1L << slot;
+				}
+				else if ( fits( kind, value ) ) {
+					primitives[slot] = bits( kind, value );
+				}
+				else {
+					return null;
+				}
+			}
+		}
+		return primitives;
+	}
+
+	/**
+	 * Does the given state hold exactly the values of the given packed state?
+	 * Values of other attributes than primitive ones are compared by identity.
+	 */
+	boolean matches(long[] primitives, Object[] references, Object[] state) {
+		if ( state.length != kinds.length ) {
+			return false;
+		}
+		for ( int i = 0; i < state.length; i++ ) {
+			final byte kind = kinds[i];
+			final int slot = slots[i];
+			final Object value = state[i];
+			if ( kind == REFERENCE ) {
+				if ( references[slot] != value ) {
+					return false;
+				}
+			}
+			else if ( !matches( primitives, kind, slot, value ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Is the given current state of an entity not dirty with respect to the given
+	 * packed loaded state? Values of other attributes than primitive ones are compared
+	 * using {@link Type#isDirty(Object, Object, SharedSessionContractImplementor)}.
+	 * <p>
+	 * This is stricter than {@link EntityPersister#findDirty}, which ignores attributes
+	 * which are not updatable, so a {@code false} result only means that the loaded state
+	 * must be inflated to perform the full dirty check.
+	 */
+	boolean isUnmodified(
+			long[] primitives,
+			Object[] references,
+			Object[] state,
+			Type[] types,
+			SharedSessionContractImplementor session) {
+		if ( state.length != kinds.length ) {
+			return false;
+		}
+		for ( int i = 0; i < state.length; i++ ) {
+			final byte kind = kinds[i];
+			final int slot = slots[i];
+			final Object value = state[i];
+			if ( kind == REFERENCE ) {
+				final Object loaded = references[slot];
+				if ( loaded != value
+						&& ( loaded == UNFETCHED_PROPERTY || value == UNFETCHED_PROPERTY
+								|| types[i].isDirty( loaded, value, session ) ) ) {
+					return false;
+				}
+			}
+			else if ( !matches( primitives, kind, slot, value ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private boolean matches(long[] primitives, byte kind, int slot, Object value) {
+		if ( ( primitives[primitiveCount + ( slot >>> 6 )] & ( 1L << slot ) ) != 0 ) {
+			return value == null;
+		}
+		else {
+			return value != null && fits( kind, value ) && bits( kind, value ) == primitives[slot];
+		}
+	}
+
+	private static boolean fits(byte kind, Object value) {
+		return switch ( kind ) {
+			case LONG -> value instanceof Long;
+			case INTEGER -> value instanceof Integer;
+			case SHORT -> value instanceof Short;
+			case BYTE -> value instanceof Byte;
+			case CHARACTER -> value instanceof Character;
+			case BOOLEAN -> value instanceof Boolean;
+			case DOUBLE -> value instanceof Double;
+			case FLOAT -> value instanceof Float;
+			default -> throw new AssertionError( "Unknown kind: " + kind );
+		};
+	}
+
+	private static long bits(byte kind, Object value) {
+		return switch ( kind ) {
+			case LONG -> (Long) value;
+			case INTEGER -> (Integer) value;
+			case SHORT -> (Short) value;
+			case BYTE -> (Byte) value;
+			case CHARACTER -> (Character) value;
+			case BOOLEAN -> (Boolean) value ? 1L : 0L;
+			case DOUBLE -> Double.doubleToRawLongBits( (Double) value );
+			case FLOAT -> Float.floatToRawIntBits( (Float) value );
+			default -> throw new AssertionError( "Unknown kind: " + kind );
+		};
+	}
+
+	/**
+	 * Pack the non-primitive values of the given state, which must have been
+	 * successfully {@linkplain #packPrimitives packed} first.
+	 */
+	Object[] packReferences(Object[] state) {
+		final Object[] references = new Object[referenceCount];
+		for ( int i = 0; i < state.length; i++ ) {
+			if ( kinds[i] == REFERENCE ) {
+				references[slots[i]] = state[i];
+			}
+		}
+		return references;
+	}
+
+	/**
+	 * Rebuild the state from its packed representation.
+	 */
+	Object[] unpack(long[] primitives, Object[] references) {
+		final Object[] state = new Object[kinds.length];
+		for ( int i = 0; i < state.length; i++ ) {
+			final byte kind = kinds[i];
+			final int slot = slots[i];
+			if ( kind == REFERENCE ) {
+				state[i] = references[slot];
+			}
+			else if ( ( primitives[primitiveCount + ( slot >>> 6 )] & ( 1L << slot ) ) == 0 ) {
+				final long value = primitives[slot];
+				state[i] = switch ( kind ) {
+					case LONG -> value;
+					case INTEGER -> (int) value;
+					case SHORT -> (short) value;
+					case BYTE -> (byte) value;
+					case CHARACTER -> (char) value;
+					case BOOLEAN -> value != 0L;
+					case DOUBLE -> Double.longBitsToDouble( value );
+					case FLOAT -> Float.intBitsToFloat( (int) value );
+					default -> throw new AssertionError( "Unknown kind: " + kind );
+				};
+			}
+		}
+		return state;
+	}
+}
@@ -55,6 +55,7 @@
 import org.hibernate.event.spi.PostLoadEventListener;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.collections.CollectionHelper;
+import org.hibernate.internal.util.collections.IdentitySet;
 import org.hibernate.internal.util.collections.InstanceIdentityMap;
 import org.hibernate.metamodel.spi.MappingMetamodelImplementor;
 import org.hibernate.persister.collection.CollectionPersister;
@@ -114,7 +115,7 @@ the following fields are used in all circumstances, and are not worth (or not su
 	 */
 
 	// Loaded entity instances, by EntityKey
-	private HashMap<EntityKey, EntityHolderImpl> entitiesByKey;
+	private Map<EntityKey, EntityHolderImpl> entitiesByKey;
 
 	// New entity holder cached instance
 	private EntityHolderImpl newEntityHolder;
@@ -168,6 +169,14 @@ the following fields are used in all circumstances, and are not worth (or not su
 	private boolean defaultReadOnly;
 	private boolean hasNonReadOnlyEntities;
 
+	// Entities added other than by loading, and whether any entity was removed,
+	// since the last flush, only tracked when incremental flush is enabled
+	private final boolean incrementalFlush;
+	private IdentitySet<Object> touchedEntities;
+	private boolean removalsSinceLastFlush;
+	// set after deserialization, when the entities touched before are unknown
+	private boolean touchedAll;
+
 	private LoadContexts loadContexts;
 	private BatchFetchQueue batchFetchQueue;
 
@@ -179,15 +188,34 @@ the following fields are used in all circumstances, and are not worth (or not su
 	StatefulPersistenceContext(SharedSessionContractImplementor session) {
 		this.session = session;
 		this.entityEntryContext = new EntityEntryContext( this );
+		this.incrementalFlush = session.getFactory().getSessionFactoryOptions().isIncrementalFlushEnabled();
 	}
 
 	private Map<EntityKey, EntityHolderImpl> getOrInitializeEntitiesByKey() {
 		if ( entitiesByKey == null ) {
-			entitiesByKey = CollectionHelper.mapOfSize( INIT_COLL_SIZE );
+			entitiesByKey = newEntitiesByKey( INIT_COLL_SIZE );
 		}
 		return entitiesByKey;
 	}
 
+	private Map<EntityKey, EntityHolderImpl> newEntitiesByKey(int size) {
+		return session.getFactory().getSessionFactoryOptions().isPrimitiveIdEntityMapsEnabled()
+				? new EntityKeyMap<>()
+				: CollectionHelper.mapOfSize( size );
+	}
+
+	private @Nullable EntityHolderImpl getHolder(Object id, EntityPersister persister) {
+		if ( entitiesByKey == null ) {
+			return null;
+		}
+		else if ( entitiesByKey instanceof EntityKeyMap<EntityHolderImpl> entityKeyMap ) {
+			return entityKeyMap.get( id, persister );
+		}
+		else {
+			return entitiesByKey.get( session.generateEntityKey( id, persister ) );
+		}
+	}
+
 	private EntityHolderImpl getOrInitializeNewHolder() {
 		if ( newEntityHolder == null ) {
 			return newEntityHolder = new EntityHolderImpl();
@@ -270,6 +298,9 @@ public void clear() {
 		entityEntryContext.clear();
 		parentsByChild = null;
 		entitySnapshotsByKey = null;
+		touchedEntities = null;
+		removalsSinceLastFlush = false;
+		touchedAll = false;
 		collectionsByKey = null;
 		nonlazyCollections = null;
 		collectionEntries = null;
@@ -307,6 +338,28 @@ public void setDefaultReadOnly(boolean defaultReadOnly) {
 	public void setEntryStatus(EntityEntry entry, Status status) {
 		entry.setStatus( status );
 		setHasNonReadOnlyEnties( status );
+		if ( incrementalFlush && status == Status.DELETED ) {
+			removalsSinceLastFlush = true;
+		}
+	}
+
+	@Override
+	public boolean isTouchedSinceLastFlush(Object entity) {
+		return !incrementalFlush
+			|| touchedAll
+			|| touchedEntities != null && touchedEntities.contains( entity );
+	}
+
+	@Override
+	public boolean hasRemovalsSinceLastFlush() {
+		return !incrementalFlush || touchedAll || removalsSinceLastFlush;
+	}
+
+	@Override
+	public void clearTouchedEntities() {
+		touchedEntities = null;
+		removalsSinceLastFlush = false;
+		touchedAll = false;
 	}
 
 	private void setHasNonReadOnlyEnties(Status status) {
@@ -438,6 +491,23 @@ public EntityHolder claimEntityHolderIfPossible(
 		return entitiesByKey == null ? null : entitiesByKey.get( key );
 	}
 
+	@Override
+	public @Nullable EntityHolder getEntityHolder(Object id, EntityPersister persister) {
+		return getHolder( id, persister );
+	}
+
+	@Override
+	public EntityKey getEntityKey(Object id, EntityPersister persister) {
+		// only worth a lookup when it does not itself need a key
+		if ( entitiesByKey instanceof EntityKeyMap<EntityHolderImpl> entityKeyMap ) {
+			final EntityHolderImpl holder = entityKeyMap.get( id, persister );
+			if ( holder != null && holder.entityKey.getPersister() == persister ) {
+				return holder.entityKey;
+			}
+		}
+		return session.generateEntityKey( id, persister );
+	}
+
 	@Override
 	public boolean containsEntityHolder(EntityKey key) {
 		return entitiesByKey != null && entitiesByKey.get( key ) != null;
@@ -531,6 +601,12 @@ public Object getEntity(EntityKey key) {
 		return holder == null || holder.state == EntityHolderState.UNINITIALIZED ? null : holder.entity;
 	}
 
+	@Override
+	public Object getEntity(Object id, EntityPersister persister) {
+		final EntityHolderImpl holder = getHolder( id, persister );
+		return holder == null || holder.state == EntityHolderState.UNINITIALIZED ? null : holder.entity;
+	}
+
 	@Override
 	public boolean containsEntity(EntityKey key) {
 		final EntityHolderImpl holder = entitiesByKey == null ? null : entitiesByKey.get( key );
@@ -611,6 +687,9 @@ public EntityEntry getEntry(Object entity) {
 
 	@Override
 	public EntityEntry removeEntry(Object entity) {
+		if ( touchedEntities != null ) {
+			touchedEntities.remove( entity );
+		}
 		return entityEntryContext.removeEntityEntry( entity );
 	}
 
@@ -697,7 +776,7 @@ public EntityEntry addEntry(
 					this
 			);
 		}
-		else {
+		else if ( persister.getEntityEntryFactory() instanceof ImmutableEntityEntryFactory ) {
 			//noinspection RedundantCast
 			e = ( (ImmutableEntityEntryFactory) persister.getEntityEntryFactory() ).createEntityEntry(
 					status,
@@ -712,10 +791,31 @@ public EntityEntry addEntry(
 					this
 			);
 		}
+		else {
+			//noinspection RedundantCast
+			e = ( (PackedEntityEntryFactory) persister.getEntityEntryFactory() ).createEntityEntry(
+					status,
+					loadedState,
+					rowId,
+					id,
+					version,
+					lockMode,
+					existsInDatabase,
+					persister,
+					disableVersionIncrement,
+					this
+			);
+		}
 
 		entityEntryContext.addEntityEntry( entity, e );
 
 		setHasNonReadOnlyEnties( status );
+		if ( incrementalFlush && status != Status.LOADING ) {
+			if ( touchedEntities == null ) {
+				touchedEntities = new IdentitySet<>( INIT_COLL_SIZE );
+			}
+			touchedEntities.add( entity );
+		}
 		return e;
 	}
 
@@ -966,7 +1066,7 @@ public Object getCollectionOwner(Object key, CollectionPersister collectionPersi
 		// these 2 are not always the same.  Same is true in the case of ToOne associations with property-ref...
 		final EntityPersister ownerPersister = collectionPersister.getOwnerEntityPersister();
 		if ( ownerPersister.getIdentifierType().getReturnedClass().isInstance( key ) ) {
-			return getEntity( session.generateEntityKey( key, collectionPersister.getOwnerEntityPersister() ) );
+			return getEntity( key, collectionPersister.getOwnerEntityPersister() );
 		}
 
 		// we have a property-ref type mapping for the collection key.  But that could show up a few ways here...
@@ -977,7 +1077,7 @@ public Object getCollectionOwner(Object key, CollectionPersister collectionPersi
 			if ( ownerId == null ) {
 				return null;
 			}
-			return getEntity( session.generateEntityKey( ownerId, ownerPersister ) );
+			return getEntity( ownerId, ownerPersister );
 		}
 
 		final CollectionType collectionType = collectionPersister.getCollectionType();
@@ -1013,11 +1113,11 @@ public Object getCollectionOwner(Object key, CollectionPersister collectionPersi
 			//			in place of natural id snapshots.  BUt really its better to just do it the right way ^^ if we start
 			// 			going that route
 			final Object ownerId = ownerPersister.getIdByUniqueKey( key, collectionType.getLHSPropertyName(), session );
-			return getEntity( session.generateEntityKey( ownerId, ownerPersister ) );
+			return getEntity( ownerId, ownerPersister );
 		}
 
 		// as a last resort this is what the old code did...
-		return getEntity( session.generateEntityKey( key, collectionPersister.getOwnerEntityPersister() ) );
+		return getEntity( key, collectionPersister.getOwnerEntityPersister() );
 	}
 
 	@Override
@@ -2013,12 +2113,13 @@ public static StatefulPersistenceContext deserialize(
 			}
 
 			rtn.entityEntryContext = EntityEntryContext.deserialize( ois, rtn );
+			rtn.touchedAll = rtn.incrementalFlush;
 
 			count = ois.readInt();
 			if ( traceEnabled ) {
 				LOG.trace( "Starting deserialization of [" + count + "] entitiesByKey entries" );
 			}
-			rtn.entitiesByKey = CollectionHelper.mapOfSize(Math.max(count, INIT_COLL_SIZE));
+			rtn.entitiesByKey = rtn.newEntitiesByKey( Math.max( count, INIT_COLL_SIZE ) );
 			for ( int i = 0; i < count; i++ ) {
 				final EntityKey ek = EntityKey.deserialize( ois, sfi );
 				final EntityPersister persister = sfi.getMappingMetamodel().getEntityDescriptor( (String) ois.readObject() );
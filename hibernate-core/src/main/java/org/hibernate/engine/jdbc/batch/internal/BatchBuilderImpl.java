@@ -5,6 +5,11 @@
 package org.hibernate.engine.jdbc.batch.internal;
 
 import java.util.Collections;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
 import org.hibernate.Internal;
@@ -12,9 +17,11 @@
 import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
 import org.hibernate.engine.jdbc.batch.spi.BatchKey;
 import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
+import org.hibernate.engine.jdbc.mutation.internal.PreparedStatementGroupMultiRowInsert;
 import org.hibernate.engine.jdbc.mutation.internal.PreparedStatementGroupSingleTable;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.service.spi.Stoppable;
 import org.hibernate.sql.model.TableMapping;
 import org.hibernate.sql.model.jdbc.JdbcInsertMutation;
 
@@ -26,8 +33,9 @@
  *
  * @author Steve Ebersole
  */
-public class BatchBuilderImpl implements BatchBuilder {
+public class BatchBuilderImpl implements BatchBuilder, Stoppable {
 	private final int globalBatchSize;
+	private final ExecutorService pipelineExecutor;
 
 	/**
 	 * Constructs a BatchBuilderImpl
@@ -36,14 +44,69 @@ public class BatchBuilderImpl implements BatchBuilder {
 	 * on {@link #buildBatch}
 	 */
 	public BatchBuilderImpl(int globalBatchSize) {
+		this( globalBatchSize, false );
+	}
+
+	/**
+	 * Constructs a BatchBuilderImpl
+	 *
+	 * @param globalBatchSize The batch size to use.  Can be overridden
+	 * on {@link #buildBatch}
+	 * @param pipelined Whether batches are executed in the background
+	 * while the next batch is built
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#PIPELINED_EXECUTION
+	 */
+	public BatchBuilderImpl(int globalBatchSize, boolean pipelined) {
+		this( globalBatchSize, pipelined, Runtime.getRuntime().availableProcessors() );
+	}
+
+	/**
+	 * Constructs a BatchBuilderImpl
+	 *
+	 * @param globalBatchSize The batch size to use.  Can be overridden
+	 * on {@link #buildBatch}
+	 * @param pipelined Whether batches are executed in the background
+	 * while the next batch is built
+	 * @param maxPipelineThreads The maximum number of threads executing
+	 * batches in the background
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#PIPELINED_EXECUTION_THREADS
+	 */
+	public BatchBuilderImpl(int globalBatchSize, boolean pipelined, int maxPipelineThreads) {
 		if ( BATCH_LOGGER.isTraceEnabled() ) {
 			BATCH_LOGGER.tracef(
-					"Using standard BatchBuilder (%s)",
-					globalBatchSize
+					"Using standard BatchBuilder (%s, pipelined=%s, threads=%s)",
+					globalBatchSize,
+					pipelined,
+					maxPipelineThreads
 			);
 		}
 
 		this.globalBatchSize = globalBatchSize;
+		this.pipelineExecutor = pipelined ? createPipelineExecutor( maxPipelineThreads ) : null;
+	}
+
+	/**
+	 * A bounded pool of threads which are started on demand and stopped when idle.
+	 * There is no queue: when all threads are busy, the batch is executed by the
+	 * flushing thread itself, just as if pipelining were disabled.
+	 */
+	private static ExecutorService createPipelineExecutor(int maxThreads) {
+		final int threads = Math.max( maxThreads, 1 );
+		final ThreadPoolExecutor executor = new ThreadPoolExecutor(
+				threads,
+				threads,
+				60L,
+				TimeUnit.SECONDS,
+				new SynchronousQueue<>(),
+				new PipelineThreadFactory(),
+				// unlike CallerRunsPolicy, also runs the task after shutdown,
+				// since the flushing thread waits for its completion
+				(task, pool) -> task.run()
+		);
+		executor.allowCoreThreadTimeOut( true );
+		return executor;
 	}
 
 	public int getJdbcBatchSize() {
@@ -61,7 +124,20 @@ public Batch buildBatch(
 				: explicitBatchSize;
 		assert batchSize > 1;
 
-		return new BatchImpl( key, statementGroupSupplier.get(), batchSize, jdbcCoordinator );
+		final PreparedStatementGroup statementGroup = statementGroupSupplier.get();
+		if ( statementGroup instanceof PreparedStatementGroupMultiRowInsert multiRowInsert ) {
+			return new MultiRowInsertBatch( key, multiRowInsert, batchSize, jdbcCoordinator );
+		}
+		return pipelineExecutor == null
+				? new BatchImpl( key, statementGroup, batchSize, jdbcCoordinator )
+				: new BatchImpl( key, statementGroup, statementGroupSupplier, batchSize, jdbcCoordinator, pipelineExecutor );
+	}
+
+	@Override
+	public void stop() {
+		if ( pipelineExecutor != null ) {
+			pipelineExecutor.shutdown();
+		}
 	}
 
 
@@ -143,4 +219,14 @@ public MutationDetails getDeleteDetails() {
 				jdbcCoordinator
 		);
 	}
+
+	private static class PipelineThreadFactory implements ThreadFactory {
+		@Override
+		public Thread newThread(Runnable runnable) {
+			final Thread thread = new Thread( runnable );
+			thread.setDaemon( true );
+			thread.setName( "Hibernate JDBC Batch Execution Thread" );
+			return thread;
+		}
+	}
 }
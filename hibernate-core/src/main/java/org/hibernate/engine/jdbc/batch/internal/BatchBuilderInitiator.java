@@ -14,7 +14,10 @@
 
 import static org.hibernate.cfg.BatchSettings.BATCH_STRATEGY;
 import static org.hibernate.cfg.BatchSettings.BUILDER;
+import static org.hibernate.cfg.BatchSettings.PIPELINED_EXECUTION;
+import static org.hibernate.cfg.BatchSettings.PIPELINED_EXECUTION_THREADS;
 import static org.hibernate.cfg.BatchSettings.STATEMENT_BATCH_SIZE;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getBoolean;
 import static org.hibernate.internal.util.config.ConfigurationHelper.getInt;
 
 /**
@@ -42,7 +45,12 @@ public BatchBuilder initiateService(Map<String, Object> configurationValues, Ser
 		}
 
 		if ( builder == null ) {
-			return new BatchBuilderImpl( getInt( STATEMENT_BATCH_SIZE, configurationValues, 1 ) );
+			return new BatchBuilderImpl(
+					getInt( STATEMENT_BATCH_SIZE, configurationValues, 1 ),
+					getBoolean( PIPELINED_EXECUTION, configurationValues ),
+					getInt( PIPELINED_EXECUTION_THREADS, configurationValues,
+							Runtime.getRuntime().availableProcessors() )
+			);
 		}
 
 		if ( builder instanceof BatchBuilder batchBuilder ) {
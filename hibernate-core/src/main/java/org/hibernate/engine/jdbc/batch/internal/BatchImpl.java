@@ -6,7 +6,13 @@
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 
 import org.hibernate.HibernateException;
 import org.hibernate.StaleStateException;
@@ -33,13 +39,36 @@
 
 /**
  * Standard implementation of {@link Batch}
+ * <p>
+ * When built with an {@link Executor}, the batch is <em>pipelined</em>: once
+ * full, its statements are handed to the executor, and the next rows are bound
+ * to a second group of statements for the same SQL in the meantime. At most one
+ * execution is in flight at any time, and executions happen in order. A failure
+ * of an execution is reported the next time the batch is added to or executed.
+ * <p>
+ * While a pipelined execution is in flight, the flushing thread keeps using the
+ * same connection to bind the next rows, which may involve creating LOBs, so two
+ * threads use the connection concurrently. Statements are never prepared while an
+ * execution is in flight. The executor thread only executes the statements: the
+ * execution is reported to the {@link JdbcEventHandler} and {@link EventMonitor}
+ * of the session, and its row counts are verified, by the flushing thread. This
+ * does not work with a connection which is bound to the thread which obtained it,
+ * for example by a JTA transaction manager checking the transaction associated
+ * with the current thread.
  *
  * @author Steve Ebersole
+ *
+ * @see org.hibernate.cfg.BatchSettings#PIPELINED_EXECUTION
  */
 public class BatchImpl implements Batch {
 	private final BatchKey key;
 	private final int batchSizeToUse;
-	private final PreparedStatementGroup statementGroup;
+	private PreparedStatementGroup statementGroup;
+
+	private final Executor executor;
+	private final Supplier<PreparedStatementGroup> statementGroupSupplier;
+	private PreparedStatementGroup standbyStatementGroup;
+	private PipelinedExecution pendingExecution;
 
 	private final JdbcCoordinator jdbcCoordinator;
 	private final SqlStatementLogger sqlStatementLogger;
@@ -56,6 +85,24 @@ public BatchImpl(
 			PreparedStatementGroup statementGroup,
 			int batchSizeToUse,
 			JdbcCoordinator jdbcCoordinator) {
+		this( key, statementGroup, null, batchSizeToUse, jdbcCoordinator, null );
+	}
+
+	/**
+	 * Constructs a pipelined batch, whose executions happen using the given
+	 * executor while the next rows are added.
+	 *
+	 * @param statementGroup The statements the first rows are added to
+	 * @param statementGroupSupplier Supplies the statements the next rows are
+	 * added to while the previous rows are executed
+	 */
+	public BatchImpl(
+			BatchKey key,
+			PreparedStatementGroup statementGroup,
+			Supplier<PreparedStatementGroup> statementGroupSupplier,
+			int batchSizeToUse,
+			JdbcCoordinator jdbcCoordinator,
+			Executor executor) {
 		if ( key == null ) {
 			throw new IllegalArgumentException( "Batch key cannot be null" );
 		}
@@ -67,6 +114,8 @@ public BatchImpl(
 		this.key = key;
 		this.jdbcCoordinator = jdbcCoordinator;
 		this.statementGroup = statementGroup;
+		this.statementGroupSupplier = statementGroupSupplier;
+		this.executor = executor;
 
 		final JdbcServices jdbcServices = jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getJdbcServices();
 		this.sqlStatementLogger = jdbcServices.getSqlStatementLogger();
@@ -132,6 +181,10 @@ public void addToBatch(JdbcValueBindings jdbcValueBindings, TableInclusionChecke
 					}
 				}
 				else {
+					if ( statementDetails.getStatement() == null ) {
+						// preparing the statement requires the connection
+						awaitPendingExecution();
+					}
 					//noinspection resource
 					final PreparedStatement statement = statementDetails.resolveStatement();
 					sqlStatementLogger.logStatement( statementDetails.getSqlString() );
@@ -166,7 +219,11 @@ public void addToBatch(JdbcValueBindings jdbcValueBindings, TableInclusionChecke
 	}
 
 	protected void releaseStatements() {
+		discardPendingExecution();
 		statementGroup.release();
+		if ( standbyStatementGroup != null ) {
+			standbyStatementGroup.release();
+		}
 	}
 
 	protected void clearBatch(PreparedStatementDetails statementDetails) {
@@ -221,6 +278,7 @@ public void execute() {
 		notifyObserversExplicitExecution();
 		if ( getStatementGroup().getNumberOfStatements() != 0 ) {
 			try {
+				completePendingExecution();
 				if ( batchPosition == 0 ) {
 					if ( !batchExecuted && BATCH_LOGGER.isDebugEnabled() ) {
 						BATCH_LOGGER.debugf(
@@ -230,7 +288,7 @@ public void execute() {
 					}
 				}
 				else {
-					performExecution();
+					executeStatements();
 				}
 			}
 			finally {
@@ -248,58 +306,139 @@ protected void performExecution() {
 			);
 		}
 
-		final JdbcSessionOwner jdbcSessionOwner = jdbcCoordinator.getJdbcSessionOwner();
-		final JdbcEventHandler eventHandler = jdbcSessionOwner.getJdbcSessionContext().getEventHandler();
+		if ( executor == null ) {
+			executeStatements();
+		}
+		else {
+			submitStatements();
+		}
+	}
+
+	private void executeStatements() {
 		try {
-			getStatementGroup().forEachStatement( (tableName, statementDetails) -> {
-				final String sql = statementDetails.getSqlString();
-				final PreparedStatement statement = statementDetails.getStatement();
-				if ( statement != null ) {
-					try {
-						if ( statementDetails.getMutatingTableDetails().isIdentifierTable() ) {
-							final int[] rowCounts;
-							final EventMonitor eventMonitor = jdbcSessionOwner.getEventMonitor();
-							final DiagnosticEvent executionEvent = eventMonitor.beginJdbcBatchExecutionEvent();
-							try {
-								eventHandler.jdbcExecuteBatchStart();
-								rowCounts = statement.executeBatch();
-							}
-							finally {
-								eventMonitor.completeJdbcBatchExecutionEvent( executionEvent, sql );
-								eventHandler.jdbcExecuteBatchEnd();
-							}
-							checkRowCounts( rowCounts, statementDetails );
-						}
-						else {
-							statement.executeBatch();
-						}
-					}
-					catch (SQLException e) {
-						abortBatch( e );
-						throw sqlExceptionHelper.convert( e, "could not execute batch", sql );
-					}
-					catch (RuntimeException re) {
-						abortBatch( re );
-						throw re;
-					}
-				}
-			} );
+			executeStatements( getStatementGroup(), batchPosition, staleStateMappers );
 			batchExecuted = true;
 		}
+		catch (RuntimeException e) {
+			abortBatch( e );
+			throw e;
+		}
 		finally {
 			jdbcCoordinator.afterStatementExecution();
 			batchPosition = 0;
 		}
 	}
 
-	private void checkRowCounts(int[] rowCounts, PreparedStatementDetails statementDetails)
+	/**
+	 * Hand the statements over to the executor, and switch to the standby
+	 * statements to bind the next rows.
+	 */
+	private void submitStatements() {
+		// keep executions in order, with at most one in flight
+		completePendingExecution();
+
+		final PreparedStatementGroup executedStatementGroup = statementGroup;
+		final int rowCount = batchPosition;
+		final StaleStateMapper[] executedStaleStateMappers = staleStateMappers;
+		statementGroup = standbyStatementGroup == null
+				? statementGroupSupplier.get()
+				: standbyStatementGroup;
+		standbyStatementGroup = executedStatementGroup;
+		staleStateMappers = null;
+		batchPosition = 0;
+
+		pendingExecution = new PipelinedExecution( executedStatementGroup, rowCount, executedStaleStateMappers );
+	}
+
+	private void completePendingExecution() {
+		try {
+			awaitPendingExecution();
+		}
+		catch (RuntimeException e) {
+			abortBatch( e );
+			throw e;
+		}
+	}
+
+	private void awaitPendingExecution() {
+		final PipelinedExecution execution = pendingExecution;
+		if ( execution != null ) {
+			pendingExecution = null;
+			try {
+				execution.complete();
+				batchExecuted = true;
+			}
+			finally {
+				jdbcCoordinator.afterStatementExecution();
+			}
+		}
+	}
+
+	private void discardPendingExecution() {
+		final PipelinedExecution execution = pendingExecution;
+		if ( execution != null ) {
+			pendingExecution = null;
+			try {
+				// the statements cannot be released while still executing
+				execution.complete();
+			}
+			catch (RuntimeException e) {
+				BATCH_LOGGER.debug( "Discarding failure of pipelined batch execution on release", e );
+			}
+			finally {
+				jdbcCoordinator.afterStatementExecution();
+			}
+		}
+	}
+
+	private void executeStatements(
+			PreparedStatementGroup statementGroup,
+			int rowCount,
+			StaleStateMapper[] staleStateMappers) {
+		final JdbcSessionOwner jdbcSessionOwner = jdbcCoordinator.getJdbcSessionOwner();
+		final JdbcEventHandler eventHandler = jdbcSessionOwner.getJdbcSessionContext().getEventHandler();
+		statementGroup.forEachStatement( (tableName, statementDetails) -> {
+			final String sql = statementDetails.getSqlString();
+			final PreparedStatement statement = statementDetails.getStatement();
+			if ( statement != null ) {
+				try {
+					if ( statementDetails.getMutatingTableDetails().isIdentifierTable() ) {
+						final int[] rowCounts;
+						final EventMonitor eventMonitor = jdbcSessionOwner.getEventMonitor();
+						final DiagnosticEvent executionEvent = eventMonitor.beginJdbcBatchExecutionEvent();
+						try {
+							eventHandler.jdbcExecuteBatchStart();
+							rowCounts = statement.executeBatch();
+						}
+						finally {
+							eventMonitor.completeJdbcBatchExecutionEvent( executionEvent, sql );
+							eventHandler.jdbcExecuteBatchEnd();
+						}
+						checkRowCounts( rowCounts, statementDetails, rowCount, staleStateMappers );
+					}
+					else {
+						statement.executeBatch();
+					}
+				}
+				catch (SQLException e) {
+					throw sqlExceptionHelper.convert( e, "could not execute batch", sql );
+				}
+			}
+		} );
+	}
+
+	private void checkRowCounts(
+			int[] rowCounts,
+			PreparedStatementDetails statementDetails,
+			int rowCount,
+			StaleStateMapper[] staleStateMappers)
 			throws SQLException, HibernateException {
 		final int numberOfRowCounts = rowCounts.length;
-		if ( batchPosition != 0 && numberOfRowCounts != batchPosition ) {
+		if ( rowCount != 0 && numberOfRowCounts != rowCount ) {
 			JDBC_MESSAGE_LOGGER.unexpectedRowCounts(
 					statementDetails.getMutatingTableDetails().getTableName(),
 					numberOfRowCounts,
-					batchPosition
+					rowCount
 			);
 		}
 
@@ -316,6 +455,120 @@ private void checkRowCounts(int[] rowCounts, PreparedStatementDetails statementD
 		}
 	}
 
+	/**
+	 * An execution of a group of statements by the executor. Only the JDBC
+	 * statements are used by the executor thread, since the session, including
+	 * its listeners and its event monitor, is not thread-safe: the execution is
+	 * reported, and its outcome verified, by the flushing thread.
+	 */
+	private final class PipelinedExecution {
+		private final int rowCount;
+		private final StaleStateMapper[] staleStateMappers;
+		private final List<PreparedStatementDetails> statements = new ArrayList<>();
+		private final List<DiagnosticEvent> executionEvents = new ArrayList<>();
+		private final CompletableFuture<int[][]> execution;
+
+		// set by the executor thread, and read once the execution is joined
+		private SQLException failure;
+		private String failedSql;
+
+		private PipelinedExecution(
+				PreparedStatementGroup statementGroup,
+				int rowCount,
+				StaleStateMapper[] staleStateMappers) {
+			this.rowCount = rowCount;
+			this.staleStateMappers = staleStateMappers;
+
+			final JdbcSessionOwner jdbcSessionOwner = jdbcCoordinator.getJdbcSessionOwner();
+			final JdbcEventHandler eventHandler = jdbcSessionOwner.getJdbcSessionContext().getEventHandler();
+			final EventMonitor eventMonitor = jdbcSessionOwner.getEventMonitor();
+			statementGroup.forEachStatement( (tableName, statementDetails) -> {
+				if ( statementDetails.getStatement() != null ) {
+					statements.add( statementDetails );
+					if ( statementDetails.getMutatingTableDetails().isIdentifierTable() ) {
+						executionEvents.add( eventMonitor.beginJdbcBatchExecutionEvent() );
+						eventHandler.jdbcExecuteBatchStart();
+					}
+				}
+			} );
+
+			execution = CompletableFuture.supplyAsync( this::executeStatements, executor );
+		}
+
+		/**
+		 * Executes the statements, called by the executor thread.
+		 */
+		private int[][] executeStatements() {
+			final int[][] rowCounts = new int[statements.size()][];
+			for ( int i = 0; i < rowCounts.length; i++ ) {
+				final PreparedStatementDetails statementDetails = statements.get( i );
+				try {
+					rowCounts[i] = statementDetails.getStatement().executeBatch();
+				}
+				catch (SQLException e) {
+					failure = e;
+					failedSql = statementDetails.getSqlString();
+					break;
+				}
+			}
+			return rowCounts;
+		}
+
+		/**
+		 * Waits for the execution to finish, reports it, and verifies its
+		 * outcome, called by the flushing thread.
+		 */
+		private void complete() {
+			final int[][] rowCounts;
+			try {
+				rowCounts = execution.join();
+			}
+			catch (CompletionException e) {
+				if ( e.getCause() instanceof RuntimeException cause ) {
+					throw cause;
+				}
+				else if ( e.getCause() instanceof Error error ) {
+					throw error;
+				}
+				throw e;
+			}
+			finally {
+				reportExecution();
+			}
+
+			if ( failure != null ) {
+				throw sqlExceptionHelper.convert( failure, "could not execute batch", failedSql );
+			}
+			for ( int i = 0; i < rowCounts.length; i++ ) {
+				final PreparedStatementDetails statementDetails = statements.get( i );
+				if ( statementDetails.getMutatingTableDetails().isIdentifierTable() ) {
+					try {
+						checkRowCounts( rowCounts[i], statementDetails, rowCount, staleStateMappers );
+					}
+					catch (SQLException e) {
+						throw sqlExceptionHelper.convert( e, "could not execute batch", statementDetails.getSqlString() );
+					}
+				}
+			}
+		}
+
+		private void reportExecution() {
+			final JdbcSessionOwner jdbcSessionOwner = jdbcCoordinator.getJdbcSessionOwner();
+			final JdbcEventHandler eventHandler = jdbcSessionOwner.getJdbcSessionContext().getEventHandler();
+			final EventMonitor eventMonitor = jdbcSessionOwner.getEventMonitor();
+			int eventIndex = 0;
+			for ( PreparedStatementDetails statementDetails : statements ) {
+				if ( statementDetails.getMutatingTableDetails().isIdentifierTable() ) {
+					eventMonitor.completeJdbcBatchExecutionEvent(
+							executionEvents.get( eventIndex++ ),
+							statementDetails.getSqlString()
+					);
+					eventHandler.jdbcExecuteBatchEnd();
+				}
+			}
+		}
+	}
+
 	@Override
 	public void release() {
 		if ( BATCH_MESSAGE_LOGGER.isInfoEnabled() ) {
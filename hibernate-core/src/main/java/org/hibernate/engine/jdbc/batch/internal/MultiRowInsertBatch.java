@@ -0,0 +1,261 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+
+import org.hibernate.StaleStateException;
+import org.hibernate.engine.jdbc.batch.spi.Batch;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.batch.spi.BatchObserver;
+import org.hibernate.engine.jdbc.mutation.JdbcValueBindings;
+import org.hibernate.engine.jdbc.mutation.TableInclusionChecker;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementDetails;
+import org.hibernate.engine.jdbc.mutation.internal.PreparedStatementGroupMultiRowInsert;
+import org.hibernate.engine.jdbc.mutation.spi.Binding;
+import org.hibernate.engine.jdbc.mutation.spi.BindingGroup;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.jdbc.Expectation;
+import org.hibernate.sql.model.TableMapping;
+
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_LOGGER;
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_MESSAGE_LOGGER;
+
+/**
+ * A {@link Batch} of inserts into a single table, executed as a single
+ * {@code insert ... values (...), (...)} statement instead of a JDBC batch.
+ * <p>
+ * The values of each row are collected when the row is added, and only bound
+ * to the multi-row statement when the batch is executed.
+ *
+ * @see org.hibernate.dialect.Dialect#useMultiRowInsertsForBatching()
+ */
+public class MultiRowInsertBatch implements Batch {
+	private static final Binding[] NO_BINDINGS = new Binding[0];
+
+	private final BatchKey key;
+	private final int batchSizeToUse;
+	private final PreparedStatementGroupMultiRowInsert statementGroup;
+	private final JdbcCoordinator jdbcCoordinator;
+
+	private final LinkedHashSet<BatchObserver> observers = new LinkedHashSet<>();
+
+	private final Binding[][] rows;
+	private int batchPosition;
+	private boolean batchExecuted;
+
+	public MultiRowInsertBatch(
+			BatchKey key,
+			PreparedStatementGroupMultiRowInsert statementGroup,
+			int batchSizeToUse,
+			JdbcCoordinator jdbcCoordinator) {
+		if ( key == null ) {
+			throw new IllegalArgumentException( "Batch key cannot be null" );
+		}
+		if ( jdbcCoordinator == null ) {
+			throw new IllegalArgumentException( "JDBC coordinator cannot be null" );
+		}
+
+		this.key = key;
+		this.statementGroup = statementGroup;
+		this.batchSizeToUse = batchSizeToUse;
+		this.jdbcCoordinator = jdbcCoordinator;
+		this.rows = new Binding[batchSizeToUse][];
+
+		if ( BATCH_LOGGER.isTraceEnabled() ) {
+			BATCH_MESSAGE_LOGGER.createBatch(
+					batchSizeToUse,
+					key.toLoggableString()
+			);
+		}
+	}
+
+	@Override
+	public final BatchKey getKey() {
+		return key;
+	}
+
+	@Override
+	public PreparedStatementGroupMultiRowInsert getStatementGroup() {
+		return statementGroup;
+	}
+
+	@Override
+	public void addObserver(BatchObserver observer) {
+		observers.add( observer );
+	}
+
+	@Override
+	public void addToBatch(
+			JdbcValueBindings jdbcValueBindings,
+			TableInclusionChecker inclusionChecker,
+			StaleStateMapper staleStateMapper) {
+		// an insert cannot result in stale state
+		addToBatch( jdbcValueBindings, inclusionChecker );
+	}
+
+	@Override
+	public void addToBatch(JdbcValueBindings jdbcValueBindings, TableInclusionChecker inclusionChecker) {
+		if ( BATCH_LOGGER.isTraceEnabled() ) {
+			BATCH_MESSAGE_LOGGER.addToBatch(
+					batchPosition + 1,
+					batchSizeToUse,
+					getKey().toLoggableString()
+			);
+		}
+
+		final TableMapping tableDetails = statementGroup.getSingleStatementDetails().getMutatingTableDetails();
+		if ( inclusionChecker == null || inclusionChecker.include( tableDetails ) ) {
+			final BindingGroup bindingGroup = jdbcValueBindings.getBindingGroup( tableDetails.getTableName() );
+			// the bindings are sorted by position
+			rows[batchPosition++] = bindingGroup == null
+					? NO_BINDINGS
+					: bindingGroup.getBindings().toArray( NO_BINDINGS );
+			jdbcValueBindings.afterStatement( tableDetails );
+
+			if ( batchPosition == batchSizeToUse ) {
+				notifyObserversImplicitExecution();
+				performExecution();
+			}
+		}
+	}
+
+	/**
+	 * Convenience method to notify registered observers of an explicit execution of this batch.
+	 */
+	protected final void notifyObserversExplicitExecution() {
+		for ( BatchObserver observer : observers ) {
+			observer.batchExplicitlyExecuted();
+		}
+	}
+
+	/**
+	 * Convenience method to notify registered observers of an implicit execution of this batch.
+	 */
+	protected final void notifyObserversImplicitExecution() {
+		for ( BatchObserver observer : observers ) {
+			observer.batchImplicitlyExecuted();
+		}
+	}
+
+	protected void abortBatch(Exception cause) {
+		try {
+			jdbcCoordinator.abortBatch();
+		}
+		catch (RuntimeException e) {
+			cause.addSuppressed( e );
+		}
+	}
+
+	@Override
+	public void execute() {
+		notifyObserversExplicitExecution();
+		try {
+			if ( batchPosition == 0 ) {
+				if ( !batchExecuted && BATCH_LOGGER.isDebugEnabled() ) {
+					BATCH_LOGGER.debugf(
+							"No batched statements to execute - %s",
+							getKey().toLoggableString()
+					);
+				}
+			}
+			else {
+				performExecution();
+			}
+		}
+		finally {
+			statementGroup.release();
+		}
+	}
+
+	protected void performExecution() {
+		if ( BATCH_LOGGER.isTraceEnabled() ) {
+			BATCH_MESSAGE_LOGGER.executeBatch(
+					batchPosition,
+					batchSizeToUse,
+					getKey().toLoggableString()
+			);
+		}
+
+		final PreparedStatementDetails statementDetails =
+				statementGroup.resolveMultiRowStatementDetails( batchPosition );
+		final String sql = statementDetails.getSqlString();
+		try {
+			final PreparedStatement statement = statementDetails.resolveStatement();
+			bindRows( statement );
+			final int rowCount = jdbcCoordinator.getResultSetReturn().executeUpdate( statement, sql );
+			checkRowCount( rowCount, statementDetails.getExpectation(), sql );
+			batchExecuted = true;
+		}
+		catch (RuntimeException e) {
+			abortBatch( e );
+			throw e;
+		}
+		finally {
+			jdbcCoordinator.afterStatementExecution();
+			Arrays.fill( rows, 0, batchPosition, null );
+			batchPosition = 0;
+		}
+	}
+
+	private void bindRows(PreparedStatement statement) {
+		final SharedSessionContractImplementor session = statementGroup.getSession();
+		final int numberOfParametersPerRow = statementGroup.getNumberOfParametersPerRow();
+		for ( int i = 0; i < batchPosition; i++ ) {
+			final int offset = i * numberOfParametersPerRow;
+			for ( Binding binding : rows[i] ) {
+				try {
+					binding.getValueBinder().bind(
+							statement,
+							binding.getValue(),
+							offset + binding.getPosition(),
+							session
+					);
+				}
+				catch (SQLException e) {
+					throw session.getJdbcServices().getSqlExceptionHelper().convert(
+							e,
+							String.format(
+									Locale.ROOT,
+									"Unable to bind parameter #%s - %s",
+									offset + binding.getPosition(),
+									binding.getValue()
+							)
+					);
+				}
+			}
+		}
+	}
+
+	private void checkRowCount(int rowCount, Expectation expectation, String sql) {
+		if ( expectation instanceof Expectation.RowCount && rowCount != batchPosition ) {
+			throw new StaleStateException(
+					"Multi-row insert returned unexpected row count (expected row count " + batchPosition
+							+ " but was " + rowCount + ") [" + sql + "]"
+			);
+		}
+	}
+
+	@Override
+	public void release() {
+		if ( batchPosition != 0 ) {
+			BATCH_MESSAGE_LOGGER.batchContainedStatementsOnRelease();
+			Arrays.fill( rows, 0, batchPosition, null );
+			batchPosition = 0;
+		}
+		statementGroup.release();
+		observers.clear();
+	}
+
+	@Override
+	public String toString() {
+		return "MultiRowInsertBatch(" + getKey().toLoggableString() + ")";
+	}
+}
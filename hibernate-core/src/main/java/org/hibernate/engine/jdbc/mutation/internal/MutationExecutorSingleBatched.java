@@ -10,12 +10,14 @@
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.sql.model.PreparableMutationOperation;
 import org.hibernate.sql.model.ValuesAnalysis;
+import org.hibernate.sql.model.jdbc.JdbcInsertMutation;
 
 /**
  * @author Steve Ebersole
  */
 public class MutationExecutorSingleBatched extends AbstractSingleMutationExecutor {
 	private final int batchSize;
+	private final boolean multiRowInsert;
 	private final SharedSessionContractImplementor session;
 
 	private final BatchKey batchKey;
@@ -25,9 +27,23 @@ public MutationExecutorSingleBatched(
 			BatchKey batchKey,
 			int batchSize,
 			SharedSessionContractImplementor session) {
+		this( mutationOperation, batchKey, batchSize, false, session );
+	}
+
+	/**
+	 * @param multiRowInsert Whether the mutation is an insert whose batches are
+	 * executed as a single multi-row insert
+	 */
+	public MutationExecutorSingleBatched(
+			PreparableMutationOperation mutationOperation,
+			BatchKey batchKey,
+			int batchSize,
+			boolean multiRowInsert,
+			SharedSessionContractImplementor session) {
 		super( mutationOperation, session );
 
 		this.batchSize = batchSize;
+		this.multiRowInsert = multiRowInsert;
 		this.session = session;
 
 		this.batchKey = batchKey;
@@ -45,7 +61,9 @@ private Batch resolveBatch() {
 			batch = session.getJdbcCoordinator().getBatch(
 					batchKey,
 					batchSize,
-					() -> new PreparedStatementGroupSingleTable( getMutationOperation(), session )
+					() -> multiRowInsert
+							? new PreparedStatementGroupMultiRowInsert( (JdbcInsertMutation) getMutationOperation(), session )
+							: new PreparedStatementGroupSingleTable( getMutationOperation(), session )
 			);
 			assert batch != null;
 		}
@@ -0,0 +1,87 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.jdbc.mutation.internal;
+
+import java.sql.PreparedStatement;
+
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementDetails;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.sql.model.jdbc.JdbcInsertMutation;
+
+/**
+ * A {@link PreparedStatementGroupSingleTable} for a batched insert whose rows
+ * are all inserted by a single {@code insert ... values (...), (...)} statement.
+ *
+ * @see org.hibernate.engine.jdbc.batch.internal.MultiRowInsertBatch
+ * @see org.hibernate.dialect.Dialect#useMultiRowInsertsForBatching()
+ */
+public class PreparedStatementGroupMultiRowInsert extends PreparedStatementGroupSingleTable {
+	private final JdbcInsertMutation jdbcMutation;
+	private final SharedSessionContractImplementor session;
+
+	private PreparedStatementDetails multiRowStatementDetails;
+	private int numberOfRows;
+
+	public PreparedStatementGroupMultiRowInsert(
+			JdbcInsertMutation jdbcMutation,
+			SharedSessionContractImplementor session) {
+		super( jdbcMutation, session );
+		assert jdbcMutation.supportsMultiRow();
+		this.jdbcMutation = jdbcMutation;
+		this.session = session;
+	}
+
+	public SharedSessionContractImplementor getSession() {
+		return session;
+	}
+
+	/**
+	 * The number of parameters of each row of the multi-row statement.
+	 */
+	public int getNumberOfParametersPerRow() {
+		return jdbcMutation.getParameterBinders().size();
+	}
+
+	/**
+	 * The statement inserting the given number of rows. The statement is
+	 * retained, and reused as long as the same number of rows is requested.
+	 */
+	public PreparedStatementDetails resolveMultiRowStatementDetails(int numberOfRows) {
+		if ( multiRowStatementDetails == null || this.numberOfRows != numberOfRows ) {
+			releaseMultiRowStatement();
+			final String sql = jdbcMutation.getMultiRowSqlString( numberOfRows );
+			assert sql != null;
+			multiRowStatementDetails = new PreparedStatementDetailsStandard(
+					jdbcMutation,
+					sql,
+					() -> {
+						final JdbcCoordinator jdbcCoordinator = session.getJdbcCoordinator();
+						final PreparedStatement statement =
+								jdbcCoordinator.getMutationStatementPreparer().prepareStatement( sql, false );
+						jdbcCoordinator.getLogicalConnection().getResourceRegistry().register( null, statement );
+						return statement;
+					},
+					jdbcMutation.getExpectation(),
+					session.getJdbcServices()
+			);
+			this.numberOfRows = numberOfRows;
+		}
+		return multiRowStatementDetails;
+	}
+
+	private void releaseMultiRowStatement() {
+		if ( multiRowStatementDetails != null ) {
+			release( multiRowStatementDetails );
+			multiRowStatementDetails = null;
+		}
+	}
+
+	@Override
+	public void release() {
+		super.release();
+		releaseMultiRowStatement();
+	}
+}
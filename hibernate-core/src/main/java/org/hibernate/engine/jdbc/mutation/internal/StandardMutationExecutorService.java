@@ -6,17 +6,21 @@
 
 import java.util.Map;
 
+import org.hibernate.cfg.BatchSettings;
 import org.hibernate.cfg.Environment;
+import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.jdbc.batch.spi.BatchKey;
 import org.hibernate.engine.jdbc.mutation.MutationExecutor;
 import org.hibernate.engine.jdbc.mutation.spi.BatchKeyAccess;
 import org.hibernate.engine.jdbc.mutation.spi.MutationExecutorService;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.jdbc.Expectation;
 import org.hibernate.sql.model.MutationOperation;
 import org.hibernate.sql.model.MutationOperationGroup;
 import org.hibernate.sql.model.PreparableMutationOperation;
 import org.hibernate.sql.model.SelfExecutingUpdateOperation;
+import org.hibernate.sql.model.jdbc.JdbcInsertMutation;
 
 /**
  * Standard {@link MutationExecutorService} implementation
@@ -27,13 +31,27 @@
  */
 public class StandardMutationExecutorService implements MutationExecutorService {
 	private final int globalBatchSize;
+	private final Boolean multiRowInserts;
 
 	public StandardMutationExecutorService(Map<String, Object> configurationValues) {
-		this( ConfigurationHelper.getInt( Environment.STATEMENT_BATCH_SIZE, configurationValues, 1 ) );
+		this(
+				ConfigurationHelper.getInt( Environment.STATEMENT_BATCH_SIZE, configurationValues, 1 ),
+				ConfigurationHelper.getBooleanWrapper( BatchSettings.MULTI_ROW_INSERTS, configurationValues, null )
+		);
 	}
 
 	public StandardMutationExecutorService(int globalBatchSize) {
+		this( globalBatchSize, null );
+	}
+
+	/**
+	 * @param multiRowInserts Whether batched inserts are executed as multi-row inserts,
+	 * or {@code null} if the {@linkplain Dialect#useMultiRowInsertsForBatching dialect}
+	 * decides
+	 */
+	public StandardMutationExecutorService(int globalBatchSize, Boolean multiRowInserts) {
 		this.globalBatchSize = globalBatchSize;
+		this.multiRowInserts = multiRowInserts;
 	}
 
 	@Override
@@ -58,7 +76,13 @@ public MutationExecutor createExecutor(
 			final PreparableMutationOperation jdbcOperation = (PreparableMutationOperation) singleOperation;
 			final BatchKey batchKey = batchKeySupplier.getBatchKey();
 			if ( jdbcOperation.canBeBatched( batchKey, batchSizeToUse ) ) {
-				return new MutationExecutorSingleBatched( jdbcOperation, batchKey, batchSizeToUse, session );
+				return new MutationExecutorSingleBatched(
+						jdbcOperation,
+						batchKey,
+						batchSizeToUse,
+						useMultiRowInsert( jdbcOperation, batchSizeToUse, session ),
+						session
+				);
 			}
 
 			return new MutationExecutorSingleNonBatched(
@@ -72,4 +96,26 @@ public MutationExecutor createExecutor(
 
 		return new MutationExecutorStandard( operationGroup, batchKeySupplier, batchSizeToUse, session );
 	}
+
+	private boolean useMultiRowInsert(
+			PreparableMutationOperation jdbcOperation,
+			int batchSize,
+			SharedSessionContractImplementor session) {
+		if ( jdbcOperation instanceof JdbcInsertMutation insertMutation && insertMutation.supportsMultiRow() ) {
+			final Dialect dialect = session.getJdbcServices().getDialect();
+			final boolean enabled = multiRowInserts == null
+					? dialect.useMultiRowInsertsForBatching()
+					: multiRowInserts;
+			if ( enabled && dialect.supportsValuesListForInsert() ) {
+				// the row count is checked for the statement as a whole
+				final Class<?> expectationClass = insertMutation.getExpectation().getClass();
+				if ( expectationClass == Expectation.RowCount.class || expectationClass == Expectation.None.class ) {
+					final int parameterCountLimit = dialect.getParameterCountLimit();
+					return parameterCountLimit <= 0
+						|| insertMutation.getParameterBinders().size() * batchSize <= parameterCountLimit;
+				}
+			}
+		}
+		return false;
+	}
 }
@@ -126,4 +126,10 @@ public SessionBuilder flushMode(FlushMode flushMode) {
 		delegate.flushMode( flushMode );
 		return this;
 	}
+
+	@Override
+	public SessionBuilder readOnly(boolean readOnly) {
+		delegate.readOnly( readOnly );
+		return this;
+	}
 }
@@ -157,6 +157,12 @@ public SharedSessionBuilder flushMode(FlushMode flushMode) {
 		return this;
 	}
 
+	@Override
+	public SharedSessionBuilder readOnly(boolean readOnly) {
+		delegate.readOnly( readOnly );
+		return this;
+	}
+
 	@Override
 	public SharedSessionBuilder flushMode() {
 		delegate.flushMode();
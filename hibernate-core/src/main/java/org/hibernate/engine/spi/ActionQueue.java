@@ -40,6 +40,7 @@
 import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
 import org.hibernate.action.spi.Executable;
 import org.hibernate.cache.CacheException;
+import org.hibernate.cache.spi.TimestampsCache;
 import org.hibernate.engine.internal.NonNullableTransientDependencies;
 import org.hibernate.event.spi.EventSource;
 import org.hibernate.internal.CoreLogging;
@@ -423,7 +424,10 @@ private void registerCleanupActions(Executable executable) {
 			beforeTransactionProcesses.register( executable.getBeforeTransactionCompletionProcess() );
 		}
 		if ( session.getFactory().getSessionFactoryOptions().isQueryCacheEnabled() ) {
-			invalidateSpaces( executable.getPropertySpaces() );
+			invalidateSpaces(
+					executable.getPropertySpaces(),
+					executable instanceof BulkOperationCleanupAction action && action.affectsAllTenants()
+			);
 		}
 		if ( executable.getAfterTransactionCompletionProcess() != null ) {
 			if ( afterTransactionProcesses == null ) {
@@ -661,7 +665,7 @@ private <E extends ComparableExecutable> void executeActions(@Nullable Executabl
 				// Strictly speaking, only a subset of the list may have been processed if a RuntimeException occurs.
 				// We still invalidate all spaces. I don't see this as a big deal - after all, RuntimeExceptions are
 				// unexpected.
-				invalidateSpaces( list.getQuerySpaces().toArray(new String[0]) );
+				invalidateSpaces( list.getQuerySpaces().toArray(new String[0]), false );
 			}
 			// @NonNull String @Nullable [] - array nullable, elements not
 			// @Nullable String @NonNull [] - elements nullable, array not
@@ -687,17 +691,24 @@ public <E extends Executable & Comparable<?>> void execute(E executable) {
 	 * This method is now called once per execution of an ExecutableList or once for execution of an Execution.
 	 *
 	 * @param spaces The spaces to invalidate
+	 * @param allTenants Whether to invalidate the spaces for every tenant
 	 */
-	private void invalidateSpaces(String @Nullable [] spaces) {
+	private void invalidateSpaces(String @Nullable [] spaces, boolean allTenants) {
 		if ( spaces != null && spaces.length > 0 ) {
 			for ( String space : spaces ) {
 				if ( afterTransactionProcesses == null ) {
 					afterTransactionProcesses = new AfterTransactionCompletionProcessQueue( session );
 				}
-				afterTransactionProcesses.addSpaceToInvalidate( space );
+				afterTransactionProcesses.addSpaceToInvalidate( space, allTenants );
 			}
 			// Performance win: If we are processing an ExecutableList, this will only be called once
-			session.getFactory().getCache().getTimestampsCache().preInvalidate( spaces, session );
+			final TimestampsCache timestampsCache = session.getFactory().getCache().getTimestampsCache();
+			if ( allTenants ) {
+				timestampsCache.preInvalidateAllTenants( spaces, session );
+			}
+			else {
+				timestampsCache.preInvalidate( spaces, session );
+			}
 		}
 	}
 
@@ -1039,13 +1050,14 @@ public void beforeTransactionCompletion() {
 	private static class AfterTransactionCompletionProcessQueue
 			extends AbstractTransactionCompletionProcessQueue<AfterTransactionCompletionProcess> {
 		private final Set<String> querySpacesToInvalidate = new HashSet<>();
+		private final Set<String> querySpacesToInvalidateForAllTenants = new HashSet<>();
 
 		private AfterTransactionCompletionProcessQueue(SessionImplementor session) {
 			super( session );
 		}
 
-		public void addSpaceToInvalidate(String space) {
-			querySpacesToInvalidate.add( space );
+		public void addSpaceToInvalidate(String space, boolean allTenants) {
+			( allTenants ? querySpacesToInvalidateForAllTenants : querySpacesToInvalidate ).add( space );
 		}
 
 		public void afterTransactionCompletion(boolean success) {
@@ -1064,12 +1076,20 @@ public void afterTransactionCompletion(boolean success) {
 			}
 
 			if ( session.getFactory().getSessionFactoryOptions().isQueryCacheEnabled() ) {
-				session.getFactory().getCache().getTimestampsCache().invalidate(
+				final TimestampsCache timestampsCache = session.getFactory().getCache().getTimestampsCache();
+				timestampsCache.invalidate(
 						querySpacesToInvalidate.toArray(new String[0]),
 						session
 				);
+				if ( !querySpacesToInvalidateForAllTenants.isEmpty() ) {
+					timestampsCache.invalidateAllTenants(
+							querySpacesToInvalidateForAllTenants.toArray(new String[0]),
+							session
+					);
+				}
 			}
 			querySpacesToInvalidate.clear();
+			querySpacesToInvalidateForAllTenants.clear();
 		}
 	}
 
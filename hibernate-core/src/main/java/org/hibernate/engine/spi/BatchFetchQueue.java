@@ -4,10 +4,16 @@
  */
 package org.hibernate.engine.spi;
 
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
+import java.util.function.Function;
 
 import org.hibernate.cache.spi.access.CollectionDataAccess;
 import org.hibernate.cache.spi.access.EntityDataAccess;
@@ -28,6 +34,8 @@
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import static java.util.Collections.newSetFromMap;
+
 /**
  * Keeps track of:<ul>
  *     <li>entity and collection keys that are available for batch fetching</li>
@@ -213,6 +221,8 @@ public <T> void collectBatchLoadableEntityIds(
 		}
 
 		final EntityIdentifierMapping identifierMapping = entityDescriptor.getIdentifierMapping();
+		final @Nullable CachedKeys<EntityKey> cachedKeys =
+				cachedEntityKeys( set, entityDescriptor.getEntityPersister(), domainBatchSize );
 
 		int batchPosition = 1;
 		int end = -1;
@@ -228,7 +238,7 @@ public <T> void collectBatchLoadableEntityIds(
 				end = batchPosition;
 			}
 			else {
-				if ( !isCached( key, entityDescriptor.getEntityPersister() ) ) {
+				if ( !isCached( cachedKeys, key ) ) {
 					//noinspection unchecked
 					collector.accept( batchPosition++, (T) key.getIdentifier() );
 				}
@@ -273,6 +283,7 @@ public <T> void collectBatchLoadableEntityIds(
 		final EntityPersister entityPersister = entityDescriptor.getEntityPersister();
 		final Type identifierType = entityPersister.getIdentifierType();
 		if ( set != null ) {
+			final @Nullable CachedKeys<EntityKey> cachedKeys = cachedEntityKeys( set, entityPersister, maxBatchSize );
 			for ( EntityKey key : set ) {
 				if ( checkForEnd && i == end ) {
 					// the first id found after the given id
@@ -283,7 +294,7 @@ public <T> void collectBatchLoadableEntityIds(
 					end = i;
 				}
 				else {
-					if ( !isCached( key, entityPersister ) ) {
+					if ( !isCached( cachedKeys, key ) ) {
 						ids[i++] = key.getIdentifier();
 					}
 				}
@@ -301,19 +312,26 @@ public <T> void collectBatchLoadableEntityIds(
 		return ids;
 	}
 
-	private boolean isCached(EntityKey entityKey, EntityPersister persister) {
+	private @Nullable CachedKeys<EntityKey> cachedEntityKeys(
+			LinkedHashSet<EntityKey> entityKeys,
+			EntityPersister persister,
+			int batchSize) {
 		final SharedSessionContractImplementor session = context.getSession();
-		if ( context.getSession().getCacheMode().isGetEnabled() && persister.canReadFromCache() ) {
+		if ( session.getCacheMode().isGetEnabled() && persister.canReadFromCache() ) {
 			final EntityDataAccess cache = persister.getCacheAccessStrategy();
-			final Object key = cache.generateCacheKey(
-					entityKey.getIdentifier(),
-					persister,
-					session.getFactory(),
-					session.getTenantIdentifier()
+			return new CachedKeys<>(
+					entityKeys.iterator(),
+					batchSize,
+					entityKey -> cache.generateCacheKey(
+							entityKey.getIdentifier(),
+							persister,
+							session.getFactory(),
+							session.getTenantIdentifier()
+					),
+					cacheKeys -> CacheHelper.getAllFromSharedCache( session, cacheKeys, persister, cache )
 			);
-			return CacheHelper.fromSharedCache( session, key, persister, cache ) != null;
 		}
-		return false;
+		return null;
 	}
 
 
@@ -382,6 +400,9 @@ public <T> void collectBatchLoadableCollectionKeys(
 			return;
 		}
 
+		final @Nullable CachedKeys<Object> cachedKeys =
+				cachedCollectionKeys( map, pluralAttributeMapping.getCollectionDescriptor(), batchSize );
+
 		int i = 1;
 		int end = -1;
 		boolean checkForEnd = false;
@@ -425,7 +446,7 @@ public <T> void collectBatchLoadableCollectionKeys(
 			if ( isEqual ) {
 				end = i;
 			}
-			else if ( !isCached( loadedKey, pluralAttributeMapping.getCollectionDescriptor() ) ) {
+			else if ( !isCached( cachedKeys, loadedKey ) ) {
 				//noinspection unchecked
 				collector.accept( i++, (T) loadedKey );
 			}
@@ -469,6 +490,7 @@ else if ( !isCached( loadedKey, pluralAttributeMapping.getCollectionDescriptor()
 		final LinkedHashMap<CollectionEntry, PersistentCollection<?>> map =
 				batchLoadableCollections.get( collectionPersister.getRole() );
 		if ( map != null ) {
+			final @Nullable CachedKeys<Object> cachedKeys = cachedCollectionKeys( map, collectionPersister, batchSize );
 			for ( Entry<CollectionEntry, PersistentCollection<?>> me : map.entrySet() ) {
 				final CollectionEntry ce = me.getKey();
 				final Object loadedKey = ce.getLoadedKey();
@@ -503,7 +525,7 @@ else if ( !isCached( loadedKey, pluralAttributeMapping.getCollectionDescriptor()
 					end = i;
 					//checkForEnd = false;
 				}
-				else if ( !isCached( loadedKey, collectionPersister ) ) {
+				else if ( !isCached( cachedKeys, loadedKey ) ) {
 					keys[i++] = loadedKey;
 					//count++;
 				}
@@ -519,19 +541,86 @@ else if ( !isCached( loadedKey, collectionPersister ) ) {
 		return keys; //we ran out of keys to try
 	}
 
-	private boolean isCached(Object collectionKey, CollectionPersister persister) {
-		SharedSessionContractImplementor session = context.getSession();
+	private @Nullable CachedKeys<Object> cachedCollectionKeys(
+			LinkedHashMap<CollectionEntry, PersistentCollection<?>> collections,
+			CollectionPersister persister,
+			int batchSize) {
+		final SharedSessionContractImplementor session = context.getSession();
 		if ( session.getCacheMode().isGetEnabled() && persister.hasCache() ) {
-			CollectionDataAccess cache = persister.getCacheAccessStrategy();
-			Object cacheKey = cache.generateCacheKey(
-					collectionKey,
-					persister,
-					session.getFactory(),
-					session.getTenantIdentifier()
+			final CollectionDataAccess cache = persister.getCacheAccessStrategy();
+			return new CachedKeys<>(
+					collections.keySet().stream().map( CollectionEntry::getLoadedKey ).iterator(),
+					batchSize,
+					collectionKey -> cache.generateCacheKey(
+							collectionKey,
+							persister,
+							session.getFactory(),
+							session.getTenantIdentifier()
+					),
+					cacheKeys -> CacheHelper.getAllFromSharedCache( session, cacheKeys, persister, cache )
 			);
-			return CacheHelper.fromSharedCache( session, cacheKey, persister, cache ) != null;
 		}
-		return false;
+		return null;
+	}
+
+	private static <K> boolean isCached(@Nullable CachedKeys<K> cachedKeys, K key) {
+		return cachedKeys != null && cachedKeys.isCached( key );
+	}
+
+	/**
+	 * Determines which of the batch loadable keys are present in the second-level
+	 * cache, reading ahead of the iteration over the keys a batch at a time, so
+	 * that each batch takes a single bulk read from the cache, instead of a read
+	 * per key. The lookahead iterates the same keys in the same order, so the key
+	 * instances are compared by identity.
+	 */
+	private static final class CachedKeys<K> {
+		private final Iterator<K> lookahead;
+		private final int batchSize;
+		private final Function<K, Object> cacheKeyGenerator;
+		private final Function<List<Object>, Map<Object, Object>> bulkRead;
+		private final Set<K> read = newSetFromMap( new IdentityHashMap<>() );
+		private final Set<K> cached = newSetFromMap( new IdentityHashMap<>() );
+
+		private CachedKeys(
+				Iterator<K> lookahead,
+				int batchSize,
+				Function<K, Object> cacheKeyGenerator,
+				Function<List<Object>, Map<Object, Object>> bulkRead) {
+			this.lookahead = lookahead;
+			this.batchSize = batchSize;
+			this.cacheKeyGenerator = cacheKeyGenerator;
+			this.bulkRead = bulkRead;
+		}
+
+		boolean isCached(K key) {
+			while ( !read.contains( key ) && lookahead.hasNext() ) {
+				readAhead();
+			}
+			return cached.contains( key );
+		}
+
+		private void readAhead() {
+			final List<K> keys = new ArrayList<>( batchSize );
+			final List<Object> cacheKeys = new ArrayList<>( batchSize );
+			while ( keys.size() < batchSize && lookahead.hasNext() ) {
+				final K key = lookahead.next();
+				if ( key != null ) {
+					keys.add( key );
+					cacheKeys.add( cacheKeyGenerator.apply( key ) );
+				}
+			}
+			if ( !keys.isEmpty() ) {
+				final Map<Object, Object> cachedValues = bulkRead.apply( cacheKeys );
+				for ( int i = 0; i < keys.size(); i++ ) {
+					final K key = keys.get( i );
+					read.add( key );
+					if ( cachedValues.containsKey( cacheKeys.get( i ) ) ) {
+						cached.add( key );
+					}
+				}
+			}
+		}
 	}
 
 	public SharedSessionContractImplementor getSession() {
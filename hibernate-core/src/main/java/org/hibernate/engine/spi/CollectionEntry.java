@@ -200,7 +200,8 @@ public void preFlush(PersistentCollection<?> collection) throws HibernateExcepti
 	public void postInitialize(PersistentCollection<?> collection, SharedSessionContractImplementor session)
 			throws HibernateException {
 		final CollectionPersister loadedPersister = getLoadedPersister();
-		snapshot = loadedPersister != null && loadedPersister.isMutable()
+		// a read-only session is never flushed, and so never needs a snapshot
+		snapshot = loadedPersister != null && loadedPersister.isMutable() && !session.isReadOnlySession()
 				? collection.getSnapshot( loadedPersister )
 				: null;
 		collection.setSnapshot( loadedKey, role, snapshot );
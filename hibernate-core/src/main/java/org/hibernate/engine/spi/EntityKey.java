@@ -32,8 +32,10 @@
 public final class EntityKey implements Serializable {
 
 	private final Object identifier;
-	private final int hashCode;
 	private final EntityPersister persister;
+	// computed lazily, since keys looked up in a map indexed by
+	// the identifier itself are never asked for their hash code
+	private int hashCode;
 
 	/**
 	 * Construct a unique identifier for an entity class instance.
@@ -51,7 +53,6 @@ public EntityKey(@Nullable Object id, EntityPersister persister) {
 			throw new AssertionFailure( "null identifier (" + persister.getEntityName() + ")" );
 		}
 		this.identifier = id;
-		this.hashCode = generateHashCode();
 	}
 
 	private int generateHashCode() {
@@ -112,7 +113,11 @@ private boolean samePersistentType(final EntityKey otherKey) {
 
 	@Override
 	public int hashCode() {
-		return hashCode;
+		int result = hashCode;
+		if ( result == 0 ) {
+			hashCode = result = generateHashCode();
+		}
+		return result;
 	}
 
 	@Override
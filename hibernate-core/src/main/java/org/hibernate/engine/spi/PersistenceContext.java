@@ -117,6 +117,41 @@ default boolean hasLoadContext() {
 	 */
 	void afterTransactionCompletion();
 
+	/**
+	 * Was the given managed entity added to this persistence context since the last
+	 * flush, other than by being loaded from the database? Always {@code true} unless
+	 * {@linkplain org.hibernate.cfg.PersistenceSettings#INCREMENTAL_FLUSH incremental
+	 * flush} is enabled.
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default boolean isTouchedSinceLastFlush(Object entity) {
+		return true;
+	}
+
+	/**
+	 * Was some entity removed since the last flush? Always {@code true} unless
+	 * {@linkplain org.hibernate.cfg.PersistenceSettings#INCREMENTAL_FLUSH incremental
+	 * flush} is enabled.
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default boolean hasRemovalsSinceLastFlush() {
+		return true;
+	}
+
+	/**
+	 * Called once a flush has been executed, to forget the entities
+	 * {@linkplain #isTouchedSinceLastFlush touched} before it.
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default void clearTouchedEntities() {
+	}
+
 	/**
 	 * Get the current state of the entity as known to the underlying database, or null if there is no
 	 * corresponding row
@@ -171,6 +206,24 @@ default boolean hasLoadContext() {
 	 */
 	Object getEntity(EntityKey key);
 
+	/**
+	 * Get the entity instance with the given identifier and persister, without
+	 * requiring the caller to build an {@link EntityKey}.
+	 *
+	 * @param id The identifier of the entity
+	 * @param persister The persister for the entity
+	 *
+	 * @return The matching entity, or {@code null}
+	 *
+	 * @see #getEntity(EntityKey)
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default Object getEntity(Object id, EntityPersister persister) {
+		return getEntity( getSession().generateEntityKey( id, persister ) );
+	}
+
 	/**
 	 * Is there an entity with the given key in the persistence context
 	 *
@@ -532,6 +585,31 @@ EntityHolder claimEntityHolderIfPossible(
 
 	@Nullable EntityHolder getEntityHolder(EntityKey key);
 
+	/**
+	 * Obtain an {@link EntityKey} for the given identifier and persister. If an
+	 * entity holder with the given identifier and persister is already registered,
+	 * its key may be returned instead of building a new one.
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default EntityKey getEntityKey(Object id, EntityPersister persister) {
+		return getSession().generateEntityKey( id, persister );
+	}
+
+	/**
+	 * Get the {@link EntityHolder} for the given identifier and persister,
+	 * without requiring the caller to build an {@link EntityKey}.
+	 *
+	 * @see #getEntityHolder(EntityKey)
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default @Nullable EntityHolder getEntityHolder(Object id, EntityPersister persister) {
+		return getEntityHolder( getSession().generateEntityKey( id, persister ) );
+	}
+
 	boolean containsEntityHolder(EntityKey key);
 
 	@Nullable EntityHolder removeEntityHolder(EntityKey key);
@@ -12,7 +12,10 @@
 
 import org.hibernate.FlushMode;
 import org.hibernate.HibernateException;
+import org.hibernate.Incubating;
 import org.hibernate.Interceptor;
+import org.hibernate.LockMode;
+import org.hibernate.LockOptions;
 import org.hibernate.StatelessSession;
 import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.dialect.Dialect;
@@ -371,6 +374,59 @@ default String bestGuessEntityName(Object object, EntityEntry entry) {
 	 */
 	boolean isDefaultReadOnly();
 
+	/**
+	 * Is this a {@linkplain org.hibernate.SessionBuilder#readOnly read-only session},
+	 * which keeps no snapshot of the state of its entities and collections, and is
+	 * never flushed?
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default boolean isReadOnlySession() {
+		return false;
+	}
+
+	/**
+	 * Check that this is not a {@linkplain #isReadOnlySession read-only session},
+	 * before an operation which makes changes to the database.
+	 *
+	 * @throws IllegalStateException if this is a read-only session
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default void checkNotReadOnlySession() {
+		if ( isReadOnlySession() ) {
+			throw new IllegalStateException( "Session is read-only" );
+		}
+	}
+
+	/**
+	 * Check that the given lock options do not increment the version of the
+	 * locked entities if this is a {@linkplain #isReadOnlySession read-only session}.
+	 *
+	 * @throws IllegalStateException if this is a read-only session and a lock mode
+	 *         {@linkplain LockMode#PESSIMISTIC_FORCE_INCREMENT forces a version increment}
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default void checkNotReadOnlySession(LockOptions lockOptions) {
+		if ( isReadOnlySession() ) {
+			checkNotForceIncrement( lockOptions.getLockMode() );
+			for ( var aliasSpecificLock : lockOptions.getAliasSpecificLocks() ) {
+				checkNotForceIncrement( aliasSpecificLock.getValue() );
+			}
+		}
+	}
+
+	private static void checkNotForceIncrement(LockMode lockMode) {
+		if ( lockMode == LockMode.OPTIMISTIC_FORCE_INCREMENT
+				|| lockMode == LockMode.PESSIMISTIC_FORCE_INCREMENT ) {
+			throw new IllegalStateException( "Session is read-only and may not lock with " + lockMode );
+		}
+	}
+
 	void setCriteriaCopyTreeEnabled(boolean jpaCriteriaCopyComplianceEnabled);
 
 	boolean isCriteriaCopyTreeEnabled();
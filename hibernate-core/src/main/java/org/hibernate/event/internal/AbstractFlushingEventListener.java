@@ -40,6 +40,7 @@
 import org.jboss.logging.Logger;
 
 import static org.hibernate.engine.internal.Collections.skipRemoval;
+import static org.hibernate.engine.internal.ManagedTypeHelper.isSelfDirtinessTracker;
 
 /**
  * A convenience base class for listeners whose functionality results in flushing.
@@ -129,11 +130,13 @@ protected void logFlushResults(FlushEvent event) {
 	private void prepareEntityFlushes(EventSource session, PersistenceContext persistenceContext) throws HibernateException {
 		LOG.debug( "Processing flush-time cascades" );
 		final PersistContext context = PersistContext.create();
+		final boolean skipUntouched = skipUntouchedCascades( session, persistenceContext );
 		// safe from concurrent modification because of how concurrentEntries() is implemented on IdentityMap
 		for ( Map.Entry<Object,EntityEntry> me : persistenceContext.reentrantSafeEntityEntries() ) {
 //		for ( Map.Entry me : IdentityMap.concurrentEntries( persistenceContext.getEntityEntries() ) ) {
 			final EntityEntry entry = me.getValue();
-			if ( flushable( entry ) ) {
+			if ( flushable( entry )
+					&& !( skipUntouched && isUntouched( me.getKey(), entry, persistenceContext ) ) ) {
 				cascadeOnFlush( session, entry.getPersister(), me.getKey(), context );
 			}
 		}
@@ -145,9 +148,11 @@ void checkForTransientReferences(EventSource session, PersistenceContext persist
 		// processed, so that all entities which will be persisted are
 		// persistent when we do the check (I wonder if we could move this
 		// into Nullability, instead of abusing the Cascade infrastructure)
+		final boolean skipUntouched = skipUntouchedCascades( session, persistenceContext );
 		for ( Map.Entry<Object, EntityEntry> me : persistenceContext.reentrantSafeEntityEntries() ) {
 			final EntityEntry entry = me.getValue();
-			if ( flushable( entry ) ) {
+			if ( flushable( entry )
+					&& !( skipUntouched && isUntouched( me.getKey(), entry, persistenceContext ) ) ) {
 				Cascade.cascade(
 						CascadingActions.CHECK_ON_FLUSH,
 						CascadePoint.BEFORE_FLUSH,
@@ -160,6 +165,34 @@ void checkForTransientReferences(EventSource session, PersistenceContext persist
 		}
 	}
 
+	/**
+	 * Is the given entity one which a flush need not visit when
+	 * {@linkplain org.hibernate.cfg.PersistenceSettings#INCREMENTAL_FLUSH
+	 * incremental flush} is enabled? That is, a managed entity which tracks
+	 * its own dirtiness, is not dirty, and was not touched since the last flush.
+	 * The dirtiness tracker is only trusted for entities without collections or
+	 * mutable attributes.
+	 */
+	private static boolean isUntouched(Object entity, EntityEntry entry, PersistenceContext persistenceContext) {
+		return entry.getStatus() == Status.MANAGED
+			&& isSelfDirtinessTracker( entity )
+			&& !entry.requiresDirtyCheck( entity )
+			&& !persistenceContext.isTouchedSinceLastFlush( entity );
+	}
+
+	private static boolean isIncrementalFlush(EventSource session) {
+		return session.getFactory().getSessionFactoryOptions().isIncrementalFlushEnabled();
+	}
+
+	/**
+	 * The flush-time cascades from an untouched entity may only be skipped
+	 * if no entity was removed since the last flush, since an untouched
+	 * entity might refer to a removed entity.
+	 */
+	private static boolean skipUntouchedCascades(EventSource session, PersistenceContext persistenceContext) {
+		return isIncrementalFlush( session ) && !persistenceContext.hasRemovalsSinceLastFlush();
+	}
+
 	private static boolean flushable(EntityEntry entry) {
 		final Status status = entry.getStatus();
 		return status == Status.MANAGED
@@ -217,6 +250,7 @@ private int flushEntities(final FlushEvent event, final PersistenceContext persi
 		// So this needs to be safe from concurrent modification problems.
 		final Map.Entry<Object,EntityEntry>[] entityEntries = persistenceContext.reentrantSafeEntityEntries();
 		final int count = entityEntries.length;
+		final boolean incremental = isIncrementalFlush( source );
 
 		FlushEntityEvent entityEvent = null; //allow reuse of the event as it's heavily allocated in certain use cases
 		int eventGenerationId = 0; //Used to double-check the instance reuse won't cause problems
@@ -224,7 +258,8 @@ private int flushEntities(final FlushEvent event, final PersistenceContext persi
 			// Update the status of the object and if necessary, schedule an update
 			final EntityEntry entry = me.getValue();
 			final Status status = entry.getStatus();
-			if ( status != Status.LOADING && status != Status.GONE ) {
+			if ( status != Status.LOADING && status != Status.GONE
+					&& !( incremental && isUntouched( me.getKey(), entry, persistenceContext ) ) ) {
 				entityEvent = createOrReuseEventInstance( entityEvent, source, me.getKey(), entry );
 				entityEvent.setInstanceGenerationId( ++eventGenerationId );
 				flushListeners.fireEventOnEachListener( entityEvent, FlushEntityEventListener::onFlushEntity );
@@ -394,6 +429,7 @@ protected void postFlush(SessionImplementor session) throws HibernateException {
 
 		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
 		persistenceContext.clearCollectionsByKey();
+		persistenceContext.clearTouchedEntities();
 
 		// the database has changed now, so the subselect results need to be invalidated
 		// the batch fetching queues should also be cleared - especially the collection batch fetching one
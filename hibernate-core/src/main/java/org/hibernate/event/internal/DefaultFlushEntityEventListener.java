@@ -9,12 +9,15 @@
 import org.hibernate.AssertionFailure;
 import org.hibernate.CustomEntityDirtinessStrategy;
 import org.hibernate.HibernateException;
+import org.hibernate.Interceptor;
 import org.hibernate.StaleObjectStateException;
 import org.hibernate.action.internal.DelayedPostInsertIdentifier;
 import org.hibernate.action.internal.EntityUpdateAction;
+import org.hibernate.boot.internal.DefaultCustomEntityDirtinessStrategy;
 import org.hibernate.bytecode.enhance.spi.interceptor.EnhancementAsProxyLazinessInterceptor;
 import org.hibernate.engine.internal.Nullability;
 import org.hibernate.engine.internal.Nullability.NullabilityCheckType;
+import org.hibernate.engine.internal.PackedEntityEntry;
 import org.hibernate.engine.internal.Versioning;
 import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.ManagedEntity;
@@ -31,6 +34,7 @@
 import org.hibernate.event.spi.FlushEntityEventListener;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.internal.EmptyInterceptor;
 import org.hibernate.jpa.event.spi.CallbackRegistry;
 import org.hibernate.jpa.event.spi.CallbackRegistryConsumer;
 import org.hibernate.metamodel.mapping.NaturalIdMapping;
@@ -99,12 +103,11 @@ private void checkNaturalId(
 			Object entity,
 			EntityEntry entry,
 			Object[] current,
-			Object[] loaded,
 			SessionImplementor session) {
 		if ( !isUninitializedEnhanced( entity ) ) {
 			final NaturalIdMapping naturalIdMapping = persister.getNaturalIdMapping();
 			if ( naturalIdMapping != null && entry.getStatus() != Status.READ_ONLY ) {
-				naturalIdMapping.verifyFlushState( entry.getId(), current, loaded, session );
+				naturalIdMapping.verifyFlushState( entry.getId(), current, entry.getLoadedState(), session );
 			}
 		}
 	}
@@ -131,7 +134,9 @@ public void onFlushEntity(FlushEntityEvent event) throws HibernateException {
 		final EntityEntry entry = event.getEntityEntry();
 		final EventSource session = event.getSession();
 
-		final boolean mightBeDirty = entry.requiresDirtyCheck( entity );
+		final boolean mightBeDirty =
+				entry.requiresDirtyCheck( entity )
+						&& !isNonDirtyInPlace( entity, entry, session );
 
 		final Object[] values = getValues( entity, entry, mightBeDirty, session );
 
@@ -160,6 +165,45 @@ public void onFlushEntity(FlushEntityEvent event) throws HibernateException {
 			}
 		}
 
+		if ( entry instanceof PackedEntityEntry packedEntry ) {
+			// the loaded state inflated by the flush is not retained
+			packedEntry.releaseLoadedState();
+		}
+	}
+
+	/**
+	 * Attempt to determine that the entity is not dirty by comparing its attributes
+	 * directly against the loaded state, which avoids building an array of current
+	 * values for each unmodified entity.
+	 *
+	 * @return {@code true} if the entity is definitely not dirty, {@code false} if
+	 *         it is dirty or if the full dirty check needs to be performed anyway
+	 *
+	 * @see org.hibernate.cfg.PersistenceSettings#IN_PLACE_DIRTY_CHECKING
+	 */
+	private boolean isNonDirtyInPlace(Object entity, EntityEntry entry, EventSource session) {
+		final SessionFactoryImplementor factory = session.getFactory();
+		final EntityPersister persister = entry.getPersister();
+		if ( factory.getSessionFactoryOptions().isInPlaceDirtyCheckingEnabled()
+				&& entry.getStatus() == Status.MANAGED
+				&& !persister.hasCollections()
+				// the natural id must be verified against the current values, since
+				// a change to an immutable natural id does not make the entity dirty
+				&& persister.getNaturalIdMapping() == null
+				// a packed entry is instead compared with its packed state by the dirty check
+				&& !( entry instanceof PackedEntityEntry )
+				&& !isSelfDirtinessTracker( entity )
+				&& session.getInterceptor() == EmptyInterceptor.INSTANCE
+				&& factory.getCustomEntityDirtinessStrategy() == DefaultCustomEntityDirtinessStrategy.INSTANCE ) {
+			final Object[] loadedState = entry.getLoadedState();
+			if ( loadedState != null ) {
+				checkId( entity, persister, entry.getId(), entry.getStatus(), session );
+				// this is only a shortcut: the dirty calculation is reported to the
+				// event monitor and listeners by the full dirty check, if it happens
+				return !persister.isDirty( entity, loadedState, session );
+			}
+		}
+		return false;
 	}
 
 	private Object[] getValues(Object entity, EntityEntry entry, boolean mightBeDirty, SessionImplementor session) {
@@ -168,8 +212,9 @@ private Object[] getValues(Object entity, EntityEntry entry, boolean mightBeDirt
 			return entry.getDeletedState();
 		}
 		else {
-			final Object[] loadedState = entry.getLoadedState();
-			if ( !mightBeDirty && loadedState != null ) {
+			// the loaded state is only obtained when needed, since it might inflate a packed entry
+			final Object[] loadedState = mightBeDirty ? null : entry.getLoadedState();
+			if ( loadedState != null ) {
 				return loadedState;
 			}
 			else {
@@ -177,7 +222,7 @@ private Object[] getValues(Object entity, EntityEntry entry, boolean mightBeDirt
 				checkId( entity, persister, entry.getId(), entry.getStatus(), session );
 				// grab its current state
 				final Object[] values = persister.getValues( entity );
-				checkNaturalId( persister, entity, entry, values, loadedState, session );
+				checkNaturalId( persister, entity, entry, values, session );
 				return values;
 			}
 		}
@@ -478,11 +523,15 @@ private static int[] performDirtyCheck(FlushEntityEvent event) {
 			session.getEventListenerManager().dirtyCalculationStart();
 			// object loaded by update()
 			final Object[] values = event.getPropertyValues();
-			final Object[] loadedState = entry.getLoadedState();
 			final Object entity = event.getEntity();
-			if ( loadedState != null ) {
+			if ( entry instanceof PackedEntityEntry packedEntry
+					&& packedEntry.isUnmodified( values, session ) ) {
+				// dirty check against the packed snapshot, without inflating it
+				dirtyCheckPossible = true;
+			}
+			else if ( entry.getLoadedState() != null ) {
 				// dirty check against the usual snapshot of the entity
-				dirtyProperties = persister.findDirty( values, loadedState, entity, session );
+				dirtyProperties = persister.findDirty( values, entry.getLoadedState(), entity, session );
 				dirtyCheckPossible = true;
 			}
 			else if ( entry.getStatus() == Status.DELETED && !entry.isModifiableEntity() ) {
@@ -544,9 +593,14 @@ private static int[] getDirtyProperties(FlushEntityEvent event) {
 	}
 
 	private static int[] getDirtyPropertiesFromInterceptor(FlushEntityEvent event) {
+		final Interceptor interceptor = event.getSession().getInterceptor();
+		if ( interceptor == EmptyInterceptor.INSTANCE ) {
+			// avoid obtaining the loaded state, which might inflate a packed entry
+			return null;
+		}
 		final EntityEntry entry = event.getEntityEntry();
 		final EntityPersister persister = entry.getPersister();
-		return event.getSession().getInterceptor().findDirty(
+		return interceptor.findDirty(
 				event.getEntity(),
 				entry.getId(),
 				event.getPropertyValues(),
@@ -5,6 +5,7 @@
 package org.hibernate.event.internal;
 
 import org.hibernate.HibernateException;
+import org.hibernate.cache.spi.SingleFlightLoads;
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.engine.spi.CollectionEntry;
 import org.hibernate.engine.spi.PersistenceContext;
@@ -53,18 +54,72 @@ public void onInitializeCollection(InitializeCollectionEvent event) throws Hiber
 			}
 			else {
 				LOG.trace( "Collection not cached" );
-				loadedPersister.initialize( loadedKey, source );
-				handlePotentiallyEmptyCollection( collection, persistenceContext, loadedKey, loadedPersister );
-				LOG.trace( "Collection initialized" );
-
-				final StatisticsImplementor statistics = source.getFactory().getStatistics();
-				if ( statistics.isStatisticsEnabled() ) {
-					statistics.fetchCollection( loadedPersister.getRole() );
+				final SingleFlightLoads singleFlightLoads = singleFlightLoads( loadedPersister, source );
+				if ( singleFlightLoads == null ) {
+					initializeFromDatasource( loadedKey, loadedPersister, collection, source );
+				}
+				else {
+					initializeOnceFromDatasource( loadedKey, loadedPersister, collection, source, singleFlightLoads );
 				}
 			}
 		}
 	}
 
+	private void initializeFromDatasource(
+			Object loadedKey,
+			CollectionPersister loadedPersister,
+			PersistentCollection<?> collection,
+			SessionImplementor source) {
+		loadedPersister.initialize( loadedKey, source );
+		handlePotentiallyEmptyCollection( collection, source.getPersistenceContextInternal(), loadedKey, loadedPersister );
+		LOG.trace( "Collection initialized" );
+
+		final StatisticsImplementor statistics = source.getFactory().getStatistics();
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.fetchCollection( loadedPersister.getRole() );
+		}
+	}
+
+	/**
+	 * Initialize the collection from the datasource, unless another session is
+	 * already loading it, in which case wait for the other session to put it in
+	 * the second-level cache, and initialize it from there.
+	 */
+	private void initializeOnceFromDatasource(
+			Object loadedKey,
+			CollectionPersister loadedPersister,
+			PersistentCollection<?> collection,
+			SessionImplementor source,
+			SingleFlightLoads singleFlightLoads) {
+		final Object cacheKey = loadedPersister.getCacheAccessStrategy()
+				.generateCacheKey( loadedKey, loadedPersister, source.getFactory(), source.getTenantIdentifier() );
+		if ( singleFlightLoads.claim( cacheKey ) ) {
+			try {
+				initializeFromDatasource( loadedKey, loadedPersister, collection, source );
+			}
+			finally {
+				singleFlightLoads.release( cacheKey );
+			}
+		}
+		else if ( initializeCollectionFromCache( loadedKey, loadedPersister, collection, source ) ) {
+			LOG.trace( "Collection initialized from cache after a concurrent load" );
+		}
+		else {
+			initializeFromDatasource( loadedKey, loadedPersister, collection, source );
+		}
+	}
+
+	private static SingleFlightLoads singleFlightLoads(CollectionPersister persister, SessionImplementor source) {
+		return persister.hasCache()
+			&& source.getCacheMode().isGetEnabled()
+			&& source.getCacheMode().isPutEnabled()
+			&& !( source.getLoadQueryInfluencers().hasEnabledFilters() && persister.isAffectedByEnabledFilters( source ) )
+			&& SingleFlightLoads.isSupported( persister.getCacheAccessStrategy().getAccessType() )
+				? source.getFactory().getCache()
+						.getSingleFlightLoads( persister.getCacheAccessStrategy().getRegion().getName() )
+				: null;
+	}
+
 	public static void handlePotentiallyEmptyCollection(
 			PersistentCollection<?> collection,
 			PersistenceContext persistenceContext,
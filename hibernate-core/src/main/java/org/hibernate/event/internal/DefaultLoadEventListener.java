@@ -11,6 +11,7 @@
 import org.hibernate.TypeMismatchException;
 import org.hibernate.action.internal.DelayedPostInsertIdentifier;
 import org.hibernate.bytecode.enhance.spi.interceptor.EnhancementAsProxyLazinessInterceptor;
+import org.hibernate.cache.spi.SingleFlightLoads;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.SoftLock;
 import org.hibernate.engine.spi.EntityHolder;
@@ -97,7 +98,8 @@ protected EntityPersister getPersister(final LoadEvent event) {
 
 	private void doOnLoad(EntityPersister persister, LoadEvent event, LoadType loadType) {
 		try {
-			final EntityKey keyToLoad = event.getSession().generateEntityKey( event.getEntityId(), persister );
+			final EntityKey keyToLoad =
+					event.getSession().getPersistenceContextInternal().getEntityKey( event.getEntityId(), persister );
 			if ( loadType.isNakedEntityReturned() ) {
 				//do not return a proxy!
 				//(this option indicates we are initializing a proxy)
@@ -565,7 +567,10 @@ private Object loadFromCacheOrDatasource(LoadEvent event, EntityPersister persis
 		final Object entity = event.getSession()
 				.loadFromSecondLevelCache( persister, keyToLoad, event.getInstanceToLoad(), event.getLockMode() );
 		if ( entity == null ) {
-			return loadFromDatasource( event, persister );
+			final SingleFlightLoads singleFlightLoads = singleFlightLoads( event, persister );
+			return singleFlightLoads == null
+					? loadFromDatasource( event, persister )
+					: loadOnceFromDatasource( event, persister, keyToLoad, singleFlightLoads );
 		}
 		else {
 			if ( LOG.isTraceEnabled() ) {
@@ -576,6 +581,56 @@ private Object loadFromCacheOrDatasource(LoadEvent event, EntityPersister persis
 		}
 	}
 
+	/**
+	 * Load the entity from the datasource, unless another session is already
+	 * loading it, in which case wait for the other session to put it in the
+	 * second-level cache, and read it from there.
+	 */
+	private Object loadOnceFromDatasource(
+			LoadEvent event,
+			EntityPersister persister,
+			EntityKey keyToLoad,
+			SingleFlightLoads singleFlightLoads) {
+		final EventSource session = event.getSession();
+		final Object cacheKey = persister.getCacheAccessStrategy()
+				.generateCacheKey( event.getEntityId(), persister, event.getFactory(), session.getTenantIdentifier() );
+		if ( singleFlightLoads.claim( cacheKey ) ) {
+			try {
+				return loadFromDatasource( event, persister );
+			}
+			finally {
+				singleFlightLoads.release( cacheKey );
+			}
+		}
+		else {
+			final Object entity =
+					session.loadFromSecondLevelCache( persister, keyToLoad, event.getInstanceToLoad(), event.getLockMode() );
+			if ( entity == null ) {
+				return loadFromDatasource( event, persister );
+			}
+			else {
+				if ( LOG.isTraceEnabled() ) {
+					LOG.trace( "Resolved entity in second-level cache after a concurrent load: "
+								+ infoString( persister, event.getEntityId(), event.getFactory() ) );
+				}
+				return entity;
+			}
+		}
+	}
+
+	private static SingleFlightLoads singleFlightLoads(LoadEvent event, EntityPersister persister) {
+		final EventSource session = event.getSession();
+		return persister.canReadFromCache()
+			&& persister.canWriteToCache()
+			&& session.getCacheMode().isGetEnabled()
+			&& session.getCacheMode().isPutEnabled()
+			&& event.getLockMode().lessThan( LockMode.READ )
+			&& SingleFlightLoads.isSupported( persister.getCacheAccessStrategy().getAccessType() )
+				? event.getFactory().getCache()
+						.getSingleFlightLoads( persister.getCacheAccessStrategy().getRegion().getName() )
+				: null;
+	}
+
 	/**
 	 * Performs the process of loading an entity from the configured
 	 * underlying datasource.
@@ -84,4 +84,20 @@ public interface EventSource extends SessionImplementor {
 	 */
 	@Incubating
 	Object loadFromSecondLevelCache(EntityPersister persister, EntityKey entityKey, Object instanceToLoad, LockMode lockMode);
+
+	/**
+	 * Loads the entity from an entry already read from the second-level cache,
+	 * by a {@linkplain org.hibernate.loader.internal.CacheLoadHelper#getAllFromSecondLevelCache
+	 * bulk read} of the entries of several entities.
+	 *
+	 * @param persister The persister for the entity being requested for load
+	 * @param entityKey The entity key
+	 * @param cachedEntry The entry read from the second-level cache
+	 *
+	 * @return The entity, or null.
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	Object loadFromSecondLevelCacheEntry(EntityPersister persister, EntityKey entityKey, Object cachedEntry);
 }
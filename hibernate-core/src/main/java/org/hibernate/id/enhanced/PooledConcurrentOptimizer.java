@@ -0,0 +1,196 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.id.enhanced;
+
+import java.io.Serializable;
+import java.lang.invoke.MethodHandles;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.hibernate.HibernateException;
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.internal.CoreMessageLogger;
+
+import org.jboss.logging.Logger;
+
+import static org.hibernate.id.IdentifierGeneratorHelper.getIntegralDataTypeHolder;
+
+/**
+ * Variation of {@link PooledOptimizer} intended for many threads generating
+ * values concurrently.
+ * <p>
+ * The range of values obtained from the database, which is interpreted as the hi
+ * value exactly as by {@link PooledOptimizer}, is shared by all threads, and its
+ * values are handed out using a compare-and-swap, without acquiring any lock.
+ * The next range is fetched ahead of time by the thread which crosses the middle
+ * of the current range, while the other threads keep drawing values from the
+ * current range. Threads only ever wait on each other when a range is exhausted
+ * before the next one is available.
+ * <p>
+ * The next range is fetched using the {@link AccessCallback} of the thread which
+ * crosses the middle of the current range, and so at most one range is lost
+ * when the application stops, as with {@link PooledOptimizer}. Values might be
+ * handed out slightly out of order across threads.
+ *
+ * @see PooledOptimizer
+ */
+public class PooledConcurrentOptimizer extends AbstractOptimizer implements InitialValueAwareOptimizer {
+	private static final CoreMessageLogger log = Logger.getMessageLogger(
+			MethodHandles.lookup(),
+			CoreMessageLogger.class,
+			PooledConcurrentOptimizer.class.getName()
+	);
+
+	private long initialValue = -1;
+
+	private final GenerationState noTenantState = new GenerationState();
+	private final Map<String,GenerationState> tenantSpecificState = new ConcurrentHashMap<>();
+
+	/**
+	 * Constructs a {@code PooledConcurrentOptimizer}
+	 *
+	 * @param returnClass The Java type of the values to be generated
+	 * @param incrementSize The increment size.
+	 */
+	public PooledConcurrentOptimizer(Class<?> returnClass, int incrementSize) {
+		super( returnClass, incrementSize );
+		if ( incrementSize < 1 ) {
+			throw new HibernateException( "increment size cannot be less than 1" );
+		}
+		if ( log.isTraceEnabled() ) {
+			log.tracev(
+					"Creating pooled concurrent optimizer with [incrementSize={0}; returnClass={1}]",
+					incrementSize,
+					returnClass.getName()
+			);
+		}
+	}
+
+	@Override
+	public Serializable generate(AccessCallback callback) {
+		return locateGenerationState( callback.getTenantIdentifier() ).generate( callback );
+	}
+
+	private GenerationState locateGenerationState(String tenantIdentifier) {
+		return tenantIdentifier == null
+				? noTenantState
+				: tenantSpecificState.computeIfAbsent( tenantIdentifier, tenant -> new GenerationState() );
+	}
+
+	@Override
+	public IntegralDataTypeHolder getLastSourceValue() {
+		final IntegralDataTypeHolder lastSourceValue = noTenantState.lastSourceValue;
+		if ( lastSourceValue == null ) {
+			throw new IllegalStateException( "Could not locate previous generation state for no-tenant" );
+		}
+		return lastSourceValue;
+	}
+
+	@Override
+	public boolean applyIncrementSizeToSourceValues() {
+		return true;
+	}
+
+	@Override
+	public void injectInitialValue(long initialValue) {
+		this.initialValue = initialValue;
+	}
+
+	/**
+	 * A range of values, from {@code next} up to {@code hi} inclusive.
+	 */
+	private static final class Block {
+		private final AtomicLong next;
+		private final long hi;
+		// the value at which the next block is fetched
+		private final long watermark;
+
+		private Block(long lo, long hi, long watermark) {
+			this.next = new AtomicLong( lo );
+			this.hi = hi;
+			this.watermark = watermark;
+		}
+	}
+
+	private final class GenerationState {
+		private final AtomicReference<Block> current = new AtomicReference<>();
+		/**
+		 * Use a lock instead of the monitor lock to avoid pinning when using virtual threads.
+		 * Guards the calls to the database, and {@link #prefetched}.
+		 */
+		private final Lock lock = new ReentrantLock();
+		private Block prefetched;
+		// last value read from the database
+		private volatile IntegralDataTypeHolder lastSourceValue;
+
+		private Serializable generate(AccessCallback callback) {
+			while ( true ) {
+				final Block block = current.get();
+				if ( block != null ) {
+					final long value = block.next.getAndIncrement();
+					if ( value <= block.hi ) {
+						if ( value == block.watermark ) {
+							prefetch( block, callback );
+						}
+						return getIntegralDataTypeHolder( returnClass ).initialize( value ).makeValue();
+					}
+				}
+				advance( block, callback );
+			}
+		}
+
+		private void prefetch(Block block, AccessCallback callback) {
+			lock.lock();
+			try {
+				// the block might have been exhausted and replaced in the meantime
+				if ( prefetched == null && current.get() == block ) {
+					prefetched = fetchBlock( callback, false );
+				}
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		private void advance(Block exhausted, AccessCallback callback) {
+			lock.lock();
+			try {
+				// some other thread might have replaced the block already
+				if ( current.get() == exhausted ) {
+					final Block next = prefetched == null ? fetchBlock( callback, exhausted == null ) : prefetched;
+					prefetched = null;
+					current.set( next );
+				}
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		private Block fetchBlock(AccessCallback callback, boolean initial) {
+			final IntegralDataTypeHolder hiValue = callback.getNextValue();
+			lastSourceValue = hiValue;
+			final long hi = hiValue.makeValue().longValue();
+			final long lo;
+			if ( initial ) {
+				// see PooledOptimizer for the handling of the initial value
+				if ( hiValue.lt( 1 ) ) {
+					log.pooledOptimizerReportedInitialValue( hiValue );
+				}
+				lo = ( initialValue == -1 && hiValue.lt( incrementSize ) ) || hiValue.eq( initialValue )
+						? hi
+						: hi - ( incrementSize - 1 );
+			}
+			else {
+				lo = hi - ( incrementSize - 1 );
+			}
+			return new Block( lo, hi, Math.max( lo, hi - incrementSize / 2 ) );
+		}
+	}
+}
@@ -34,6 +34,8 @@ public interface SessionCreationOptions {
 
 	boolean shouldAutoClear();
 
+	boolean isReadOnly();
+
 	Connection getConnection();
 
 	Interceptor getInterceptor();
@@ -1115,6 +1115,7 @@ public static class SessionBuilderImpl implements SessionBuilderImplementor, Ses
 		private FlushMode flushMode;
 		private boolean autoClose;
 		private boolean autoClear;
+		private boolean readOnly;
 		private Object tenantIdentifier;
 		private TimeZone jdbcTimeZone;
 		private boolean explicitNoInterceptor;
@@ -1189,6 +1190,11 @@ public boolean shouldAutoClear() {
 			return autoClear;
 		}
 
+		@Override
+		public boolean isReadOnly() {
+			return readOnly;
+		}
+
 		@Override
 		public Connection getConnection() {
 			return connection;
@@ -1297,6 +1303,12 @@ public SessionBuilderImpl flushMode(FlushMode flushMode) {
 			return this;
 		}
 
+		@Override
+		public SessionBuilderImpl readOnly(boolean readOnly) {
+			this.readOnly = readOnly;
+			return this;
+		}
+
 		@Override @Deprecated(forRemoval = true)
 		public SessionBuilderImpl tenantIdentifier(String tenantIdentifier) {
 			this.tenantIdentifier = tenantIdentifier;
@@ -1415,6 +1427,11 @@ public boolean shouldAutoClear() {
 			return false;
 		}
 
+		@Override
+		public boolean isReadOnly() {
+			return false;
+		}
+
 		@Override
 		public Connection getConnection() {
 			return connection;
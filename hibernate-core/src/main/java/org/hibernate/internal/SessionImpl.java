@@ -246,6 +246,7 @@
 
 	private boolean autoClear;
 	private final boolean autoClose;
+	private final boolean readOnlySession;
 
 	private transient LoadEvent loadEvent; //cached LoadEvent instance
 	private transient PostLoadEvent postLoadEvent; //cached PostLoadEvent instance
@@ -263,6 +264,7 @@ public SessionImpl(SessionFactoryImpl factory, SessionCreationOptions options) {
 
 			autoClear = options.shouldAutoClear();
 			autoClose = options.shouldAutoClose();
+			readOnlySession = options.isReadOnly();
 
 			setUpTransactionCompletionProcesses( options );
 
@@ -276,8 +278,13 @@ public SessionImpl(SessionFactoryImpl factory, SessionCreationOptions options) {
 			// NOTE : pulse() already handles auto-join-ability correctly
 			getTransactionCoordinator().pulse();
 
+			if ( readOnlySession ) {
+				// a read-only session is never flushed
+				setHibernateFlushMode( FlushMode.MANUAL );
+				persistenceContext.setDefaultReadOnly( true );
+			}
 			// do not override explicitly set flush mode ( SessionBuilder#flushMode() )
-			if ( getHibernateFlushMode() == null ) {
+			else if ( getHibernateFlushMode() == null ) {
 				setHibernateFlushMode( getInitialFlushMode() );
 			}
 
@@ -672,6 +679,7 @@ public void lock(Object object, LockMode lockMode) {
 	private void fireLock(LockEvent event) {
 		checkOpen();
 		checkEntityManaged( event.getEntityName(), event.getObject() );
+		checkNotReadOnlySession( event.getLockOptions() );
 		try {
 			pulseTransactionCoordinator();
 			checkTransactionNeededForLock( event.getLockMode() );
@@ -722,6 +730,7 @@ public void persist(String entityName, Object object, PersistContext copiedAlrea
 	}
 
 	private void firePersist(final PersistEvent event) {
+		checkNotReadOnlySession();
 		Throwable originalException = null;
 		try {
 			checkTransactionSynchStatus();
@@ -816,6 +825,7 @@ public void merge(String entityName, Object object, MergeContext copiedAlready)
 	}
 
 	private Object fireMerge(MergeEvent event) {
+		checkNotReadOnlySession();
 		try {
 			checkTransactionSynchStatus();
 			checkNoUnresolvedActionsBeforeOperation();
@@ -911,6 +921,7 @@ private void logRemoveOrphanBeforeUpdates(String timing, String entityName, Obje
 	}
 
 	private void fireDelete(final DeleteEvent event) {
+		checkNotReadOnlySession();
 		checkEntityManagedIfJpa( event.getEntityName(), event.getObject() );
 		try {
 			pulseTransactionCoordinator();
@@ -1091,6 +1102,18 @@ public Object loadFromSecondLevelCache(
 			EntityPersister persister, EntityKey entityKey, Object instanceToLoad, LockMode lockMode) {
 		final Object entity =
 				CacheLoadHelper.loadFromSecondLevelCache( this, instanceToLoad, lockMode, persister, entityKey );
+		postLoadFromSecondLevelCache( persister, entityKey, entity );
+		return entity;
+	}
+
+	@Override
+	public Object loadFromSecondLevelCacheEntry(EntityPersister persister, EntityKey entityKey, Object cachedEntry) {
+		final Object entity = CacheLoadHelper.loadFromCachedEntry( this, persister, entityKey, cachedEntry );
+		postLoadFromSecondLevelCache( persister, entityKey, entity );
+		return entity;
+	}
+
+	private void postLoadFromSecondLevelCache(EntityPersister persister, EntityKey entityKey, Object entity) {
 		if ( entity != null ) {
 			final Object id = entityKey.getIdentifierValue();
 			final PostLoadEvent event = makePostLoadEvent( persister, id, entity );
@@ -1098,7 +1121,6 @@ public Object loadFromSecondLevelCache(
 					.fireEventOnEachListener( event, PostLoadEventListener::onPostLoad );
 			releasePostLoadEvent( event );
 		}
-		return entity;
 	}
 
 	/**
@@ -1255,6 +1277,7 @@ public <T> NaturalIdMultiLoadAccess<T> byMultipleNaturalId(String entityName) {
 	@Override
 	public Object load(LoadType loadType, Object id, String entityName, LockOptions lockOptions, Boolean readOnly) {
 		if ( lockOptions != null ) {
+			checkNotReadOnlySession( lockOptions );
 			// TODO: I doubt that this branch is necessary, and it's probably even wrong
 			final LoadEvent event = makeLoadEvent( entityName, id, readOnly, lockOptions );
 			fireLoad( event, loadType );
@@ -1328,6 +1351,7 @@ public void refresh(String entityName, Object object, RefreshContext refreshedAl
 	private void fireRefresh(final RefreshEvent event) {
 		checkOpen();
 		checkEntityManaged( event.getEntityName(), event.getObject() );
+		checkNotReadOnlySession( event.getLockOptions() );
 		try {
 			pulseTransactionCoordinator();
 			checkTransactionNeededForLock( event.getLockMode() );
@@ -1421,7 +1445,7 @@ public boolean autoFlushIfRequired(Set<String> querySpaces) {
 	@Override
 	public boolean autoFlushIfRequired(Set<String> querySpaces, boolean skipPreFlush) {
 		checkOpen();
-		if ( !isTransactionInProgress() ) {
+		if ( readOnlySession || !isTransactionInProgress() ) {
 			// do not auto-flush while outside a transaction
 			return false;
 		}
@@ -1434,7 +1458,7 @@ public boolean autoFlushIfRequired(Set<String> querySpaces, boolean skipPreFlush
 	@Override
 	public void autoPreFlush(){
 		checkOpen();
-		if ( !isTransactionInProgress() ) {
+		if ( readOnlySession || !isTransactionInProgress() ) {
 			// do not auto-flush while outside a transaction
 			return;
 		}
@@ -1463,6 +1487,10 @@ public void flush() {
 	}
 
 	private void doFlush() {
+		if ( readOnlySession ) {
+			// there is never anything to flush
+			return;
+		}
 		try {
 			pulseTransactionCoordinator();
 			checkTransactionNeededForUpdateOperation();
@@ -1924,9 +1952,17 @@ public boolean isDefaultReadOnly() {
 
 	@Override
 	public void setDefaultReadOnly(boolean defaultReadOnly) {
+		if ( readOnlySession && !defaultReadOnly ) {
+			throw new IllegalStateException( "Entities of a read-only session cannot be made modifiable" );
+		}
 		persistenceContext.setDefaultReadOnly( defaultReadOnly );
 	}
 
+	@Override
+	public boolean isReadOnlySession() {
+		return readOnlySession;
+	}
+
 	@Override
 	public boolean isReadOnly(Object entityOrProxy) {
 		checkOpen();
@@ -1938,6 +1974,9 @@ public boolean isReadOnly(Object entityOrProxy) {
 	public void setReadOnly(Object entity, boolean readOnly) {
 		checkOpen();
 //		checkTransactionSynchStatus();
+		if ( readOnlySession && !readOnly ) {
+			throw new IllegalStateException( "Entities of a read-only session cannot be made modifiable" );
+		}
 		persistenceContext.setReadOnly( entity, readOnly );
 	}
 
@@ -2234,6 +2273,12 @@ public SharedSessionBuilderImpl autoClear(boolean autoClear) {
 			return this;
 		}
 
+		@Override
+		public SharedSessionBuilderImpl readOnly(boolean readOnly) {
+			super.readOnly(readOnly);
+			return this;
+		}
+
 		@Override
 		public SharedSessionBuilderImpl statementInspector(StatementInspector statementInspector) {
 			super.statementInspector(statementInspector);
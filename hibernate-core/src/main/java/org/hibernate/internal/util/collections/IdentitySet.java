@@ -32,7 +32,6 @@ public IdentitySet() {
 	 *
 	 * @param sizing The sizing of the set to create.
 	 */
-	@SuppressWarnings("unused")
 	public IdentitySet(int sizing) {
 		this.map = new IdentityHashMap<>( sizing );
 	}
@@ -5,6 +5,8 @@
 package org.hibernate.internal.util.collections;
 
 import java.util.Arrays;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 
 /**
@@ -33,6 +35,8 @@
 
 	private volatile Object[] values;
 	private static final Object NOT_INITIALIZED = new Object();
+	/** Use a lock instead of the monitor lock to avoid pinning when using virtual threads. */
+	private final Lock lock = new ReentrantLock();
 
 	protected LazyIndexedMap(final int size) {
 		final Object[] vs = new Object[size];
@@ -62,8 +66,18 @@ protected <K1 extends K> V computeIfAbsent(final int index, final K1 originalKey
 		}
 	}
 
-	private synchronized <K1 extends K> V lockedComputeIfAbsent(final int index, final K1 originalKey, final Function<K1,V> valueGenerator) {
-		//Get a fresh copy from the volatile read, while holding the global pessimistic lock in this:
+	private <K1 extends K> V lockedComputeIfAbsent(final int index, final K1 originalKey, final Function<K1,V> valueGenerator) {
+		lock.lock();
+		try {
+			return computeIfAbsentHoldingLock( index, originalKey, valueGenerator );
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	private <K1 extends K> V computeIfAbsentHoldingLock(final int index, final K1 originalKey, final Function<K1,V> valueGenerator) {
+		//Get a fresh copy from the volatile read, while holding the global pessimistic lock:
 		final Object[] values = this.values;
 		final Object value = values[index];
 		//Check again
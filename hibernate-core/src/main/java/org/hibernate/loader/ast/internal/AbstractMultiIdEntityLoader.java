@@ -9,6 +9,7 @@
 import org.hibernate.LockOptions;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.event.spi.EventSource;
 import org.hibernate.loader.ast.spi.MultiIdEntityLoader;
@@ -23,11 +24,14 @@
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
+import static java.util.Collections.emptyMap;
 import static org.hibernate.event.spi.LoadEventListener.GET;
 import static org.hibernate.internal.util.collections.CollectionHelper.arrayList;
 import static org.hibernate.internal.util.collections.CollectionHelper.isEmpty;
 import static org.hibernate.loader.ast.internal.MultiKeyLoadLogging.MULTI_KEY_LOAD_LOGGER;
+import static org.hibernate.loader.internal.CacheLoadHelper.getAllFromSecondLevelCache;
 import static org.hibernate.loader.internal.CacheLoadHelper.loadFromSessionCache;
 
 /**
@@ -112,9 +116,6 @@ private List<T> orderedMultiLoad(
 			MultiIdLoadOptions loadOptions,
 			LockOptions lockOptions,
 			EventSource session) {
-		final boolean idCoercionEnabled = isIdCoercionEnabled();
-		final JavaType<?> idType = getLoadable().getIdentifierMapping().getJavaType();
-
 		final int maxBatchSize = maxBatchSize( ids, loadOptions );
 
 		final List<Object> result = arrayList( ids.length );
@@ -122,11 +123,15 @@ private List<T> orderedMultiLoad(
 		final List<Object> idsInBatch = new ArrayList<>();
 		final List<Integer> elementPositionsLoadedByBatch = new ArrayList<>();
 
+		final EntityKey[] entityKeys = entityKeys( ids, session );
+		final Map<EntityKey, Object> cachedEntries =
+				getAllFromSecondLevelCacheIfEnabled( entityKeys, loadOptions, lockOptions, session );
+
 		for ( int i = 0; i < ids.length; i++ ) {
-			final Object id = idCoercionEnabled ? idType.coerce( ids[i], session ) : ids[i];
-			final EntityKey entityKey = new EntityKey( id, getLoadable().getEntityPersister() );
+			final EntityKey entityKey = entityKeys[i];
+			final Object id = entityKey.getIdentifier();
 
-			if ( !loadFromEnabledCaches( loadOptions, session, id, lockOptions, entityKey, result, i ) ) {
+			if ( !loadFromEnabledCaches( loadOptions, session, id, lockOptions, entityKey, cachedEntries, result, i ) ) {
 				// if we did not hit any of the continues above,
 				// then we need to batch load the entity state.
 				idsInBatch.add( id );
@@ -182,16 +187,18 @@ protected boolean loadFromEnabledCaches(
 			Object id,
 			LockOptions lockOptions,
 			EntityKey entityKey,
+			Map<EntityKey, Object> cachedEntries,
 			List<Object> result,
 			int i) {
 		return ( loadOptions.isSessionCheckingEnabled() || loadOptions.isSecondLevelCacheCheckingEnabled() )
-			&& isLoadFromCaches( loadOptions, entityKey, lockOptions, result, i, session );
+			&& isLoadFromCaches( loadOptions, entityKey, lockOptions, cachedEntries, result, i, session );
 	}
 
 	private boolean isLoadFromCaches(
 			MultiIdLoadOptions loadOptions,
 			EntityKey entityKey,
 			LockOptions lockOptions,
+			Map<EntityKey, Object> cachedEntries,
 			List<Object> result, int i,
 			EventSource session) {
 		Object managedEntity = null;
@@ -214,8 +221,7 @@ private boolean isLoadFromCaches(
 		if ( managedEntity == null
 				&& loadOptions.isSecondLevelCacheCheckingEnabled() ) {
 			// look for it in the SessionFactory
-			final EntityPersister persister = getLoadable().getEntityPersister();
-			managedEntity = session.loadFromSecondLevelCache( persister, entityKey, null, lockOptions.getLockMode() );
+			managedEntity = loadFromSecondLevelCache( entityKey, cachedEntries, session );
 		}
 
 		if ( managedEntity != null ) {
@@ -273,15 +279,16 @@ protected final <R> Object[] resolveInCaches(
 			EventSource session,
 			ResolutionConsumer<R> resolutionConsumer) {
 
-		final boolean idCoercionEnabled = isIdCoercionEnabled();
-		final JavaType<?> idType = getLoadable().getIdentifierMapping().getJavaType();
+		final EntityKey[] entityKeys = entityKeys( ids, session );
+		final Map<EntityKey, Object> cachedEntries =
+				getAllFromSecondLevelCacheIfEnabled( entityKeys, loadOptions, lockOptions, session );
 
 		List<Object> unresolvedIds = null;
 		for ( int i = 0; i < ids.length; i++ ) {
-			final Object id = idCoercionEnabled ? idType.coerce( ids[i], session ) : ids[i];
-			final EntityKey entityKey = new EntityKey( id, getLoadable().getEntityPersister() );
+			final EntityKey entityKey = entityKeys[i];
 			unresolvedIds =
-					loadFromCaches( loadOptions, lockOptions, resolutionConsumer, id, entityKey, unresolvedIds, i, session );
+					loadFromCaches( loadOptions, lockOptions, resolutionConsumer, entityKey.getIdentifier(), entityKey,
+							cachedEntries, unresolvedIds, i, session );
 		}
 
 		if ( isEmpty( unresolvedIds ) ) {
@@ -305,6 +312,55 @@ private boolean isIdCoercionEnabled() {
 		return !getSessionFactory().getJpaMetamodel().getJpaCompliance().isLoadByIdComplianceEnabled();
 	}
 
+	private EntityKey[] entityKeys(Object[] ids, EventSource session) {
+		final boolean idCoercionEnabled = isIdCoercionEnabled();
+		final JavaType<?> idType = getLoadable().getIdentifierMapping().getJavaType();
+		final EntityPersister persister = getLoadable().getEntityPersister();
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		final EntityKey[] entityKeys = new EntityKey[ids.length];
+		for ( int i = 0; i < ids.length; i++ ) {
+			final Object id = idCoercionEnabled ? idType.coerce( ids[i], session ) : ids[i];
+			entityKeys[i] = persistenceContext.getEntityKey( id, persister );
+		}
+		return entityKeys;
+	}
+
+	/**
+	 * Read the second-level cache entries of all the entities which are not
+	 * already associated with the session in a single bulk read, instead of
+	 * one read per id.
+	 */
+	private Map<EntityKey, Object> getAllFromSecondLevelCacheIfEnabled(
+			EntityKey[] entityKeys,
+			MultiIdLoadOptions loadOptions,
+			LockOptions lockOptions,
+			EventSource session) {
+		final EntityPersister persister = getLoadable().getEntityPersister();
+		if ( loadOptions.isSecondLevelCacheCheckingEnabled() && persister.canReadFromCache() ) {
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+			final List<EntityKey> keysToRead = new ArrayList<>( entityKeys.length );
+			for ( EntityKey entityKey : entityKeys ) {
+				if ( !loadOptions.isSessionCheckingEnabled() || persistenceContext.getEntity( entityKey ) == null ) {
+					keysToRead.add( entityKey );
+				}
+			}
+			return getAllFromSecondLevelCache( session, lockOptions.getLockMode(), persister, keysToRead );
+		}
+		else {
+			return emptyMap();
+		}
+	}
+
+	private Object loadFromSecondLevelCache(
+			EntityKey entityKey,
+			Map<EntityKey, Object> cachedEntries,
+			EventSource session) {
+		final Object cachedEntry = cachedEntries.get( entityKey );
+		return cachedEntry == null
+				? null
+				: session.loadFromSecondLevelCacheEntry( getLoadable().getEntityPersister(), entityKey, cachedEntry );
+	}
+
 	public interface ResolutionConsumer<T> {
 		void consume(int position, EntityKey entityKey, T resolvedRef);
 	}
@@ -315,6 +371,7 @@ private <R> List<Object> loadFromCaches(
 			ResolutionConsumer<R> resolutionConsumer,
 			Object id,
 			EntityKey entityKey,
+			Map<EntityKey, Object> cachedEntries,
 			List<Object> unresolvedIds, int i,
 			EventSource session) {
 
@@ -337,7 +394,7 @@ private <R> List<Object> loadFromCaches(
 
 		final Object cachedEntity;
 		if ( sessionEntity == null && loadOptions.isSecondLevelCacheCheckingEnabled() ) {
-			cachedEntity = session.loadFromSecondLevelCache( getLoadable().getEntityPersister(), entityKey, null, lockOptions.getLockMode() );
+			cachedEntity = loadFromSecondLevelCache( entityKey, cachedEntries, session );
 		}
 		else {
 			cachedEntity = sessionEntity;
@@ -0,0 +1,127 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.loader.ast.internal;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.hibernate.loader.ast.internal.MultiKeyLoadLogging.MULTI_KEY_LOAD_LOGGER;
+
+/**
+ * The batch size of an entity or collection role, adjusted at runtime
+ * from the batch fetches of the role.
+ * <p>
+ * When a batch fetch finds as many pending keys as the batch size allows,
+ * there are probably more pending keys, which will need more round trips,
+ * and so the batch size is doubled. It is not doubled again if the time
+ * per key did not decrease compared to the smaller batch size, since the
+ * bigger batches are then not cheaper than more round trips. When batch
+ * fetches consistently find far fewer pending keys than the batch size,
+ * the batch size is reduced, to avoid collecting and sending keys for
+ * a batch which is never filled.
+ *
+ * @see org.hibernate.cfg.FetchSettings#ADAPTIVE_BATCH_FETCH
+ */
+public class AdaptiveBatchSize {
+	private static final int MIN_SIZE = 2;
+	// weight of a new observation in the moving average of the number of keys found
+	private static final double SMOOTHING = 0.2;
+
+	private final String role;
+	private final int maxSize;
+
+	private volatile int size;
+
+	/**
+	 * Guards the statistics below. Observations are simply skipped when
+	 * another thread is recording one, since they are only samples.
+	 */
+	private final Lock lock = new ReentrantLock();
+	private double averageKeyCount;
+	// the time per key of the last full batch with the previous (smaller) batch size
+	private double smallerSizeNanosPerKey;
+	// the batch size beyond which growing did not pay off
+	private int ceiling;
+
+	public AdaptiveBatchSize(String role, int initialSize, int maxSize) {
+		this.role = role;
+		this.maxSize = Math.max( MIN_SIZE, maxSize );
+		this.size = clamp( initialSize, this.maxSize );
+		this.averageKeyCount = size;
+		this.ceiling = this.maxSize;
+	}
+
+	/**
+	 * The number of keys the next batch fetch should collect.
+	 */
+	public int getSize() {
+		return size;
+	}
+
+	/**
+	 * Record a batch fetch of keys collected up to the {@linkplain #getSize() batch size}.
+	 *
+	 * @param keyCount The number of keys which were found and loaded
+	 * @param nanos The time taken to load the keys
+	 */
+	public void recordBatchFetch(int keyCount, long nanos) {
+		if ( keyCount <= 0 || !lock.tryLock() ) {
+			return;
+		}
+		try {
+			final int currentSize = size;
+			averageKeyCount += SMOOTHING * ( keyCount - averageKeyCount );
+			if ( keyCount >= currentSize ) {
+				grow( currentSize, (double) nanos / keyCount );
+			}
+			else if ( averageKeyCount * 2 < currentSize ) {
+				shrink( currentSize );
+			}
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	private void grow(int currentSize, double nanosPerKey) {
+		if ( smallerSizeNanosPerKey > 0 && nanosPerKey >= smallerSizeNanosPerKey ) {
+			// the bigger batch did not make loading a key cheaper
+			ceiling = currentSize;
+			smallerSizeNanosPerKey = 0;
+		}
+		else if ( currentSize < ceiling ) {
+			smallerSizeNanosPerKey = nanosPerKey;
+			resize( Math.min( ceiling, currentSize * 2 ) );
+			// start over from the new size
+			averageKeyCount = size;
+		}
+	}
+
+	private void shrink(int currentSize) {
+		final int newSize = clamp( Integer.highestOneBit( (int) Math.ceil( averageKeyCount ) ) * 2, currentSize );
+		if ( newSize < currentSize ) {
+			smallerSizeNanosPerKey = 0;
+			// the demand changed, so allow growing again
+			ceiling = maxSize;
+			resize( newSize );
+		}
+	}
+
+	private void resize(int newSize) {
+		if ( MULTI_KEY_LOAD_LOGGER.isDebugEnabled() ) {
+			MULTI_KEY_LOAD_LOGGER.debugf( "Adjusting batch size of `%s` : %s -> %s", role, size, newSize );
+		}
+		size = newSize;
+	}
+
+	private static int clamp(int size, int maxSize) {
+		return Math.max( MIN_SIZE, Math.min( maxSize, size ) );
+	}
+
+	@Override
+	public String toString() {
+		return "AdaptiveBatchSize(" + role + " [" + size + "])";
+	}
+}
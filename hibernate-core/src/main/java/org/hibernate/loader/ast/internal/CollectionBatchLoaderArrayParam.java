@@ -33,6 +33,8 @@
 import org.hibernate.sql.results.internal.RowTransformerStandardImpl;
 import org.hibernate.sql.results.spi.ListResultsConsumer;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 import static org.hibernate.loader.ast.internal.MultiKeyLoadHelper.hasSingleId;
 import static org.hibernate.loader.ast.internal.MultiKeyLoadHelper.trimIdBatch;
 import static org.hibernate.loader.ast.internal.MultiKeyLoadLogging.MULTI_KEY_LOAD_LOGGER;
@@ -45,6 +47,7 @@
 public class CollectionBatchLoaderArrayParam
 		extends AbstractCollectionBatchLoader
 		implements SqlArrayMultiKeyLoader {
+	private final AdaptiveBatchSize adaptiveBatchSize;
 	private final Class<?> keyDomainType;
 	private final JdbcMapping arrayJdbcMapping;
 	private final JdbcParameter jdbcParameter;
@@ -56,7 +59,21 @@ public CollectionBatchLoaderArrayParam(
 			LoadQueryInfluencers loadQueryInfluencers,
 			PluralAttributeMapping attributeMapping,
 			SessionFactoryImplementor sessionFactory) {
+		this( domainBatchSize, null, loadQueryInfluencers, attributeMapping, sessionFactory );
+	}
+
+	/**
+	 * @param adaptiveBatchSize The batch size adjusted at runtime, if any,
+	 * overriding {@code domainBatchSize}
+	 */
+	public CollectionBatchLoaderArrayParam(
+			int domainBatchSize,
+			@Nullable AdaptiveBatchSize adaptiveBatchSize,
+			LoadQueryInfluencers loadQueryInfluencers,
+			PluralAttributeMapping attributeMapping,
+			SessionFactoryImplementor sessionFactory) {
 		super( domainBatchSize, loadQueryInfluencers, attributeMapping, sessionFactory );
+		this.adaptiveBatchSize = adaptiveBatchSize;
 
 		if ( MULTI_KEY_LOAD_LOGGER.isDebugEnabled() ) {
 			MULTI_KEY_LOAD_LOGGER.debugf(
@@ -97,6 +114,12 @@ public CollectionBatchLoaderArrayParam(
 				.buildSelectTranslator( getSessionFactory(), sqlSelect )
 				.translate( JdbcParameterBindings.NO_BINDINGS, QueryOptions.NONE );
 	}
+
+	@Override
+	public int getDomainBatchSize() {
+		return adaptiveBatchSize == null ? super.getDomainBatchSize() : adaptiveBatchSize.getSize();
+	}
+
 	@Override
 	public PersistentCollection<?> load(Object keyBeingLoaded, SharedSessionContractImplementor session) {
 		final ForeignKeyDescriptor keyDescriptor = getLoadable().getKeyDescriptor();
@@ -192,6 +215,8 @@ void initializeKeys(Object key, Object[] keysToInitialize, SharedSessionContract
 				jdbcParameterBindings
 		);
 
+		final long start = adaptiveBatchSize == null ? 0 : System.nanoTime();
+
 		session.getJdbcServices().getJdbcSelectExecutor().list(
 				jdbcSelectOperation,
 				jdbcParameterBindings,
@@ -202,6 +227,10 @@ void initializeKeys(Object key, Object[] keysToInitialize, SharedSessionContract
 				RowTransformerStandardImpl.instance(),
 				ListResultsConsumer.UniqueSemantic.FILTER
 		);
+
+		if ( adaptiveBatchSize != null ) {
+			adaptiveBatchSize.recordBatchFetch( keysToInitialize.length, System.nanoTime() - start );
+		}
 	}
 
 	@Override
@@ -24,6 +24,8 @@
 import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 import static org.hibernate.engine.internal.BatchFetchQueueHelper.removeBatchLoadableEntityKey;
 import static org.hibernate.loader.ast.internal.MultiKeyLoadHelper.trimIdBatch;
 import static org.hibernate.loader.ast.internal.MultiKeyLoadLogging.MULTI_KEY_LOAD_LOGGER;
@@ -39,6 +41,7 @@
 		extends AbstractEntityBatchLoader<T>
 		implements SqlArrayMultiKeyLoader {
 	private final int domainBatchSize;
+	private final AdaptiveBatchSize adaptiveBatchSize;
 
 	private final LoadQueryInfluencers loadQueryInfluencers;
 	private final BasicEntityIdentifierMapping identifierMapping;
@@ -63,9 +66,25 @@ public EntityBatchLoaderArrayParam(
 			int domainBatchSize,
 			EntityMappingType entityDescriptor,
 			LoadQueryInfluencers loadQueryInfluencers) {
+		this( domainBatchSize, null, entityDescriptor, loadQueryInfluencers );
+	}
+
+	/**
+	 * Instantiates the loader
+	 *
+	 * @param domainBatchSize The number of domain model parts (up to)
+	 * @param adaptiveBatchSize The batch size adjusted at runtime, if any,
+	 * overriding {@code domainBatchSize}
+	 */
+	public EntityBatchLoaderArrayParam(
+			int domainBatchSize,
+			@Nullable AdaptiveBatchSize adaptiveBatchSize,
+			EntityMappingType entityDescriptor,
+			LoadQueryInfluencers loadQueryInfluencers) {
 		super( entityDescriptor, loadQueryInfluencers );
 		this.loadQueryInfluencers = loadQueryInfluencers;
 		this.domainBatchSize = domainBatchSize;
+		this.adaptiveBatchSize = adaptiveBatchSize;
 
 		if ( MULTI_KEY_LOAD_LOGGER.isDebugEnabled() ) {
 			MULTI_KEY_LOAD_LOGGER.debugf(
@@ -102,22 +121,23 @@ public EntityBatchLoaderArrayParam(
 
 	@Override
 	public int getDomainBatchSize() {
-		return domainBatchSize;
+		return adaptiveBatchSize == null ? domainBatchSize : adaptiveBatchSize.getSize();
 	}
 
 	@AllowReflection
 	protected Object[] resolveIdsToInitialize(Object pkValue, SharedSessionContractImplementor session) {
 		//TODO: should this really be different to EntityBatchLoaderInPredicate impl?
 		final Class<?> idType = identifierMapping.getJavaType().getJavaTypeClass();
-		final Object[] idsToLoad = (Object[]) Array.newInstance( idType, domainBatchSize );
+		final int batchSize = getDomainBatchSize();
+		final Object[] idsToLoad = (Object[]) Array.newInstance( idType, batchSize );
 		session.getPersistenceContextInternal().getBatchFetchQueue()
 				.collectBatchLoadableEntityIds(
-						domainBatchSize,
+						batchSize,
 						(index, value) -> idsToLoad[index] = value,
 						pkValue,
 						getLoadable()
 				);
-		return trimIdBatch( domainBatchSize, idsToLoad );
+		return trimIdBatch( batchSize, idsToLoad );
 	}
 
 	@Override
@@ -140,6 +160,8 @@ protected void initializeEntities(
 			}
 		}
 
+		final long start = adaptiveBatchSize == null ? 0 : System.nanoTime();
+
 		LoaderHelper.loadByArrayParameter(
 				idsToInitialize,
 				sqlAst,
@@ -153,6 +175,10 @@ protected void initializeEntities(
 				readOnly,
 				session
 		);
+
+		if ( adaptiveBatchSize != null ) {
+			adaptiveBatchSize.recordBatchFetch( idsToInitialize.length, System.nanoTime() - start );
+		}
 	}
 
 	@Override
@@ -166,7 +192,7 @@ public String toString() {
 				Locale.ROOT,
 				"EntityBatchLoaderArrayParam(%s [%s])",
 				getLoadable().getEntityName(),
-				domainBatchSize
+				getDomainBatchSize()
 		);
 	}
 }
@@ -5,6 +5,7 @@
 package org.hibernate.loader.ast.internal;
 
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
@@ -17,6 +18,12 @@
 import org.hibernate.type.BasicType;
 import org.hibernate.type.Type;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import static org.hibernate.cfg.FetchSettings.ADAPTIVE_BATCH_FETCH;
+import static org.hibernate.cfg.FetchSettings.ADAPTIVE_BATCH_FETCH_MAX_SIZE;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getBoolean;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getInt;
 import static org.hibernate.loader.ast.internal.MultiKeyLoadHelper.supportsSqlArrayType;
 
 /**
@@ -25,8 +32,17 @@
  * @author Steve Ebersole
  */
 public class StandardBatchLoaderFactory implements BatchLoaderFactory {
+	public static final int DEFAULT_ADAPTIVE_MAX_SIZE = 256;
+
+	private final boolean adaptive;
+	private final int adaptiveMaxSize;
+	// the adaptive batch sizes, by entity name or collection role
+	private final Map<String, AdaptiveBatchSize> adaptiveBatchSizes = new ConcurrentHashMap<>();
+
 	@SuppressWarnings("unused")
 	public StandardBatchLoaderFactory(Map<String, Object> configurationValues, ServiceRegistryImplementor registry) {
+		adaptive = getBoolean( ADAPTIVE_BATCH_FETCH, configurationValues );
+		adaptiveMaxSize = getInt( ADAPTIVE_BATCH_FETCH_MAX_SIZE, configurationValues, DEFAULT_ADAPTIVE_MAX_SIZE );
 	}
 
 	@Override
@@ -41,7 +57,12 @@ public <T> EntityBatchLoader<T> createEntityBatchLoader(
 				&& supportsSqlArrayType( factory.getJdbcServices().getDialect() )
 				&& identifierType instanceof BasicType ) {
 			// we can use a single ARRAY parameter to send all the ids
-			return new EntityBatchLoaderArrayParam<>( domainBatchSize, entityDescriptor, loadQueryInfluencers );
+			return new EntityBatchLoaderArrayParam<>(
+					domainBatchSize,
+					adaptiveBatchSize( entityDescriptor.getEntityName(), domainBatchSize ),
+					entityDescriptor,
+					loadQueryInfluencers
+			);
 		}
 		else {
 			return new EntityBatchLoaderInPredicate<>( domainBatchSize, entityDescriptor, loadQueryInfluencers );
@@ -57,10 +78,28 @@ public CollectionBatchLoader createCollectionBatchLoader(
 		if ( attributeMapping.getKeyDescriptor().getJdbcTypeCount() == 1
 				&& supportsSqlArrayType( factory.getJdbcServices().getDialect() ) ) {
 			// we can use a single ARRAY parameter to send all the ids
-			return new CollectionBatchLoaderArrayParam( domainBatchSize, influencers, attributeMapping, factory );
+			return new CollectionBatchLoaderArrayParam(
+					domainBatchSize,
+					adaptiveBatchSize( attributeMapping.getNavigableRole().getFullPath(), domainBatchSize ),
+					influencers,
+					attributeMapping,
+					factory
+			);
 		}
 		else {
 			return new CollectionBatchLoaderInPredicate( domainBatchSize, influencers, attributeMapping, factory );
 		}
 	}
+
+	/**
+	 * The adaptive batch size of the given role, shared by all the batch loaders of the
+	 * role, or {@code null} if {@linkplain org.hibernate.cfg.FetchSettings#ADAPTIVE_BATCH_FETCH
+	 * adaptive batch fetching} is disabled.
+	 */
+	private @Nullable AdaptiveBatchSize adaptiveBatchSize(String role, int domainBatchSize) {
+		return adaptive
+				? adaptiveBatchSizes.computeIfAbsent( role,
+						r -> new AdaptiveBatchSize( r, domainBatchSize, adaptiveMaxSize ) )
+				: null;
+	}
 }
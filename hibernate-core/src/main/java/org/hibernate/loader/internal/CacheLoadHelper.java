@@ -4,6 +4,11 @@
  */
 package org.hibernate.loader.internal;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
 import org.hibernate.HibernateException;
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
@@ -34,11 +39,14 @@
 import org.hibernate.type.Type;
 import org.hibernate.type.TypeHelper;
 
+import static java.util.Collections.emptyMap;
 import static org.hibernate.engine.internal.CacheHelper.fromSharedCache;
+import static org.hibernate.engine.internal.CacheHelper.getAllFromSharedCache;
 import static org.hibernate.engine.internal.ManagedTypeHelper.asPersistentAttributeInterceptable;
 import static org.hibernate.engine.internal.ManagedTypeHelper.isManagedEntity;
 import static org.hibernate.engine.internal.ManagedTypeHelper.isPersistentAttributeInterceptable;
 import static org.hibernate.engine.internal.Versioning.getVersion;
+import static org.hibernate.internal.util.collections.CollectionHelper.mapOfSize;
 import static org.hibernate.loader.internal.CacheLoadHelper.PersistenceContextEntry.EntityStatus.INCONSISTENT_RTN_CLASS_MARKER;
 import static org.hibernate.loader.internal.CacheLoadHelper.PersistenceContextEntry.EntityStatus.MANAGED;
 import static org.hibernate.loader.internal.CacheLoadHelper.PersistenceContextEntry.EntityStatus.REMOVED_ENTITY_MARKER;
@@ -123,14 +131,10 @@ public static Object loadFromSecondLevelCache(
 			final LockMode lockMode,
 			final EntityPersister persister,
 			final EntityKey entityKey) {
-		final boolean useCache =
-				persister.canReadFromCache()
-						&& source.getCacheMode().isGetEnabled()
-						&& lockMode.lessThan( LockMode.READ );
-		if ( useCache ) {
-			final Object ce = getFromSharedCache( entityKey.getIdentifier(), persister, source );
-			// nothing was found in cache
-			return ce == null ? null : processCachedEntry( entity, persister, ce, source, entityKey );
+		if ( canUseCache( source, lockMode, persister ) ) {
+			final CacheEntry entry = getFromSharedCache( entityKey.getIdentifier(), persister, source );
+			// nothing usable was found in cache
+			return entry == null ? null : processCachedEntry( entity, persister, entry, source, entityKey );
 		}
 		else {
 			// we can't use cache here
@@ -138,7 +142,100 @@ public static Object loadFromSecondLevelCache(
 		}
 	}
 
-	private static Object getFromSharedCache(
+	/**
+	 * Looks up the given entities in the second-level cache with a single
+	 * {@linkplain EntityDataAccess#getAll bulk read}, so that the entries of
+	 * a whole batch are fetched in one call to the cache. Each entry found
+	 * must then be passed to {@link #loadFromCachedEntry} to obtain the
+	 * entity.
+	 *
+	 * @param source The source
+	 * @param lockMode The lock mode
+	 * @param persister The persister for the entities being requested for load
+	 * @param entityKeys The entity keys
+	 *
+	 * @return The cached entries which were found, by entity key
+	 */
+	public static Map<EntityKey, Object> getAllFromSecondLevelCache(
+			final SharedSessionContractImplementor source,
+			final LockMode lockMode,
+			final EntityPersister persister,
+			final List<EntityKey> entityKeys) {
+		if ( entityKeys.isEmpty() || !canUseCache( source, lockMode, persister ) ) {
+			return emptyMap();
+		}
+		final EntityDataAccess cache = persister.getCacheAccessStrategy();
+		final SessionFactoryImplementor factory = source.getFactory();
+		final List<Object> cacheKeys = new ArrayList<>( entityKeys.size() );
+		for ( EntityKey entityKey : entityKeys ) {
+			cacheKeys.add( cache.generateCacheKey(
+					entityKey.getIdentifier(),
+					persister,
+					factory,
+					source.getTenantIdentifier()
+			) );
+		}
+		final Map<Object, Object> cachedEntries = getAllFromSharedCache( source, cacheKeys, persister, cache );
+		final Map<EntityKey, Object> result = mapOfSize( cachedEntries.size() );
+		final StatisticsImplementor statistics = factory.getStatistics();
+		for ( int i = 0; i < entityKeys.size(); i++ ) {
+			final Object ce = cachedEntries.get( cacheKeys.get( i ) );
+			if ( ce != null ) {
+				result.put( entityKeys.get( i ), ce );
+			}
+			else if ( statistics.isStatisticsEnabled() ) {
+				statistics.entityCacheMiss( getRootEntityRole( persister ), cache.getRegion().getName() );
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Assembles an entity from an entry obtained from
+	 * {@link #getAllFromSecondLevelCache}.
+	 *
+	 * @param source The source
+	 * @param persister The persister for the entity being requested for load
+	 * @param entityKey The entity key
+	 * @param ce The cached entry
+	 *
+	 * @return The entity, or null if the cached entry was of the wrong type,
+	 *         or was written for a different mapping of the entity.
+	 */
+	public static Object loadFromCachedEntry(
+			final SharedSessionContractImplementor source,
+			final EntityPersister persister,
+			final EntityKey entityKey,
+			final Object ce) {
+		final EntityDataAccess cache = persister.getCacheAccessStrategy();
+		final CacheEntry entry = destructure( ce, persister, source, () -> cache.generateCacheKey(
+				entityKey.getIdentifier(),
+				persister,
+				source.getFactory(),
+				source.getTenantIdentifier()
+		) );
+		final StatisticsImplementor statistics = source.getFactory().getStatistics();
+		if ( statistics.isStatisticsEnabled() ) {
+			if ( entry == null ) {
+				statistics.entityCacheMiss( getRootEntityRole( persister ), cache.getRegion().getName() );
+			}
+			else {
+				statistics.entityCacheHit( getRootEntityRole( persister ), cache.getRegion().getName() );
+			}
+		}
+		return entry == null ? null : processCachedEntry( null, persister, entry, source, entityKey );
+	}
+
+	private static boolean canUseCache(
+			SharedSessionContractImplementor source,
+			LockMode lockMode,
+			EntityPersister persister) {
+		return persister.canReadFromCache()
+			&& source.getCacheMode().isGetEnabled()
+			&& lockMode.lessThan( LockMode.READ );
+	}
+
+	private static CacheEntry getFromSharedCache(
 			final Object entityId,
 			final EntityPersister persister,
 			SharedSessionContractImplementor source) {
@@ -151,28 +248,47 @@ private static Object getFromSharedCache(
 				source.getTenantIdentifier()
 		);
 		final Object ce = fromSharedCache( source, cacheKey, persister, persister.getCacheAccessStrategy() );
+		final CacheEntry entry = ce == null ? null : destructure( ce, persister, source, () -> cacheKey );
 		final StatisticsImplementor statistics = factory.getStatistics();
 		if ( statistics.isStatisticsEnabled() ) {
 			final NavigableRole rootEntityRole = getRootEntityRole( persister );
 			final String regionName = cache.getRegion().getName();
-			if ( ce == null ) {
+			if ( entry == null ) {
 				statistics.entityCacheMiss( rootEntityRole, regionName );
 			}
 			else {
 				statistics.entityCacheHit( rootEntityRole, regionName );
 			}
 		}
-		return ce;
+		return entry;
+	}
+
+	/**
+	 * Destructure the given cached entry, evicting it from the cache if it was
+	 * written for a different mapping of the entity, since it would otherwise
+	 * never be replaced by a newer entry for an unversioned entity.
+	 *
+	 * @return The entry, or {@code null} if it was evicted
+	 */
+	private static CacheEntry destructure(
+			final Object ce,
+			final EntityPersister persister,
+			final SharedSessionContractImplementor source,
+			final Supplier<Object> cacheKey) {
+		final CacheEntry entry = (CacheEntry)
+				persister.getCacheEntryStructure().destructure( ce, source.getFactory() );
+		if ( entry == null ) {
+			persister.getCacheAccessStrategy().evict( cacheKey.get() );
+		}
+		return entry;
 	}
 
 	private static Object processCachedEntry(
 			final Object instanceToLoad,
 			final EntityPersister persister,
-			final Object ce,
+			final CacheEntry entry,
 			final SharedSessionContractImplementor source,
 			final EntityKey entityKey) {
-		final CacheEntry entry = (CacheEntry)
-				persister.getCacheEntryStructure().destructure( ce, source.getFactory() );
 		if ( entry.isReferenceEntry() ) {
 			if ( instanceToLoad != null ) {
 				throw new HibernateException( "Attempt to load entity from cache using provided object instance, "
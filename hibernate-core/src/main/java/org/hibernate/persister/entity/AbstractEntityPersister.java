@@ -35,6 +35,7 @@
 import org.hibernate.cache.spi.access.NaturalIdDataAccess;
 import org.hibernate.cache.spi.entry.CacheEntry;
 import org.hibernate.cache.spi.entry.CacheEntryStructure;
+import org.hibernate.cache.spi.entry.CompactCacheEntry;
 import org.hibernate.cache.spi.entry.ReferenceCacheEntryImpl;
 import org.hibernate.cache.spi.entry.StandardCacheEntryImpl;
 import org.hibernate.cache.spi.entry.StructuredCacheEntry;
@@ -47,6 +48,7 @@
 import org.hibernate.engine.internal.CacheHelper;
 import org.hibernate.engine.internal.ImmutableEntityEntryFactory;
 import org.hibernate.engine.internal.MutableEntityEntryFactory;
+import org.hibernate.engine.internal.PackedEntityEntryFactory;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.profile.internal.FetchProfileAffectee;
 import org.hibernate.engine.spi.CachedNaturalIdValueSource;
@@ -496,9 +498,15 @@ public AbstractEntityPersister(
 
 		entityMetamodel = creationContext.createEntityMetamodel( persistentClass, this );
 
-		entityEntryFactory = entityMetamodel.isMutable()
-				? MutableEntityEntryFactory.INSTANCE
-				: ImmutableEntityEntryFactory.INSTANCE;
+		if ( !entityMetamodel.isMutable() ) {
+			entityEntryFactory = ImmutableEntityEntryFactory.INSTANCE;
+		}
+		else if ( sessionFactoryOptions.isPackedLoadedStateEnabled() ) {
+			entityEntryFactory = new PackedEntityEntryFactory( entityMetamodel.getPropertyTypes() );
+		}
+		else {
+			entityEntryFactory = MutableEntityEntryFactory.INSTANCE;
+		}
 
 		// Handle any filters applied to the class level
 		filterHelper = isNotEmpty( persistentClass.getFilters() ) ? new FilterHelper(
@@ -1119,6 +1127,9 @@ else if ( canUseReferenceCacheEntries() ) {
 			// todo : do we also need to unset proxy factory?
 			return new ReferenceCacheEntryHelper( this );
 		}
+		else if ( options.isCompactCacheEntriesEnabled() ) {
+			return new CompactCacheEntryHelper( this );
+		}
 		else {
 			return options.isStructuredCacheEntriesEnabled()
 					? new StructuredCacheEntryHelper( this )
@@ -1496,8 +1507,13 @@ public Object initializeLazyProperty(String fieldName, Object entity, SharedSess
 			final EntityDataAccess cacheAccess = getCacheAccessStrategy();
 			final Object cacheKey = cacheAccess.generateCacheKey(id, this, session.getFactory(), session.getTenantIdentifier() );
 			final Object ce = CacheHelper.fromSharedCache( session, cacheKey, this, cacheAccess );
-			if ( ce != null ) {
-				final CacheEntry cacheEntry = (CacheEntry) getCacheEntryStructure().destructure( ce, factory );
+			final CacheEntry cacheEntry =
+					ce == null ? null : (CacheEntry) getCacheEntryStructure().destructure( ce, factory );
+			if ( cacheEntry == null && ce != null ) {
+				// the entry was written for a different mapping of the entity
+				cacheAccess.evict( cacheKey );
+			}
+			else if ( cacheEntry != null ) {
 				final Object initializedValue = initializeLazyPropertiesFromCache( fieldName, entity, session, entry, cacheEntry );
 				if (initializedValue != LazyPropertyInitializer.UNFETCHED_PROPERTY) {
 					// The following should be redundant, since the setter should have set this already.
@@ -3658,6 +3674,35 @@ public int[] findDirty(Object[] currentState, Object[] previousState, Object ent
 		}
 	}
 
+	@Override
+	public boolean isDirty(Object entity, Object[] previousState, SharedSessionContractImplementor session) {
+		final Type[] propertyTypes = entityMetamodel.getDirtyCheckablePropertyTypes();
+		final BytecodeEnhancementMetadata enhancementMetadata = entityMetamodel.getBytecodeEnhancementMetadata();
+		final boolean enhancedForLazyLoading = enhancementMetadata.isEnhancedForLazyLoading();
+		for ( int i = 0; i < propertyTypes.length; i++ ) {
+			final Type propertyType = propertyTypes[i];
+			if ( propertyType != null
+					&& ( !enhancedForLazyLoading || isPropertyLoaded( entity, i, enhancementMetadata ) ) ) {
+				// read the value straight from the entity, there is
+				// no need to materialize the whole current state
+				final Object previousValue = previousState[i];
+				final Object currentValue = getterCache[i].get( entity );
+				if ( previousValue == LazyPropertyInitializer.UNFETCHED_PROPERTY
+						|| currentValue != previousValue
+								&& propertyType.isDirty( previousValue, currentValue, propertyColumnUpdateable[i], session ) ) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private boolean isPropertyLoaded(Object entity, int i, BytecodeEnhancementMetadata enhancementMetadata) {
+		final String attributeName = getAttributeMappings().get( i ).getAttributeName();
+		return !enhancementMetadata.getLazyAttributesMetadata().isLazyAttribute( attributeName )
+			|| enhancementMetadata.isAttributeLoaded( entity, attributeName );
+	}
+
 	/**
 	 * Locate the property-indices of all properties considered to be dirty.
 	 *
@@ -3891,7 +3936,7 @@ public Boolean isTransient(Object entity, SharedSessionContractImplementor sessi
 						// check if we're currently loading this entity instance, the version
 						// will be null but the entity cannot be considered transient
 						final EntityHolder holder =
-								persistenceContext.getEntityHolder( new EntityKey( id, this ) );
+								persistenceContext.getEntityHolder( id, this );
 						if ( holder != null && holder.isEventuallyInitialized() && holder.getEntity() == entity ) {
 							return false;
 						}
@@ -4692,6 +4737,26 @@ public CacheEntry buildCacheEntry(Object entity, Object[] state, Object version,
 		}
 	}
 
+	private static class CompactCacheEntryHelper implements CacheEntryHelper {
+		private final EntityPersister persister;
+		private final CompactCacheEntry structure;
+
+		private CompactCacheEntryHelper(EntityPersister persister) {
+			this.persister = persister;
+			this.structure = new CompactCacheEntry( persister );
+		}
+
+		@Override
+		public CacheEntryStructure getCacheEntryStructure() {
+			return structure;
+		}
+
+		@Override
+		public CacheEntry buildCacheEntry(Object entity, Object[] state, Object version, SharedSessionContractImplementor session) {
+			return new StandardCacheEntryImpl( state, persister, version, session, entity );
+		}
+	}
+
 	private static class NoopCacheEntryHelper implements CacheEntryHelper {
 		public static final NoopCacheEntryHelper INSTANCE = new NoopCacheEntryHelper();
 
@@ -412,6 +412,26 @@ default boolean hasOwnedCollections() {
 	 */
 	int[] findDirty(Object[] currentState, Object[] previousState, Object owner, SharedSessionContractImplementor session);
 
+	/**
+	 * Compare the current state of the given entity with the given snapshot,
+	 * to determine if it is dirty, without the need to first extract the
+	 * current state of the entity into an array.
+	 *
+	 * @param entity The entity
+	 * @param previousState The baseline snapshot
+	 * @param session The originating session
+	 * @return {@code true} if at least one property is dirty
+	 *
+	 * @see #findDirty(Object[], Object[], Object, SharedSessionContractImplementor)
+	 * @see org.hibernate.cfg.PersistenceSettings#IN_PLACE_DIRTY_CHECKING
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default boolean isDirty(Object entity, Object[] previousState, SharedSessionContractImplementor session) {
+		return findDirty( getValues( entity ), previousState, entity, session ) != null;
+	}
+
 	/**
 	 * Compare the two snapshots to determine if they represent modified state.
 	 *
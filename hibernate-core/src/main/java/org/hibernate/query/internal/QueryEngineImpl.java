@@ -36,6 +36,7 @@
 import org.hibernate.type.spi.TypeConfiguration;
 import org.jboss.logging.Logger;
 
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -186,7 +187,16 @@ private static QueryInterpretationCache buildInterpretationCache(
 					? explicitMaxPlanSize
 					: QueryEngine.DEFAULT_QUERY_PLAN_MAX_COUNT;
 
-			return new QueryInterpretationCacheStandardImpl( size, serviceRegistry );
+			final String snapshotFile =
+					ConfigurationHelper.getString( AvailableSettings.QUERY_PLAN_CACHE_SNAPSHOT, properties );
+			final QueryInterpretationSnapshot snapshot = snapshotFile == null || snapshotFile.isBlank()
+					? null
+					: new QueryInterpretationSnapshot(
+							Path.of( snapshotFile ),
+							size,
+							serviceRegistry.requireService( ClassLoaderService.class )
+					);
+			return new QueryInterpretationCacheStandardImpl( size, serviceRegistry, snapshot );
 		}
 		else {
 			// disabled
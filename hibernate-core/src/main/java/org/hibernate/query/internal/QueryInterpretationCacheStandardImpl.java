@@ -26,6 +26,8 @@
 
 import org.jboss.logging.Logger;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 /**
  * Standard QueryInterpretationCache implementation
  *
@@ -43,15 +45,25 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 	private final BoundedConcurrentHashMap<Object, HqlInterpretation<?>> hqlInterpretationCache;
 	private final BoundedConcurrentHashMap<String, ParameterInterpretation> nativeQueryParamCache;
 
+	private final @Nullable QueryInterpretationSnapshot snapshot;
+
 	private StatisticsImplementor statistics;
 
 	public QueryInterpretationCacheStandardImpl(int maxQueryPlanCount, ServiceRegistry serviceRegistry) {
+		this( maxQueryPlanCount, serviceRegistry, null );
+	}
+
+	public QueryInterpretationCacheStandardImpl(
+			int maxQueryPlanCount,
+			ServiceRegistry serviceRegistry,
+			@Nullable QueryInterpretationSnapshot snapshot) {
 		log.debugf( "Starting QueryInterpretationCache(%s)", maxQueryPlanCount );
 
 		this.queryPlanCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
 		this.hqlInterpretationCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
 		this.nativeQueryParamCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
 		this.serviceRegistry = serviceRegistry;
+		this.snapshot = snapshot;
 	}
 
 	@Override
@@ -124,6 +136,9 @@ public <R> HqlInterpretation<R> resolveHqlInterpretation(
 			if ( statistics.isStatisticsEnabled() ) {
 				statistics.queryPlanCacheHit( queryString );
 			}
+			if ( snapshot != null ) {
+				snapshot.recordHit( queryString, expectedResultType );
+			}
 			return (HqlInterpretation<R>) existing;
 		}
 		else if ( expectedResultType != null ) {
@@ -132,6 +147,9 @@ else if ( expectedResultType != null ) {
 				if ( statistics.isStatisticsEnabled() ) {
 					statistics.queryPlanCacheHit( queryString );
 				}
+				if ( snapshot != null ) {
+					snapshot.recordHit( queryString, expectedResultType );
+				}
 				return (HqlInterpretation<R>) existingQueryOnly;
 			}
 		}
@@ -139,6 +157,10 @@ else if ( expectedResultType != null ) {
 		final HqlInterpretation<R> hqlInterpretation =
 				createHqlInterpretation( queryString, expectedResultType, translator, statistics );
 		hqlInterpretationCache.put( cacheKey, hqlInterpretation );
+		if ( snapshot != null ) {
+			// only recorded once interpreted successfully
+			snapshot.recordInterpretation( queryString, expectedResultType );
+		}
 		return hqlInterpretation;
 	}
 
@@ -192,8 +214,18 @@ public boolean isEnabled() {
 		return true;
 	}
 
+	@Override
+	public void warmUp(HqlTranslator translator) {
+		if ( snapshot != null ) {
+			snapshot.warmUp( this, translator );
+		}
+	}
+
 	@Override
 	public void close() {
+		if ( snapshot != null ) {
+			snapshot.write();
+		}
 		// todo (6.0) : clear maps/caches and LOG
 		hqlInterpretationCache.clear();
 		nativeQueryParamCache.clear();
@@ -0,0 +1,253 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.query.internal;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.query.QueryLogging;
+import org.hibernate.query.hql.HqlTranslator;
+import org.hibernate.query.spi.QueryInterpretationCache;
+
+import org.jboss.logging.Logger;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Records the HQL queries interpreted by a {@link QueryInterpretationCache}, along
+ * with their expected result types, so that the cache may be warmed up from the file
+ * written when the {@link org.hibernate.SessionFactory} is closed, the next time it
+ * is started.
+ * <p>
+ * The queries which were used most often are kept, up to the maximum size of the
+ * cache. Uses are counted when a query is interpreted, and for a sample of the hits
+ * in the cache. Once twice as many queries as will be kept have been recorded, the
+ * least used ones are evicted, and the counts of the others are halved, so that a
+ * query which is no longer used eventually makes room for new ones. Queries which
+ * fail to interpret are never recorded, and so queries which no longer interpret,
+ * for example because the domain model changed, are dropped after warm-up.
+ *
+ * @see org.hibernate.cfg.QuerySettings#QUERY_PLAN_CACHE_SNAPSHOT
+ */
+public class QueryInterpretationSnapshot {
+	private static final Logger log = QueryLogging.subLogger( "plan.cache" );
+
+	private static final int FORMAT_VERSION = 1;
+
+	/**
+	 * One in this many hits in the cache is recorded, with the corresponding weight
+	 */
+	private static final int HIT_SAMPLING_RATE = 16;
+
+	private final Path file;
+	private final int maxQueryCount;
+	private final ClassLoaderService classLoaderService;
+	private final Map<Entry, LongAdder> usages = new ConcurrentHashMap<>();
+
+	/** Use a lock instead of the monitor lock to avoid pinning when using virtual threads. */
+	private final Lock evictionLock = new ReentrantLock();
+
+	public QueryInterpretationSnapshot(Path file, int maxQueryCount, ClassLoaderService classLoaderService) {
+		this.file = file;
+		this.maxQueryCount = maxQueryCount;
+		this.classLoaderService = classLoaderService;
+	}
+
+	/**
+	 * Record that the given query was successfully interpreted.
+	 */
+	public void recordInterpretation(String queryString, @Nullable Class<?> expectedResultType) {
+		record( queryString, expectedResultType, 1 );
+	}
+
+	/**
+	 * Record a hit of the given query in the cache. Only a sample of the hits
+	 * is actually recorded, to keep the overhead of the hot path low.
+	 */
+	public void recordHit(String queryString, @Nullable Class<?> expectedResultType) {
+		if ( ThreadLocalRandom.current().nextInt( HIT_SAMPLING_RATE ) == 0 ) {
+			record( queryString, expectedResultType, HIT_SAMPLING_RATE );
+		}
+	}
+
+	private void record(String queryString, @Nullable Class<?> expectedResultType, int weight) {
+		final Entry entry = new Entry( queryString, expectedResultType == null ? null : expectedResultType.getName() );
+		LongAdder count = usages.get( entry );
+		if ( count == null ) {
+			if ( usages.size() >= 2 * maxQueryCount ) {
+				evictLeastUsed();
+			}
+			count = usages.computeIfAbsent( entry, e -> new LongAdder() );
+		}
+		count.add( weight );
+	}
+
+	private void evictLeastUsed() {
+		// another thread is already evicting, so there is no need to wait for it
+		if ( evictionLock.tryLock() ) {
+			try {
+				final List<Map.Entry<Entry, Long>> mostUsed = sortByUsage();
+				for ( int i = 0; i < mostUsed.size(); i++ ) {
+					final Entry entry = mostUsed.get( i ).getKey();
+					if ( i < maxQueryCount ) {
+						// age the counts, so that queries which used to be
+						// used often do not stay in the snapshot forever
+						final LongAdder count = usages.get( entry );
+						if ( count != null ) {
+							count.add( -( mostUsed.get( i ).getValue() / 2 ) );
+						}
+					}
+					else {
+						usages.remove( entry );
+					}
+				}
+			}
+			finally {
+				evictionLock.unlock();
+			}
+		}
+	}
+
+	private List<Map.Entry<Entry, Long>> sortByUsage() {
+		final List<Map.Entry<Entry, Long>> mostUsed = new ArrayList<>( usages.size() );
+		for ( Map.Entry<Entry, LongAdder> usage : usages.entrySet() ) {
+			mostUsed.add( Map.entry( usage.getKey(), usage.getValue().sum() ) );
+		}
+		mostUsed.sort( Map.Entry.<Entry, Long>comparingByValue( Comparator.reverseOrder() ) );
+		return mostUsed;
+	}
+
+	/**
+	 * Interpret the queries read from the snapshot file, in parallel, using the
+	 * given cache, which then holds their interpretations.
+	 */
+	public void warmUp(QueryInterpretationCache cache, HqlTranslator translator) {
+		final List<Entry> entries = read();
+		if ( entries.isEmpty() ) {
+			return;
+		}
+		final long startTime = System.nanoTime();
+		final long interpreted = entries.parallelStream()
+				.filter( entry -> interpret( entry, cache, translator ) )
+				.count();
+		log.debugf(
+				"Warmed up query plan cache with %s of %s queries from `%s` in %s ms",
+				interpreted,
+				entries.size(),
+				file,
+				( System.nanoTime() - startTime ) / 1_000_000
+		);
+	}
+
+	private boolean interpret(Entry entry, QueryInterpretationCache cache, HqlTranslator translator) {
+		try {
+			final Class<?> resultType =
+					entry.resultTypeName == null ? null : classLoaderService.classForName( entry.resultTypeName );
+			cache.resolveHqlInterpretation( entry.queryString, resultType, translator );
+			// the interpretation is now cached, and should not count as a use,
+			// but the query is kept in the next snapshot even if it is not used
+			final LongAdder count = usages.get( entry );
+			if ( count != null ) {
+				count.reset();
+			}
+			return true;
+		}
+		catch (RuntimeException e) {
+			log.debugf( e, "Skipping query `%s` of query plan cache snapshot", entry.queryString );
+			return false;
+		}
+	}
+
+	private List<Entry> read() {
+		final List<Entry> entries = new ArrayList<>();
+		if ( Files.isReadable( file ) ) {
+			try ( DataInputStream input = new DataInputStream( new BufferedInputStream( Files.newInputStream( file ) ) ) ) {
+				if ( input.readInt() != FORMAT_VERSION ) {
+					log.debugf( "Ignoring query plan cache snapshot `%s` written in a different format", file );
+					return entries;
+				}
+				final int count = input.readInt();
+				for ( int i = 0; i < count; i++ ) {
+					final String queryString = readString( input );
+					final String resultTypeName = input.readBoolean() ? readString( input ) : null;
+					entries.add( new Entry( queryString, resultTypeName ) );
+				}
+			}
+			catch (IOException e) {
+				log.warnf( "Unable to read query plan cache snapshot `%s` : %s", file, e.getMessage() );
+			}
+		}
+		return entries;
+	}
+
+	/**
+	 * Write the queries used most often to the snapshot file.
+	 */
+	public void write() {
+		final List<Map.Entry<Entry, Long>> mostUsed = sortByUsage();
+		if ( mostUsed.isEmpty() ) {
+			return;
+		}
+		final int count = Math.min( mostUsed.size(), maxQueryCount );
+		try {
+			final Path directory = file.toAbsolutePath().getParent();
+			if ( directory != null ) {
+				Files.createDirectories( directory );
+			}
+			// write to a temporary file first, so that a crash never leaves a truncated snapshot
+			final Path temporaryFile = file.resolveSibling( file.getFileName() + ".tmp" );
+			try ( DataOutputStream output = new DataOutputStream( new BufferedOutputStream( Files.newOutputStream( temporaryFile ) ) ) ) {
+				output.writeInt( FORMAT_VERSION );
+				output.writeInt( count );
+				for ( int i = 0; i < count; i++ ) {
+					final Entry entry = mostUsed.get( i ).getKey();
+					writeString( output, entry.queryString );
+					output.writeBoolean( entry.resultTypeName != null );
+					if ( entry.resultTypeName != null ) {
+						writeString( output, entry.resultTypeName );
+					}
+				}
+			}
+			Files.move( temporaryFile, file, StandardCopyOption.REPLACE_EXISTING );
+			log.debugf( "Wrote %s queries to query plan cache snapshot `%s`", count, file );
+		}
+		catch (IOException e) {
+			log.warnf( "Unable to write query plan cache snapshot `%s` : %s", file, e.getMessage() );
+		}
+	}
+
+	// DataOutput.writeUTF() is limited to 64K bytes, which a query might exceed
+	private static void writeString(DataOutputStream output, String string) throws IOException {
+		final byte[] bytes = string.getBytes( StandardCharsets.UTF_8 );
+		output.writeInt( bytes.length );
+		output.write( bytes );
+	}
+
+	private static String readString(DataInputStream input) throws IOException {
+		final byte[] bytes = new byte[input.readInt()];
+		input.readFully( bytes );
+		return new String( bytes, StandardCharsets.UTF_8 );
+	}
+
+	private record Entry(String queryString, @Nullable String resultTypeName) {
+	}
+}
@@ -643,6 +643,7 @@ protected void prepareForExecution() {
 
 	@Override
 	public int executeUpdate() throws HibernateException {
+		getSession().checkNotReadOnlySession();
 		getSession().checkTransactionNeededForUpdateOperation( "Executing an update/delete query" );
 		final HashSet<String> fetchProfiles = beforeQueryHandlingFetchProfiles();
 		boolean success = false;
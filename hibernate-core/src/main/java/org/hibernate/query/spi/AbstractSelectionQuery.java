@@ -167,6 +167,7 @@ protected void beforeQuery() {
 		final SharedSessionContractImplementor session = getSession();
 		final MutableQueryOptions options = getQueryOptions();
 
+		session.checkNotReadOnlySession( options.getLockOptions() );
 		session.prepareForQueryExecution( requiresTxn( options.getLockOptions().findGreatestLockMode() ) );
 		prepareForExecution();
 
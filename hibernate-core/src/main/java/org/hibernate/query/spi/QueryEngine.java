@@ -45,6 +45,18 @@ public interface QueryEngine extends BindingContext {
 
 	void validateNamedQueries();
 
+	/**
+	 * Populate the {@linkplain #getInterpretationCache() interpretation cache}
+	 * from the snapshot written by a previous run, if any.
+	 *
+	 * @see QueryInterpretationCache#warmUp(HqlTranslator)
+	 *
+	 * @since 7.0
+	 */
+	default void warmUpInterpretationCache() {
+		getInterpretationCache().warmUp( getHqlTranslator() );
+	}
+
 	NamedObjectRepository getNamedObjectRepository();
 
 	HqlTranslator getHqlTranslator();
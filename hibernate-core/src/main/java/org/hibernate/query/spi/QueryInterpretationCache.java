@@ -45,6 +45,16 @@ default Key prepareForStore() {
 
 	boolean isEnabled();
 
+	/**
+	 * Interpret the queries recorded in the snapshot written by a previous run,
+	 * if {@linkplain org.hibernate.cfg.QuerySettings#QUERY_PLAN_CACHE_SNAPSHOT
+	 * enabled}, so that they are cached before they are first executed.
+	 *
+	 * @since 7.0
+	 */
+	default void warmUp(HqlTranslator translator) {
+	}
+
 	/**
 	 * Close the cache when the SessionFactory is closed.
 	 * <p>
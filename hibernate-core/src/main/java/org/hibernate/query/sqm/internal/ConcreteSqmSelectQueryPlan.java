@@ -7,6 +7,8 @@
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import jakarta.persistence.Tuple;
 
@@ -81,6 +83,9 @@
 
 	private volatile CacheableSqmInterpretation cacheableSqmInterpretation;
 
+	/** Use a lock instead of the monitor lock to avoid pinning when using virtual threads. */
+	private final Lock lock = new ReentrantLock();
+
 	public ConcreteSqmSelectQueryPlan(
 			SqmSelectStatement<?> sqm,
 			String hql,
@@ -377,7 +382,7 @@ public ScrollableResultsImplementor<R> performScroll(ScrollMode scrollMode, Doma
 	private <T, X> T withCacheableSqmInterpretation(DomainQueryExecutionContext executionContext, X context, SqmInterpreter<T, X> interpreter) {
 		// NOTE : VERY IMPORTANT - intentional double-lock checking
 		//		The other option would be to leverage `java.util.concurrent.locks.ReadWriteLock`
-		//		to protect access.  However, synchronized is much simpler here.  We will verify
+		//		to protect access.  However, a plain lock is much simpler here.  We will verify
 		// 		during throughput testing whether this is an issue and consider changes then
 
 		CacheableSqmInterpretation localCopy = cacheableSqmInterpretation;
@@ -386,7 +391,8 @@ private <T, X> T withCacheableSqmInterpretation(DomainQueryExecutionContext exec
 		executionContext.getSession().autoPreFlush();
 
 		if ( localCopy == null ) {
-			synchronized ( this ) {
+			lock.lock();
+			try {
 				localCopy = cacheableSqmInterpretation;
 				if ( localCopy == null ) {
 					localCopy = buildCacheableSqmInterpretation(
@@ -418,6 +424,9 @@ private <T, X> T withCacheableSqmInterpretation(DomainQueryExecutionContext exec
 					}
 				}
 			}
+			finally {
+				lock.unlock();
+			}
 		}
 		else {
 			// If the translation depends on parameter bindings or it isn't compatible with the current query options,
@@ -473,6 +473,7 @@ private QueryInterpretationCache interpretationCache() {
 	@Override
 	public int executeUpdate() {
 		verifyUpdate();
+		getSession().checkNotReadOnlySession();
 		getSession().checkTransactionNeededForUpdateOperation( "Executing an update/delete query" );
 		final HashSet<String> fetchProfiles = beforeQueryHandlingFetchProfiles();
 		boolean success = false;
@@ -91,7 +91,7 @@ public <T, R> T executeQuery(
 		final PersistenceContext persistenceContext = executionContext.getSession().getPersistenceContext();
 		boolean defaultReadOnlyOrig = persistenceContext.isDefaultReadOnly();
 		Boolean readOnly = executionContext.getQueryOptions().isReadOnly();
-		if ( readOnly != null ) {
+		if ( readOnly != null && !executionContext.getSession().isReadOnlySession() ) {
 			// The read-only/modifiable mode for the query was explicitly set.
 			// Temporarily set the default read-only/modifiable setting to the query's setting.
 			persistenceContext.setDefaultReadOnly( readOnly );
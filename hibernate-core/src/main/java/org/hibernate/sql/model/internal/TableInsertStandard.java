@@ -9,11 +9,14 @@
 
 import org.hibernate.sql.ast.SqlAstWalker;
 import org.hibernate.sql.ast.tree.expression.ColumnReference;
+import org.hibernate.sql.exec.spi.JdbcParameterBinder;
 import org.hibernate.sql.model.MutationTarget;
+import org.hibernate.sql.model.TableMapping;
 import org.hibernate.sql.model.ast.AbstractTableInsert;
 import org.hibernate.sql.model.ast.ColumnValueBinding;
 import org.hibernate.sql.model.ast.ColumnValueParameter;
 import org.hibernate.sql.model.ast.MutatingTableReference;
+import org.hibernate.sql.model.jdbc.JdbcInsertMutation;
 
 /**
  * @author Steve Ebersole
@@ -55,4 +58,49 @@ public boolean isCallable() {
 	public void accept(SqlAstWalker walker) {
 		walker.visitStandardTableInsert( this );
 	}
+
+	@Override
+	protected JdbcInsertMutation createMutationOperation(
+			TableMapping tableDetails,
+			String sql,
+			List<JdbcParameterBinder> effectiveBinders) {
+		return new JdbcInsertMutation(
+				tableDetails,
+				getMutationTarget(),
+				sql,
+				isCallable(),
+				getExpectation(),
+				effectiveBinders,
+				returningColumns.isEmpty() && getNumberOfValueBindings() > 0 ? valuesTupleStart( sql ) : -1
+		);
+	}
+
+	/**
+	 * Locate the tuple of values of an {@code insert into ... values (...)},
+	 * making sure that it extends to the end of the SQL.
+	 */
+	private static int valuesTupleStart(String sql) {
+		final int valuesStart = sql.indexOf( ") values (" );
+		if ( valuesStart < 0 ) {
+			return -1;
+		}
+		final int tupleStart = valuesStart + ") values ".length();
+		int depth = 0;
+		for ( int i = tupleStart; i < sql.length(); i++ ) {
+			switch ( sql.charAt( i ) ) {
+				case '(':
+					depth++;
+					break;
+				case ')':
+					if ( --depth == 0 && i != sql.length() - 1 ) {
+						return -1;
+					}
+					break;
+				case '\'':
+					// don't bother with literals
+					return -1;
+			}
+		}
+		return depth == 0 ? tupleStart : -1;
+	}
 }
@@ -12,12 +12,16 @@
 import org.hibernate.sql.model.MutationType;
 import org.hibernate.sql.model.TableMapping;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 /**
  * Descriptor for a table insert originating from a flush
  *
  * @author Steve Ebersole
  */
 public class JdbcInsertMutation extends AbstractJdbcMutation {
+	private final int valuesTupleStart;
+
 	public JdbcInsertMutation(
 			TableMapping tableDetails,
 			MutationTarget<?> mutationTarget,
@@ -25,7 +29,54 @@ public JdbcInsertMutation(
 			boolean callable,
 			Expectation expectation,
 			List<? extends JdbcParameterBinder> parameterBinders) {
+		this( tableDetails, mutationTarget, sql, callable, expectation, parameterBinders, -1 );
+	}
+
+	/**
+	 * @param valuesTupleStart The position in the SQL of the tuple of inserted values,
+	 * which must extend to the end of the SQL, or {@code -1} if the SQL does not have
+	 * the form {@code insert into ... values (...)}
+	 */
+	public JdbcInsertMutation(
+			TableMapping tableDetails,
+			MutationTarget<?> mutationTarget,
+			String sql,
+			boolean callable,
+			Expectation expectation,
+			List<? extends JdbcParameterBinder> parameterBinders,
+			int valuesTupleStart) {
 		super( tableDetails, mutationTarget, sql, callable, expectation, parameterBinders );
+		this.valuesTupleStart = valuesTupleStart;
+	}
+
+	/**
+	 * Whether this insert may be {@linkplain #getMultiRowSqlString rendered}
+	 * as a single statement inserting multiple rows.
+	 */
+	public boolean supportsMultiRow() {
+		return valuesTupleStart > 0;
+	}
+
+	/**
+	 * The SQL inserting the given number of rows in a single statement, by
+	 * repeating the tuple of inserted values, or {@code null} if this insert
+	 * does not {@linkplain #supportsMultiRow support} it.
+	 * <p>
+	 * The parameters of each row follow the ones of the previous row.
+	 */
+	public @Nullable String getMultiRowSqlString(int numberOfRows) {
+		if ( !supportsMultiRow() ) {
+			return null;
+		}
+		final String sql = getSqlString();
+		final String valuesTuple = sql.substring( valuesTupleStart );
+		final StringBuilder multiRowSql =
+				new StringBuilder( sql.length() + ( valuesTuple.length() + 1 ) * ( numberOfRows - 1 ) );
+		multiRowSql.append( sql );
+		for ( int i = 1; i < numberOfRows; i++ ) {
+			multiRowSql.append( ',' ).append( valuesTuple );
+		}
+		return multiRowSql.toString();
 	}
 
 	@Override
@@ -12,6 +12,7 @@
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.sql.results.caching.QueryCachePutManager;
 import org.hibernate.sql.results.jdbc.internal.CachedJdbcValuesMetadata;
+import org.hibernate.sql.results.jdbc.internal.ColumnarCachedResults;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
 /**
@@ -25,6 +26,7 @@ public class QueryCachePutManagerEnabledImpl implements QueryCachePutManager {
 	private final StatisticsImplementor statistics;
 	private final QueryKey queryKey;
 	private final String queryIdentifier;
+	private final boolean columnar;
 	private final List<Object> dataToCache = new ArrayList<>();
 
 	public QueryCachePutManagerEnabledImpl(
@@ -33,7 +35,22 @@ public QueryCachePutManagerEnabledImpl(
 			QueryKey queryKey,
 			String queryIdentifier,
 			CachedJdbcValuesMetadata metadataForCache) {
+		this( queryCache, statistics, queryKey, queryIdentifier, metadataForCache, false );
+	}
+
+	/**
+	 * @param columnar Whether the data is put into the cache in a
+	 * {@linkplain ColumnarCachedResults column-oriented form}
+	 */
+	public QueryCachePutManagerEnabledImpl(
+			QueryResultsCache queryCache,
+			StatisticsImplementor statistics,
+			QueryKey queryKey,
+			String queryIdentifier,
+			CachedJdbcValuesMetadata metadataForCache,
+			boolean columnar) {
 		this.queryCache = queryCache;
+		this.columnar = columnar;
 		this.statistics = statistics;
 		this.queryKey = queryKey;
 		this.queryIdentifier = queryIdentifier;
@@ -59,7 +76,7 @@ public void finishUp(int resultCount, SharedSessionContractImplementor session)
 		}
 		final boolean put = queryCache.put(
 				queryKey,
-				dataToCache,
+				columnar ? ColumnarCachedResults.from( dataToCache ) : dataToCache,
 				session
 		);
 		if ( put && statistics.isStatisticsEnabled() ) {
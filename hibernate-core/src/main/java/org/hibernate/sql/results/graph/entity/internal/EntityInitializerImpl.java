@@ -726,7 +726,9 @@ protected void resolveEntityKey(EntityInitializerData data, Object id) {
 			);
 			assert concreteDescriptor != null;
 		}
-		data.entityKey = new EntityKey( id, concreteDescriptor );
+		// reuses the key of the entity if it is already in the persistence context
+		data.entityKey = data.getRowProcessingState().getSession().getPersistenceContextInternal()
+				.getEntityKey( id, concreteDescriptor );
 	}
 
 	protected void setMissing(EntityInitializerData data) {
@@ -1707,6 +1709,9 @@ else if ( entry.getStatus().isDeletedOrGone() ) {
 	}
 
 	private boolean isReadOnly(RowProcessingState rowProcessingState, SharedSessionContractImplementor persistenceContext) {
+		if ( persistenceContext.isReadOnlySession() ) {
+			return true;
+		}
 		final Boolean readOnly = rowProcessingState.getQueryOptions().isReadOnly();
 		return readOnly == null ? persistenceContext.isDefaultReadOnly() : readOnly;
 	}
@@ -7,6 +7,7 @@
 import java.lang.reflect.Array;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.internal.build.AllowReflection;
@@ -125,6 +126,26 @@ public int getInitializerCount() {
 		return entityKey;
 	}
 
+	@Override
+	public boolean resolveShallowCachedEntityKeys(
+			RowProcessingState rowProcessingState,
+			Consumer<EntityKey> entityKeyConsumer) {
+		boolean found = false;
+		for ( Initializer<InitializerData> resultInitializer : resultInitializers ) {
+			final EntityInitializer<?> entityInitializer = resultInitializer.asEntityInitializer();
+			if ( entityInitializer != null
+					&& entityInitializer.getEntityDescriptor().useShallowQueryCacheLayout() ) {
+				found = true;
+				final EntityKey entityKey = entityInitializer.resolveEntityKeyOnly( rowProcessingState );
+				if ( entityKey != null ) {
+					entityKeyConsumer.accept( entityKey );
+				}
+			}
+		}
+		finishUpRow();
+		return found;
+	}
+
 	@Override
 	public boolean hasCollectionInitializers() {
 		return hasCollectionInitializers;
@@ -0,0 +1,303 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.sql.results.jdbc.internal;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * An immutable, column-oriented form of the data put into the query results
+ * cache by {@link org.hibernate.sql.results.caching.internal.QueryCachePutManagerEnabledImpl}.
+ * <p>
+ * Columns holding only {@link Long}, {@link Integer} or {@link Double} values are
+ * kept in primitive arrays, and columns holding only strings are dictionary-encoded
+ * when they have few distinct values. All other columns are kept in an array of
+ * objects. No array is kept for each row.
+ * <p>
+ * This class also implements the {@link List} view of the cached data: the
+ * {@linkplain CachedJdbcValuesMetadata metadata}, if any, followed by the rows,
+ * followed by the result count. {@link JdbcValuesCacheHit} reads the values of
+ * the columns {@linkplain #getValue directly} instead.
+ *
+ * @see org.hibernate.cfg.CacheSettings#QUERY_CACHE_COLUMNAR
+ */
+public final class ColumnarCachedResults extends AbstractList<Object> implements RandomAccess, Serializable {
+	private final @Nullable CachedJdbcValuesMetadata metadata;
+	private final int numberOfRows;
+	// whether each row is a single value, and not an array
+	private final boolean singleValueRows;
+	private final Column[] columns;
+	private final int resultCount;
+
+	private ColumnarCachedResults(
+			@Nullable CachedJdbcValuesMetadata metadata,
+			int numberOfRows,
+			boolean singleValueRows,
+			Column[] columns,
+			int resultCount) {
+		this.metadata = metadata;
+		this.numberOfRows = numberOfRows;
+		this.singleValueRows = singleValueRows;
+		this.columns = columns;
+		this.resultCount = resultCount;
+	}
+
+	/**
+	 * Convert the data collected for the query results cache, or return
+	 * the given data when it does not have the expected shape.
+	 */
+	public static List<?> from(List<?> dataToCache) {
+		if ( dataToCache.isEmpty() ) {
+			return dataToCache;
+		}
+		final int offset = dataToCache.get( 0 ) instanceof CachedJdbcValuesMetadata ? 1 : 0;
+		final int numberOfRows = dataToCache.size() - offset - 1;
+		if ( numberOfRows < 1 || !( dataToCache.get( dataToCache.size() - 1 ) instanceof Integer resultCount ) ) {
+			return dataToCache;
+		}
+		final boolean singleValueRows = !( dataToCache.get( offset ) instanceof Object[] );
+		final int numberOfColumns = singleValueRows ? 1 : ( (Object[]) dataToCache.get( offset ) ).length;
+		final Object[][] columnValues = new Object[numberOfColumns][numberOfRows];
+		for ( int i = 0; i < numberOfRows; i++ ) {
+			final Object row = dataToCache.get( offset + i );
+			if ( singleValueRows ) {
+				columnValues[0][i] = row;
+			}
+			else if ( row instanceof Object[] values && values.length == numberOfColumns ) {
+				for ( int j = 0; j < numberOfColumns; j++ ) {
+					columnValues[j][i] = values[j];
+				}
+			}
+			else {
+				return dataToCache;
+			}
+		}
+		final Column[] columns = new Column[numberOfColumns];
+		for ( int j = 0; j < numberOfColumns; j++ ) {
+			columns[j] = encode( columnValues[j] );
+		}
+		return new ColumnarCachedResults(
+				offset == 1 ? (CachedJdbcValuesMetadata) dataToCache.get( 0 ) : null,
+				numberOfRows,
+				singleValueRows,
+				columns,
+				resultCount
+		);
+	}
+
+	/**
+	 * The number of rows
+	 */
+	public int getNumberOfRows() {
+		return numberOfRows;
+	}
+
+	/**
+	 * The value of the given column of the given row, where the column is the
+	 * index of the value in the cached row.
+	 */
+	public Object getValue(int row, int column) {
+		return columns[column].get( row );
+	}
+
+	@Override
+	public Object get(int index) {
+		int rowIndex = index;
+		if ( metadata != null ) {
+			if ( index == 0 ) {
+				return metadata;
+			}
+			rowIndex--;
+		}
+		if ( rowIndex == numberOfRows ) {
+			return resultCount;
+		}
+		if ( rowIndex < 0 || rowIndex > numberOfRows ) {
+			throw new IndexOutOfBoundsException( index );
+		}
+		if ( singleValueRows ) {
+			return columns[0].get( rowIndex );
+		}
+		final Object[] row = new Object[columns.length];
+		for ( int j = 0; j < columns.length; j++ ) {
+			row[j] = columns[j].get( rowIndex );
+		}
+		return row;
+	}
+
+	@Override
+	public int size() {
+		return ( metadata == null ? 0 : 1 ) + numberOfRows + 1;
+	}
+
+	private static Column encode(Object[] values) {
+		Class<?> type = null;
+		for ( Object value : values ) {
+			if ( value != null ) {
+				if ( type == null ) {
+					type = value.getClass();
+				}
+				else if ( type != value.getClass() ) {
+					return new ObjectColumn( values );
+				}
+			}
+		}
+		if ( type == Long.class ) {
+			return new LongColumn( values );
+		}
+		else if ( type == Integer.class ) {
+			return new IntColumn( values );
+		}
+		else if ( type == Double.class ) {
+			return new DoubleColumn( values );
+		}
+		else if ( type == String.class ) {
+			return StringColumn.encode( values );
+		}
+		else {
+			return new ObjectColumn( values );
+		}
+	}
+
+	private interface Column extends Serializable {
+		Object get(int row);
+	}
+
+	private static final class ObjectColumn implements Column {
+		private final Object[] values;
+
+		private ObjectColumn(Object[] values) {
+			this.values = values;
+		}
+
+		@Override
+		public Object get(int row) {
+			return values[row];
+		}
+	}
+
+	private abstract static class PrimitiveColumn implements Column {
+		private final @Nullable BitSet nulls;
+
+		private PrimitiveColumn(Object[] values) {
+			BitSet nulls = null;
+			for ( int i = 0; i < values.length; i++ ) {
+				if ( values[i] == null ) {
+					if ( nulls == null ) {
+						nulls = new BitSet( values.length );
+					}
+					nulls.set( i );
+				}
+			}
+			this.nulls = nulls;
+		}
+
+		@Override
+		public Object get(int row) {
+			return nulls != null && nulls.get( row ) ? null : getNonNull( row );
+		}
+
+		abstract Object getNonNull(int row);
+	}
+
+	private static final class LongColumn extends PrimitiveColumn {
+		private final long[] values;
+
+		private LongColumn(Object[] values) {
+			super( values );
+			this.values = new long[values.length];
+			for ( int i = 0; i < values.length; i++ ) {
+				if ( values[i] != null ) {
+					this.values[i] = (Long) values[i];
+				}
+			}
+		}
+
+		@Override
+		Object getNonNull(int row) {
+			return values[row];
+		}
+	}
+
+	private static final class IntColumn extends PrimitiveColumn {
+		private final int[] values;
+
+		private IntColumn(Object[] values) {
+			super( values );
+			this.values = new int[values.length];
+			for ( int i = 0; i < values.length; i++ ) {
+				if ( values[i] != null ) {
+					this.values[i] = (Integer) values[i];
+				}
+			}
+		}
+
+		@Override
+		Object getNonNull(int row) {
+			return values[row];
+		}
+	}
+
+	private static final class DoubleColumn extends PrimitiveColumn {
+		private final double[] values;
+
+		private DoubleColumn(Object[] values) {
+			super( values );
+			this.values = new double[values.length];
+			for ( int i = 0; i < values.length; i++ ) {
+				if ( values[i] != null ) {
+					this.values[i] = (Double) values[i];
+				}
+			}
+		}
+
+		@Override
+		Object getNonNull(int row) {
+			return values[row];
+		}
+	}
+
+	private static final class StringColumn implements Column {
+		private final String[] dictionary;
+		// index into the dictionary, or -1 for null
+		private final int[] codes;
+
+		private StringColumn(String[] dictionary, int[] codes) {
+			this.dictionary = dictionary;
+			this.codes = codes;
+		}
+
+		private static Column encode(Object[] values) {
+			final Map<String, Integer> codesByValue = new HashMap<>();
+			final int[] codes = new int[values.length];
+			for ( int i = 0; i < values.length; i++ ) {
+				final String value = (String) values[i];
+				codes[i] = value == null ? -1 : codesByValue.computeIfAbsent( value, v -> codesByValue.size() );
+				if ( codesByValue.size() > values.length / 2 ) {
+					// too many distinct values for the dictionary to pay off
+					return new ObjectColumn( values );
+				}
+			}
+			final String[] dictionary = new String[codesByValue.size()];
+			for ( Map.Entry<String, Integer> entry : codesByValue.entrySet() ) {
+				dictionary[entry.getValue()] = entry.getKey();
+			}
+			return new StringColumn( dictionary, codes );
+		}
+
+		@Override
+		public Object get(int row) {
+			final int code = codes[row];
+			return code < 0 ? null : dictionary[code];
+		}
+	}
+}
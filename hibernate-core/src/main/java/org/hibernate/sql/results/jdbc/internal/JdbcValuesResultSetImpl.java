@@ -135,7 +135,8 @@ private static QueryCachePutManager resolveQueryCachePutManager(
 					factory.getStatistics(),
 					queryCacheKey,
 					queryIdentifier,
-					metadataForCache
+					metadataForCache,
+					factory.getSessionFactoryOptions().isQueryCacheColumnarEnabled()
 			);
 		}
 		else {
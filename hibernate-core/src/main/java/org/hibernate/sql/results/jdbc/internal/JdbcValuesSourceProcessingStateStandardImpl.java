@@ -134,7 +134,10 @@ public void finishUp(boolean registerSubselects) {
 	}
 
 	private boolean isReadOnly() {
-		if ( getQueryOptions().isReadOnly() != null ) {
+		if ( getSession().isReadOnlySession() ) {
+			return true;
+		}
+		else if ( getQueryOptions().isReadOnly() != null ) {
 			return getQueryOptions().isReadOnly();
 		}
 		else if ( getSession() instanceof EventSource ) {
@@ -5,14 +5,22 @@
 package org.hibernate.sql.results.spi;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 
 import org.hibernate.HibernateException;
+import org.hibernate.LockOptions;
+import org.hibernate.MultiIdentifierLoadAccess;
+import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.query.ResultListTransformer;
+import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.sql.exec.spi.ExecutionContext;
 import org.hibernate.sql.results.internal.RowProcessingStateStandardImpl;
 import org.hibernate.sql.results.jdbc.internal.JdbcValuesSourceProcessingStateStandardImpl;
@@ -163,6 +171,9 @@ public List<R> consume(
 			final boolean isEntityResultType = domainResultJavaType instanceof EntityJavaType;
 			final int initialCollectionSize = Math.min( jdbcValues.getResultCountEstimate(), INITIAL_COLLECTION_SIZE_LIMIT );
 			final Results<R> results = createResults( isEntityResultType, domainResultJavaType, initialCollectionSize );
+			if ( rowProcessingState.isQueryCacheHit() && session.isEventSource() ) {
+				loadShallowCachedEntities( session, rowProcessingState, rowReader );
+			}
 			final int readRows = readRows( rowProcessingState, rowReader, isEntityResultType, results );
 			rowReader.finishUp( rowProcessingState );
 			jdbcValuesSourceProcessingState.finishUp( readRows > 1 );
@@ -195,6 +206,64 @@ public List<R> consume(
 		throw new IllegalStateException( "Should not reach this" );
 	}
 
+	/**
+	 * When the query cache holds only the identifiers of the entity results, load
+	 * the entities which are not already in the persistence context up front, with
+	 * one {@linkplain org.hibernate.MultiIdentifierLoadAccess multi-load} for each
+	 * entity type, which reads the second-level cache in bulk and then fetches what
+	 * is missing from the database in batches. Otherwise, each entity would be loaded
+	 * on its own while reading the rows.
+	 */
+	private static <R> void loadShallowCachedEntities(
+			SharedSessionContractImplementor session,
+			RowProcessingStateStandardImpl rowProcessingState,
+			RowReader<R> rowReader) {
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		final Set<EntityKey> entityKeys = new LinkedHashSet<>();
+		while ( rowProcessingState.next() ) {
+			final boolean shallow = rowReader.resolveShallowCachedEntityKeys(
+					rowProcessingState,
+					entityKey -> {
+						if ( !persistenceContext.containsEntity( entityKey ) ) {
+							entityKeys.add( entityKey );
+						}
+					}
+			);
+			if ( !shallow ) {
+				// every row has the same shape
+				break;
+			}
+		}
+		rowProcessingState.beforeFirst();
+
+		final Map<String, List<Object>> idsByEntityName = new HashMap<>();
+		for ( EntityKey entityKey : entityKeys ) {
+			idsByEntityName.computeIfAbsent( entityKey.getEntityName(), entityName -> new ArrayList<>() )
+					.add( entityKey.getIdentifier() );
+		}
+		final QueryOptions queryOptions = rowProcessingState.getQueryOptions();
+		final LockOptions lockOptions = queryOptions.getLockOptions();
+		final Boolean readOnly = queryOptions.isReadOnly();
+		idsByEntityName.forEach( (entityName, ids) -> {
+			// a single entity is loaded just as well while reading its row
+			if ( ids.size() > 1 ) {
+				// the session cache mode is the effective cache mode of the query here
+				final MultiIdentifierLoadAccess<?> multiLoadAccess =
+						session.asEventSource().byMultipleIds( entityName )
+								.with( session.getCacheMode() )
+								.enableSessionCheck( true )
+								.enableOrderedReturn( false );
+				if ( lockOptions != null && !lockOptions.isEmpty() ) {
+					multiLoadAccess.with( lockOptions );
+				}
+				if ( readOnly != null ) {
+					multiLoadAccess.withReadOnly( readOnly );
+				}
+				multiLoadAccess.multiLoad( ids );
+			}
+		} );
+	}
+
 	private static <R> List<R> transformList(ExecutionContext executionContext, Results<R> results) {
 		final ResultListTransformer<R> transformer = getResultListTransformer( executionContext );
 		return transformer == null ? results.getResults() : transformer.transformList( results.getResults() );
@@ -5,7 +5,9 @@
 package org.hibernate.sql.results.spi;
 
 import java.util.List;
+import java.util.function.Consumer;
 
+import org.hibernate.Incubating;
 import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
 import org.hibernate.type.descriptor.java.JavaType;
@@ -52,6 +54,22 @@
 
 	@Nullable EntityKey resolveSingleResultEntityKey(RowProcessingState rowProcessingState);
 
+	/**
+	 * Resolve the keys of the entity results of the current row of a query cache
+	 * hit which are cached as {@linkplain org.hibernate.annotations.CacheLayout#SHALLOW
+	 * identifiers only}, without reading the rest of the row.
+	 *
+	 * @return {@code false} if there are no such entity results
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default boolean resolveShallowCachedEntityKeys(
+			RowProcessingState rowProcessingState,
+			Consumer<EntityKey> entityKeyConsumer) {
+		return false;
+	}
+
 	boolean hasCollectionInitializers();
 
 }
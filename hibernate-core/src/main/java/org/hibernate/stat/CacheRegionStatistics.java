@@ -6,6 +6,10 @@
 
 import java.io.Serializable;
 
+import org.hibernate.Incubating;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 /**
  * Second-level cache statistics of a specific region.
  *
@@ -71,4 +75,28 @@ public interface CacheRegionStatistics extends Serializable {
 	 * is returned instead.
 	 */
 	long getSizeInMemory();
+
+	/**
+	 * The distribution of the time taken by the reads from the region,
+	 * if {@value org.hibernate.cfg.StatisticsSettings#CACHE_LATENCY_STATISTICS}
+	 * is enabled.
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default @Nullable LatencyStatistics getGetLatency() {
+		return null;
+	}
+
+	/**
+	 * The distribution of the time taken by the writes to the region,
+	 * if {@value org.hibernate.cfg.StatisticsSettings#CACHE_LATENCY_STATISTICS}
+	 * is enabled.
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default @Nullable LatencyStatistics getPutLatency() {
+		return null;
+	}
 }
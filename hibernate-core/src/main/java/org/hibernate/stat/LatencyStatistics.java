@@ -0,0 +1,47 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.stat;
+
+import java.io.Serializable;
+
+import org.hibernate.Incubating;
+
+/**
+ * The distribution of the time taken by an operation, for example, by
+ * the reads from a second-level cache region.
+ * <p>
+ * The times are recorded in buckets whose width grows with the time, so
+ * that a percentile is accurate to within an eighth of its value.
+ *
+ * @see CacheRegionStatistics#getGetLatency()
+ * @see CacheRegionStatistics#getPutLatency()
+ *
+ * @since 7.0
+ */
+@Incubating
+public interface LatencyStatistics extends Serializable {
+	/**
+	 * The number of operations recorded since the last Statistics clearing
+	 */
+	long getCount();
+
+	/**
+	 * The total time taken by the operations, in nanoseconds
+	 */
+	long getTotalTime();
+
+	/**
+	 * The time taken by the slowest operation, in nanoseconds
+	 */
+	long getMaxTime();
+
+	/**
+	 * The time, in nanoseconds, within which the given percentage of the
+	 * operations completed, or zero if no operation was recorded
+	 *
+	 * @param percentile A percentage, between 0 and 100
+	 */
+	long getTimeAtPercentile(double percentile);
+}
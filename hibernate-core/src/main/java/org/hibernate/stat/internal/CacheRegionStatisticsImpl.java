@@ -10,6 +10,9 @@
 import org.hibernate.cache.spi.ExtendedStatisticsSupport;
 import org.hibernate.cache.spi.Region;
 import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.LatencyStatistics;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
  * Second level cache statistics of a specific region
@@ -23,8 +26,17 @@ public class CacheRegionStatisticsImpl implements CacheRegionStatistics, Seriali
 	private final LongAdder missCount = new LongAdder();
 	private final LongAdder putCount = new LongAdder();
 
+	private final @Nullable LatencyHistogram getLatency;
+	private final @Nullable LatencyHistogram putLatency;
+
 	CacheRegionStatisticsImpl(Region region) {
+		this( region, false );
+	}
+
+	CacheRegionStatisticsImpl(Region region, boolean latencyStatistics) {
 		this.region = region;
+		this.getLatency = latencyStatistics ? new LatencyHistogram() : null;
+		this.putLatency = latencyStatistics ? new LatencyHistogram() : null;
 	}
 
 	@Override
@@ -71,6 +83,28 @@ public long getSizeInMemory() {
 		return NO_EXTENDED_STAT_SUPPORT_RETURN;
 	}
 
+	@Override
+	public @Nullable LatencyStatistics getGetLatency() {
+		return getLatency;
+	}
+
+	@Override
+	public @Nullable LatencyStatistics getPutLatency() {
+		return putLatency;
+	}
+
+	void recordGetTime(long nanoseconds) {
+		if ( getLatency != null ) {
+			getLatency.record( nanoseconds );
+		}
+	}
+
+	void recordPutTime(long nanoseconds) {
+		if ( putLatency != null ) {
+			putLatency.record( nanoseconds );
+		}
+	}
+
 	void incrementHitCount() {
 		hitCount.increment();
 	}
@@ -0,0 +1,110 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.stat.internal;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.stat.LatencyStatistics;
+
+/**
+ * A histogram of times in nanoseconds, in the style of HdrHistogram: each power
+ * of two is divided into eight buckets of equal width, so that the buckets are
+ * exact up to 16 nanoseconds, and accurate to within an eighth above. Recording
+ * a time does not allocate, and does not take a lock.
+ */
+final class LatencyHistogram implements LatencyStatistics {
+	// the number of buckets per power of two is 2^SUB_BUCKET_BITS
+	private static final int SUB_BUCKET_BITS = 3;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	private static final int BUCKETS = ( Long.SIZE - SUB_BUCKET_BITS + 1 ) * SUB_BUCKETS;
+
+	private final AtomicLongArray counts = new AtomicLongArray( BUCKETS );
+	private final LongAdder count = new LongAdder();
+	private final LongAdder totalTime = new LongAdder();
+	private final AtomicLong maxTime = new AtomicLong();
+
+	void record(long nanoseconds) {
+		final long time = Math.max( 0, nanoseconds );
+		counts.incrementAndGet( bucket( time ) );
+		count.increment();
+		totalTime.add( time );
+		long max = maxTime.get();
+		while ( time > max && !maxTime.compareAndSet( max, time ) ) {
+			max = maxTime.get();
+		}
+	}
+
+	@Override
+	public long getCount() {
+		return count.sum();
+	}
+
+	@Override
+	public long getTotalTime() {
+		return totalTime.sum();
+	}
+
+	@Override
+	public long getMaxTime() {
+		return maxTime.get();
+	}
+
+	@Override
+	public long getTimeAtPercentile(double percentile) {
+		long total = 0;
+		final long[] snapshot = new long[BUCKETS];
+		for ( int i = 0; i < BUCKETS; i++ ) {
+			snapshot[i] = counts.get( i );
+			total += snapshot[i];
+		}
+		if ( total == 0 ) {
+			return 0;
+		}
+		final double clamped = Math.min( 100, Math.max( 0, percentile ) );
+		final long rank = Math.max( 1, (long) Math.ceil( clamped / 100 * total ) );
+		long seen = 0;
+		for ( int i = 0; i < BUCKETS; i++ ) {
+			seen += snapshot[i];
+			if ( seen >= rank ) {
+				// the highest time which falls in the bucket
+				return Math.min( lowestTime( i + 1 ) - 1, getMaxTime() );
+			}
+		}
+		return getMaxTime();
+	}
+
+	static int bucket(long time) {
+		if ( time < SUB_BUCKETS ) {
+			return (int) time;
+		}
+		final int magnitude = Long.SIZE - 1 - Long.numberOfLeadingZeros( time );
+		final int subBucket = (int) ( time >>> ( magnitude - SUB_BUCKET_BITS ) ) & ( SUB_BUCKETS - 1 );
+		return ( magnitude - SUB_BUCKET_BITS + 1 ) * SUB_BUCKETS + subBucket;
+	}
+
+	static long lowestTime(int bucket) {
+		if ( bucket < SUB_BUCKETS ) {
+			return bucket;
+		}
+		final int magnitude = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+		final long subBucket = bucket % SUB_BUCKETS;
+		return magnitude >= Long.SIZE - 1
+				? Long.MAX_VALUE
+				: ( SUB_BUCKETS + subBucket ) << ( magnitude - SUB_BUCKET_BITS );
+	}
+
+	@Override
+	public String toString() {
+		return "LatencyStatistics"
+				+ "[count=" + getCount()
+				+ ",totalTime=" + getTotalTime()
+				+ ",maxTime=" + getMaxTime()
+				+ ",p50=" + getTimeAtPercentile( 50 )
+				+ ",p99=" + getTimeAtPercentile( 99 )
+				+ ']';
+	}
+}
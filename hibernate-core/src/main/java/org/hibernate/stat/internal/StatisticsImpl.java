@@ -32,7 +32,9 @@
 import org.checkerframework.checker.initialization.qual.UnknownInitialization;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import static org.hibernate.cfg.StatisticsSettings.CACHE_LATENCY_STATISTICS;
 import static org.hibernate.internal.CoreLogging.messageLogger;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getBoolean;
 
 /**
  * Implementation of {@link Statistics} based on the {@link java.util.concurrent} package.
@@ -52,6 +54,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 	private final boolean secondLevelCacheEnabled;
 	private final boolean queryCacheEnabled;
+	private final boolean cacheLatencyStatistics;
 
 	private volatile boolean isStatisticsEnabled;
 	private volatile Instant startTime;
@@ -138,6 +141,7 @@ public StatisticsImpl(SessionFactoryImplementor sessionFactory) {
 		cache = sessionFactory.getCache();
 		secondLevelCacheEnabled = sessionFactoryOptions.isSecondLevelCacheEnabled();
 		queryCacheEnabled = sessionFactoryOptions.isQueryCacheEnabled();
+		cacheLatencyStatistics = getBoolean( CACHE_LATENCY_STATISTICS, sessionFactory.getProperties() );
 
 		final List<String> entityNames = new ArrayList<>();
 		metamodel.forEachEntityDescriptor( (entityDescriptor) -> entityNames.add( entityDescriptor.getEntityName() ) );
@@ -597,7 +601,7 @@ public CacheRegionStatisticsImpl getDomainDataRegionStatistics(String regionName
 			return null; //this null value will be cached
 		}
 		else {
-			return new CacheRegionStatisticsImpl( regionAccess.getRegion() );
+			return new CacheRegionStatisticsImpl( regionAccess.getRegion(), cacheLatencyStatistics );
 		}
 	}
 
@@ -664,6 +668,31 @@ public void updateTimestampsCachePut() {
 		updateTimestampsCachePutCount.increment();
 	}
 
+	@Override
+	public void cacheGetTime(String regionName, long nanoseconds) {
+		final CacheRegionStatisticsImpl regionStatistics = getRegionStatisticsForLatency( regionName );
+		if ( regionStatistics != null ) {
+			regionStatistics.recordGetTime( nanoseconds );
+		}
+	}
+
+	@Override
+	public void cachePutTime(String regionName, long nanoseconds) {
+		final CacheRegionStatisticsImpl regionStatistics = getRegionStatisticsForLatency( regionName );
+		if ( regionStatistics != null ) {
+			regionStatistics.recordPutTime( nanoseconds );
+		}
+	}
+
+	private @Nullable CacheRegionStatisticsImpl getRegionStatisticsForLatency(String regionName) {
+		if ( !cacheLatencyStatistics ) {
+			return null;
+		}
+		// avoid allocating a Function once the statistics of the region exist
+		final CacheRegionStatisticsImpl existing = l2CacheStatsMap.get( regionName );
+		return existing == null ? getCacheRegionStatistics( regionName ) : existing;
+	}
+
 
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// Query statistics
@@ -1014,11 +1043,11 @@ private CacheRegionStatisticsImpl instantiateCacheRegionStatistics(final String
 			);
 		}
 
-		return new CacheRegionStatisticsImpl( region );
+		return new CacheRegionStatisticsImpl( region, cacheLatencyStatistics );
 	}
 
 	private CacheRegionStatisticsImpl instantiateCacheRegionStatsForQueryResults(final String regionName) {
-		return new CacheRegionStatisticsImpl( cache.getQueryResultsCache( regionName ).getRegion() );
+		return new CacheRegionStatisticsImpl( cache.getQueryResultsCache( regionName ).getRegion(), cacheLatencyStatistics );
 	}
 
 	private @Nullable CacheRegionStatisticsImpl createCacheRegionStatistics(final String regionName) {
@@ -1035,7 +1064,7 @@ private CacheRegionStatisticsImpl instantiateCacheRegionStatsForQueryResults(fin
 			region = cache.getQueryResultsCache( regionName ).getRegion();
 		}
 
-		return new CacheRegionStatisticsImpl( region );
+		return new CacheRegionStatisticsImpl( region, cacheLatencyStatistics );
 	}
 
 	@Override
@@ -4,6 +4,7 @@
  */
 package org.hibernate.stat.spi;
 
+import org.hibernate.Incubating;
 import org.hibernate.metamodel.model.domain.NavigableRole;
 import org.hibernate.service.Service;
 import org.hibernate.stat.Statistics;
@@ -258,6 +259,34 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 */
 	void updateTimestampsCachePut();
 
+	/**
+	 * Callback indicating the time taken by a read from a second-level cache
+	 * region, when {@value org.hibernate.cfg.StatisticsSettings#CACHE_LATENCY_STATISTICS}
+	 * is enabled. Called for every read, and so must not allocate.
+	 *
+	 * @param regionName The name of the cache region
+	 * @param nanoseconds The time taken by the read
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default void cacheGetTime(String regionName, long nanoseconds) {
+	}
+
+	/**
+	 * Callback indicating the time taken by a write to a second-level cache
+	 * region, when {@value org.hibernate.cfg.StatisticsSettings#CACHE_LATENCY_STATISTICS}
+	 * is enabled. Called for every write, and so must not allocate.
+	 *
+	 * @param regionName The name of the cache region
+	 * @param nanoseconds The time taken by the write
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default void cachePutTime(String regionName, long nanoseconds) {
+	}
+
 	/**
 	 * Callback indicating a get from the query plan cache resulted in a hit.
 	 *
@@ -308,22 +308,12 @@ private CollectionPersister getPersister(SharedSessionContractImplementor sessio
 
 	private CollectionPersister getPersister(SessionFactoryImplementor factory) {
 		CollectionPersister persister = this.persister;
-		if ( persister != null ) {
-			return persister;
-		}
-		else {
-			synchronized ( this ) {
-				persister  = this.persister;
-				if ( persister != null ) {
-					return persister;
-				}
-				else {
-					persister = factory.getMappingMetamodel().getCollectionDescriptor( role );
-					this.persister = persister;
-					return persister;
-				}
-			}
+		if ( persister == null ) {
+			// no need to lock: every thread obtains the same descriptor
+			persister = factory.getMappingMetamodel().getCollectionDescriptor( role );
+			this.persister = persister;
 		}
+		return persister;
 	}
 
 	@Override
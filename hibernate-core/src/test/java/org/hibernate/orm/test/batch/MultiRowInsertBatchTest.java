@@ -0,0 +1,82 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.batch;
+
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = MultiRowInsertBatchTest.DataItem.class)
+@SessionFactory(useCollectingStatementInspector = true)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.STATEMENT_BATCH_SIZE, value = "5"),
+		@Setting(name = AvailableSettings.MULTI_ROW_INSERTS, value = "true")
+})
+@RequiresDialect(H2Dialect.class)
+@RequiresDialect(PostgreSQLDialect.class)
+@RequiresDialect(MySQLDialect.class)
+public class MultiRowInsertBatchTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testMultiRowInsert(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 12; i++ ) {
+				session.persist( new DataItem( i, "item " + i ) );
+			}
+		} );
+		// one statement inserting 5 rows, executed twice, and one inserting the remaining 2 rows
+		assertThat( statementInspector.getSqlQueries() )
+				.hasSize( 2 )
+				.allMatch( sql -> sql.contains( "),(" ) );
+
+		scope.inTransaction( session -> {
+			final List<DataItem> items = session.createQuery( "from DataItem order by id", DataItem.class )
+					.getResultList();
+			assertThat( items ).extracting( item -> item.id ).containsExactly( 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12 );
+			assertThat( items ).extracting( item -> item.name ).allMatch( name -> name.startsWith( "item " ) );
+			assertThat( items.get( 11 ).name ).isEqualTo( "item 12" );
+		} );
+	}
+
+	@Entity(name = "DataItem")
+	public static class DataItem {
+		@Id
+		Integer id;
+		String name;
+
+		public DataItem() {
+		}
+
+		public DataItem(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
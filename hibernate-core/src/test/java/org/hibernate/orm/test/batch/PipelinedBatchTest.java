@@ -0,0 +1,136 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.batch;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.Session;
+import org.hibernate.SessionEventListener;
+import org.hibernate.StaleStateException;
+import org.hibernate.cfg.BatchSettings;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.OptimisticLockException;
+import jakarta.persistence.Version;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DomainModel(annotatedClasses = PipelinedBatchTest.DataItem.class)
+@ServiceRegistry(settings = {
+		@Setting(name = BatchSettings.STATEMENT_BATCH_SIZE, value = "5"),
+		@Setting(name = BatchSettings.PIPELINED_EXECUTION, value = "true")
+})
+@SessionFactory
+public class PipelinedBatchTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testInsertAndUpdate(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 23; i++ ) {
+				session.persist( new DataItem( i, "item " + i ) );
+			}
+		} );
+		scope.inTransaction( session -> {
+			final List<DataItem> items = session.createQuery( "from DataItem", DataItem.class ).getResultList();
+			assertThat( items ).hasSize( 23 );
+			items.forEach( item -> item.name = item.name.toUpperCase() );
+		} );
+		scope.inTransaction( session -> {
+			final List<DataItem> items = session.createQuery( "from DataItem order by id", DataItem.class )
+					.getResultList();
+			assertThat( items ).extracting( item -> item.name ).allMatch( name -> name.startsWith( "ITEM" ) );
+			assertThat( items ).extracting( item -> item.version ).containsOnly( 1 );
+		} );
+	}
+
+	@Test
+	public void testExecutedInBackground(SessionFactoryScope scope) {
+		final Set<Thread> notifiedThreads = ConcurrentHashMap.newKeySet();
+		final AtomicInteger executions = new AtomicInteger();
+		final SessionEventListener listener = new SessionEventListener() {
+			@Override
+			public void jdbcExecuteBatchStart() {
+				notifiedThreads.add( Thread.currentThread() );
+				executions.incrementAndGet();
+			}
+
+			@Override
+			public void jdbcExecuteBatchEnd() {
+				notifiedThreads.add( Thread.currentThread() );
+			}
+		};
+		try ( Session session = scope.getSessionFactory().withOptions().eventListeners( listener ).openSession() ) {
+			session.getTransaction().begin();
+			for ( int i = 1; i <= 23; i++ ) {
+				session.persist( new DataItem( i, "item " + i ) );
+			}
+			session.getTransaction().commit();
+		}
+		// four full batches and the last partial batch, all reported by this thread
+		assertThat( executions ).hasValue( 5 );
+		assertThat( notifiedThreads ).containsExactly( Thread.currentThread() );
+		// the full batches ran in the background
+		assertThat( Thread.getAllStackTraces().keySet() )
+				.anyMatch( thread -> thread.getName().equals( "Hibernate JDBC Batch Execution Thread" ) );
+	}
+
+	@Test
+	public void testStaleStateDetected(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 12; i++ ) {
+				session.persist( new DataItem( i, "item " + i ) );
+			}
+		} );
+		scope.inSession( session -> {
+			session.getTransaction().begin();
+			try {
+				final List<DataItem> items = session.createQuery( "from DataItem", DataItem.class ).getResultList();
+				// update a row of the first batch behind the back of the session
+				scope.inTransaction( other -> other.find( DataItem.class, 2 ).name = "changed" );
+				items.forEach( item -> item.name = item.name.toUpperCase() );
+				assertThatThrownBy( session::flush )
+						.isInstanceOfAny( OptimisticLockException.class, StaleStateException.class );
+			}
+			finally {
+				session.getTransaction().rollback();
+			}
+		} );
+	}
+
+	@Entity(name = "DataItem")
+	public static class DataItem {
+		@Id
+		Integer id;
+		@Version
+		int version;
+		String name;
+
+		public DataItem() {
+		}
+
+		public DataItem(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
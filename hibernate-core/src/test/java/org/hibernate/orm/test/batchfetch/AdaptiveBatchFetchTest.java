@@ -0,0 +1,127 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.batchfetch;
+
+import java.util.List;
+
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.engine.jdbc.dialect.spi.DialectResolutionInfo;
+import org.hibernate.loader.ast.internal.AdaptiveBatchSize;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = {
+		AdaptiveBatchFetchTest.Owner.class,
+		AdaptiveBatchFetchTest.Item.class
+})
+@SessionFactory(useCollectingStatementInspector = true)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.ADAPTIVE_BATCH_FETCH, value = "true"),
+		@Setting(name = AvailableSettings.DIALECT, value = "org.hibernate.orm.test.batchfetch.AdaptiveBatchFetchTest$ArrayParameterDialect")
+})
+@RequiresDialect(H2Dialect.class)
+public class AdaptiveBatchFetchTest {
+	private static final int NUMBER_OF_ITEMS = 20;
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= NUMBER_OF_ITEMS; i++ ) {
+				final Item item = new Item( i, "item " + i );
+				session.persist( item );
+				session.persist( new Owner( i, item ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testBatchSizeGrows(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final List<Owner> owners = session.createQuery( "from Owner order by id", Owner.class ).getResultList();
+			statementInspector.clear();
+			for ( Owner owner : owners ) {
+				assertThat( owner.item.name ).isEqualTo( "item " + owner.id );
+			}
+			// a fixed batch size of 2 would need 10 round trips
+			assertThat( statementInspector.getSqlQueries() ).hasSizeLessThan( NUMBER_OF_ITEMS / 2 );
+		} );
+	}
+
+	@Test
+	public void testBatchSizeShrinks() {
+		final AdaptiveBatchSize batchSize = new AdaptiveBatchSize( "test", 64, 256 );
+		for ( int i = 0; i < 20; i++ ) {
+			batchSize.recordBatchFetch( 3, 1_000 );
+		}
+		assertThat( batchSize.getSize() ).isLessThan( 64 ).isGreaterThanOrEqualTo( 3 );
+	}
+
+	public static class ArrayParameterDialect extends H2Dialect {
+		public ArrayParameterDialect(DialectResolutionInfo info) {
+			super( info );
+		}
+
+		@Override
+		public boolean useArrayForMultiValuedParameters() {
+			return true;
+		}
+	}
+
+	@Entity(name = "Owner")
+	public static class Owner {
+		@Id
+		Integer id;
+		@ManyToOne(fetch = FetchType.LAZY)
+		Item item;
+
+		public Owner() {
+		}
+
+		public Owner(Integer id, Item item) {
+			this.id = id;
+			this.item = item;
+		}
+	}
+
+	@Entity(name = "Item")
+	@BatchSize(size = 2)
+	public static class Item {
+		@Id
+		Integer id;
+		String name;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,127 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.bytecode.enhancement.dirty;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.cfg.PersistenceSettings;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.FlushEntityEventListener;
+
+import org.hibernate.testing.bytecode.enhancement.EnhancementOptions;
+import org.hibernate.testing.bytecode.enhancement.extension.BytecodeEnhanced;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = IncrementalFlushTest.Item.class)
+@ServiceRegistry(settings = @Setting(name = PersistenceSettings.INCREMENTAL_FLUSH, value = "true"))
+@SessionFactory
+@BytecodeEnhanced
+@EnhancementOptions(inlineDirtyChecking = true)
+public class IncrementalFlushTest {
+
+	private final AtomicInteger visitedEntities = new AtomicInteger();
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		final FlushEntityEventListener listener = event -> visitedEntities.incrementAndGet();
+		scope.getSessionFactory().getEventListenerRegistry()
+				.appendListeners( EventType.FLUSH_ENTITY, listener );
+		scope.inTransaction( session -> {
+			for ( long id = 1; id <= 10; id++ ) {
+				session.persist( new Item( id, "item " + id ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testOnlyModifiedEntitiesAreVisited(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Item> items = session.createQuery( "from Item order by id", Item.class ).getResultList();
+			visitedEntities.set( 0 );
+			session.flush();
+			assertThat( visitedEntities ).hasValue( 0 );
+
+			items.get( 3 ).setName( "changed" );
+			session.flush();
+			assertThat( visitedEntities ).hasValue( 1 );
+		} );
+		scope.inTransaction( session ->
+				assertThat( session.find( Item.class, 4L ).getName() ).isEqualTo( "changed" ) );
+	}
+
+	@Test
+	public void testAutoFlushBeforeQuery(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Item> items = session.createQuery( "from Item", Item.class ).getResultList();
+			items.get( 0 ).setName( "renamed" );
+			visitedEntities.set( 0 );
+			final List<Item> renamed = session.createQuery( "from Item where name = 'renamed'", Item.class )
+					.getResultList();
+			assertThat( renamed ).containsExactly( items.get( 0 ) );
+			assertThat( visitedEntities ).hasValue( 1 );
+		} );
+	}
+
+	@Test
+	public void testPersistedAndRemovedEntitiesAreVisited(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createQuery( "from Item", Item.class ).getResultList();
+			session.persist( new Item( 11L, "new item" ) );
+			visitedEntities.set( 0 );
+			session.flush();
+			assertThat( visitedEntities ).hasValue( 1 );
+
+			session.remove( session.find( Item.class, 1L ) );
+			visitedEntities.set( 0 );
+			session.flush();
+			assertThat( visitedEntities ).hasValue( 1 );
+		} );
+		scope.inTransaction( session -> {
+			assertThat( session.find( Item.class, 1L ) ).isNull();
+			assertThat( session.find( Item.class, 11L ) ).isNotNull();
+		} );
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		Long id;
+		String name;
+
+		public Item() {
+		}
+
+		public Item(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+}
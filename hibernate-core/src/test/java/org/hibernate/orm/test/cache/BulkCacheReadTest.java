@@ -0,0 +1,322 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.CacheMode;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = {
+		BulkCacheReadTest.Book.class,
+		BulkCacheReadTest.Author.class
+})
+@SessionFactory(generateStatistics = true)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.CACHE_REGION_FACTORY, value = "org.hibernate.orm.test.cache.BulkCacheReadTest$CountingRegionFactory")
+})
+public class BulkCacheReadTest {
+	private static final AtomicInteger SINGLE_READS = new AtomicInteger();
+	private static final AtomicInteger BULK_READS = new AtomicInteger();
+
+	private static final List<Long> IDS = List.of( 1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L );
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( Long id : IDS ) {
+				session.persist( new Book( id, "Book " + id ) );
+			}
+			for ( Long id : IDS ) {
+				final Author author = new Author( id, "Author " + id );
+				session.persist( author );
+				session.persist( new Book( 10 + id, "Book by author " + id, author ) );
+			}
+		} );
+		scope.getSessionFactory().getStatistics().clear();
+		SINGLE_READS.set( 0 );
+		BULK_READS.set( 0 );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testOrderedMultiLoad(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Book> books = session.byMultipleIds( Book.class )
+					.with( CacheMode.NORMAL )
+					.multiLoad( IDS );
+			assertThat( books ).extracting( book -> book.id ).containsExactlyElementsOf( IDS );
+		} );
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 10 );
+		assertThat( statistics.getPrepareStatementCount() ).isZero();
+		assertThat( BULK_READS.get() ).isEqualTo( 1 );
+		assertThat( SINGLE_READS.get() ).isZero();
+	}
+
+	@Test
+	public void testUnorderedMultiLoadWithPartialHit(SessionFactoryScope scope) {
+		for ( long id = 1; id <= 5; id++ ) {
+			scope.getSessionFactory().getCache().evictEntityData( Book.class, id );
+		}
+		scope.inTransaction( session -> {
+			final List<Book> books = session.byMultipleIds( Book.class )
+					.with( CacheMode.NORMAL )
+					.enableOrderedReturn( false )
+					.multiLoad( IDS );
+			assertThat( books ).extracting( book -> book.id ).containsExactlyInAnyOrderElementsOf( IDS );
+		} );
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 5 );
+		assertThat( statistics.getSecondLevelCacheMissCount() ).isEqualTo( 5 );
+		assertThat( BULK_READS.get() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testManagedEntitiesAreNotRead(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.find( Book.class, 1L );
+			SINGLE_READS.set( 0 );
+			session.getFactory().getStatistics().clear();
+
+			final List<Book> books = session.byMultipleIds( Book.class )
+					.with( CacheMode.NORMAL )
+					.multiLoad( IDS );
+			assertThat( books ).hasSize( 10 );
+		} );
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 9 );
+		assertThat( BULK_READS.get() ).isEqualTo( 1 );
+		assertThat( SINGLE_READS.get() ).isZero();
+	}
+
+	@Test
+	public void testEntityBatchFetchWithPartialHit(SessionFactoryScope scope) {
+		for ( long id = 6; id <= 10; id++ ) {
+			scope.getSessionFactory().getCache().evictEntityData( Author.class, id );
+		}
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			final List<Author> authors = new ArrayList<>();
+			for ( Long id : IDS ) {
+				authors.add( session.getReference( Author.class, id ) );
+			}
+			statistics.clear();
+			BULK_READS.set( 0 );
+
+			Hibernate.initialize( authors.get( 5 ) );
+
+			assertThat( BULK_READS.get() ).isEqualTo( 1 );
+			assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1 );
+			// the cached authors were left out of the batch
+			for ( int i = 0; i < authors.size(); i++ ) {
+				assertThat( Hibernate.isInitialized( authors.get( i ) ) ).isEqualTo( i >= 5 );
+			}
+
+			// and are then read from the cache
+			Hibernate.initialize( authors.get( 0 ) );
+			assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1 );
+		} );
+	}
+
+	@Test
+	public void testCollectionBatchFetchWithPartialHit(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( Author author : session.createSelectionQuery( "from Author", Author.class ).getResultList() ) {
+				Hibernate.initialize( author.books );
+			}
+		} );
+		for ( long id = 6; id <= 10; id++ ) {
+			scope.getSessionFactory().getCache().evictCollectionData( Author.class.getName() + ".books", id );
+		}
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			final List<Author> authors =
+					session.createSelectionQuery( "from Author order by id", Author.class ).getResultList();
+			statistics.clear();
+			BULK_READS.set( 0 );
+
+			Hibernate.initialize( authors.get( 5 ).books );
+
+			assertThat( BULK_READS.get() ).isEqualTo( 1 );
+			assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1 );
+			// the cached collections were left out of the batch
+			for ( int i = 0; i < authors.size(); i++ ) {
+				assertThat( Hibernate.isInitialized( authors.get( i ).books ) ).isEqualTo( i >= 5 );
+			}
+
+			// and are then read from the cache
+			assertThat( authors.get( 0 ).books ).hasSize( 1 );
+			assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1 );
+		} );
+	}
+
+	public static class CountingRegionFactory extends RegionFactoryTemplate {
+		@Override
+		protected void prepareForUse(SessionFactoryOptions settings, Map<String, Object> configValues) {
+		}
+
+		@Override
+		protected void releaseFromUse() {
+		}
+
+		@Override
+		protected DomainDataStorageAccess createDomainDataStorageAccess(
+				DomainDataRegionConfig regionConfig,
+				DomainDataRegionBuildingContext buildingContext) {
+			return new CountingStorageAccess();
+		}
+
+		@Override
+		protected StorageAccess createQueryResultsRegionStorageAccess(
+				String regionName,
+				SessionFactoryImplementor sessionFactory) {
+			return new CountingStorageAccess();
+		}
+
+		@Override
+		protected StorageAccess createTimestampsRegionStorageAccess(
+				String regionName,
+				SessionFactoryImplementor sessionFactory) {
+			return new CountingStorageAccess();
+		}
+	}
+
+	private static class CountingStorageAccess implements DomainDataStorageAccess {
+		private final Map<Object, Object> data = new ConcurrentHashMap<>();
+
+		@Override
+		public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+			SINGLE_READS.incrementAndGet();
+			return data.get( key );
+		}
+
+		@Override
+		public Map<Object, Object> getAllFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+			BULK_READS.incrementAndGet();
+			final Map<Object, Object> items = new ConcurrentHashMap<>();
+			for ( Object key : keys ) {
+				final Object item = data.get( key );
+				if ( item != null ) {
+					items.put( key, item );
+				}
+			}
+			return items;
+		}
+
+		@Override
+		public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+			data.put( key, value );
+		}
+
+		@Override
+		public boolean contains(Object key) {
+			return data.containsKey( key );
+		}
+
+		@Override
+		public void evictData() {
+			data.clear();
+		}
+
+		@Override
+		public void evictData(Object key) {
+			data.remove( key );
+		}
+
+		@Override
+		public void release() {
+			data.clear();
+		}
+	}
+
+	@Entity(name = "Book")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Book {
+		@Id
+		Long id;
+		String title;
+		@ManyToOne(fetch = FetchType.LAZY)
+		Author author;
+
+		public Book() {
+		}
+
+		public Book(Long id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+
+		public Book(Long id, String title, Author author) {
+			this( id, title );
+			this.author = author;
+		}
+	}
+
+	@Entity(name = "Author")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	@BatchSize(size = 10)
+	public static class Author {
+		@Id
+		Long id;
+		String name;
+		@OneToMany(mappedBy = "author")
+		@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+		@BatchSize(size = 10)
+		List<Book> books = new ArrayList<>();
+
+		public Author() {
+		}
+
+		public Author(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
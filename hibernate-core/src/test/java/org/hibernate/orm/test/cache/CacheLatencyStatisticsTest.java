@@ -0,0 +1,102 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.cache;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.LatencyStatistics;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = CacheLatencyStatisticsTest.Book.class)
+@SessionFactory(generateStatistics = true)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.USE_QUERY_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.CACHE_LATENCY_STATISTICS, value = "true")
+})
+public class CacheLatencyStatisticsTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testRegionLatency(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> session.persist( new Book( 1L, "Hibernate in Action" ) ) );
+		final LatencyStatistics putLatency = statistics.getDomainDataRegionStatistics( "books" ).getPutLatency();
+		assertThat( putLatency ).isNotNull();
+		assertThat( putLatency.getCount() ).isGreaterThanOrEqualTo( 1 );
+
+		statistics.clear();
+		for ( int i = 0; i < 3; i++ ) {
+			scope.inTransaction( session -> session.find( Book.class, 1L ) );
+		}
+
+		final CacheRegionStatistics regionStatistics = statistics.getDomainDataRegionStatistics( "books" );
+		assertThat( regionStatistics.getHitCount() ).isEqualTo( 3 );
+
+		final LatencyStatistics getLatency = regionStatistics.getGetLatency();
+		assertThat( getLatency ).isNotNull();
+		assertThat( getLatency.getCount() ).isEqualTo( 3 );
+		assertThat( getLatency.getTotalTime() ).isGreaterThanOrEqualTo( getLatency.getMaxTime() );
+		assertThat( getLatency.getTimeAtPercentile( 50 ) ).isLessThanOrEqualTo( getLatency.getMaxTime() );
+		assertThat( getLatency.getTimeAtPercentile( 100 ) ).isEqualTo( getLatency.getMaxTime() );
+		assertThat( regionStatistics.getPutLatency().getCount() ).isZero();
+	}
+
+	@Test
+	public void testQueryRegionLatency(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> session.persist( new Book( 1L, "Hibernate in Action" ) ) );
+		for ( int i = 0; i < 2; i++ ) {
+			scope.inTransaction( session -> session.createSelectionQuery( "from Book", Book.class )
+					.setCacheable( true )
+					.setCacheRegion( "book-queries" )
+					.getResultList() );
+		}
+
+		final CacheRegionStatistics regionStatistics = statistics.getQueryRegionStatistics( "book-queries" );
+		assertThat( regionStatistics ).isNotNull();
+		assertThat( regionStatistics.getGetLatency().getCount() ).isEqualTo( 2 );
+		assertThat( regionStatistics.getPutLatency().getCount() ).isEqualTo( 1 );
+	}
+
+	@Entity(name = "Book")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "books")
+	public static class Book {
+		@Id
+		Long id;
+		String title;
+
+		public Book() {
+		}
+
+		public Book(Long id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+}
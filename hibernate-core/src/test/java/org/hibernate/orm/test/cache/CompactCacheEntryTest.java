@@ -0,0 +1,223 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.cache;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.entry.CacheEntry;
+import org.hibernate.cache.spi.entry.CompactCacheEntry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Version;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = {
+		CompactCacheEntryTest.Publisher.class,
+		CompactCacheEntryTest.Book.class
+})
+@SessionFactory(generateStatistics = true)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.USE_COMPACT_CACHE_ENTRIES, value = "true")
+})
+public class CompactCacheEntryTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testCachedEntity(SessionFactoryScope scope) {
+		final UUID isbn = UUID.randomUUID();
+		final Instant published = Instant.now().truncatedTo( ChronoUnit.SECONDS );
+		scope.inTransaction( session -> {
+			final Publisher publisher = new Publisher( 1L, "Manning" );
+			session.persist( publisher );
+			final Book book = new Book( 1L, "Hibernate in Action" );
+			book.publisher = publisher;
+			book.isbn = isbn;
+			book.price = new BigDecimal( "39.95" );
+			book.pages = 400;
+			book.releaseDate = LocalDate.of( 2004, 8, 1 );
+			book.published = published;
+			book.format = Format.PAPERBACK;
+			book.dimensions = new Dimensions( 18.7, 23.5 );
+			session.persist( book );
+		} );
+
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> {
+			final Book book = session.find( Book.class, 1L );
+			assertThat( book.title ).isEqualTo( "Hibernate in Action" );
+			assertThat( book.isbn ).isEqualTo( isbn );
+			assertThat( book.price ).isEqualByComparingTo( "39.95" );
+			assertThat( book.pages ).isEqualTo( 400 );
+			assertThat( book.releaseDate ).isEqualTo( LocalDate.of( 2004, 8, 1 ) );
+			assertThat( book.published ).isEqualTo( published );
+			assertThat( book.format ).isEqualTo( Format.PAPERBACK );
+			assertThat( book.dimensions.width ).isEqualTo( 18.7 );
+			assertThat( book.dimensions.height ).isEqualTo( 23.5 );
+			assertThat( book.subtitle ).isNull();
+			assertThat( book.publisher.name ).isEqualTo( "Manning" );
+		} );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 2 );
+
+		scope.inTransaction( session -> session.find( Book.class, 1L ).title = "Java Persistence with Hibernate" );
+		scope.inTransaction( session -> {
+			final Book book = session.find( Book.class, 1L );
+			assertThat( book.title ).isEqualTo( "Java Persistence with Hibernate" );
+			assertThat( book.version ).isEqualTo( 1 );
+		} );
+	}
+
+	@Test
+	public void testStructure(SessionFactoryScope scope) {
+		final SessionFactoryImplementor factory = scope.getSessionFactory();
+		final EntityPersister persister = factory.getMappingMetamodel().getEntityDescriptor( Book.class );
+		assertThat( persister.getCacheEntryStructure() ).isInstanceOf( CompactCacheEntry.class );
+
+		scope.inTransaction( session -> {
+			final Book book = new Book( 2L, "Hibernate Search in Action" );
+			book.pages = -1;
+			session.persist( book );
+			session.flush();
+
+			final CacheEntry entry = persister.buildCacheEntry(
+					book,
+					persister.getValues( book ),
+					book.version,
+					session
+			);
+			final Object structured = persister.getCacheEntryStructure().structure( entry );
+			assertThat( structured ).isInstanceOf( byte[].class );
+
+			final CacheEntry destructured = (CacheEntry)
+					persister.getCacheEntryStructure().destructure( structured, factory );
+			assertThat( destructured.getSubclass() ).isEqualTo( entry.getSubclass() );
+			assertThat( destructured.getVersion() ).isEqualTo( entry.getVersion() );
+			assertThat( destructured.getDisassembledState() ).containsExactly( entry.getDisassembledState() );
+		} );
+	}
+
+	@Test
+	public void testEntryOfOtherMappingIsEvicted(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.persist( new Publisher( 1L, "Manning" ) ) );
+		final SessionFactoryImplementor factory = scope.getSessionFactory();
+		factory.getCache().evictEntityData( Publisher.class, 1L );
+		final EntityPersister persister = factory.getMappingMetamodel().getEntityDescriptor( Publisher.class );
+		final EntityDataAccess cacheAccess = persister.getCacheAccessStrategy();
+		final Object cacheKey = cacheAccess.generateCacheKey( 1L, persister, factory, null );
+		// an entry written with another version of the format
+		scope.inSession( session -> cacheAccess.putFromLoad( session, cacheKey, new byte[] { 0 }, null ) );
+
+		final StatisticsImplementor statistics = factory.getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> assertThat( session.find( Publisher.class, 1L ).name ).isEqualTo( "Manning" ) );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isZero();
+		assertThat( statistics.getSecondLevelCacheMissCount() ).isEqualTo( 1 );
+		assertThat( statistics.getSecondLevelCachePutCount() ).isEqualTo( 1 );
+
+		// the entry was replaced by the load from the database
+		scope.inTransaction( session -> assertThat( session.find( Publisher.class, 1L ).name ).isEqualTo( "Manning" ) );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 1 );
+	}
+
+	public enum Format {
+		HARDCOVER,
+		PAPERBACK
+	}
+
+	@Embeddable
+	public static class Dimensions {
+		double width;
+		double height;
+
+		public Dimensions() {
+		}
+
+		public Dimensions(double width, double height) {
+			this.width = width;
+			this.height = height;
+		}
+	}
+
+	@Entity(name = "Publisher")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Publisher {
+		@Id
+		Long id;
+		String name;
+
+		public Publisher() {
+		}
+
+		public Publisher(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Book")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Book {
+		@Id
+		Long id;
+		@Version
+		int version;
+		String title;
+		String subtitle;
+		UUID isbn;
+		BigDecimal price;
+		int pages;
+		LocalDate releaseDate;
+		Instant published;
+		@Enumerated(EnumType.STRING)
+		Format format;
+		@Embedded
+		Dimensions dimensions;
+		@ManyToOne
+		Publisher publisher;
+
+		public Book() {
+		}
+
+		public Book(Long id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+}
@@ -0,0 +1,161 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.cache;
+
+import java.util.List;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.internal.LocalCacheRegionFactory;
+import org.hibernate.cache.internal.LocalCacheStorageAccess;
+import org.hibernate.cache.spi.support.DomainDataRegionTemplate;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = LocalCacheRegionFactoryTest.Book.class)
+@SessionFactory(generateStatistics = true)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.USE_QUERY_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.CACHE_REGION_FACTORY, value = LocalCacheRegionFactory.SHORT_NAME),
+		@Setting(name = AvailableSettings.LOCAL_CACHE_MAX_ENTRIES + ".books", value = "20")
+})
+public class LocalCacheRegionFactoryTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testCachedEntity(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.persist( new Book( 1L, "Hibernate in Action" ) ) );
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> {
+			assertThat( session.find( Book.class, 1L ).title ).isEqualTo( "Hibernate in Action" );
+		} );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 1 );
+
+		scope.inTransaction( session -> session.find( Book.class, 1L ).title = "Java Persistence with Hibernate" );
+		scope.inTransaction( session -> {
+			assertThat( session.find( Book.class, 1L ).title ).isEqualTo( "Java Persistence with Hibernate" );
+		} );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testCachedQuery(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.persist( new Book( 1L, "Hibernate in Action" ) ) );
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		for ( int i = 0; i < 2; i++ ) {
+			scope.inTransaction( session -> {
+				final List<String> titles = session.createQuery( "select title from Book", String.class )
+						.setCacheable( true )
+						.getResultList();
+				assertThat( titles ).containsExactly( "Hibernate in Action" );
+			} );
+		}
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+
+		// the update timestamps invalidate the cached results
+		scope.inTransaction( session -> session.find( Book.class, 1L ).title = "Java Persistence with Hibernate" );
+		scope.inTransaction( session -> {
+			final List<String> titles = session.createQuery( "select title from Book", String.class )
+					.setCacheable( true )
+					.getResultList();
+			assertThat( titles ).containsExactly( "Java Persistence with Hibernate" );
+		} );
+	}
+
+	@Test
+	public void testCachedQueryInvalidatedByNativeStatement(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.persist( new Book( 1L, "Hibernate in Action" ) ) );
+		scope.inTransaction( session -> session.createQuery( "select title from Book", String.class )
+				.setCacheable( true )
+				.getResultList() );
+
+		// the timestamps of mapped tables are held outside the region,
+		// the timestamps of other tables are only held by the region
+		scope.inTransaction( session -> session.createNativeMutationQuery( "update Book set title = upper(title)" )
+				.addSynchronizedQuerySpace( "Book" )
+				.addSynchronizedQuerySpace( "Unmapped" )
+				.executeUpdate() );
+
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> {
+			final List<String> titles = session.createQuery( "select title from Book", String.class )
+					.setCacheable( true )
+					.getResultList();
+			assertThat( titles ).containsExactly( "HIBERNATE IN ACTION" );
+		} );
+		assertThat( statistics.getQueryCacheHitCount() ).isZero();
+		assertThat( statistics.getUpdateTimestampsCacheHitCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testRegionIsBounded(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( long id = 1; id <= 100; id++ ) {
+				session.persist( new Book( id, "Book " + id ) );
+			}
+		} );
+		final LocalCacheStorageAccess storageAccess = (LocalCacheStorageAccess)
+				( (DomainDataRegionTemplate) scope.getSessionFactory().getCache().getRegion( "books" ) )
+						.getCacheStorageAccess();
+		assertThat( storageAccess.getElementCount() ).isLessThanOrEqualTo( 20 );
+
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		// make the first book popular
+		for ( int i = 0; i < 10; i++ ) {
+			scope.inTransaction( session -> session.find( Book.class, 1L ) );
+		}
+		// a scan through the other books does not evict it
+		scope.inTransaction( session -> {
+			for ( long id = 2; id <= 100; id++ ) {
+				session.find( Book.class, id );
+			}
+		} );
+		assertThat( storageAccess.getElementCount() ).isLessThanOrEqualTo( 20 );
+		statistics.clear();
+		scope.inTransaction( session -> session.find( Book.class, 1L ) );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 1 );
+	}
+
+	@Entity(name = "Book")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "books")
+	public static class Book {
+		@Id
+		Long id;
+		String title;
+
+		public Book() {
+		}
+
+		public Book(Long id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+}
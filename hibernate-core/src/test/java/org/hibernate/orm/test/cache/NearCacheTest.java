@@ -0,0 +1,223 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.cache;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.internal.NearCacheStorageAccess;
+import org.hibernate.cache.spi.support.DomainDataRegionTemplate;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = NearCacheTest.Book.class)
+@SessionFactory(generateStatistics = true)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.CACHE_REGION_FACTORY, value = "org.hibernate.orm.test.cache.NearCacheTest$SimulatedRemoteRegionFactory"),
+		@Setting(name = AvailableSettings.NEAR_CACHE_MAX_ENTRIES, value = "100"),
+		@Setting(name = AvailableSettings.NEAR_CACHE_TIME_TO_LIVE, value = "60000")
+})
+public class NearCacheTest {
+	private static final AtomicInteger REMOTE_READS = new AtomicInteger();
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.persist( new Book( 1L, "Hibernate in Action" ) ) );
+		scope.getSessionFactory().getStatistics().clear();
+		REMOTE_READS.set( 0 );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testRepeatedReadsAreLocal(SessionFactoryScope scope) {
+		assertThat( getStorageAccess( scope ) ).isInstanceOf( NearCacheStorageAccess.class );
+		for ( int i = 0; i < 10; i++ ) {
+			scope.inTransaction( session -> {
+				assertThat( session.find( Book.class, 1L ).title ).isEqualTo( "Hibernate in Action" );
+			} );
+		}
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 10 );
+		assertThat( REMOTE_READS.get() ).isZero();
+	}
+
+	@Test
+	public void testUpdateIsSeenLocally(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.find( Book.class, 1L ).title = "Java Persistence with Hibernate" );
+		scope.inTransaction( session -> {
+			assertThat( session.find( Book.class, 1L ).title ).isEqualTo( "Java Persistence with Hibernate" );
+		} );
+		assertThat( scope.getSessionFactory().getStatistics().getSecondLevelCacheHitCount() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testEvictionClearsLocalCopy(SessionFactoryScope scope) {
+		scope.getSessionFactory().getCache().evictEntityData( Book.class, 1L );
+		scope.inTransaction( session -> {
+			assertThat( session.find( Book.class, 1L ).title ).isEqualTo( "Hibernate in Action" );
+		} );
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		assertThat( statistics.getSecondLevelCacheMissCount() ).isEqualTo( 1 );
+		assertThat( REMOTE_READS.get() ).isPositive();
+
+		// loaded from the database, and now cached locally again
+		REMOTE_READS.set( 0 );
+		scope.inTransaction( session -> session.find( Book.class, 1L ) );
+		assertThat( REMOTE_READS.get() ).isZero();
+	}
+
+	@Test
+	public void testConcurrentWriteIsNotOverwrittenByRead() {
+		final SimulatedRemoteStorageAccess remote = new SimulatedRemoteStorageAccess();
+		final NearCacheStorageAccess nearCache = new NearCacheStorageAccess( remote, 100, Long.MAX_VALUE );
+		remote.putIntoCache( "key", "old", null );
+		// the write happens after the remote read, but before the local copy is populated
+		remote.duringRead = () -> nearCache.putIntoCache( "key", "new", null );
+		assertThat( nearCache.getFromCache( "key", null ) ).isEqualTo( "old" );
+		remote.duringRead = null;
+		assertThat( nearCache.getFromCache( "key", null ) ).isEqualTo( "new" );
+
+		nearCache.evictData( "key" );
+		remote.putIntoCache( "key", "new", null );
+		remote.duringRead = () -> nearCache.removeFromCache( "key", null );
+		assertThat( nearCache.getFromCache( "key", null ) ).isEqualTo( "new" );
+		remote.duringRead = null;
+		assertThat( nearCache.getFromCache( "key", null ) ).isNull();
+	}
+
+	private static DomainDataStorageAccess getStorageAccess(SessionFactoryScope scope) {
+		return ( (DomainDataRegionTemplate) scope.getSessionFactory().getCache().getRegion( "books" ) )
+				.getCacheStorageAccess();
+	}
+
+	/**
+	 * Stands in for a remote cache, where each read takes a while
+	 */
+	public static class SimulatedRemoteRegionFactory extends RegionFactoryTemplate {
+		@Override
+		protected void prepareForUse(SessionFactoryOptions settings, Map<String, Object> configValues) {
+		}
+
+		@Override
+		protected void releaseFromUse() {
+		}
+
+		@Override
+		protected DomainDataStorageAccess createDomainDataStorageAccess(
+				DomainDataRegionConfig regionConfig,
+				DomainDataRegionBuildingContext buildingContext) {
+			return new SimulatedRemoteStorageAccess();
+		}
+
+		@Override
+		protected StorageAccess createQueryResultsRegionStorageAccess(
+				String regionName,
+				SessionFactoryImplementor sessionFactory) {
+			return new SimulatedRemoteStorageAccess();
+		}
+
+		@Override
+		protected StorageAccess createTimestampsRegionStorageAccess(
+				String regionName,
+				SessionFactoryImplementor sessionFactory) {
+			return new SimulatedRemoteStorageAccess();
+		}
+	}
+
+	private static class SimulatedRemoteStorageAccess implements DomainDataStorageAccess {
+		private final Map<Object, Object> data = new ConcurrentHashMap<>();
+		private Runnable duringRead;
+
+		@Override
+		public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+			REMOTE_READS.incrementAndGet();
+			try {
+				Thread.sleep( 1 );
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			final Object value = data.get( key );
+			if ( duringRead != null ) {
+				duringRead.run();
+			}
+			return value;
+		}
+
+		@Override
+		public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+			data.put( key, value );
+		}
+
+		@Override
+		public boolean contains(Object key) {
+			return data.containsKey( key );
+		}
+
+		@Override
+		public void evictData() {
+			data.clear();
+		}
+
+		@Override
+		public void evictData(Object key) {
+			data.remove( key );
+		}
+
+		@Override
+		public void release() {
+			data.clear();
+		}
+	}
+
+	@Entity(name = "Book")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "books")
+	public static class Book {
+		@Id
+		Long id;
+		String title;
+
+		public Book() {
+		}
+
+		public Book(Long id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+}
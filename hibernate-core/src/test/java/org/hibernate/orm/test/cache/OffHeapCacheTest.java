@@ -0,0 +1,112 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.cache;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.internal.LocalCacheRegionFactory;
+import org.hibernate.cache.internal.OffHeapStorageAccess;
+import org.hibernate.cache.spi.support.DomainDataRegionTemplate;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = OffHeapCacheTest.Book.class)
+@SessionFactory(generateStatistics = true)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.CACHE_REGION_FACTORY, value = LocalCacheRegionFactory.SHORT_NAME),
+		@Setting(name = AvailableSettings.LOCAL_CACHE_OFF_HEAP_SIZE + ".books", value = "1")
+})
+public class OffHeapCacheTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testCachedEntity(SessionFactoryScope scope) {
+		assertThat( getStorageAccess( scope ) ).isInstanceOf( OffHeapStorageAccess.class );
+
+		scope.inTransaction( session -> session.persist( new Book( 1L, "Hibernate in Action" ) ) );
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> {
+			assertThat( session.find( Book.class, 1L ).title ).isEqualTo( "Hibernate in Action" );
+		} );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 1 );
+
+		scope.inTransaction( session -> session.find( Book.class, 1L ).title = "Java Persistence with Hibernate" );
+		scope.inTransaction( session -> {
+			assertThat( session.find( Book.class, 1L ).title ).isEqualTo( "Java Persistence with Hibernate" );
+		} );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testRegionIsBounded(SessionFactoryScope scope) {
+		final String text = "x".repeat( 2000 );
+		// more than the single megabyte allocated to the region
+		scope.inTransaction( session -> {
+			for ( long id = 1; id <= 1000; id++ ) {
+				final Book book = new Book( id, "Book " + id );
+				book.text = text;
+				session.persist( book );
+			}
+		} );
+		final OffHeapStorageAccess storageAccess = getStorageAccess( scope );
+		assertThat( storageAccess.getOffHeapSize() ).isLessThanOrEqualTo( 1024 * 1024 );
+		assertThat( storageAccess.getElementCount() ).isPositive().isLessThan( 1000 );
+
+		// the most recent books are still cached
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> {
+			assertThat( session.find( Book.class, 1000L ).text ).isEqualTo( text );
+		} );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 1 );
+	}
+
+	private static OffHeapStorageAccess getStorageAccess(SessionFactoryScope scope) {
+		return (OffHeapStorageAccess)
+				( (DomainDataRegionTemplate) scope.getSessionFactory().getCache().getRegion( "books" ) )
+						.getCacheStorageAccess();
+	}
+
+	@Entity(name = "Book")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "books")
+	public static class Book {
+		@Id
+		Long id;
+		String title;
+		@Column(length = 4000)
+		String text;
+
+		public Book() {
+		}
+
+		public Book(Long id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+}
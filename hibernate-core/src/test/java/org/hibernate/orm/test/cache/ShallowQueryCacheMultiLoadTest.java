@@ -0,0 +1,131 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.cache;
+
+import java.util.List;
+
+import org.hibernate.Session;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = ShallowQueryCacheMultiLoadTest.Book.class)
+@SessionFactory(generateStatistics = true)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.USE_QUERY_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.QUERY_CACHE_LAYOUT, value = "shallow")
+})
+public class ShallowQueryCacheMultiLoadTest {
+	private static final String HQL = "select b from Book b order by b.id";
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( long id = 1; id <= 10; id++ ) {
+				session.persist( new Book( id, "Book " + id ) );
+			}
+		} );
+		// cache the identifiers
+		scope.inTransaction( session -> getBooks( session ) );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testAllEntitiesCached(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> getBooks( session ) );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 10 );
+		assertThat( statistics.getPrepareStatementCount() ).isZero();
+	}
+
+	@Test
+	public void testPartialHit(SessionFactoryScope scope) {
+		for ( long id = 1; id <= 5; id++ ) {
+			scope.getSessionFactory().getCache().evictEntityData( Book.class, id );
+		}
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> getBooks( session ) );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 5 );
+		assertThat( statistics.getSecondLevelCacheMissCount() ).isEqualTo( 5 );
+		// the evicted books are loaded together, not one at a time
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testManagedEntitiesAreNotLoaded(SessionFactoryScope scope) {
+		scope.getSessionFactory().getCache().evictEntityData( Book.class );
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			session.find( Book.class, 1L );
+			statistics.clear();
+			getBooks( session );
+			assertThat( statistics.getSecondLevelCacheMissCount() ).isEqualTo( 9 );
+			assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1 );
+		} );
+	}
+
+	@Test
+	public void testReadOnlyQuery(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Book> books = session.createQuery( HQL, Book.class )
+					.setCacheable( true )
+					.setReadOnly( true )
+					.getResultList();
+			assertThat( books ).hasSize( 10 ).allMatch( session::isReadOnly );
+		} );
+	}
+
+	private static void getBooks(Session session) {
+		final List<Book> books = session.createQuery( HQL, Book.class )
+				.setCacheable( true )
+				.getResultList();
+		assertThat( books ).extracting( book -> book.title )
+				.containsExactly( "Book 1", "Book 2", "Book 3", "Book 4", "Book 5",
+						"Book 6", "Book 7", "Book 8", "Book 9", "Book 10" );
+	}
+
+	@Entity(name = "Book")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Book {
+		@Id
+		Long id;
+		String title;
+
+		public Book() {
+		}
+
+		public Book(Long id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+}
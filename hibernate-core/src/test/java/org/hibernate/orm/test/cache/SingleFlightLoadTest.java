@@ -0,0 +1,163 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.spi.SingleFlightLoads;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = {
+		SingleFlightLoadTest.Book.class,
+		SingleFlightLoadTest.Author.class,
+		SingleFlightLoadTest.Review.class
+})
+@SessionFactory(generateStatistics = true)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.CACHE_SINGLE_FLIGHT_TIMEOUT + ".books", value = "10000"),
+		@Setting(name = AvailableSettings.CACHE_SINGLE_FLIGHT_TIMEOUT + ".reviews", value = "10000")
+})
+public class SingleFlightLoadTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testEnabledPerRegion(SessionFactoryScope scope) {
+		final SessionFactoryImplementor factory = scope.getSessionFactory();
+		assertThat( factory.getCache().getSingleFlightLoads( "books" ) ).isNotNull();
+		assertThat( factory.getCache().getSingleFlightLoads( "authors" ) ).isNull();
+	}
+
+	@Test
+	public void testConcurrentMissWaitsForLoad(SessionFactoryScope scope) throws Exception {
+		final SessionFactoryImplementor factory = scope.getSessionFactory();
+		scope.inTransaction( session -> session.persist( new Book( 1L, "Hibernate in Action" ) ) );
+		factory.getCache().evictAllRegions();
+
+		final EntityPersister persister = factory.getMappingMetamodel().getEntityDescriptor( Book.class );
+		final Object cacheKey = persister.getCacheAccessStrategy().generateCacheKey( 1L, persister, factory, null );
+		final SingleFlightLoads singleFlightLoads = factory.getCache().getSingleFlightLoads( "books" );
+
+		final StatisticsImplementor statistics = factory.getStatistics();
+		statistics.clear();
+
+		// act as a session which is loading the book
+		assertThat( singleFlightLoads.claim( cacheKey ) ).isTrue();
+		final AtomicReference<Thread> waiter = new AtomicReference<>();
+		final CompletableFuture<String> title = CompletableFuture.supplyAsync( () -> {
+			waiter.set( Thread.currentThread() );
+			return scope.fromTransaction( session -> session.find( Book.class, 1L ).title );
+		} );
+		try {
+			// wait for the other session to miss and wait
+			final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos( 5 );
+			while ( ( waiter.get() == null || waiter.get().getState() != Thread.State.TIMED_WAITING )
+					&& System.nanoTime() < deadline ) {
+				Thread.sleep( 10 );
+			}
+			// the load of the claiming session puts the book in the cache
+			scope.inTransaction( session -> session.find( Book.class, 1L ) );
+		}
+		finally {
+			singleFlightLoads.release( cacheKey );
+		}
+
+		assertThat( title.get( 10, TimeUnit.SECONDS ) ).isEqualTo( "Hibernate in Action" );
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1 );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testReadWriteLoadIsNotCoordinated(SessionFactoryScope scope) throws Exception {
+		final SessionFactoryImplementor factory = scope.getSessionFactory();
+		scope.inTransaction( session -> session.persist( new Review( 1L, "A classic" ) ) );
+		factory.getCache().evictAllRegions();
+
+		final EntityPersister persister = factory.getMappingMetamodel().getEntityDescriptor( Review.class );
+		final Object cacheKey = persister.getCacheAccessStrategy().generateCacheKey( 1L, persister, factory, null );
+		final SingleFlightLoads singleFlightLoads = factory.getCache().getSingleFlightLoads( "reviews" );
+
+		// a waiting session would not be able to read an entry put by a later transaction
+		assertThat( singleFlightLoads.claim( cacheKey ) ).isTrue();
+		try {
+			final CompletableFuture<String> text = CompletableFuture.supplyAsync(
+					() -> scope.fromTransaction( session -> session.find( Review.class, 1L ).text )
+			);
+			assertThat( text.get( 5, TimeUnit.SECONDS ) ).isEqualTo( "A classic" );
+		}
+		finally {
+			singleFlightLoads.release( cacheKey );
+		}
+	}
+
+	@Entity(name = "Book")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = "books")
+	public static class Book {
+		@Id
+		Long id;
+		String title;
+
+		public Book() {
+		}
+
+		public Book(Long id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+
+	@Entity(name = "Author")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "authors")
+	public static class Author {
+		@Id
+		Long id;
+		String name;
+	}
+
+	@Entity(name = "Review")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "reviews")
+	public static class Review {
+		@Id
+		Long id;
+		String text;
+
+		public Review() {
+		}
+
+		public Review(Long id, String text) {
+			this.id = id;
+			this.text = text;
+		}
+	}
+}
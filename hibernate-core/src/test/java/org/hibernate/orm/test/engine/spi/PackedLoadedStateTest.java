@@ -0,0 +1,227 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.engine.spi;
+
+import org.hibernate.cfg.PersistenceSettings;
+import org.hibernate.engine.internal.MutableEntityEntry;
+import org.hibernate.engine.internal.PackedEntityEntry;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.hibernate.testing.util.ReflectionUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Version;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = {
+		PackedLoadedStateTest.Item.class,
+		PackedLoadedStateTest.Category.class
+})
+@ServiceRegistry(settings = @Setting(name = PersistenceSettings.PACKED_LOADED_STATE, value = "true"))
+@SessionFactory(useCollectingStatementInspector = true)
+public class PackedLoadedStateTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Category category = new Category( 1L, "tools" );
+			session.persist( category );
+			final Item item = new Item( 1L, "hammer", category );
+			item.quantity = 42;
+			item.price = 9.99d;
+			item.weight = 1.5f;
+			item.available = true;
+			item.grade = 'A';
+			session.persist( item );
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testLoadedStateRoundTrip(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Item item = session.find( Item.class, 1L );
+			final EntityEntry entry = session.getPersistenceContextInternal().getEntry( item );
+			assertThat( entry ).isInstanceOf( PackedEntityEntry.class );
+
+			final EntityPersister persister = entry.getPersister();
+			assertThat( entry.getLoadedValue( "quantity" ) ).isEqualTo( 42 );
+			assertThat( entry.getLoadedValue( "price" ) ).isEqualTo( 9.99d );
+			assertThat( entry.getLoadedValue( "weight" ) ).isEqualTo( 1.5f );
+			assertThat( entry.getLoadedValue( "available" ) ).isEqualTo( true );
+			assertThat( entry.getLoadedValue( "grade" ) ).isEqualTo( 'A' );
+			assertThat( entry.getLoadedValue( "rating" ) ).isNull();
+			assertThat( entry.getLoadedValue( "name" ) ).isEqualTo( "hammer" );
+			assertThat( entry.getLoadedValue( "category" ) ).isSameAs( item.category );
+			assertThat( entry.getLoadedState() ).containsExactly( persister.getValues( item ) );
+			// the inflated state is retained
+			assertThat( entry.getLoadedState() ).isSameAs( entry.getLoadedState() );
+		} );
+	}
+
+	@Test
+	public void testEntityWithoutPrimitivesUsesMutableEntry(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Category category = session.find( Category.class, 1L );
+			final EntityEntry entry = session.getPersistenceContextInternal().getEntry( category );
+			assertThat( entry ).isInstanceOf( MutableEntityEntry.class );
+		} );
+	}
+
+	@Test
+	public void testUnmodifiedEntityIsNotUpdated(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			session.find( Item.class, 1L );
+			inspector.clear();
+			session.flush();
+			assertThat( inspector.getSqlQueries() ).isEmpty();
+		} );
+	}
+
+	@Test
+	public void testUnmodifiedEntityIsNotInflatedByFlush(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final Item item = session.find( Item.class, 1L );
+			final EntityEntry entry = session.getPersistenceContextInternal().getEntry( item );
+			assertThat( inflatedState( entry ) ).isNull();
+
+			inspector.clear();
+			session.flush();
+			// auto-flush before a query
+			session.createSelectionQuery( "from Item", Item.class ).getResultList();
+			session.flush();
+			assertThat( inflatedState( entry ) ).isNull();
+			assertThat( inspector.getSqlQueries() ).hasSize( 1 );
+
+			item.grade = 'B';
+			session.flush();
+			inspector.assertUpdate();
+			assertThat( inflatedState( entry ) ).isNull();
+			assertThat( entry.getLoadedValue( "grade" ) ).isEqualTo( 'B' );
+		} );
+	}
+
+	@Test
+	public void testInflatedStateIsReleasedByFlush(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Item item = session.find( Item.class, 1L );
+			final EntityEntry entry = session.getPersistenceContextInternal().getEntry( item );
+			final Object[] inflated = entry.getLoadedState();
+			session.flush();
+			assertThat( entry.getLoadedState() ).isNotSameAs( inflated ).containsExactly( inflated );
+
+			item.quantity = 40;
+			session.flush();
+			assertThat( entry.getLoadedValue( "quantity" ) ).isEqualTo( 40 );
+			assertThat( entry.getLoadedState() ).containsExactly( entry.getPersister().getValues( item ) );
+		} );
+	}
+
+	@Test
+	public void testModifiedEntityIsUpdated(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final Item item = session.find( Item.class, 1L );
+			item.quantity = 41;
+			item.rating = 5;
+			inspector.clear();
+			session.flush();
+			inspector.assertUpdate();
+
+			final EntityEntry entry = session.getPersistenceContextInternal().getEntry( item );
+			assertThat( entry.getVersion() ).isEqualTo( 1 );
+			assertThat( entry.getLoadedValue( "quantity" ) ).isEqualTo( 41 );
+			assertThat( entry.getLoadedValue( "rating" ) ).isEqualTo( 5 );
+		} );
+		scope.inTransaction( session -> {
+			final Item item = session.find( Item.class, 1L );
+			assertThat( item.quantity ).isEqualTo( 41 );
+			assertThat( item.rating ).isEqualTo( 5 );
+			assertThat( item.version ).isEqualTo( 1 );
+		} );
+	}
+
+	@Test
+	public void testReadOnlyEntityHasNoLoadedState(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Item item = session.find( Item.class, 1L );
+			session.setReadOnly( item, true );
+			final EntityEntry entry = session.getPersistenceContextInternal().getEntry( item );
+			assertThat( entry.getLoadedState() ).isNull();
+
+			session.setReadOnly( item, false );
+			assertThat( entry.getLoadedValue( "quantity" ) ).isEqualTo( 42 );
+		} );
+	}
+
+	private static Object[] inflatedState(EntityEntry entry) {
+		try {
+			return (Object[]) ReflectionUtil.getField( entry.getClass(), "loadedState" ).get( entry );
+		}
+		catch (IllegalAccessException e) {
+			throw new AssertionError( e );
+		}
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		Long id;
+		@Version
+		int version;
+		String name;
+		int quantity;
+		double price;
+		float weight;
+		boolean available;
+		char grade;
+		Integer rating;
+		@ManyToOne
+		Category category;
+
+		public Item() {
+		}
+
+		public Item(Long id, String name, Category category) {
+			this.id = id;
+			this.name = name;
+			this.category = category;
+		}
+	}
+
+	@Entity(name = "Category")
+	public static class Category {
+		@Id
+		Long id;
+		String name;
+
+		public Category() {
+		}
+
+		public Category(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
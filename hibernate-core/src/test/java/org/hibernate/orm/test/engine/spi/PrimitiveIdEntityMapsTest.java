@@ -0,0 +1,214 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.engine.spi;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.hibernate.cfg.PersistenceSettings;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Inheritance;
+import jakarta.persistence.InheritanceType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = {
+		PrimitiveIdEntityMapsTest.Animal.class,
+		PrimitiveIdEntityMapsTest.Dog.class,
+		PrimitiveIdEntityMapsTest.Counter.class,
+		PrimitiveIdEntityMapsTest.Document.class,
+		PrimitiveIdEntityMapsTest.Country.class
+})
+@ServiceRegistry(settings = @Setting(name = PersistenceSettings.PRIMITIVE_ID_ENTITY_MAPS, value = "true"))
+@SessionFactory
+public class PrimitiveIdEntityMapsTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testKeyOfManagedEntityIsReused(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Animal( 1L, "first" ) );
+			session.persist( new Animal( 2L, "second" ) );
+		} );
+		scope.inTransaction( session -> {
+			final Animal animal = session.find( Animal.class, 1L );
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+			final EntityPersister persister = session.getEntityPersister( null, animal );
+			final EntityKey entityKey = persistenceContext.getEntityHolder( 1L, persister ).getEntityKey();
+			assertThat( persistenceContext.getEntityKey( 1L, persister ) ).isSameAs( entityKey );
+			assertThat( persistenceContext.getEntityKey( 2L, persister ) ).isNotNull();
+
+			// loading the rows of managed entities does not register new keys
+			assertThat( session.createQuery( "from Animal order by id", Animal.class ).getResultList() )
+					.hasSize( 2 )
+					.first().isSameAs( animal );
+			assertThat( session.find( Animal.class, 1L ) ).isSameAs( animal );
+			assertThat( persistenceContext.getEntityHolder( 1L, persister ).getEntityKey() ).isSameAs( entityKey );
+		} );
+	}
+
+	@Test
+	public void testManyEntitiesWithLongIds(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( long id = 1; id <= 200; id++ ) {
+				session.persist( new Animal( id, "animal " + id ) );
+			}
+		} );
+		scope.inTransaction( session -> {
+			final List<Animal> animals = new ArrayList<>();
+			for ( long id = 1; id <= 200; id++ ) {
+				animals.add( session.find( Animal.class, id ) );
+			}
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+			final EntityPersister persister = session.getEntityPersister( null, animals.get( 0 ) );
+			for ( Animal animal : animals ) {
+				assertThat( persistenceContext.getEntity( animal.id, persister ) ).isSameAs( animal );
+				assertThat( persistenceContext.getEntity( new EntityKey( animal.id, persister ) ) ).isSameAs( animal );
+			}
+			assertThat( persistenceContext.getEntityHoldersByKey() ).hasSize( 200 );
+
+			// remove every third entity, which moves the others back in the table
+			for ( int i = 0; i < animals.size(); i += 3 ) {
+				session.detach( animals.get( i ) );
+			}
+			for ( int i = 0; i < animals.size(); i++ ) {
+				final Animal animal = animals.get( i );
+				assertThat( persistenceContext.getEntity( animal.id, persister ) )
+						.isSameAs( i % 3 == 0 ? null : animal );
+			}
+			assertThat( persistenceContext.getEntityHoldersByKey() ).hasSize( 133 );
+			assertThat( session.find( Animal.class, 1L ) ).isNotSameAs( animals.get( 0 ) );
+		} );
+	}
+
+	@Test
+	public void testSubclassSharesTableOfRoot(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.persist( new Dog( 1L, "rex" ) ) );
+		scope.inTransaction( session -> {
+			final Dog dog = session.find( Dog.class, 1L );
+			assertThat( session.find( Animal.class, 1L ) ).isSameAs( dog );
+			final EntityPersister animalPersister =
+					session.getFactory().getMappingMetamodel().getEntityDescriptor( Animal.class );
+			assertThat( session.getPersistenceContextInternal().getEntity( 1L, animalPersister ) ).isSameAs( dog );
+		} );
+	}
+
+	@Test
+	public void testOtherIdentifierTypes(SessionFactoryScope scope) {
+		final UUID documentId = UUID.randomUUID();
+		scope.inTransaction( session -> {
+			session.persist( new Counter( 7, "seven" ) );
+			session.persist( new Document( documentId, "readme" ) );
+			session.persist( new Country( "CH", "Switzerland" ) );
+		} );
+		scope.inTransaction( session -> {
+			final Counter counter = session.find( Counter.class, 7 );
+			final Document document = session.find( Document.class, documentId );
+			final Country country = session.find( Country.class, "CH" );
+			assertThat( session.find( Counter.class, 7 ) ).isSameAs( counter );
+			assertThat( session.find( Document.class, UUID.fromString( documentId.toString() ) ) ).isSameAs( document );
+			assertThat( session.find( Country.class, "CH" ) ).isSameAs( country );
+			assertThat( session.getPersistenceContextInternal().getEntityHoldersByKey() ).hasSize( 3 );
+
+			session.remove( document );
+			session.flush();
+			assertThat( session.find( Document.class, documentId ) ).isNull();
+			assertThat( session.getPersistenceContextInternal().getEntityHoldersByKey() ).hasSize( 2 );
+
+			session.clear();
+			assertThat( session.getPersistenceContextInternal().getEntity( 7, session.getEntityPersister( null, counter ) ) )
+					.isNull();
+		} );
+	}
+
+	@Entity(name = "Animal")
+	@Inheritance(strategy = InheritanceType.SINGLE_TABLE)
+	public static class Animal {
+		@Id
+		long id;
+		String name;
+
+		public Animal() {
+		}
+
+		public Animal(long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Dog")
+	public static class Dog extends Animal {
+		public Dog() {
+		}
+
+		public Dog(long id, String name) {
+			super( id, name );
+		}
+	}
+
+	@Entity(name = "Counter")
+	public static class Counter {
+		@Id
+		Integer id;
+		String name;
+
+		public Counter() {
+		}
+
+		public Counter(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Document")
+	public static class Document {
+		@Id
+		UUID id;
+		String title;
+
+		public Document() {
+		}
+
+		public Document(UUID id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+
+	@Entity(name = "Country")
+	public static class Country {
+		@Id
+		String code;
+		String name;
+
+		public Country() {
+		}
+
+		public Country(String code, String name) {
+			this.code = code;
+			this.name = name;
+		}
+	}
+}
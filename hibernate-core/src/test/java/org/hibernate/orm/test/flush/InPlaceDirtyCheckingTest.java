@@ -0,0 +1,222 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.flush;
+
+import java.util.Date;
+
+import org.hibernate.Session;
+import org.hibernate.SessionEventListener;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.cfg.PersistenceSettings;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PersistenceException;
+import jakarta.persistence.Temporal;
+import jakarta.persistence.TemporalType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DomainModel(annotatedClasses = {
+		InPlaceDirtyCheckingTest.Account.class,
+		InPlaceDirtyCheckingTest.Owner.class,
+		InPlaceDirtyCheckingTest.Currency.class
+})
+@ServiceRegistry(settings = @Setting(name = PersistenceSettings.IN_PLACE_DIRTY_CHECKING, value = "true"))
+@SessionFactory(useCollectingStatementInspector = true)
+public class InPlaceDirtyCheckingTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Owner owner = new Owner( 1L, "first" );
+			session.persist( owner );
+			session.persist( new Owner( 2L, "second" ) );
+			session.persist( new Account( 1L, 100L, true, new Date( 0 ), owner ) );
+			session.persist( new Currency( 1L, "EUR" ) );
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testUnmodifiedEntityIsNotUpdated(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			session.find( Account.class, 1L );
+			inspector.clear();
+			session.flush();
+			assertThat( inspector.getSqlQueries() ).isEmpty();
+		} );
+	}
+
+	@Test
+	public void testPrimitiveChangeIsDetected(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final Account account = session.find( Account.class, 1L );
+			account.balance = 200L;
+			account.active = false;
+			inspector.clear();
+			session.flush();
+			inspector.assertUpdate();
+		} );
+		scope.inTransaction( session -> {
+			final Account account = session.find( Account.class, 1L );
+			assertThat( account.balance ).isEqualTo( 200L );
+			assertThat( account.active ).isFalse();
+		} );
+	}
+
+	@Test
+	public void testDirtyCalculationIsReportedOnce(SessionFactoryScope scope) {
+		final DirtyCalculationListener listener = new DirtyCalculationListener();
+		try ( Session session = scope.getSessionFactory().withOptions().eventListeners( listener ).openSession() ) {
+			session.getTransaction().begin();
+			final Account account = session.find( Account.class, 1L );
+			account.balance = 300L;
+			session.flush();
+			assertThat( listener.starts ).isEqualTo( 1 );
+			assertThat( listener.dirtyEnds ).isEqualTo( 1 );
+			session.getTransaction().commit();
+		}
+	}
+
+	@Test
+	public void testMutableValueChangeIsDetected(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final Account account = session.find( Account.class, 1L );
+			// mutate in place, the reference stays the same
+			account.openedOn.setTime( 86_400_000L );
+			inspector.clear();
+			session.flush();
+			inspector.assertUpdate();
+		} );
+		scope.inTransaction( session -> {
+			final Account account = session.find( Account.class, 1L );
+			assertThat( account.openedOn.getTime() ).isEqualTo( 86_400_000L );
+		} );
+	}
+
+	@Test
+	public void testAssociationChangeIsDetected(SessionFactoryScope scope) {
+		final SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final Account account = session.find( Account.class, 1L );
+			account.owner = session.getReference( Owner.class, 2L );
+			inspector.clear();
+			session.flush();
+			inspector.assertUpdate();
+		} );
+		scope.inTransaction( session -> {
+			final Account account = session.find( Account.class, 1L );
+			assertThat( account.owner.id ).isEqualTo( 2L );
+		} );
+	}
+
+	@Test
+	public void testImmutableNaturalIdChangeIsDetected(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			session.getTransaction().begin();
+			try {
+				final Currency currency = session.find( Currency.class, 1L );
+				currency.code = "USD";
+				assertThatThrownBy( session::flush )
+						.isInstanceOf( PersistenceException.class )
+						.hasMessageContaining( "immutable natural identifier" );
+			}
+			finally {
+				session.getTransaction().rollback();
+			}
+		} );
+	}
+
+	private static class DirtyCalculationListener implements SessionEventListener {
+		int starts;
+		int dirtyEnds;
+
+		@Override
+		public void dirtyCalculationStart() {
+			starts++;
+		}
+
+		@Override
+		public void dirtyCalculationEnd(boolean dirty) {
+			if ( dirty ) {
+				dirtyEnds++;
+			}
+		}
+	}
+
+	@Entity(name = "Account")
+	public static class Account {
+		@Id
+		Long id;
+		long balance;
+		boolean active;
+		@Temporal(TemporalType.TIMESTAMP)
+		Date openedOn;
+		@ManyToOne
+		Owner owner;
+
+		public Account() {
+		}
+
+		public Account(Long id, long balance, boolean active, Date openedOn, Owner owner) {
+			this.id = id;
+			this.balance = balance;
+			this.active = active;
+			this.openedOn = openedOn;
+			this.owner = owner;
+		}
+	}
+
+	@Entity(name = "Currency")
+	public static class Currency {
+		@Id
+		Long id;
+		@NaturalId
+		String code;
+
+		public Currency() {
+		}
+
+		public Currency(Long id, String code) {
+			this.id = id;
+			this.code = code;
+		}
+	}
+
+	@Entity(name = "Owner")
+	public static class Owner {
+		@Id
+		Long id;
+		String name;
+
+		public Owner() {
+		}
+
+		public Owner(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
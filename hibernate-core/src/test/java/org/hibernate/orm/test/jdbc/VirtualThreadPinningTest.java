@@ -0,0 +1,152 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.jdbc;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jdk.jfr.Event;
+import jdk.jfr.Name;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Runs sessions on virtual threads, and fails if a virtual thread is pinned
+ * to its carrier by a monitor held by Hibernate, as reported by the
+ * {@code jdk.VirtualThreadPinned} event which also backs
+ * {@code -Djdk.tracePinnedThreads}.
+ */
+@DomainModel(annotatedClasses = VirtualThreadPinningTest.Item.class)
+@SessionFactory
+public class VirtualThreadPinningTest {
+
+	private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+	private static final String END_EVENT = "org.hibernate.orm.test.jdbc.VirtualThreadPinningTest.End";
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testSessionsDoNotPinVirtualThreads(SessionFactoryScope scope) throws Exception {
+		final ExecutorService executor = newVirtualThreadPerTaskExecutor();
+		final List<String> pinnedStacks = new CopyOnWriteArrayList<>();
+		final CountDownLatch ended = new CountDownLatch( 1 );
+		try ( RecordingStream recording = new RecordingStream() ) {
+			recording.enable( PINNED_EVENT ).withThreshold( Duration.ZERO ).withStackTrace();
+			recording.enable( END_EVENT );
+			recording.onEvent( PINNED_EVENT, event -> {
+				if ( isPinnedByHibernate( event ) ) {
+					pinnedStacks.add( event.getStackTrace().toString() );
+				}
+			} );
+			recording.onEvent( END_EVENT, event -> ended.countDown() );
+			recording.startAsync();
+
+			try {
+				final List<Future<?>> futures = new ArrayList<>();
+				for ( int i = 0; i < 50; i++ ) {
+					final String name = "item " + i;
+					futures.add( executor.submit( () -> {
+						scope.inTransaction( session -> {
+							for ( int j = 0; j < 5; j++ ) {
+								session.persist( new Item( name ) );
+							}
+						} );
+						scope.inTransaction( session -> {
+							final List<Item> items =
+									session.createQuery( "from Item where name = :name", Item.class )
+											.setParameter( "name", name )
+											.getResultList();
+							assertThat( items ).hasSize( 5 );
+							assertThat( session.find( Item.class, items.get( 0 ).id ) ).isSameAs( items.get( 0 ) );
+						} );
+					} ) );
+				}
+				for ( Future<?> future : futures ) {
+					future.get( 1, TimeUnit.MINUTES );
+				}
+			}
+			finally {
+				executor.shutdown();
+			}
+
+			// events are delivered in order, so every pinning has been seen once this event arrives
+			new EndEvent().commit();
+			assertThat( ended.await( 1, TimeUnit.MINUTES ) ).isTrue();
+		}
+		assertThat( pinnedStacks ).isEmpty();
+	}
+
+	private static ExecutorService newVirtualThreadPerTaskExecutor() throws Exception {
+		try {
+			return (ExecutorService) Executors.class.getMethod( "newVirtualThreadPerTaskExecutor" ).invoke( null );
+		}
+		catch (NoSuchMethodException e) {
+			assumeTrue( false, "Virtual threads are not available" );
+			return null;
+		}
+	}
+
+	/**
+	 * Whether the topmost frame outside the JDK belongs to Hibernate, since
+	 * a virtual thread pinned by the JDBC driver is not a concern of ours
+	 */
+	private static boolean isPinnedByHibernate(RecordedEvent event) {
+		if ( event.getStackTrace() != null ) {
+			for ( RecordedFrame frame : event.getStackTrace().getFrames() ) {
+				final String typeName = frame.getMethod().getType().getName();
+				if ( !typeName.startsWith( "java." )
+						&& !typeName.startsWith( "jdk." )
+						&& !typeName.startsWith( "sun." ) ) {
+					return typeName.startsWith( "org.hibernate." )
+						&& !typeName.startsWith( "org.hibernate.orm.test." )
+						&& !typeName.startsWith( "org.hibernate.testing." );
+				}
+			}
+		}
+		return false;
+	}
+
+	@Name(END_EVENT)
+	static class EndEvent extends Event {
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		@GeneratedValue
+		Long id;
+		String name;
+
+		public Item() {
+		}
+
+		public Item(String name) {
+			this.name = name;
+		}
+	}
+}
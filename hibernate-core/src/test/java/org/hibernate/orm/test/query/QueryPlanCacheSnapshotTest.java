@@ -0,0 +1,152 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.hibernate.Session;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.cfg.QuerySettings;
+import org.hibernate.cfg.StatisticsSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.spi.QueryInterpretationCache;
+
+import org.hibernate.testing.orm.junit.BaseUnitTest;
+import org.hibernate.testing.util.ServiceRegistryUtil;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@BaseUnitTest
+public class QueryPlanCacheSnapshotTest {
+
+	@Test
+	public void testWarmUpFromSnapshot(@TempDir Path tempDir) {
+		final Path snapshot = tempDir.resolve( "query-plans.bin" );
+
+		try ( StandardServiceRegistry registry = buildServiceRegistry( snapshot );
+				SessionFactoryImplementor factory = buildSessionFactory( registry ) ) {
+			assertThat( factory.getQueryEngine().getInterpretationCache().getNumberOfCachedHqlInterpretations() )
+					.isZero();
+			factory.inSession( session -> {
+				for ( int i = 0; i < 3; i++ ) {
+					session.createQuery( "from Book where title = :title", Book.class );
+				}
+				session.createQuery( "select count(*) from Book", Long.class );
+				session.createQuery( "select b.title from Book b" );
+			} );
+		}
+		assertThat( snapshot ).exists();
+
+		try ( StandardServiceRegistry registry = buildServiceRegistry( snapshot );
+				SessionFactoryImplementor factory = buildSessionFactory( registry ) ) {
+			final QueryInterpretationCache cache = factory.getQueryEngine().getInterpretationCache();
+			// interpreted at startup, before any query was created
+			assertThat( cache.getNumberOfCachedHqlInterpretations() ).isEqualTo( 3 );
+			factory.inSession( session -> session.createQuery( "from Book where title = :title", Book.class ) );
+			assertThat( cache.getNumberOfCachedHqlInterpretations() ).isEqualTo( 3 );
+		}
+	}
+
+	@Test
+	public void testInvalidQueryInSnapshotIsSkipped(@TempDir Path tempDir) throws Exception {
+		final Path snapshot = tempDir.resolve( "query-plans.bin" );
+
+		try ( StandardServiceRegistry registry = buildServiceRegistry( snapshot );
+				SessionFactoryImplementor factory = buildSessionFactory( registry ) ) {
+			// the attribute does not exist
+			assertThatThrownBy( () -> factory.inSession(
+					session -> session.createQuery( "from Book where missing = 1", Book.class )
+			) ).isInstanceOf( IllegalArgumentException.class );
+			factory.inSession( session -> session.createQuery( "from Book", Book.class ) );
+		}
+		assertThat( Files.size( snapshot ) ).isPositive();
+
+		try ( StandardServiceRegistry registry = buildServiceRegistry( snapshot );
+				SessionFactoryImplementor factory = buildSessionFactory( registry ) ) {
+			assertThat( factory.getQueryEngine().getInterpretationCache().getNumberOfCachedHqlInterpretations() )
+					.isEqualTo( 1 );
+		}
+	}
+
+	@Test
+	public void testLeastUsedQueriesAreEvicted(@TempDir Path tempDir) {
+		final Path snapshot = tempDir.resolve( "query-plans.bin" );
+
+		try ( StandardServiceRegistry registry = buildServiceRegistry( snapshot, 2 );
+				SessionFactoryImplementor factory = buildSessionFactory( registry ) ) {
+			factory.inSession( session -> {
+				createQueries( session, "from Book where id = 1", 200 );
+				createQueries( session, "from Book where id = 2", 200 );
+				createQueries( session, "from Book where id = 3", 1 );
+				createQueries( session, "from Book where id = 4", 1 );
+				createQueries( session, "from Book where id = 5", 1 );
+			} );
+		}
+
+		// the queries of the snapshot are warmed up, but then never used again,
+		// so they must make room for the queries which are now used most often
+		try ( StandardServiceRegistry registry = buildServiceRegistry( snapshot, 2 );
+				SessionFactoryImplementor factory = buildSessionFactory( registry ) ) {
+			factory.inSession( session -> {
+				createQueries( session, "from Book where id = 6", 200 );
+				createQueries( session, "from Book where id = 7", 200 );
+				createQueries( session, "from Book where id = 8", 1 );
+				createQueries( session, "from Book where id = 9", 1 );
+			} );
+		}
+
+		try ( StandardServiceRegistry registry = buildServiceRegistry( snapshot, 2 );
+				SessionFactoryImplementor factory = buildSessionFactory( registry ) ) {
+			factory.getStatistics().clear();
+			factory.inSession( session -> {
+				createQueries( session, "from Book where id = 6", 1 );
+				createQueries( session, "from Book where id = 7", 1 );
+			} );
+			assertThat( factory.getStatistics().getQueryPlanCacheHitCount() ).isEqualTo( 2 );
+		}
+	}
+
+	private static void createQueries(Session session, String hql, int count) {
+		for ( int i = 0; i < count; i++ ) {
+			session.createQuery( hql, Book.class );
+		}
+	}
+
+	private static StandardServiceRegistry buildServiceRegistry(Path snapshot) {
+		return ServiceRegistryUtil.serviceRegistryBuilder()
+				.applySetting( QuerySettings.QUERY_PLAN_CACHE_SNAPSHOT, snapshot.toString() )
+				.build();
+	}
+
+	private static StandardServiceRegistry buildServiceRegistry(Path snapshot, int maxQueryCount) {
+		return ServiceRegistryUtil.serviceRegistryBuilder()
+				.applySetting( QuerySettings.QUERY_PLAN_CACHE_SNAPSHOT, snapshot.toString() )
+				.applySetting( QuerySettings.QUERY_PLAN_CACHE_MAX_SIZE, maxQueryCount )
+				.applySetting( StatisticsSettings.GENERATE_STATISTICS, true )
+				.build();
+	}
+
+	private static SessionFactoryImplementor buildSessionFactory(StandardServiceRegistry registry) {
+		return (SessionFactoryImplementor) new MetadataSources( registry )
+				.addAnnotatedClass( Book.class )
+				.buildMetadata()
+				.buildSessionFactory();
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		Long id;
+		String title;
+	}
+}
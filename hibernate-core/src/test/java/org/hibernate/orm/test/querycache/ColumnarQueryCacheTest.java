@@ -0,0 +1,140 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.querycache;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.CacheSettings;
+import org.hibernate.sql.results.jdbc.internal.ColumnarCachedResults;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = ColumnarQueryCacheTest.Reading.class)
+@SessionFactory(generateStatistics = true)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.USE_QUERY_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = CacheSettings.QUERY_CACHE_COLUMNAR, value = "true")
+})
+public class ColumnarQueryCacheTest {
+	private static final int NUMBER_OF_ROWS = 50;
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= NUMBER_OF_ROWS; i++ ) {
+				session.persist( new Reading(
+						i,
+						i % 5 == 0 ? null : "sensor " + ( i % 3 ),
+						i % 4 == 0 ? null : (long) i * 1000,
+						i * 0.25
+				) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testProjection(SessionFactoryScope scope) {
+		final List<Object[]> results = executeTwice(
+				scope,
+				"select r.id, r.sensor, r.total, r.amount from Reading r order by r.id",
+				Object[].class
+		);
+		assertThat( results ).hasSize( NUMBER_OF_ROWS );
+		for ( int i = 1; i <= NUMBER_OF_ROWS; i++ ) {
+			assertThat( results.get( i - 1 ) ).containsExactly(
+					i,
+					i % 5 == 0 ? null : "sensor " + ( i % 3 ),
+					i % 4 == 0 ? null : (long) i * 1000,
+					i * 0.25
+			);
+		}
+	}
+
+	@Test
+	public void testSingleValue(SessionFactoryScope scope) {
+		final List<String> sensors = executeTwice(
+				scope,
+				"select r.sensor from Reading r where r.sensor is not null order by r.id",
+				String.class
+		);
+		assertThat( sensors ).hasSize( NUMBER_OF_ROWS - NUMBER_OF_ROWS / 5 );
+		assertThat( sensors.get( 0 ) ).isEqualTo( "sensor 1" );
+		assertThat( sensors.get( 1 ) ).isEqualTo( "sensor 2" );
+	}
+
+	@Test
+	public void testColumnarConversion() {
+		final List<Object> data = new ArrayList<>();
+		data.add( new Object[] { 1L, "a", 1 } );
+		data.add( new Object[] { null, "a", 2.5 } );
+		data.add( new Object[] { 3L, null, null } );
+		data.add( 3 );
+		final List<?> columnar = ColumnarCachedResults.from( data );
+		assertThat( columnar ).isInstanceOf( ColumnarCachedResults.class ).hasSize( 4 );
+		final ColumnarCachedResults results = (ColumnarCachedResults) columnar;
+		assertThat( results.getNumberOfRows() ).isEqualTo( 3 );
+		assertThat( results.getValue( 1, 0 ) ).isNull();
+		assertThat( results.getValue( 2, 0 ) ).isEqualTo( 3L );
+		assertThat( results.getValue( 1, 2 ) ).isEqualTo( 2.5 );
+		assertThat( (Object[]) results.get( 0 ) ).containsExactly( 1L, "a", 1 );
+		assertThat( results.get( 3 ) ).isEqualTo( 3 );
+	}
+
+	private static <R> List<R> executeTwice(SessionFactoryScope scope, String hql, Class<R> resultType) {
+		scope.getSessionFactory().getCache().evictQueryRegions();
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		final List<R> uncached = scope.fromTransaction(
+				session -> session.createQuery( hql, resultType ).setCacheable( true ).getResultList()
+		);
+		assertThat( statistics.getQueryCachePutCount() ).isEqualTo( 1 );
+		final List<R> cached = scope.fromTransaction(
+				session -> session.createQuery( hql, resultType ).setCacheable( true ).getResultList()
+		);
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+		assertThat( cached ).hasSameSizeAs( uncached );
+		return cached;
+	}
+
+	@Entity(name = "Reading")
+	public static class Reading {
+		@Id
+		Integer id;
+		String sensor;
+		Long total;
+		double amount;
+
+		public Reading() {
+		}
+
+		public Reading(Integer id, String sensor, Long total, double amount) {
+			this.id = id;
+			this.sensor = sensor;
+			this.total = total;
+			this.amount = amount;
+		}
+	}
+}
@@ -0,0 +1,180 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.readonly;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.LockMode;
+import org.hibernate.Session;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.Status;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DomainModel(annotatedClasses = { ReadOnlySessionModeTest.Author.class, ReadOnlySessionModeTest.Book.class })
+@SessionFactory
+public class ReadOnlySessionModeTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Author author = new Author( 1L, "Tolkien" );
+			session.persist( author );
+			session.persist( new Book( 1L, "The Hobbit", author ) );
+			session.persist( new Book( 2L, "The Silmarillion", author ) );
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testIdentityAndLazyLoading(SessionFactoryScope scope) {
+		try ( Session session = scope.getSessionFactory().withOptions().readOnly( true ).openSession() ) {
+			final Book book = session.find( Book.class, 1L );
+			assertThat( session.find( Book.class, 1L ) ).isSameAs( book );
+			assertThat( session.createQuery( "from Book where id = 1", Book.class ).getSingleResult() )
+					.isSameAs( book );
+
+			assertThat( Hibernate.isInitialized( book.author ) ).isFalse();
+			assertThat( book.author.getName() ).isEqualTo( "Tolkien" );
+			assertThat( book.author.getBooks() ).hasSize( 2 ).contains( book );
+
+			final PersistenceContext persistenceContext =
+					session.unwrap( SessionImplementor.class ).getPersistenceContextInternal();
+			final EntityEntry entry = persistenceContext.getEntry( book );
+			assertThat( entry.getStatus() ).isEqualTo( Status.READ_ONLY );
+			assertThat( entry.getLoadedState() ).isNull();
+			assertThat( session.isReadOnly( book.author ) ).isTrue();
+			assertThat( persistenceContext.getCollectionEntry( (PersistentCollection<?>) book.author.getBooks() ).getSnapshot() )
+					.isNull();
+		}
+	}
+
+	@Test
+	public void testQueryCannotMakeEntitiesModifiable(SessionFactoryScope scope) {
+		try ( Session session = scope.getSessionFactory().withOptions().readOnly( true ).openSession() ) {
+			final List<Book> books = session.createQuery( "from Book", Book.class )
+					.setReadOnly( false )
+					.getResultList();
+			assertThat( books ).hasSize( 2 ).allMatch( session::isReadOnly );
+			assertThatThrownBy( () -> session.setReadOnly( books.get( 0 ), false ) )
+					.isInstanceOf( IllegalStateException.class );
+			assertThatThrownBy( () -> session.setDefaultReadOnly( false ) )
+					.isInstanceOf( IllegalStateException.class );
+		}
+	}
+
+	@Test
+	public void testChangesAreNeverFlushed(SessionFactoryScope scope) {
+		try ( Session session = scope.getSessionFactory().withOptions().readOnly( true ).openSession() ) {
+			session.beginTransaction();
+			final Book book = session.find( Book.class, 1L );
+			book.title = "changed";
+			session.flush();
+			session.getTransaction().commit();
+		}
+		scope.inTransaction( session ->
+				assertThat( session.find( Book.class, 1L ).title ).isEqualTo( "The Hobbit" ) );
+	}
+
+	@Test
+	public void testWritesAreRejected(SessionFactoryScope scope) {
+		try ( Session session = scope.getSessionFactory().withOptions().readOnly( true ).openSession() ) {
+			final Author author = session.find( Author.class, 1L );
+			assertThatThrownBy( () -> session.persist( new Author( 2L, "Lewis" ) ) )
+					.isInstanceOf( IllegalStateException.class );
+			assertThatThrownBy( () -> session.merge( new Author( 3L, "Martin" ) ) )
+					.isInstanceOf( IllegalStateException.class );
+			assertThatThrownBy( () -> session.remove( author ) )
+					.isInstanceOf( IllegalStateException.class );
+			assertThat( session.contains( author ) ).isTrue();
+		}
+	}
+
+	@Test
+	public void testMutationQueriesAndForcedVersionIncrementsAreRejected(SessionFactoryScope scope) {
+		try ( Session session = scope.getSessionFactory().withOptions().readOnly( true ).openSession() ) {
+			session.beginTransaction();
+			final Author author = session.find( Author.class, 1L );
+			assertThatThrownBy( () -> session.createMutationQuery( "update Book set title = 'changed'" ).executeUpdate() )
+					.isInstanceOf( IllegalStateException.class );
+			assertThatThrownBy( () -> session.createNativeMutationQuery( "delete from Book" ).executeUpdate() )
+					.isInstanceOf( IllegalStateException.class );
+			assertThatThrownBy( () -> session.lock( author, LockMode.PESSIMISTIC_FORCE_INCREMENT ) )
+					.isInstanceOf( IllegalStateException.class );
+			assertThatThrownBy( () -> session.find( Author.class, 1L, LockMode.OPTIMISTIC_FORCE_INCREMENT ) )
+					.isInstanceOf( IllegalStateException.class );
+			session.getTransaction().rollback();
+		}
+		scope.inTransaction( session ->
+				assertThat( session.createQuery( "from Book where title = 'changed'", Book.class ).getResultList() )
+						.isEmpty() );
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		Long id;
+		String name;
+		@OneToMany(mappedBy = "author")
+		List<Book> books = new ArrayList<>();
+
+		public Author() {
+		}
+
+		public Author(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public List<Book> getBooks() {
+			return books;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		Long id;
+		String title;
+		@ManyToOne(fetch = FetchType.LAZY)
+		Author author;
+
+		public Book() {
+		}
+
+		public Book(Long id, String title, Author author) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+		}
+	}
+}
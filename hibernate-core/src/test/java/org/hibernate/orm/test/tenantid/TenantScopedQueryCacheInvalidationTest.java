@@ -0,0 +1,201 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.tenantid;
+
+import java.util.List;
+
+import org.hibernate.annotations.TenantId;
+import org.hibernate.boot.SessionFactoryBuilder;
+import org.hibernate.boot.spi.MetadataImplementor;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryProducer;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SessionFactory(generateStatistics = true)
+@DomainModel(annotatedClasses = {
+		TenantScopedQueryCacheInvalidationTest.Item.class,
+		TenantScopedQueryCacheInvalidationTest.Country.class
+})
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.USE_QUERY_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.QUERY_CACHE_TENANT_SCOPED_INVALIDATION, value = "true")
+})
+public class TenantScopedQueryCacheInvalidationTest implements SessionFactoryProducer {
+
+	String currentTenant;
+
+	@Override
+	public SessionFactoryImplementor produceSessionFactory(MetadataImplementor model) {
+		final SessionFactoryBuilder sessionFactoryBuilder = model.getSessionFactoryBuilder();
+		sessionFactoryBuilder.applyCurrentTenantIdentifierResolver( new CurrentTenantIdentifierResolver<String>() {
+			@Override
+			public String resolveCurrentTenantIdentifier() {
+				return currentTenant;
+			}
+
+			@Override
+			public boolean validateExistingCurrentSessions() {
+				return false;
+			}
+
+			@Override
+			public boolean isRoot(String tenantId) {
+				return "root".equals( tenantId );
+			}
+		} );
+		return (SessionFactoryImplementor) sessionFactoryBuilder.build();
+	}
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		currentTenant = "mine";
+		scope.inTransaction( session -> {
+			session.persist( new Item( "Hammer" ) );
+			session.persist( new Country( "France" ) );
+		} );
+		// cache the results
+		assertThat( findItems( scope ) ).containsExactly( "Hammer" );
+		assertThat( findCountries( scope ) ).containsExactly( "France" );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		currentTenant = "root";
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Item" ).executeUpdate();
+			session.createMutationQuery( "delete from Country" ).executeUpdate();
+		} );
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testOtherTenantDoesNotInvalidate(SessionFactoryScope scope) {
+		currentTenant = "yours";
+		scope.inTransaction( session -> session.persist( new Item( "Saw" ) ) );
+		scope.inTransaction( session -> session.createMutationQuery( "update Item set name = upper(name)" )
+				.executeUpdate() );
+
+		currentTenant = "mine";
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		assertThat( findItems( scope ) ).containsExactly( "Hammer" );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testSameTenantInvalidates(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.persist( new Item( "Saw" ) ) );
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		assertThat( findItems( scope ) ).containsExactlyInAnyOrder( "Hammer", "Saw" );
+		assertThat( statistics.getQueryCacheHitCount() ).isZero();
+	}
+
+	@Test
+	public void testSharedTableInvalidates(SessionFactoryScope scope) {
+		currentTenant = "yours";
+		scope.inTransaction( session -> session.persist( new Country( "Spain" ) ) );
+
+		currentTenant = "mine";
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		assertThat( findCountries( scope ) ).containsExactlyInAnyOrder( "France", "Spain" );
+		assertThat( statistics.getQueryCacheHitCount() ).isZero();
+	}
+
+	@Test
+	public void testNativeStatementInvalidatesEveryTenant(SessionFactoryScope scope) {
+		currentTenant = "yours";
+		scope.inTransaction( session -> session.createNativeMutationQuery( "update items set name = upper(name)" )
+				.addSynchronizedEntityClass( Item.class )
+				.executeUpdate() );
+
+		currentTenant = "mine";
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		assertThat( findItems( scope ) ).containsExactly( "HAMMER" );
+		assertThat( statistics.getQueryCacheHitCount() ).isZero();
+	}
+
+	@Test
+	public void testSessionWithoutTenantFilterIsInvalidated(SessionFactoryScope scope) {
+		currentTenant = "root";
+		assertThat( findItems( scope ) ).containsExactly( "Hammer" );
+
+		currentTenant = "yours";
+		scope.inTransaction( session -> session.persist( new Item( "Saw" ) ) );
+
+		currentTenant = "root";
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		assertThat( findItems( scope ) ).containsExactlyInAnyOrder( "Hammer", "Saw" );
+		assertThat( statistics.getQueryCacheHitCount() ).isZero();
+	}
+
+	private static List<String> findItems(SessionFactoryScope scope) {
+		return scope.fromTransaction( session -> session.createSelectionQuery( "select name from Item", String.class )
+				.setCacheable( true )
+				.getResultList() );
+	}
+
+	private static List<String> findCountries(SessionFactoryScope scope) {
+		return scope.fromTransaction( session -> session.createSelectionQuery( "select name from Country", String.class )
+				.setCacheable( true )
+				.getResultList() );
+	}
+
+	@Entity(name = "Item")
+	@Table(name = "items")
+	public static class Item {
+		@Id
+		@GeneratedValue
+		Long id;
+		@TenantId
+		String tenant;
+		String name;
+
+		public Item() {
+		}
+
+		public Item(String name) {
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Country")
+	@Table(name = "countries")
+	public static class Country {
+		@Id
+		@GeneratedValue
+		Long id;
+		String name;
+
+		public Country() {
+		}
+
+		public Country(String name) {
+			this.name = name;
+		}
+	}
+}
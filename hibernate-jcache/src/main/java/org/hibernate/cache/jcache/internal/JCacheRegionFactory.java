@@ -68,7 +68,10 @@ public DomainDataRegion buildDomainDataRegion(
 		return new JCacheDomainDataRegionImpl(
 				regionConfig,
 				this,
-				createDomainDataStorageAccess( regionConfig, buildingContext ),
+				decorateDomainDataStorageAccess(
+						createDomainDataStorageAccess( regionConfig, buildingContext ),
+						buildingContext
+				),
 				cacheKeysFactory,
 				buildingContext
 		);
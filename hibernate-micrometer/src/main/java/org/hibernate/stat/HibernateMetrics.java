@@ -7,6 +7,7 @@
 import io.micrometer.common.lang.NonNullApi;
 import io.micrometer.common.lang.NonNullFields;
 import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.Tags;
@@ -19,11 +20,16 @@
 
 import java.util.Arrays;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.function.ToDoubleFunction;
 
 /**
  * A {@link MeterBinder} implementation that provides Hibernate metrics. It exposes the
  * same statistics as would be exposed when calling {@link Statistics#logSummary()}.
+ * <p>
+ * When {@value org.hibernate.cfg.StatisticsSettings#CACHE_LATENCY_STATISTICS} is
+ * enabled, the time taken by the reads from, and writes to, each second-level cache
+ * region is also exposed as a timer, along with its maximum and some percentiles.
  */
 @NonNullApi
 @NonNullFields
@@ -183,6 +189,10 @@ public void bindTo(MeterRegistry registry) {
 							"region",
 							regionName
 					);
+					if ( statistics.getDomainDataRegionStatistics( regionName ).getGetLatency() != null ) {
+						latency( registry, regionName, "get", CacheRegionStatistics::getGetLatency );
+						latency( registry, regionName, "put", CacheRegionStatistics::getPutLatency );
+					}
 				} );
 
 		// Entity information
@@ -337,6 +347,64 @@ public void bindTo(MeterRegistry registry) {
 		);
 	}
 
+	private void latency(
+			MeterRegistry registry,
+			String regionName,
+			String operation,
+			Function<CacheRegionStatistics, @Nullable LatencyStatistics> latency) {
+		if ( this.statistics == null ) {
+			return;
+		}
+
+		// the statistics of the region are replaced when the statistics are cleared,
+		// so they are looked up again each time
+		FunctionTimer.builder(
+				"hibernate.second.level.cache.latency",
+				statistics,
+				stats -> (long) latencyValue( stats, regionName, latency, LatencyStatistics::getCount ),
+				stats -> latencyValue( stats, regionName, latency, LatencyStatistics::getTotalTime ),
+				TimeUnit.NANOSECONDS
+		)
+				.description( "The time taken by the " + operation + " operations on the cache region" )
+				.tags( tags )
+				.tags( "region", regionName, "operation", operation )
+				.register( registry );
+
+		TimeGauge.builder(
+				"hibernate.second.level.cache.latency.max",
+				statistics,
+				TimeUnit.NANOSECONDS,
+				stats -> latencyValue( stats, regionName, latency, LatencyStatistics::getMaxTime )
+		)
+				.description( "The time taken by the slowest " + operation + " operation on the cache region" )
+				.tags( tags )
+				.tags( "region", regionName, "operation", operation )
+				.register( registry );
+
+		for ( double percentile : new double[] { 50, 95, 99 } ) {
+			TimeGauge.builder(
+					"hibernate.second.level.cache.latency.percentile",
+					statistics,
+					TimeUnit.NANOSECONDS,
+					stats -> latencyValue( stats, regionName, latency, l -> l.getTimeAtPercentile( percentile ) )
+			)
+					.description( "The time within which the given percentage of the " + operation
+								+ " operations on the cache region completed" )
+					.tags( tags )
+					.tags( "region", regionName, "operation", operation, "percentile", Double.toString( percentile ) )
+					.register( registry );
+		}
+	}
+
+	private static double latencyValue(
+			Statistics statistics,
+			String regionName,
+			Function<CacheRegionStatistics, @Nullable LatencyStatistics> latency,
+			ToDoubleFunction<LatencyStatistics> value) {
+		final LatencyStatistics latencyStatistics = latency.apply( statistics.getDomainDataRegionStatistics( regionName ) );
+		return latencyStatistics == null ? 0 : value.applyAsDouble( latencyStatistics );
+	}
+
 	private boolean hasDomainDataRegionStatistics(String regionName) {
 		// This appears to be a _qualified
 		// In 5.3, getDomainDataRegionStatistics (a new method) will throw an IllegalArgumentException
@@ -6,6 +6,7 @@
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import jakarta.persistence.Cacheable;
 import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Entity;
@@ -20,7 +21,9 @@
 import org.hibernate.boot.MetadataSources;
 import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
 import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.CacheRegionStatistics;
 import org.hibernate.stat.HibernateMetrics;
+import org.hibernate.stat.LatencyStatistics;
 
 import org.hibernate.testing.cache.CachingRegionFactory;
 import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
@@ -29,7 +32,9 @@
 import org.junit.Before;
 import org.junit.Test;
 
+import io.micrometer.core.instrument.FunctionTimer;
 import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.TimeGauge;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 /**
@@ -59,6 +64,7 @@ protected void configureStandardServiceRegistryBuilder(StandardServiceRegistryBu
 		ssrb.applySetting( AvailableSettings.USE_QUERY_CACHE, true );
 		ssrb.applySetting( AvailableSettings.CACHE_REGION_FACTORY, new CachingRegionFactory() );
 		ssrb.applySetting( AvailableSettings.GENERATE_STATISTICS, "true" );
+		ssrb.applySetting( AvailableSettings.CACHE_LATENCY_STATISTICS, "true" );
 	}
 
 	@Override
@@ -69,6 +75,7 @@ protected void addSettings(Map<String,Object> settings) {
 		settings.put( AvailableSettings.CACHE_REGION_FACTORY, new CachingRegionFactory() );
 
 		settings.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+		settings.put( AvailableSettings.CACHE_LATENCY_STATISTICS, "true" );
 		settings.put( AvailableSettings.HBM2DDL_AUTO, "create-drop" );
 		settings.put( AvailableSettings.SESSION_FACTORY_NAME, "something" );
 		settings.put( AvailableSettings.SESSION_FACTORY_NAME_IS_JNDI, "false" );
@@ -85,6 +92,8 @@ public void setUpMetrics() {
 	@After
 	public void cleanUpMetrics() {
 		registry.clear();
+		// the counts asserted by each test start from zero
+		sessionFactory().getStatistics().clear();
 	}
 
 	@Test
@@ -180,6 +189,42 @@ public void testMicrometerMetrics() {
 		Assert.assertEquals( 3, registry.get("hibernate.transactions").tags("result", "success").functionCounter().count(), 0 );
 	}
 
+	@Test
+	public void testCacheLatencyMetrics() {
+		inTransaction( s -> s.persist( new Person( 2, "latencyAcct" ) ) );
+		inTransaction( s -> Assert.assertNotNull( s.find( Person.class, 2 ) ) );
+
+		final CacheRegionStatistics regionStatistics =
+				sessionFactory().getStatistics().getDomainDataRegionStatistics( REGION );
+		assertLatencyMetrics( "get", regionStatistics.getGetLatency() );
+		assertLatencyMetrics( "put", regionStatistics.getPutLatency() );
+
+		inTransaction( s -> s.remove( s.find( Person.class, 2 ) ) );
+	}
+
+	private void assertLatencyMetrics(String operation, LatencyStatistics latency) {
+		Assert.assertNotNull( latency );
+		Assert.assertTrue( latency.getCount() > 0 );
+
+		final FunctionTimer timer = registry.get( "hibernate.second.level.cache.latency" )
+				.tags( "region", REGION, "operation", operation )
+				.functionTimer();
+		Assert.assertEquals( latency.getCount(), timer.count(), 0 );
+		Assert.assertEquals( latency.getTotalTime(), timer.totalTime( TimeUnit.NANOSECONDS ), 0 );
+
+		final TimeGauge max = registry.get( "hibernate.second.level.cache.latency.max" )
+				.tags( "region", REGION, "operation", operation )
+				.timeGauge();
+		Assert.assertEquals( latency.getMaxTime(), max.value( TimeUnit.NANOSECONDS ), 0 );
+
+		for ( double percentile : new double[] { 50, 95, 99 } ) {
+			final TimeGauge gauge = registry.get( "hibernate.second.level.cache.latency.percentile" )
+					.tags( "region", REGION, "operation", operation, "percentile", Double.toString( percentile ) )
+					.timeGauge();
+			Assert.assertEquals( latency.getTimeAtPercentile( percentile ), gauge.value( TimeUnit.NANOSECONDS ), 0 );
+		}
+	}
+
 	@Entity( name = "Person" )
 	@Table( name = "persons" )
 	@Cacheable